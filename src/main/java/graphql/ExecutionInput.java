@@ -1,6 +1,7 @@
 package graphql;
 
 import graphql.cachecontrol.CacheControl;
+import graphql.execution.ExecutionCancellation;
 import graphql.execution.ExecutionId;
 import org.dataloader.DataLoaderRegistry;
 
@@ -24,14 +25,15 @@ public class ExecutionInput {
     private final DataLoaderRegistry dataLoaderRegistry;
     private final CacheControl cacheControl;
     private final ExecutionId executionId;
+    private final ExecutionCancellation cancellation;
 
 
     public ExecutionInput(String query, String operationName, Object context, Object root, Map<String, Object> variables) {
-        this(query, operationName, context, root, variables, new DataLoaderRegistry(), null, null);
+        this(query, operationName, context, root, variables, new DataLoaderRegistry(), null, null, ExecutionCancellation.never());
     }
 
     @Internal
-    private ExecutionInput(String query, String operationName, Object context, Object root, Map<String, Object> variables, DataLoaderRegistry dataLoaderRegistry, CacheControl cacheControl, ExecutionId executionId) {
+    private ExecutionInput(String query, String operationName, Object context, Object root, Map<String, Object> variables, DataLoaderRegistry dataLoaderRegistry, CacheControl cacheControl, ExecutionId executionId, ExecutionCancellation cancellation) {
         this.query = query;
         this.operationName = operationName;
         this.context = context;
@@ -40,6 +42,7 @@ public class ExecutionInput {
         this.dataLoaderRegistry = dataLoaderRegistry;
         this.cacheControl = cacheControl;
         this.executionId = executionId;
+        this.cancellation = cancellation;
     }
 
     /**
@@ -98,6 +101,13 @@ public class ExecutionInput {
         return executionId;
     }
 
+    /**
+     * @return the deadline and cancellation token of this execution
+     */
+    public ExecutionCancellation getCancellation() {
+        return cancellation;
+    }
+
     /**
      * This helps you transform the current ExecutionInput object into another one by starting a builder with all
      * the current values and allows you to transform it how you want.
@@ -114,7 +124,8 @@ public class ExecutionInput {
             .dataLoaderRegistry(this.dataLoaderRegistry)
             .cacheControl(this.cacheControl)
             .variables(this.variables)
-            .executionId(executionId);
+            .executionId(executionId)
+            .cancellation(cancellation);
 
         builderConsumer.accept(builder);
 
@@ -162,6 +173,7 @@ public class ExecutionInput {
         private DataLoaderRegistry dataLoaderRegistry = new DataLoaderRegistry();
         private CacheControl cacheControl = CacheControl.newCacheControl();
         private ExecutionId executionId = null;
+        private ExecutionCancellation cancellation = ExecutionCancellation.never();
 
         public Builder query(String query) {
             this.query = query;
@@ -233,8 +245,20 @@ public class ExecutionInput {
             return this;
         }
 
+        /**
+         * By default an execution runs until it completes.  With a cancellation token it stops once the token is
+         * cancelled or its deadline has passed.
+         *
+         * @param cancellation the deadline and cancellation token of the execution
+         * @return this builder
+         */
+        public Builder cancellation(ExecutionCancellation cancellation) {
+            this.cancellation = assertNotNull(cancellation);
+            return this;
+        }
+
         public ExecutionInput build() {
-            return new ExecutionInput(query, operationName, context, root, variables, dataLoaderRegistry, cacheControl, executionId);
+            return new ExecutionInput(query, operationName, context, root, variables, dataLoaderRegistry, cacheControl, executionId, cancellation);
         }
     }
 }
\ No newline at end of file
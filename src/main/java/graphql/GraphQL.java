@@ -1,12 +1,15 @@
 package graphql;
 
+import graphql.cachecontrol.ResponseCache;
 import graphql.execution.AbortExecutionException;
 import graphql.execution.AsyncExecutionStrategy;
+import graphql.execution.Async;
 import graphql.execution.AsyncSerialExecutionStrategy;
 import graphql.execution.Execution;
 import graphql.execution.ExecutionId;
 import graphql.execution.ExecutionIdProvider;
 import graphql.execution.ExecutionStrategy;
+import graphql.execution.ResultLimits;
 import graphql.execution.SubscriptionExecutionStrategy;
 import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.execution.instrumentation.DocumentAndVariables;
@@ -14,23 +17,30 @@ import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.InstrumentationState;
 import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatchBarrier;
 import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
 import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.execution.preparsed.BatchPreparsedDocumentProvider;
 import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
 import graphql.execution.preparsed.PreparsedDocumentEntry;
 import graphql.execution.preparsed.PreparsedDocumentProvider;
 import graphql.language.Document;
+import graphql.language.NameInterner;
+import graphql.language.NodeUtil;
+import graphql.language.OperationDefinition;
 import graphql.parser.InvalidSyntaxException;
 import graphql.parser.Parser;
 import graphql.schema.GraphQLSchema;
 import graphql.validation.ValidationError;
 import graphql.validation.Validator;
+import org.dataloader.DataLoaderRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -102,6 +112,9 @@ public class GraphQL {
     private final ExecutionIdProvider idProvider;
     private final Instrumentation instrumentation;
     private final PreparsedDocumentProvider preparsedDocumentProvider;
+    private final ResponseCache responseCache;
+    private final NameInterner nameInterner;
+    private final ResultLimits resultLimits;
 
 
     /**
@@ -145,7 +158,7 @@ public class GraphQL {
     @Internal
     @Deprecated
     public GraphQL(GraphQLSchema graphQLSchema, ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy) {
-        this(graphQLSchema, queryStrategy, mutationStrategy, null, DEFAULT_EXECUTION_ID_PROVIDER, DEFAULT_INSTRUMENTATION, NoOpPreparsedDocumentProvider.INSTANCE);
+        this(graphQLSchema, queryStrategy, mutationStrategy, null, DEFAULT_EXECUTION_ID_PROVIDER, DEFAULT_INSTRUMENTATION, NoOpPreparsedDocumentProvider.INSTANCE, null, null, null);
     }
 
     /**
@@ -161,10 +174,10 @@ public class GraphQL {
     @Internal
     @Deprecated
     public GraphQL(GraphQLSchema graphQLSchema, ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy, ExecutionStrategy subscriptionStrategy) {
-        this(graphQLSchema, queryStrategy, mutationStrategy, subscriptionStrategy, DEFAULT_EXECUTION_ID_PROVIDER, DEFAULT_INSTRUMENTATION, NoOpPreparsedDocumentProvider.INSTANCE);
+        this(graphQLSchema, queryStrategy, mutationStrategy, subscriptionStrategy, DEFAULT_EXECUTION_ID_PROVIDER, DEFAULT_INSTRUMENTATION, NoOpPreparsedDocumentProvider.INSTANCE, null, null, null);
     }
 
-    private GraphQL(GraphQLSchema graphQLSchema, ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy, ExecutionStrategy subscriptionStrategy, ExecutionIdProvider idProvider, Instrumentation instrumentation, PreparsedDocumentProvider preparsedDocumentProvider) {
+    private GraphQL(GraphQLSchema graphQLSchema, ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy, ExecutionStrategy subscriptionStrategy, ExecutionIdProvider idProvider, Instrumentation instrumentation, PreparsedDocumentProvider preparsedDocumentProvider, ResponseCache responseCache, NameInterner nameInterner, ResultLimits resultLimits) {
         this.graphQLSchema = assertNotNull(graphQLSchema, "graphQLSchema must be non null");
         this.queryStrategy = queryStrategy != null ? queryStrategy : new AsyncExecutionStrategy();
         this.mutationStrategy = mutationStrategy != null ? mutationStrategy : new AsyncSerialExecutionStrategy();
@@ -172,6 +185,9 @@ public class GraphQL {
         this.idProvider = assertNotNull(idProvider, "idProvider must be non null");
         this.instrumentation = assertNotNull(instrumentation);
         this.preparsedDocumentProvider = assertNotNull(preparsedDocumentProvider, "preparsedDocumentProvider must be non null");
+        this.responseCache = responseCache;
+        this.nameInterner = nameInterner;
+        this.resultLimits = resultLimits;
     }
 
     /**
@@ -202,6 +218,9 @@ public class GraphQL {
                 .executionIdProvider(nvl(this.idProvider, builder.idProvider))
                 .instrumentation(nvl(this.instrumentation, builder.instrumentation))
                 .preparsedDocumentProvider(nvl(this.preparsedDocumentProvider, builder.preparsedDocumentProvider));
+        builder.responseCache = this.responseCache;
+        builder.nameInterner = this.nameInterner;
+        builder.resultLimits = this.resultLimits;
 
         builderConsumer.accept(builder);
 
@@ -221,6 +240,9 @@ public class GraphQL {
         private ExecutionIdProvider idProvider = DEFAULT_EXECUTION_ID_PROVIDER;
         private Instrumentation instrumentation = null; // deliberate default here
         private PreparsedDocumentProvider preparsedDocumentProvider = NoOpPreparsedDocumentProvider.INSTANCE;
+        private ResponseCache responseCache;
+        private NameInterner nameInterner;
+        private ResultLimits resultLimits;
         private boolean doNotAddDefaultInstrumentations = false;
 
 
@@ -258,6 +280,44 @@ public class GraphQL {
             return this;
         }
 
+        /**
+         * Caches the results of queries across executions, so that identical requests are answered from the cache
+         * without being executed, see {@link graphql.cachecontrol.InMemoryResponseCache}
+         *
+         * @param responseCache the response cache to use
+         *
+         * @return this builder
+         */
+        public Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = assertNotNull(responseCache, "ResponseCache must be non null");
+            return this;
+        }
+
+        /**
+         * Parses the queries with a {@link NameInterner}, so that the documents share the storage of their names, string values
+         * and source locations.  This is worthwhile when many documents are cached by the {@link PreparsedDocumentProvider}
+         *
+         * @param nameInterner the name interner to use
+         *
+         * @return this builder
+         */
+        public Builder nameInterner(NameInterner nameInterner) {
+            this.nameInterner = assertNotNull(nameInterner, "NameInterner must be non null");
+            return this;
+        }
+
+        /**
+         * Checks the size of the results as they are completed, aborting or truncating the results that go over the limits
+         *
+         * @param resultLimits the result limits to apply to each execution
+         *
+         * @return this builder
+         */
+        public Builder resultLimits(ResultLimits resultLimits) {
+            this.resultLimits = assertNotNull(resultLimits, "ResultLimits must be non null");
+            return this;
+        }
+
         public Builder executionIdProvider(ExecutionIdProvider executionIdProvider) {
             this.idProvider = assertNotNull(executionIdProvider, "ExecutionIdProvider must be non null");
             return this;
@@ -285,7 +345,7 @@ public class GraphQL {
             assertNotNull(queryExecutionStrategy, "queryStrategy must be non null");
             assertNotNull(idProvider, "idProvider must be non null");
             final Instrumentation augmentedInstrumentation = checkInstrumentationDefaultState(instrumentation, doNotAddDefaultInstrumentations);
-            return new GraphQL(graphQLSchema, queryExecutionStrategy, mutationExecutionStrategy, subscriptionExecutionStrategy, idProvider, augmentedInstrumentation, preparsedDocumentProvider);
+            return new GraphQL(graphQLSchema, queryExecutionStrategy, mutationExecutionStrategy, subscriptionExecutionStrategy, idProvider, augmentedInstrumentation, preparsedDocumentProvider, responseCache, nameInterner, resultLimits);
         }
     }
 
@@ -485,6 +545,95 @@ public class GraphQL {
      * @return a promise to an {@link ExecutionResult} which can include errors
      */
     public CompletableFuture<ExecutionResult> executeAsync(ExecutionInput executionInput) {
+        return executeAsync(executionInput, preparsedDocumentProvider);
+    }
+
+    /**
+     * Executes a batch of operations together and waits for all their results.
+     *
+     * @param executionInputs the operations to execute
+     *
+     * @return the results in the order of the given operations, which can include errors
+     *
+     * @see #executeBatchAsyncEach(List)
+     */
+    public List<ExecutionResult> executeBatch(List<ExecutionInput> executionInputs) {
+        List<ExecutionResult> results = new ArrayList<>(executionInputs.size());
+        for (CompletableFuture<ExecutionResult> result : executeBatchAsyncEach(executionInputs)) {
+            try {
+                results.add(result.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else {
+                    throw e;
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Executes a batch of operations together.
+     * <p>
+     * This will return a promise (aka {@link CompletableFuture}) to provide the results of all the operations
+     * once they have all completed.
+     *
+     * @param executionInputs the operations to execute
+     *
+     * @return a promise to the results in the order of the given operations, which can include errors
+     *
+     * @see #executeBatchAsyncEach(List)
+     */
+    public CompletableFuture<List<ExecutionResult>> executeBatchAsync(List<ExecutionInput> executionInputs) {
+        return Async.each(executeBatchAsyncEach(executionInputs));
+    }
+
+    /**
+     * Executes a batch of operations together, such as the operations of a batched HTTP request, with a promise
+     * (aka {@link CompletableFuture}) to the result of each operation so that results can be sent as they complete.
+     * <p>
+     * The operations share work where they can :
+     * <ul>
+     * <li>a query string that appears more than once in the batch is only handed once to the {@link PreparsedDocumentProvider}
+     * and so is only parsed and validated once</li>
+     * <li>operations that were given the same {@link org.dataloader.DataLoaderRegistry} instance share its data loaders, and the
+     * registry is only dispatched once every one of these operations has something to load, so their loads go out in the same
+     * batch calls and the keys they have in common are loaded once</li>
+     * </ul>
+     * Each operation otherwise executes as if it was given to {@link #executeAsync(ExecutionInput)}, with its own
+     * instrumentation state, execution id and context.  Operations that were given their own registry, which is the default,
+     * do not share any loading.
+     *
+     * @param executionInputs the operations to execute
+     *
+     * @return a promise to the result of each operation, in the order of the given operations
+     */
+    public List<CompletableFuture<ExecutionResult>> executeBatchAsyncEach(List<ExecutionInput> executionInputs) {
+        PreparsedDocumentProvider batchDocumentProvider = new BatchPreparsedDocumentProvider(preparsedDocumentProvider);
+
+        // every operation is known to its dispatch barrier before any of them starts
+        Map<DataLoaderRegistry, DataLoaderDispatchBarrier> barriers = new IdentityHashMap<>();
+        List<DataLoaderDispatchBarrier> operationBarriers = new ArrayList<>(executionInputs.size());
+        List<ExecutionInput> operationInputs = new ArrayList<>(executionInputs.size());
+        for (ExecutionInput executionInput : executionInputs) {
+            DataLoaderDispatchBarrier barrier = barriers.computeIfAbsent(executionInput.getDataLoaderRegistry(), DataLoaderDispatchBarrier::new);
+            DataLoaderRegistry operationRegistry = barrier.newOperationRegistry();
+            operationBarriers.add(barrier);
+            operationInputs.add(executionInput.transform(builder -> builder.dataLoaderRegistry(operationRegistry)));
+        }
+
+        List<CompletableFuture<ExecutionResult>> results = new ArrayList<>(operationInputs.size());
+        for (int i = 0; i < operationInputs.size(); i++) {
+            ExecutionInput executionInput = operationInputs.get(i);
+            DataLoaderDispatchBarrier barrier = operationBarriers.get(i);
+            CompletableFuture<ExecutionResult> result = Async.tryCatch(() -> executeAsync(executionInput, batchDocumentProvider));
+            results.add(result.whenComplete((executionResult, throwable) -> barrier.operationCompleted(executionInput.getDataLoaderRegistry())));
+        }
+        return results;
+    }
+
+    private CompletableFuture<ExecutionResult> executeAsync(ExecutionInput executionInput, PreparsedDocumentProvider preparsedDocumentProvider) {
         try {
             log.debug("Executing request. operation name: '{}'. query: '{}'. variables '{}'", executionInput.getOperationName(), executionInput.getQuery(), executionInput.getVariables());
             executionInput = ensureInputHasId(executionInput);
@@ -499,7 +648,7 @@ public class GraphQL {
 
             GraphQLSchema graphQLSchema = instrumentation.instrumentSchema(this.graphQLSchema, instrumentationParameters);
 
-            CompletableFuture<ExecutionResult> executionResult = parseValidateAndExecute(executionInput, graphQLSchema, instrumentationState);
+            CompletableFuture<ExecutionResult> executionResult = parseValidateAndExecute(executionInput, graphQLSchema, instrumentationState, preparsedDocumentProvider);
             //
             // finish up instrumentation
             executionResult = executionResult.whenComplete(executionInstrumentation::onCompleted);
@@ -523,7 +672,14 @@ public class GraphQL {
     }
 
 
-    private CompletableFuture<ExecutionResult> parseValidateAndExecute(ExecutionInput executionInput, GraphQLSchema graphQLSchema, InstrumentationState instrumentationState) {
+    private CompletableFuture<ExecutionResult> parseValidateAndExecute(ExecutionInput executionInput, GraphQLSchema graphQLSchema, InstrumentationState instrumentationState, PreparsedDocumentProvider preparsedDocumentProvider) {
+        if (responseCache != null) {
+            ExecutionResult cachedResult = responseCache.get(executionInput);
+            if (cachedResult != null) {
+                log.debug("Execution '{}' answered from the response cache", executionInput.getExecutionId());
+                return CompletableFuture.completedFuture(cachedResult);
+            }
+        }
         AtomicReference<ExecutionInput> executionInputRef = new AtomicReference<>(executionInput);
         Function<ExecutionInput, PreparsedDocumentEntry> computeFunction = transformedInput -> {
             // if they change the original query in the pre-parser, then we want to see it downstream from then on
@@ -535,7 +691,18 @@ public class GraphQL {
             return CompletableFuture.completedFuture(new ExecutionResultImpl(preparsedDoc.getErrors()));
         }
 
-        return execute(executionInputRef.get(), preparsedDoc.getDocument(), graphQLSchema, instrumentationState);
+        ExecutionInput executedInput = executionInputRef.get();
+        Document document = preparsedDoc.getDocument();
+        CompletableFuture<ExecutionResult> future = execute(executedInput, document, graphQLSchema, instrumentationState);
+        if (responseCache != null) {
+            // the result is cached under the request as it was looked up, before the pre-parser or the instrumentation changed it
+            future = future.whenComplete((result, throwable) -> {
+                if (throwable == null && result.getErrors().isEmpty() && isQuery(document, executedInput.getOperationName())) {
+                    responseCache.put(executionInput, result);
+                }
+            });
+        }
+        return future;
     }
 
     private PreparsedDocumentEntry parseAndValidate(AtomicReference<ExecutionInput> executionInputRef, GraphQLSchema graphQLSchema, InstrumentationState instrumentationState) {
@@ -569,7 +736,7 @@ public class GraphQL {
         InstrumentationExecutionParameters parameters = new InstrumentationExecutionParameters(executionInput, graphQLSchema, instrumentationState);
         InstrumentationContext<Document> parseInstrumentation = instrumentation.beginParse(parameters);
 
-        Parser parser = new Parser();
+        Parser parser = new Parser(false, nameInterner);
         Document document;
         DocumentAndVariables documentAndVariables;
         try {
@@ -598,7 +765,7 @@ public class GraphQL {
 
     private CompletableFuture<ExecutionResult> execute(ExecutionInput executionInput, Document document, GraphQLSchema graphQLSchema, InstrumentationState instrumentationState) {
 
-        Execution execution = new Execution(queryStrategy, mutationStrategy, subscriptionStrategy, instrumentation);
+        Execution execution = new Execution(queryStrategy, mutationStrategy, subscriptionStrategy, instrumentation, resultLimits);
         ExecutionId executionId = executionInput.getExecutionId();
 
         log.debug("Executing '{}'. operation name: '{}'. query: '{}'. variables '{}'", executionId, executionInput.getOperationName(), executionInput.getQuery(), executionInput.getVariables());
@@ -618,6 +785,11 @@ public class GraphQL {
         return future;
     }
 
+    private static boolean isQuery(Document document, String operationName) {
+        // the operation exists as the execution had no errors
+        return NodeUtil.getOperation(document, operationName).operationDefinition.getOperation() == OperationDefinition.Operation.QUERY;
+    }
+
     private static Instrumentation checkInstrumentationDefaultState(Instrumentation instrumentation, boolean doNotAddDefaultInstrumentations) {
         if (doNotAddDefaultInstrumentations) {
             return instrumentation == null ? SimpleInstrumentation.INSTANCE : instrumentation;
@@ -26,10 +26,6 @@ import static graphql.Assert.assertShouldNeverHappen;
  */
 public class Scalars {
 
-    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
-    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
-    private static final BigInteger INT_MAX = BigInteger.valueOf(Integer.MAX_VALUE);
-    private static final BigInteger INT_MIN = BigInteger.valueOf(Integer.MIN_VALUE);
     private static final BigInteger BYTE_MAX = BigInteger.valueOf(Byte.MAX_VALUE);
     private static final BigInteger BYTE_MIN = BigInteger.valueOf(Byte.MIN_VALUE);
     private static final BigInteger SHORT_MAX = BigInteger.valueOf(Short.MAX_VALUE);
@@ -48,6 +44,33 @@ public class Scalars {
         return input.getClass().getSimpleName();
     }
 
+    private static final long NOT_A_PLAIN_INTEGER = Long.MIN_VALUE;
+
+    // integral doubles below this are exactly what Double.toString() prints for them
+    private static final double MAX_EXACT_DOUBLE = 0x1p53;
+
+    /**
+     * Numeric input is mostly boxed primitives or strings of plain digits, these are converted directly rather than via
+     * {@link BigDecimal}.  This parses strings of up to 18 decimal digits with an optional minus sign and gives back
+     * {@link #NOT_A_PLAIN_INTEGER} for anything else, which is then left to the general conversion.
+     */
+    private static long parsePlainInteger(String input) {
+        int length = input.length();
+        int start = length > 0 && input.charAt(0) == '-' ? 1 : 0;
+        if (length == start || length - start > 18) {
+            return NOT_A_PLAIN_INTEGER;
+        }
+        long result = 0;
+        for (int i = start; i < length; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_A_PLAIN_INTEGER;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return start == 1 ? -result : result;
+    }
+
     /**
      * This represents the "Int" type as defined in the graphql specification : http://facebook.github.io/graphql/#sec-Int
      *
@@ -58,7 +81,20 @@ public class Scalars {
         private Integer convertImpl(Object input) {
             if (input instanceof Integer) {
                 return (Integer) input;
-            } else if (isNumberIsh(input)) {
+            } else if (input instanceof Short || input instanceof Byte) {
+                return ((Number) input).intValue();
+            } else if (input instanceof Long) {
+                long value = (Long) input;
+                return value == (int) value ? (int) value : null;
+            } else if (input instanceof Double && (Double) input == ((Double) input).intValue()) {
+                return ((Double) input).intValue();
+            } else if (input instanceof String) {
+                long value = parsePlainInteger((String) input);
+                if (value != NOT_A_PLAIN_INTEGER) {
+                    return value == (int) value ? (int) value : null;
+                }
+            }
+            if (isNumberIsh(input)) {
                 BigDecimal value;
                 try {
                     value = new BigDecimal(input.toString());
@@ -105,7 +141,7 @@ public class Scalars {
                 );
             }
             BigInteger value = ((IntValue) input).getValue();
-            if (value.compareTo(INT_MIN) < 0 || value.compareTo(INT_MAX) > 0) {
+            if (value.bitLength() > 31) {
                 throw new CoercingParseLiteralException(
                         "Expected value to be in the Integer range but it was '" + value.toString() + "'"
                 );
@@ -122,6 +158,21 @@ public class Scalars {
     public static final GraphQLScalarType GraphQLFloat = new GraphQLScalarType("Float", "Built-in Float", new Coercing<Double, Double>() {
 
         private Double convertImpl(Object input) {
+            if (input instanceof Double) {
+                Double value = (Double) input;
+                if (value.isNaN() || value.isInfinite()) {
+                    return null;
+                }
+                // -0.0 becomes 0.0 like it does via BigDecimal
+                return value == 0 ? 0.0 : value;
+            } else if (input instanceof Integer || input instanceof Long || input instanceof Short || input instanceof Byte) {
+                return ((Number) input).doubleValue();
+            } else if (input instanceof String) {
+                long value = parsePlainInteger((String) input);
+                if (value != NOT_A_PLAIN_INTEGER) {
+                    return (double) value;
+                }
+            }
             if (isNumberIsh(input)) {
                 BigDecimal value;
                 try {
@@ -326,7 +377,20 @@ public class Scalars {
         private Long convertImpl(Object input) {
             if (input instanceof Long) {
                 return (Long) input;
-            } else if (isNumberIsh(input)) {
+            } else if (input instanceof Integer || input instanceof Short || input instanceof Byte) {
+                return ((Number) input).longValue();
+            } else if (input instanceof Double) {
+                double value = (Double) input;
+                if (value == (long) value && Math.abs(value) < MAX_EXACT_DOUBLE) {
+                    return (long) value;
+                }
+            } else if (input instanceof String) {
+                long value = parsePlainInteger((String) input);
+                if (value != NOT_A_PLAIN_INTEGER) {
+                    return value;
+                }
+            }
+            if (isNumberIsh(input)) {
                 BigDecimal value;
                 try {
                     value = new BigDecimal(input.toString());
@@ -378,7 +442,7 @@ public class Scalars {
                 }
             } else if (input instanceof IntValue) {
                 BigInteger value = ((IntValue) input).getValue();
-                if (value.compareTo(LONG_MIN) < 0 || value.compareTo(LONG_MAX) > 0) {
+                if (value.bitLength() > 63) {
                     throw new CoercingParseLiteralException(
                             "Expected value to be in the Long range but it was '" + value.toString() + "'"
                     );
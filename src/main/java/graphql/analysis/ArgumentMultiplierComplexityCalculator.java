@@ -0,0 +1,145 @@
+package graphql.analysis;
+
+import graphql.PublicApi;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+
+/**
+ * A {@link FieldComplexityCalculator} that multiplies the child complexity of a field by the value of a "page size" argument,
+ * such as the Relay connection arguments {@code first} and {@code last}.
+ * <p>
+ * The complexity of a field is {@code fieldCost + childComplexity * multiplier} where the multiplier is the value of
+ * the first multiplier argument present on the field, capped at the max multiplier.  Fields without any multiplier
+ * argument use the default multiplier.
+ * <pre>
+ * {@code
+ *     // a connection fetched with first: 50 costs 50 times its selected edges
+ *     FieldComplexityCalculator calculator = ArgumentMultiplierComplexityCalculator.newCalculator()
+ *                  .multiplierArguments("first", "last")
+ *                  .maxMultiplier(100)
+ *                  .build();
+ * }
+ * </pre>
+ */
+@PublicApi
+public class ArgumentMultiplierComplexityCalculator implements FieldComplexityCalculator {
+
+    private final List<String> multiplierArguments;
+    private final int fieldCost;
+    private final int defaultMultiplier;
+    private final int maxMultiplier;
+
+    private ArgumentMultiplierComplexityCalculator(List<String> multiplierArguments, int fieldCost, int defaultMultiplier, int maxMultiplier) {
+        this.multiplierArguments = multiplierArguments;
+        this.fieldCost = fieldCost;
+        this.defaultMultiplier = defaultMultiplier;
+        this.maxMultiplier = maxMultiplier;
+    }
+
+    @Override
+    public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+        long complexity = fieldCost + (long) childComplexity * getMultiplier(environment);
+        return (int) Math.min(complexity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Called to work out the multiplier for a field from its arguments
+     *
+     * @param environment the field complexity environment
+     *
+     * @return the multiplier to apply to the child complexity
+     */
+    protected int getMultiplier(FieldComplexityEnvironment environment) {
+        if (environment.getArguments() == null || environment.getArguments().isEmpty()) {
+            return defaultMultiplier;
+        }
+        for (String argumentName : multiplierArguments) {
+            Object value = environment.getArguments().get(argumentName);
+            if (value instanceof Number) {
+                long multiplier = ((Number) value).longValue();
+                return (int) Math.max(0, Math.min(multiplier, maxMultiplier));
+            }
+        }
+        return defaultMultiplier;
+    }
+
+    /**
+     * @return a new {@link ArgumentMultiplierComplexityCalculator} builder
+     */
+    public static Builder newCalculator() {
+        return new Builder();
+    }
+
+    @PublicApi
+    public static class Builder {
+        private List<String> multiplierArguments = Arrays.asList("first", "last");
+        private int fieldCost = 1;
+        private int defaultMultiplier = 1;
+        private int maxMultiplier = Integer.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * The names of the arguments that are used as multipliers, in order of preference.  By default
+         * these are the Relay connection arguments {@code first} and {@code last}
+         *
+         * @param argumentNames the argument names
+         *
+         * @return this builder
+         */
+        public Builder multiplierArguments(String... argumentNames) {
+            this.multiplierArguments = Arrays.asList(assertNotNull(argumentNames));
+            return this;
+        }
+
+        /**
+         * The cost of the field itself, independent of its children.  Defaults to 1
+         *
+         * @param fieldCost the cost of a field
+         *
+         * @return this builder
+         */
+        public Builder fieldCost(int fieldCost) {
+            this.fieldCost = fieldCost;
+            return this;
+        }
+
+        /**
+         * The multiplier used when none of the multiplier arguments are present.  Defaults to 1
+         *
+         * @param defaultMultiplier the default multiplier
+         *
+         * @return this builder
+         */
+        public Builder defaultMultiplier(int defaultMultiplier) {
+            assertTrue(defaultMultiplier >= 0, "defaultMultiplier must be >= 0");
+            this.defaultMultiplier = defaultMultiplier;
+            return this;
+        }
+
+        /**
+         * The maximum multiplier, argument values above this are capped.  Defaults to no cap
+         *
+         * @param maxMultiplier the maximum multiplier
+         *
+         * @return this builder
+         */
+        public Builder maxMultiplier(int maxMultiplier) {
+            assertTrue(maxMultiplier >= 0, "maxMultiplier must be >= 0");
+            this.maxMultiplier = maxMultiplier;
+            return this;
+        }
+
+        /**
+         * @return a built {@link ArgumentMultiplierComplexityCalculator} object
+         */
+        public ArgumentMultiplierComplexityCalculator build() {
+            return new ArgumentMultiplierComplexityCalculator(multiplierArguments, fieldCost, defaultMultiplier, maxMultiplier);
+        }
+    }
+}
@@ -128,6 +128,7 @@ public class MaxQueryComplexityInstrumentation extends SimpleInstrumentation {
                 .document(parameters.getDocument())
                 .operationName(parameters.getOperation())
                 .variables(parameters.getVariables())
+                .traversalCache(QueryTraversalCache.forDocument(parameters.getDocument()))
                 .build();
     }
 
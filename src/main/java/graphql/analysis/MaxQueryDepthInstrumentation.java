@@ -87,6 +87,7 @@ public class MaxQueryDepthInstrumentation extends SimpleInstrumentation {
                 .document(parameters.getDocument())
                 .operationName(parameters.getOperation())
                 .variables(parameters.getVariables())
+                .traversalCache(QueryTraversalCache.forDocument(parameters.getDocument()))
                 .build();
     }
 
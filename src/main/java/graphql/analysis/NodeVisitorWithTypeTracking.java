@@ -20,6 +20,7 @@ import graphql.schema.GraphQLUnmodifiedType;
 import graphql.util.TraversalControl;
 import graphql.util.TraverserContext;
 
+import java.util.Collections;
 import java.util.Map;
 
 import static graphql.Assert.assertNotNull;
@@ -39,17 +40,23 @@ public class NodeVisitorWithTypeTracking extends NodeVisitorStub {
     private final Map<String, Object> variables;
     private final GraphQLSchema schema;
     private final Map<String, FragmentDefinition> fragmentsByName;
+    private final QueryTraversalCache traversalCache;
 
     private final ConditionalNodes conditionalNodes = new ConditionalNodes();
     private final ValuesResolver valuesResolver = new ValuesResolver();
 
 
     public NodeVisitorWithTypeTracking(QueryVisitor preOrderCallback, QueryVisitor postOrderCallback, Map<String, Object> variables, GraphQLSchema schema, Map<String, FragmentDefinition> fragmentsByName) {
+        this(preOrderCallback, postOrderCallback, variables, schema, fragmentsByName, null);
+    }
+
+    public NodeVisitorWithTypeTracking(QueryVisitor preOrderCallback, QueryVisitor postOrderCallback, Map<String, Object> variables, GraphQLSchema schema, Map<String, FragmentDefinition> fragmentsByName, QueryTraversalCache traversalCache) {
         this.preOrderCallback = preOrderCallback;
         this.postOrderCallback = postOrderCallback;
         this.variables = variables;
         this.schema = schema;
         this.fragmentsByName = fragmentsByName;
+        this.traversalCache = traversalCache;
     }
 
     @Override
@@ -136,11 +143,27 @@ public class NodeVisitorWithTypeTracking extends NodeVisitorStub {
     public TraversalControl visitField(Field field, TraverserContext<Node> context) {
         QueryTraversalContext parentEnv = context.getVarFromParents(QueryTraversalContext.class);
 
-        GraphQLFieldDefinition fieldDefinition = Introspection.getFieldDef(schema, (GraphQLCompositeType) unwrapAll(parentEnv.getOutputType()), field.getName());
+        GraphQLCompositeType parentType = (GraphQLCompositeType) unwrapAll(parentEnv.getOutputType());
+        GraphQLFieldDefinition fieldDefinition;
+        Map<String, Object> argumentValues;
+        QueryTraversalCache.ResolvedField resolvedField = traversalCache != null ? traversalCache.get(field, parentType) : null;
+        if (resolvedField != null) {
+            fieldDefinition = resolvedField.fieldDefinition;
+            argumentValues = resolvedField.staticArguments != null ? resolvedField.staticArguments : getArgumentValues(field, fieldDefinition);
+        } else {
+            fieldDefinition = Introspection.getFieldDef(schema, parentType, field.getName());
+            argumentValues = getArgumentValues(field, fieldDefinition);
+            if (traversalCache != null) {
+                Map<String, Object> staticArguments = null;
+                if (!VariableReferences.inArguments(field.getArguments())) {
+                    argumentValues = Collections.unmodifiableMap(argumentValues);
+                    staticArguments = argumentValues;
+                }
+                traversalCache.put(field, new QueryTraversalCache.ResolvedField(parentType, fieldDefinition, staticArguments));
+            }
+        }
         boolean isTypeNameIntrospectionField = fieldDefinition == Introspection.TypeNameMetaFieldDef;
-        GraphQLFieldsContainer fieldsContainer = !isTypeNameIntrospectionField ? (GraphQLFieldsContainer) unwrapAll(parentEnv.getOutputType()) : null;
-        GraphQLCodeRegistry codeRegistry = schema.getCodeRegistry();
-        Map<String, Object> argumentValues = valuesResolver.getArgumentValues(codeRegistry, fieldDefinition.getArguments(), field.getArguments(), variables);
+        GraphQLFieldsContainer fieldsContainer = !isTypeNameIntrospectionField ? (GraphQLFieldsContainer) parentType : null;
         QueryVisitorFieldEnvironment environment = new QueryVisitorFieldEnvironmentImpl(isTypeNameIntrospectionField,
                 field,
                 fieldDefinition,
@@ -172,4 +195,8 @@ public class NodeVisitorWithTypeTracking extends NodeVisitorStub {
         return traversalControl;
     }
 
+    private Map<String, Object> getArgumentValues(Field field, GraphQLFieldDefinition fieldDefinition) {
+        GraphQLCodeRegistry codeRegistry = schema.getCodeRegistry();
+        return valuesResolver.getArgumentValues(codeRegistry, fieldDefinition.getArguments(), field.getArguments(), variables);
+    }
 }
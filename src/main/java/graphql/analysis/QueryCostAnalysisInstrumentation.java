@@ -0,0 +1,107 @@
+package graphql.analysis;
+
+import graphql.ExecutionResult;
+import graphql.PublicApi;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * Prevents execution if the query depth is greater than the specified maxDepth or if the query complexity
+ * is greater than the specified maxComplexity.
+ * <p>
+ * This combines {@link MaxQueryDepthInstrumentation} and {@link MaxQueryComplexityInstrumentation} into one pass via a
+ * {@link QueryCostAnalyzer}, which caches the variable independent cost of a document for as long as the document is alive.
+ * <p>
+ * Unlike those instrumentations the check is made just before the operation is executed, with the coerced variables,
+ * so that it also applies to documents that come from a {@link graphql.execution.preparsed.PreparsedDocumentProvider} cache
+ * and hence are not re-validated.
+ */
+@PublicApi
+public class QueryCostAnalysisInstrumentation extends SimpleInstrumentation {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCostAnalysisInstrumentation.class);
+
+    private final int maxDepth;
+    private final int maxComplexity;
+    private final QueryCostAnalyzer queryCostAnalyzer;
+
+    /**
+     * new Instrumentation with default complexity calculator which is `1 + childComplexity`
+     *
+     * @param maxDepth      max allowed depth, otherwise execution will be aborted
+     * @param maxComplexity max allowed complexity, otherwise execution will be aborted
+     */
+    public QueryCostAnalysisInstrumentation(int maxDepth, int maxComplexity) {
+        this(maxDepth, maxComplexity, new QueryCostAnalyzer());
+    }
+
+    /**
+     * new Instrumentation with custom complexity calculator, for example an {@link ArgumentMultiplierComplexityCalculator}
+     *
+     * @param maxDepth                  max allowed depth, otherwise execution will be aborted
+     * @param maxComplexity             max allowed complexity, otherwise execution will be aborted
+     * @param fieldComplexityCalculator custom complexity calculator
+     */
+    public QueryCostAnalysisInstrumentation(int maxDepth, int maxComplexity, FieldComplexityCalculator fieldComplexityCalculator) {
+        this(maxDepth, maxComplexity, new QueryCostAnalyzer(fieldComplexityCalculator));
+    }
+
+    /**
+     * new Instrumentation with a specific analyzer, which allows the analyzer and its cache to be shared
+     *
+     * @param maxDepth          max allowed depth, otherwise execution will be aborted
+     * @param maxComplexity     max allowed complexity, otherwise execution will be aborted
+     * @param queryCostAnalyzer the analyzer to use
+     */
+    public QueryCostAnalysisInstrumentation(int maxDepth, int maxComplexity, QueryCostAnalyzer queryCostAnalyzer) {
+        this.maxDepth = maxDepth;
+        this.maxComplexity = maxComplexity;
+        this.queryCostAnalyzer = assertNotNull(queryCostAnalyzer, "analyzer can't be null");
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters) {
+        ExecutionContext executionContext = parameters.getExecutionContext();
+        QueryCostInfo queryCostInfo = queryCostAnalyzer.analyze(executionContext.getGraphQLSchema(),
+                executionContext.getDocument(),
+                executionContext.getOperationDefinition().getName(),
+                executionContext.getVariables());
+        log.debug("Query cost info: {}", queryCostInfo);
+        if (queryCostInfo.getDepth() > maxDepth && onMaxQueryCostExceeded(queryCostInfo)) {
+            throw mkAbortException("maximum query depth exceeded " + queryCostInfo.getDepth() + " > " + maxDepth);
+        }
+        if (queryCostInfo.getComplexity() > maxComplexity && onMaxQueryCostExceeded(queryCostInfo)) {
+            throw mkAbortException("maximum query complexity exceeded " + queryCostInfo.getComplexity() + " > " + maxComplexity);
+        }
+        return super.beginExecuteOperation(parameters);
+    }
+
+    /**
+     * Called when the max depth or the max complexity is exceeded to perform a custom action.
+     *
+     * @param queryCostInfo the cost of the query
+     *
+     * @return true if the execution should be aborted
+     */
+    protected boolean onMaxQueryCostExceeded(QueryCostInfo queryCostInfo) {
+        return true;
+    }
+
+    /**
+     * Called to generate your own error message or custom exception class
+     *
+     * @param message the message describing which limit was exceeded
+     *
+     * @return a instance of AbortExecutionException
+     */
+    protected AbortExecutionException mkAbortException(String message) {
+        return new AbortExecutionException(message);
+    }
+}
@@ -0,0 +1,371 @@
+package graphql.analysis;
+
+import graphql.PublicApi;
+import graphql.ThreadSafe;
+import graphql.execution.ConditionalNodes;
+import graphql.execution.ValuesResolver;
+import graphql.introspection.Introspection;
+import graphql.language.Directive;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.NodeUtil;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLCompositeType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLUnmodifiedType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertShouldNeverHappen;
+import static graphql.schema.GraphQLTypeUtil.unwrapAll;
+
+/**
+ * Calculates the depth and the complexity of a query in a single pass.
+ * <p>
+ * The first time a {@link Document} is analysed, its selected fields are compiled into a tree of cost nodes with
+ * fragments resolved and field definitions looked up.  The parts of that tree that do not depend on variables (via arguments
+ * or skip/include directives) have their depth and complexity calculated once and the compiled tree is cached for as long as the
+ * {@link Document} itself is alive, which means it lives alongside the document held by a
+ * {@link graphql.execution.preparsed.PreparsedDocumentProvider}.
+ * <p>
+ * Subsequent analysis of the same document only re-evaluates the variable dependent parts of the tree and a document
+ * that does not use variables at all costs a map lookup.
+ * <p>
+ * The depth and complexity are calculated the same way as {@link MaxQueryDepthInstrumentation} and
+ * {@link MaxQueryComplexityInstrumentation} do.  The {@link FieldComplexityCalculator} is expected to be a pure
+ * function of its inputs since its results are cached.
+ */
+@PublicApi
+@ThreadSafe
+public class QueryCostAnalyzer {
+
+    private final FieldComplexityCalculator fieldComplexityCalculator;
+
+    private final ConditionalNodes conditionalNodes = new ConditionalNodes();
+    private final ValuesResolver valuesResolver = new ValuesResolver();
+
+    /**
+     * An analyzer with the default complexity calculator which is `1 + childComplexity`
+     */
+    public QueryCostAnalyzer() {
+        this((env, childComplexity) -> 1 + childComplexity);
+    }
+
+    /**
+     * An analyzer with a custom complexity calculator
+     *
+     * @param fieldComplexityCalculator custom complexity calculator
+     */
+    public QueryCostAnalyzer(FieldComplexityCalculator fieldComplexityCalculator) {
+        this.fieldComplexityCalculator = assertNotNull(fieldComplexityCalculator, "calculator can't be null");
+    }
+
+    /**
+     * Calculates the cost of an operation in the document.
+     *
+     * @param schema        the schema to use
+     * @param document      the (already validated) document
+     * @param operationName the operation name, which can be null if there is only one operation
+     * @param variables     the coerced variables
+     *
+     * @return the depth and complexity of the operation
+     */
+    public QueryCostInfo analyze(GraphQLSchema schema, Document document, String operationName, Map<String, Object> variables) {
+        assertNotNull(schema, "schema can't be null");
+        assertNotNull(document, "document can't be null");
+        assertNotNull(variables, "variables can't be null");
+
+        CostPlan plan = getPlan(schema, document, operationName);
+        if (plan.staticCost != null) {
+            return plan.staticCost;
+        }
+        int[] depthAndComplexity = new int[2];
+        evaluate(schema.getCodeRegistry(), plan.roots, null, variables, depthAndComplexity);
+        return QueryCostInfo.newQueryCostInfo()
+                .depth(depthAndComplexity[0])
+                .complexity(depthAndComplexity[1])
+                .build();
+    }
+
+    private CostPlan getPlan(GraphQLSchema schema, Document document, String operationName) {
+        String planKey = operationName == null ? "" : operationName;
+        // the plans hold the costs of the complexity calculator of this analyzer, so they are kept per analyzer
+        Map<String, CostPlan> plansByOperation = document.getDerivedData(this, key -> new ConcurrentHashMap<String, CostPlan>());
+        CostPlan plan = plansByOperation.get(planKey);
+        if (plan != null && plan.schema == schema) {
+            return plan;
+        }
+        plan = compile(schema, document, operationName);
+        plansByOperation.put(planKey, plan);
+        return plan;
+    }
+
+    private CostPlan compile(GraphQLSchema schema, Document document, String operationName) {
+        NodeUtil.GetOperationResult getOperationResult = NodeUtil.getOperation(document, operationName);
+        OperationDefinition operationDefinition = getOperationResult.operationDefinition;
+        Compiler compiler = new Compiler(schema, getOperationResult.fragmentsByName);
+
+        List<CostNode> roots = new ArrayList<>();
+        compiler.compileSelectionSet(operationDefinition.getSelectionSet(), getRootType(schema, operationDefinition),
+                null, Collections.emptyList(), roots);
+
+        boolean dependent = false;
+        for (CostNode root : roots) {
+            dependent |= root.dependent;
+        }
+        GraphQLCodeRegistry codeRegistry = schema.getCodeRegistry();
+        precomputeStaticCosts(codeRegistry, roots);
+
+        QueryCostInfo staticCost = null;
+        if (!dependent) {
+            int[] depthAndComplexity = new int[2];
+            evaluate(codeRegistry, roots, null, Collections.emptyMap(), depthAndComplexity);
+            staticCost = QueryCostInfo.newQueryCostInfo()
+                    .depth(depthAndComplexity[0])
+                    .complexity(depthAndComplexity[1])
+                    .build();
+        }
+        return new CostPlan(schema, roots, staticCost);
+    }
+
+    private void precomputeStaticCosts(GraphQLCodeRegistry codeRegistry, List<CostNode> nodes) {
+        for (CostNode node : nodes) {
+            // children first, so that a static node can use the static costs of its children
+            precomputeStaticCosts(codeRegistry, node.children);
+            if (!node.dependent) {
+                int[] depthAndComplexity = new int[2];
+                node.staticComplexity = computeCost(codeRegistry, node, staticEnvironment(node.parent), Collections.emptyMap(), depthAndComplexity);
+                node.staticDepth = depthAndComplexity[0];
+            }
+        }
+    }
+
+    private FieldComplexityEnvironment staticEnvironment(CostNode node) {
+        if (node == null) {
+            return null;
+        }
+        return newEnvironment(node, node.staticArguments, staticEnvironment(node.parent));
+    }
+
+    private void evaluate(GraphQLCodeRegistry codeRegistry, List<CostNode> nodes, FieldComplexityEnvironment parentEnv, Map<String, Object> variables, int[] depthAndComplexity) {
+        for (CostNode node : nodes) {
+            if (!node.shouldInclude(conditionalNodes, variables)) {
+                continue;
+            }
+            int complexity;
+            if (node.dependent) {
+                int[] childDepth = new int[2];
+                complexity = computeCost(codeRegistry, node, parentEnv, variables, childDepth);
+                depthAndComplexity[0] = Math.max(depthAndComplexity[0], childDepth[0]);
+            } else {
+                complexity = node.staticComplexity;
+                depthAndComplexity[0] = Math.max(depthAndComplexity[0], node.staticDepth);
+            }
+            depthAndComplexity[1] += complexity;
+        }
+    }
+
+    private int computeCost(GraphQLCodeRegistry codeRegistry, CostNode node, FieldComplexityEnvironment parentEnv, Map<String, Object> variables, int[] depthAndComplexity) {
+        Map<String, Object> arguments = node.staticArguments;
+        if (arguments == null) {
+            arguments = valuesResolver.getArgumentValues(codeRegistry, node.fieldDefinition.getArguments(), node.field.getArguments(), variables);
+        }
+        FieldComplexityEnvironment environment = newEnvironment(node, arguments, parentEnv);
+
+        int[] children = new int[2];
+        evaluate(codeRegistry, node.children, environment, variables, children);
+        depthAndComplexity[0] = Math.max(node.level, children[0]);
+        if (node.typeNameIntrospectionField) {
+            return 0;
+        }
+        return fieldComplexityCalculator.calculate(environment, children[1]);
+    }
+
+    private FieldComplexityEnvironment newEnvironment(CostNode node, Map<String, Object> arguments, FieldComplexityEnvironment parentEnv) {
+        return new FieldComplexityEnvironment(node.field, node.fieldDefinition, node.fieldsContainer, arguments, parentEnv);
+    }
+
+    private GraphQLObjectType getRootType(GraphQLSchema schema, OperationDefinition operationDefinition) {
+        switch (operationDefinition.getOperation()) {
+            case MUTATION:
+                return assertNotNull(schema.getMutationType());
+            case QUERY:
+                return assertNotNull(schema.getQueryType());
+            case SUBSCRIPTION:
+                return assertNotNull(schema.getSubscriptionType());
+            default:
+                return assertShouldNeverHappen();
+        }
+    }
+
+    private class Compiler {
+        private final GraphQLSchema schema;
+        private final Map<String, FragmentDefinition> fragmentsByName;
+
+        Compiler(GraphQLSchema schema, Map<String, FragmentDefinition> fragmentsByName) {
+            this.schema = schema;
+            this.fragmentsByName = fragmentsByName;
+        }
+
+        void compileSelectionSet(SelectionSet selectionSet, GraphQLCompositeType parentType, CostNode parent, List<List<Directive>> conditions, List<CostNode> result) {
+            if (selectionSet == null) {
+                return;
+            }
+            for (Selection selection : selectionSet.getSelections()) {
+                if (selection instanceof Field) {
+                    compileField((Field) selection, parentType, parent, conditions, result);
+                } else if (selection instanceof InlineFragment) {
+                    InlineFragment inlineFragment = (InlineFragment) selection;
+                    // inline fragments are allowed not have type conditions, if so the parent type counts
+                    GraphQLCompositeType fragmentType = inlineFragment.getTypeCondition() == null ? parentType
+                            : (GraphQLCompositeType) schema.getType(inlineFragment.getTypeCondition().getName());
+                    compileSelectionSet(inlineFragment.getSelectionSet(), fragmentType, parent,
+                            withConditions(conditions, inlineFragment.getDirectives()), result);
+                } else if (selection instanceof FragmentSpread) {
+                    FragmentSpread fragmentSpread = (FragmentSpread) selection;
+                    FragmentDefinition fragmentDefinition = fragmentsByName.get(fragmentSpread.getName());
+                    GraphQLCompositeType fragmentType = (GraphQLCompositeType) schema.getType(fragmentDefinition.getTypeCondition().getName());
+                    assertNotNull(fragmentType, "Invalid type condition '%s' in fragment '%s'", fragmentDefinition.getTypeCondition().getName(),
+                            fragmentDefinition.getName());
+                    List<List<Directive>> spreadConditions = withConditions(withConditions(conditions, fragmentSpread.getDirectives()), fragmentDefinition.getDirectives());
+                    compileSelectionSet(fragmentDefinition.getSelectionSet(), fragmentType, parent, spreadConditions, result);
+                }
+            }
+        }
+
+        private void compileField(Field field, GraphQLCompositeType parentType, CostNode parent, List<List<Directive>> conditions, List<CostNode> result) {
+            List<List<Directive>> fieldConditions = withConditions(conditions, field.getDirectives());
+            boolean dynamicConditions = false;
+            for (List<Directive> directives : fieldConditions) {
+                dynamicConditions |= VariableReferences.inDirectives(directives);
+            }
+            if (!dynamicConditions && !shouldInclude(fieldConditions, Collections.emptyMap())) {
+                // statically excluded so it never costs anything
+                return;
+            }
+
+            GraphQLFieldDefinition fieldDefinition = Introspection.getFieldDef(schema, parentType, field.getName());
+            boolean isTypeNameIntrospectionField = fieldDefinition == Introspection.TypeNameMetaFieldDef;
+            GraphQLFieldsContainer fieldsContainer = !isTypeNameIntrospectionField ? (GraphQLFieldsContainer) parentType : null;
+
+            boolean dynamicArguments = VariableReferences.inArguments(field.getArguments());
+            Map<String, Object> staticArguments = dynamicArguments ? null
+                    : valuesResolver.getArgumentValues(schema.getCodeRegistry(), fieldDefinition.getArguments(), field.getArguments(), Collections.emptyMap());
+
+            CostNode node = new CostNode(parent, field, fieldDefinition, fieldsContainer, isTypeNameIntrospectionField,
+                    dynamicConditions ? fieldConditions : null, staticArguments);
+
+            GraphQLUnmodifiedType unmodifiedType = unwrapAll(fieldDefinition.getType());
+            if (unmodifiedType instanceof GraphQLCompositeType) {
+                compileSelectionSet(field.getSelectionSet(), (GraphQLCompositeType) unmodifiedType, node, Collections.emptyList(), node.children);
+            }
+
+            // a node needs to be re-evaluated per request if its inclusion or the arguments it (or any of its parents) sees can vary,
+            // or if any of its children need to be
+            boolean dependent = dynamicConditions || node.hasDynamicArgumentsInPath();
+            for (CostNode child : node.children) {
+                dependent |= child.dependent;
+            }
+            node.dependent = dependent;
+            result.add(node);
+        }
+
+        private List<List<Directive>> withConditions(List<List<Directive>> conditions, List<Directive> directives) {
+            if (directives.isEmpty()) {
+                return conditions;
+            }
+            List<List<Directive>> newConditions = new ArrayList<>(conditions);
+            newConditions.add(directives);
+            return newConditions;
+        }
+
+        private boolean shouldInclude(List<List<Directive>> conditions, Map<String, Object> variables) {
+            for (List<Directive> directives : conditions) {
+                if (!conditionalNodes.shouldInclude(variables, directives)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class CostNode {
+        private final CostNode parent;
+        private final Field field;
+        private final GraphQLFieldDefinition fieldDefinition;
+        private final GraphQLFieldsContainer fieldsContainer;
+        private final boolean typeNameIntrospectionField;
+        // only present if they depend on variables, statically excluded nodes are never compiled
+        private final List<List<Directive>> dynamicConditions;
+        // null if the arguments depend on variables
+        private final Map<String, Object> staticArguments;
+        private final int level;
+        private final List<CostNode> children = new ArrayList<>();
+
+        private boolean dependent;
+        private int staticDepth;
+        private int staticComplexity;
+
+        CostNode(CostNode parent, Field field, GraphQLFieldDefinition fieldDefinition, GraphQLFieldsContainer fieldsContainer,
+                 boolean typeNameIntrospectionField, List<List<Directive>> dynamicConditions, Map<String, Object> staticArguments) {
+            this.parent = parent;
+            this.field = field;
+            this.fieldDefinition = fieldDefinition;
+            this.fieldsContainer = fieldsContainer;
+            this.typeNameIntrospectionField = typeNameIntrospectionField;
+            this.dynamicConditions = dynamicConditions;
+            this.staticArguments = staticArguments;
+            this.level = parent == null ? 1 : parent.level + 1;
+        }
+
+        boolean hasDynamicArgumentsInPath() {
+            CostNode node = this;
+            while (node != null) {
+                if (node.staticArguments == null) {
+                    return true;
+                }
+                node = node.parent;
+            }
+            return false;
+        }
+
+        boolean shouldInclude(ConditionalNodes conditionalNodes, Map<String, Object> variables) {
+            if (dynamicConditions == null) {
+                return true;
+            }
+            for (List<Directive> directives : dynamicConditions) {
+                if (!conditionalNodes.shouldInclude(variables, directives)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class CostPlan {
+        private final GraphQLSchema schema;
+        private final List<CostNode> roots;
+        // present if the operation does not depend on variables at all
+        private final QueryCostInfo staticCost;
+
+        CostPlan(GraphQLSchema schema, List<CostNode> roots, QueryCostInfo staticCost) {
+            this.schema = schema;
+            this.roots = roots;
+            this.staticCost = staticCost;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package graphql.analysis;
+
+import graphql.PublicApi;
+
+/**
+ * The query cost info, which is the depth and the complexity of a query calculated in the one pass.
+ */
+@PublicApi
+public class QueryCostInfo {
+
+    private final int depth;
+    private final int complexity;
+
+    private QueryCostInfo(int depth, int complexity) {
+        this.depth = depth;
+        this.complexity = complexity;
+    }
+
+    /**
+     * This returns the query depth.
+     *
+     * @return the query depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * This returns the query complexity.
+     *
+     * @return the query complexity
+     */
+    public int getComplexity() {
+        return complexity;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCostInfo{" +
+                "depth=" + depth +
+                ", complexity=" + complexity +
+                '}';
+    }
+
+    /**
+     * @return a new {@link QueryCostInfo} builder
+     */
+    public static Builder newQueryCostInfo() {
+        return new Builder();
+    }
+
+    @PublicApi
+    public static class Builder {
+
+        private int depth;
+        private int complexity;
+
+        private Builder() {
+        }
+
+        /**
+         * The query depth.
+         *
+         * @param depth the query depth
+         *
+         * @return this builder
+         */
+        public Builder depth(int depth) {
+            this.depth = depth;
+            return this;
+        }
+
+        /**
+         * The query complexity.
+         *
+         * @param complexity the query complexity
+         *
+         * @return this builder
+         */
+        public Builder complexity(int complexity) {
+            this.complexity = complexity;
+            return this;
+        }
+
+        /**
+         * @return a built {@link QueryCostInfo} object
+         */
+        public QueryCostInfo build() {
+            return new QueryCostInfo(depth, complexity);
+        }
+    }
+}
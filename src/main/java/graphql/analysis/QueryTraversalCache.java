@@ -0,0 +1,81 @@
+package graphql.analysis;
+
+import graphql.PublicApi;
+import graphql.ThreadSafe;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.schema.GraphQLCompositeType;
+import graphql.schema.GraphQLFieldDefinition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link QueryTraverser} has to resolve the {@link GraphQLFieldDefinition} of every field it visits and coerce its
+ * arguments.  For a given {@link Field} node of a document and a given parent type that work always gives the same result,
+ * unless the arguments reference variables.
+ * <p>
+ * This cache remembers the resolved field definitions and the variable independent argument values per field node so that
+ * traversing the same document again, for example a document from a {@link graphql.execution.preparsed.PreparsedDocumentProvider},
+ * skips that work.
+ * <p>
+ * A cache can be shared between many traversers and schemas, entries are only used if the parent type matches.  It holds
+ * the field nodes it has seen until it is cleared, which is why the cache of a document is best kept with the document,
+ * see {@link #forDocument(Document)}.
+ */
+@PublicApi
+@ThreadSafe
+public class QueryTraversalCache {
+
+    private final Map<Field, ResolvedField> resolvedFields = new ConcurrentHashMap<>();
+
+    /**
+     * @param document the document to traverse
+     *
+     * @return the cache kept with the given document, which is shared by the analysis instrumentations of graphql-java, such as
+     * {@link MaxQueryDepthInstrumentation} and {@link MaxQueryComplexityInstrumentation}, so that they only resolve the fields
+     * of the document once between them, and goes away with the document
+     */
+    public static QueryTraversalCache forDocument(Document document) {
+        return document.getDerivedData(QueryTraversalCache.class, key -> new QueryTraversalCache());
+    }
+
+    ResolvedField get(Field field, GraphQLCompositeType parentType) {
+        ResolvedField resolvedField = resolvedFields.get(field);
+        if (resolvedField != null && resolvedField.parentType == parentType) {
+            return resolvedField;
+        }
+        return null;
+    }
+
+    void put(Field field, ResolvedField resolvedField) {
+        resolvedFields.put(field, resolvedField);
+    }
+
+    /**
+     * @return the number of field nodes currently cached
+     */
+    public int size() {
+        return resolvedFields.size();
+    }
+
+    /**
+     * Throws away all cached entries
+     */
+    public void clear() {
+        resolvedFields.clear();
+    }
+
+    static class ResolvedField {
+        final GraphQLCompositeType parentType;
+        final GraphQLFieldDefinition fieldDefinition;
+        // null if the arguments reference variables and hence must be coerced each time
+        final Map<String, Object> staticArguments;
+
+        ResolvedField(GraphQLCompositeType parentType, GraphQLFieldDefinition fieldDefinition, Map<String, Object> staticArguments) {
+            this.parentType = parentType;
+            this.fieldDefinition = fieldDefinition;
+            this.staticArguments = staticArguments;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package graphql.analysis;
+
+import graphql.PublicApi;
+import graphql.util.TraversalControl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * Collects several {@link QueryVisitor}s and {@link QueryReducer}s so they can all be run in a single
+ * {@link QueryTraverser} pass via {@link QueryTraverser#visit(QueryTraversalPass)}, rather than each of them traversing the
+ * document, resolving fragments, tracking types and coercing arguments on their own.
+ * <pre>
+ * {@code
+ *     QueryTraversalPass pass = new QueryTraversalPass();
+ *     QueryTraversalPass.Reduction<Integer> fieldCount = pass.reducePreOrder((env, acc) -> acc + 1, 0);
+ *     pass.postOrder(myUsageAnalyticsVisitor);
+ *
+ *     queryTraverser.visit(pass);
+ *     int count = fieldCount.get();
+ * }
+ * </pre>
+ * The pre-order visitors are called in the order they are registered.  If a pre-order visitor returns anything other than
+ * {@link TraversalControl#CONTINUE} from {@link QueryVisitor#visitFieldWithControl(QueryVisitorFieldEnvironment)} then
+ * the most restrictive control wins and the sub tree is not visited for any of the visitors.
+ */
+@PublicApi
+public class QueryTraversalPass {
+
+    private final List<QueryVisitor> preOrderVisitors = new ArrayList<>();
+    private final List<QueryVisitor> postOrderVisitors = new ArrayList<>();
+
+    /**
+     * Adds a visitor that is called in pre-order
+     *
+     * @param visitor the visitor to add
+     *
+     * @return this pass
+     */
+    public QueryTraversalPass preOrder(QueryVisitor visitor) {
+        preOrderVisitors.add(assertNotNull(visitor));
+        return this;
+    }
+
+    /**
+     * Adds a visitor that is called in post-order
+     *
+     * @param visitor the visitor to add
+     *
+     * @return this pass
+     */
+    public QueryTraversalPass postOrder(QueryVisitor visitor) {
+        postOrderVisitors.add(assertNotNull(visitor));
+        return this;
+    }
+
+    /**
+     * Adds a reducer whose fields are visited in pre-order.
+     *
+     * @param queryReducer the query reducer
+     * @param initialValue the initial value to pass to the reducer
+     * @param <T>          the type of reduced value
+     *
+     * @return a reduction that holds the reduced value after the traversal
+     */
+    public <T> Reduction<T> reducePreOrder(QueryReducer<T> queryReducer, T initialValue) {
+        Reduction<T> reduction = new Reduction<>(queryReducer, initialValue);
+        preOrder(reduction);
+        return reduction;
+    }
+
+    /**
+     * Adds a reducer whose fields are visited in post-order.
+     *
+     * @param queryReducer the query reducer
+     * @param initialValue the initial value to pass to the reducer
+     * @param <T>          the type of reduced value
+     *
+     * @return a reduction that holds the reduced value after the traversal
+     */
+    public <T> Reduction<T> reducePostOrder(QueryReducer<T> queryReducer, T initialValue) {
+        Reduction<T> reduction = new Reduction<>(queryReducer, initialValue);
+        postOrder(reduction);
+        return reduction;
+    }
+
+    QueryVisitor preOrderVisitor() {
+        return preOrderVisitors.size() == 1 ? preOrderVisitors.get(0) : new CompositeQueryVisitor(new ArrayList<>(preOrderVisitors));
+    }
+
+    QueryVisitor postOrderVisitor() {
+        return postOrderVisitors.size() == 1 ? postOrderVisitors.get(0) : new CompositeQueryVisitor(new ArrayList<>(postOrderVisitors));
+    }
+
+    /**
+     * The value of a {@link QueryReducer} that was run as part of a pass
+     *
+     * @param <T> the type of reduced value
+     */
+    @PublicApi
+    public static class Reduction<T> extends QueryVisitorStub {
+        private final QueryReducer<T> queryReducer;
+        private T acc;
+
+        private Reduction(QueryReducer<T> queryReducer, T initialValue) {
+            this.queryReducer = assertNotNull(queryReducer);
+            this.acc = initialValue;
+        }
+
+        @Override
+        public void visitField(QueryVisitorFieldEnvironment env) {
+            acc = queryReducer.reduceField(env, acc);
+        }
+
+        /**
+         * @return the reduced value, which is the initial value until the pass has been run
+         */
+        public T get() {
+            return acc;
+        }
+    }
+
+    private static class CompositeQueryVisitor implements QueryVisitor {
+        private final List<QueryVisitor> visitors;
+
+        CompositeQueryVisitor(List<QueryVisitor> visitors) {
+            this.visitors = visitors;
+        }
+
+        @Override
+        public void visitField(QueryVisitorFieldEnvironment queryVisitorFieldEnvironment) {
+            visitFieldWithControl(queryVisitorFieldEnvironment);
+        }
+
+        @Override
+        public TraversalControl visitFieldWithControl(QueryVisitorFieldEnvironment queryVisitorFieldEnvironment) {
+            TraversalControl result = TraversalControl.CONTINUE;
+            for (QueryVisitor visitor : visitors) {
+                TraversalControl control = visitor.visitFieldWithControl(queryVisitorFieldEnvironment);
+                if (control == TraversalControl.QUIT || (control == TraversalControl.ABORT && result == TraversalControl.CONTINUE)) {
+                    result = control;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void visitInlineFragment(QueryVisitorInlineFragmentEnvironment queryVisitorInlineFragmentEnvironment) {
+            for (QueryVisitor visitor : visitors) {
+                visitor.visitInlineFragment(queryVisitorInlineFragmentEnvironment);
+            }
+        }
+
+        @Override
+        public void visitFragmentSpread(QueryVisitorFragmentSpreadEnvironment queryVisitorFragmentSpreadEnvironment) {
+            for (QueryVisitor visitor : visitors) {
+                visitor.visitFragmentSpread(queryVisitorFragmentSpreadEnvironment);
+            }
+        }
+
+        @Override
+        public void visitFragmentDefinition(QueryVisitorFragmentDefinitionEnvironment queryVisitorFragmentDefinitionEnvironment) {
+            for (QueryVisitor visitor : visitors) {
+                visitor.visitFragmentDefinition(queryVisitorFragmentDefinitionEnvironment);
+            }
+        }
+    }
+}
@@ -41,13 +41,15 @@ public class QueryTraverser {
     private final GraphQLSchema schema;
     private final Map<String, FragmentDefinition> fragmentsByName;
     private final Map<String, Object> variables;
+    private final QueryTraversalCache traversalCache;
 
     private final GraphQLCompositeType rootParentType;
 
     private QueryTraverser(GraphQLSchema schema,
                            Document document,
                            String operation,
-                           Map<String, Object> variables) {
+                           Map<String, Object> variables,
+                           QueryTraversalCache traversalCache) {
         assertNotNull(document, "document  can't be null");
         NodeUtil.GetOperationResult getOperationResult = NodeUtil.getOperation(document, operation);
         this.schema = assertNotNull(schema, "schema can't be null");
@@ -55,23 +57,26 @@ public class QueryTraverser {
         this.fragmentsByName = getOperationResult.fragmentsByName;
         this.roots = singletonList(getOperationResult.operationDefinition);
         this.rootParentType = getRootTypeFromOperation(getOperationResult.operationDefinition);
+        this.traversalCache = traversalCache;
     }
 
     private QueryTraverser(GraphQLSchema schema,
                            Node root,
                            GraphQLCompositeType rootParentType,
                            Map<String, FragmentDefinition> fragmentsByName,
-                           Map<String, Object> variables) {
+                           Map<String, Object> variables,
+                           QueryTraversalCache traversalCache) {
         this.schema = assertNotNull(schema, "schema can't be null");
         this.variables = assertNotNull(variables, "variables can't be null");
         assertNotNull(root, "root can't be null");
         this.roots = Collections.singleton(root);
         this.rootParentType = assertNotNull(rootParentType, "rootParentType can't be null");
         this.fragmentsByName = assertNotNull(fragmentsByName, "fragmentsByName can't be null");
+        this.traversalCache = traversalCache;
     }
 
     public Object visitDepthFirst(QueryVisitor queryVisitor) {
-        return visitImpl(queryVisitor, null);
+        return visitImpl(queryVisitor, queryVisitor);
     }
 
     /**
@@ -80,7 +85,7 @@ public class QueryTraverser {
      * @param visitor the query visitor that will be called back
      */
     public void visitPostOrder(QueryVisitor visitor) {
-        visitImpl(visitor, false);
+        visitImpl(new QueryVisitorStub(), visitor);
     }
 
     /**
@@ -89,7 +94,18 @@ public class QueryTraverser {
      * @param visitor the query visitor that will be called back
      */
     public void visitPreOrder(QueryVisitor visitor) {
-        visitImpl(visitor, true);
+        visitImpl(visitor, new QueryVisitorStub());
+    }
+
+    /**
+     * Visits the Document (or parts of it) once and calls back all the pre-order and post-order visitors and reducers
+     * of the pass.  This is cheaper than traversing the Document once per visitor.
+     *
+     * @param pass the visitors and reducers to call back
+     */
+    public void visit(QueryTraversalPass pass) {
+        assertNotNull(pass, "pass can't be null");
+        visitImpl(pass.preOrderVisitor(), pass.postOrderVisitor());
     }
 
 
@@ -158,23 +174,12 @@ public class QueryTraverser {
         return singletonList(fragmentsByName.get(fragmentSpread.getName()));
     }
 
-    private Object visitImpl(QueryVisitor visitFieldCallback, Boolean preOrder) {
+    private Object visitImpl(QueryVisitor preOrderCallback, QueryVisitor postOrderCallback) {
         Map<Class<?>, Object> rootVars = new LinkedHashMap<>();
         rootVars.put(QueryTraversalContext.class, new QueryTraversalContext(rootParentType, null, null));
 
-        QueryVisitor preOrderCallback;
-        QueryVisitor postOrderCallback;
-        if (preOrder == null) {
-            preOrderCallback = visitFieldCallback;
-            postOrderCallback = visitFieldCallback;
-        } else {
-            QueryVisitor noOp = new QueryVisitorStub();
-            preOrderCallback = preOrder ? visitFieldCallback : noOp;
-            postOrderCallback = !preOrder ? visitFieldCallback : noOp;
-        }
-
         NodeTraverser nodeTraverser = new NodeTraverser(rootVars, this::childrenOf);
-        NodeVisitorWithTypeTracking nodeVisitorWithTypeTracking = new NodeVisitorWithTypeTracking(preOrderCallback, postOrderCallback, variables, schema, fragmentsByName);
+        NodeVisitorWithTypeTracking nodeVisitorWithTypeTracking = new NodeVisitorWithTypeTracking(preOrderCallback, postOrderCallback, variables, schema, fragmentsByName, traversalCache);
         return nodeTraverser.depthFirst(nodeVisitorWithTypeTracking, roots);
     }
 
@@ -192,7 +197,7 @@ public class QueryTraverser {
         private Node root;
         private GraphQLCompositeType rootParentType;
         private Map<String, FragmentDefinition> fragmentsByName;
-
+        private QueryTraversalCache traversalCache;
 
         /**
          * The schema used to identify the types of the query.
@@ -281,15 +286,27 @@ public class QueryTraverser {
             return this;
         }
 
+        /**
+         * A cache of resolved field definitions and arguments that can be shared between traversals of the same documents.
+         *
+         * @param traversalCache the cache to use
+         *
+         * @return this builder
+         */
+        public Builder traversalCache(QueryTraversalCache traversalCache) {
+            this.traversalCache = traversalCache;
+            return this;
+        }
+
         /**
          * @return a built {@link QueryTraverser} object
          */
         public QueryTraverser build() {
             checkState();
             if (document != null) {
-                return new QueryTraverser(schema, document, operation, variables);
+                return new QueryTraverser(schema, document, operation, variables, traversalCache);
             } else {
-                return new QueryTraverser(schema, root, rootParentType, fragmentsByName, variables);
+                return new QueryTraverser(schema, root, rootParentType, fragmentsByName, variables, traversalCache);
             }
         }
 
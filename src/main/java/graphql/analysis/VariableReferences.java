@@ -0,0 +1,58 @@
+package graphql.analysis;
+
+import graphql.Internal;
+import graphql.language.Argument;
+import graphql.language.ArrayValue;
+import graphql.language.Directive;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+
+import java.util.List;
+
+/**
+ * Helps to decide if the result of coercing AST values depends on the variables of a request
+ */
+@Internal
+class VariableReferences {
+
+    static boolean inArguments(List<Argument> arguments) {
+        for (Argument argument : arguments) {
+            if (inValue(argument.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean inDirectives(List<Directive> directives) {
+        for (Directive directive : directives) {
+            if (inArguments(directive.getArguments())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean inValue(Value value) {
+        if (value instanceof VariableReference) {
+            return true;
+        }
+        if (value instanceof ArrayValue) {
+            for (Value arrayValue : ((ArrayValue) value).getValues()) {
+                if (inValue(arrayValue)) {
+                    return true;
+                }
+            }
+        }
+        if (value instanceof ObjectValue) {
+            for (ObjectField objectField : ((ObjectValue) value).getObjectFields()) {
+                if (inValue(objectField.getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
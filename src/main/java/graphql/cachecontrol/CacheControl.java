@@ -8,9 +8,11 @@ import graphql.schema.DataFetchingEnvironment;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import static graphql.Assert.assertNotNull;
@@ -27,6 +29,8 @@ import static graphql.util.FpKit.map;
  * <p>
  * Then at the end of the query you would call {@link #addTo(graphql.ExecutionResult)} to record the cache control hints into the {@link graphql.ExecutionResult}
  * extensions map as per the specification.
+ * <p>
+ * The hints can also be used to cache the whole result, see {@link #getCachePolicy(graphql.ExecutionResult, int)} and {@link ResponseCache}.
  */
 @PublicApi
 public class CacheControl {
@@ -178,6 +182,46 @@ public class CacheControl {
                                   .build();
     }
 
+    /**
+     * Works out how long and by whom the result can be cached from the recorded hints.  This is the smallest max age of all the
+     * hints, where the top level fields without a max age hint of their own count with the given default, and a private
+     * scope if any of the hints has a private scope.
+     *
+     * @param executionResult the result that the hints were recorded for
+     * @param defaultMaxAge   the caching time in seconds of the top level fields without a max age hint
+     *
+     * @return the cache policy of the result
+     */
+    public CachePolicy getCachePolicy(ExecutionResult executionResult, int defaultMaxAge) {
+        int maxAge = Integer.MAX_VALUE;
+        Scope scope = Scope.PUBLIC;
+        Set<Object> hintedFields = new HashSet<>();
+        for (Hint hint : hints) {
+            if (hint.maxAge != null) {
+                maxAge = Math.min(maxAge, hint.maxAge);
+                if (hint.path.size() == 1) {
+                    hintedFields.add(hint.path.get(0));
+                }
+            }
+            if (hint.scope == Scope.PRIVATE) {
+                scope = Scope.PRIVATE;
+            }
+        }
+        Object data = executionResult.getData();
+        if (data instanceof Map) {
+            for (Object field : ((Map<?, ?>) data).keySet()) {
+                if (!hintedFields.contains(field)) {
+                    maxAge = Math.min(maxAge, defaultMaxAge);
+                    break;
+                }
+            }
+        }
+        if (maxAge == Integer.MAX_VALUE) {
+            maxAge = defaultMaxAge;
+        }
+        return new CachePolicy(Math.max(maxAge, 0), scope);
+    }
+
     private Map<String, Object> hintsToCacheControlProperties() {
         List<Map<String, Object>> recordedHints = map(hints, Hint::toMap);
 
@@ -0,0 +1,70 @@
+package graphql.cachecontrol;
+
+import graphql.PublicApi;
+
+import java.util.Objects;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * How long and by whom the result of an execution can be cached, as worked out from the hints recorded in its {@link CacheControl}
+ *
+ * @see CacheControl#getCachePolicy(graphql.ExecutionResult, int)
+ */
+@PublicApi
+public class CachePolicy {
+
+    private final int maxAge;
+    private final CacheControl.Scope scope;
+
+    public CachePolicy(int maxAge, CacheControl.Scope scope) {
+        this.maxAge = maxAge;
+        this.scope = assertNotNull(scope);
+    }
+
+    /**
+     * @return the caching time in seconds, zero when the result must not be cached
+     */
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * @return whether the result can be shared by everyone or only cached per-user
+     */
+    public CacheControl.Scope getScope() {
+        return scope;
+    }
+
+    /**
+     * @return true if the result can be cached at all
+     */
+    public boolean isCacheable() {
+        return maxAge > 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CachePolicy that = (CachePolicy) o;
+        return maxAge == that.maxAge && scope == that.scope;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxAge, scope);
+    }
+
+    @Override
+    public String toString() {
+        return "CachePolicy{" +
+                "maxAge=" + maxAge +
+                ", scope=" + scope +
+                '}';
+    }
+}
@@ -0,0 +1,226 @@
+package graphql.cachecontrol;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.PublicApi;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+
+/**
+ * A {@link ResponseCache} that keeps a bounded number of results in memory, as long as their {@link CachePolicy} allows.
+ * <p>
+ * Requests are identical when they have the same query text, operation name and variables.  The key is the raw query
+ * text rather than its {@link graphql.language.AstSignature#signatureFingerprint(graphql.language.Document, String) signature
+ * fingerprint} : the cache is looked up before the query is parsed, so that a hit costs no parsing or validation, and the
+ * fingerprint leaves out the literal values and aliases that change the result.  Queries that only differ in their
+ * whitespace or in the order of their fields are therefore cached apart.
+ * <p>
+ * Results with a {@link CacheControl.Scope#PUBLIC} policy are shared by everyone, those with a
+ * {@link CacheControl.Scope#PRIVATE} policy are only cached when a private key, for example the user id, can be taken
+ * from the request and are then only given back to requests with the same private key.
+ * <p>
+ * The same result objects are given back to all the requests that hit the cache, so they must not be changed.  When the
+ * cache is full the least recently used result is dropped.
+ */
+@PublicApi
+public class InMemoryResponseCache implements ResponseCache {
+
+    private final int defaultMaxAge;
+    private final Function<ExecutionInput, Object> privateKey;
+    private final Clock clock;
+    private final Map<RequestKey, CachedResult> cachedResults;
+
+    private InMemoryResponseCache(int maxEntries, int defaultMaxAge, Function<ExecutionInput, Object> privateKey, Clock clock) {
+        this.defaultMaxAge = defaultMaxAge;
+        this.privateKey = privateKey;
+        this.clock = clock;
+        this.cachedResults = Collections.synchronizedMap(new LinkedHashMap<RequestKey, CachedResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RequestKey, CachedResult> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    @Override
+    public ExecutionResult get(ExecutionInput executionInput) {
+        long now = clock.millis();
+        ExecutionResult executionResult = get(new RequestKey(executionInput, null), now);
+        if (executionResult == null) {
+            Object key = privateKey(executionInput);
+            if (key != null) {
+                executionResult = get(new RequestKey(executionInput, key), now);
+            }
+        }
+        return executionResult;
+    }
+
+    private ExecutionResult get(RequestKey requestKey, long now) {
+        CachedResult cachedResult = cachedResults.get(requestKey);
+        if (cachedResult == null) {
+            return null;
+        }
+        if (cachedResult.expiresAt <= now) {
+            cachedResults.remove(requestKey, cachedResult);
+            return null;
+        }
+        return cachedResult.executionResult;
+    }
+
+    @Override
+    public void put(ExecutionInput executionInput, ExecutionResult executionResult) {
+        if (!executionResult.getErrors().isEmpty()) {
+            return;
+        }
+        CachePolicy cachePolicy = executionInput.getCacheControl().getCachePolicy(executionResult, defaultMaxAge);
+        if (!cachePolicy.isCacheable()) {
+            return;
+        }
+        Object key = null;
+        if (cachePolicy.getScope() == CacheControl.Scope.PRIVATE) {
+            key = privateKey(executionInput);
+            if (key == null) {
+                return;
+            }
+        }
+        long expiresAt = clock.millis() + cachePolicy.getMaxAge() * 1000L;
+        cachedResults.put(new RequestKey(executionInput, key), new CachedResult(executionResult, expiresAt));
+    }
+
+    private Object privateKey(ExecutionInput executionInput) {
+        return privateKey == null ? null : privateKey.apply(executionInput);
+    }
+
+    /**
+     * Drops all the cached results
+     */
+    public void clear() {
+        cachedResults.clear();
+    }
+
+    /**
+     * @return the number of cached results, including the ones that have expired but were not dropped yet
+     */
+    public int size() {
+        return cachedResults.size();
+    }
+
+    /**
+     * @return a new builder of {@link InMemoryResponseCache}s
+     */
+    public static Builder newResponseCache() {
+        return new Builder();
+    }
+
+    private static class RequestKey {
+        private final String query;
+        private final String operationName;
+        private final Map<String, Object> variables;
+        private final Object privateKey;
+        private final int hashCode;
+
+        RequestKey(ExecutionInput executionInput, Object privateKey) {
+            this.query = executionInput.getQuery();
+            this.operationName = executionInput.getOperationName();
+            this.variables = executionInput.getVariables();
+            this.privateKey = privateKey;
+            this.hashCode = Objects.hash(query, operationName, variables, privateKey);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RequestKey)) {
+                return false;
+            }
+            RequestKey that = (RequestKey) o;
+            return hashCode == that.hashCode &&
+                    Objects.equals(query, that.query) &&
+                    Objects.equals(operationName, that.operationName) &&
+                    Objects.equals(variables, that.variables) &&
+                    Objects.equals(privateKey, that.privateKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class CachedResult {
+        private final ExecutionResult executionResult;
+        private final long expiresAt;
+
+        CachedResult(ExecutionResult executionResult, long expiresAt) {
+            this.executionResult = executionResult;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public static class Builder {
+        private int maxEntries = 1000;
+        private int defaultMaxAge = 0;
+        private Function<ExecutionInput, Object> privateKey;
+        private Clock clock = Clock.systemUTC();
+
+        /**
+         * @param maxEntries the maximum number of cached results, 1000 by default
+         *
+         * @return this builder
+         */
+        public Builder maxEntries(int maxEntries) {
+            assertTrue(maxEntries > 0, "maxEntries must be positive");
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * @param defaultMaxAge the caching time in seconds of the top level fields without a max age hint, 0 by default
+         *                      so that only results whose every top level field has a hint are cached
+         *
+         * @return this builder
+         *
+         * @see CacheControl#getCachePolicy(ExecutionResult, int)
+         */
+        public Builder defaultMaxAge(int defaultMaxAge) {
+            assertTrue(defaultMaxAge >= 0, "defaultMaxAge must not be negative");
+            this.defaultMaxAge = defaultMaxAge;
+            return this;
+        }
+
+        /**
+         * @param privateKey gives the key, for example the user id from the context, under which the results with a private
+         *                   scope are cached for a request, or null when they should not be cached
+         *
+         * @return this builder
+         */
+        public Builder privateKey(Function<ExecutionInput, Object> privateKey) {
+            this.privateKey = assertNotNull(privateKey);
+            return this;
+        }
+
+        /**
+         * @param clock the clock that tells when cached results expire
+         *
+         * @return this builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = assertNotNull(clock);
+            return this;
+        }
+
+        public InMemoryResponseCache build() {
+            return new InMemoryResponseCache(maxEntries, defaultMaxAge, privateKey, clock);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package graphql.cachecontrol;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.PublicSpi;
+
+/**
+ * Interface that allows clients to hook in the caching of whole responses across executions, so that identical requests
+ * are answered without executing them again.
+ * <p>
+ * Only the results of query operations without errors are offered to the cache, and it is up to the cache to decide
+ * for how long and for whom it keeps them, typically from the hints in {@link ExecutionInput#getCacheControl()}.
+ *
+ * @see InMemoryResponseCache
+ */
+@PublicSpi
+public interface ResponseCache {
+
+    /**
+     * This is called before a request is executed to find a cached result for it
+     *
+     * @param executionInput the request
+     *
+     * @return the cached result or null if there is none, in which case the request is executed
+     */
+    ExecutionResult get(ExecutionInput executionInput);
+
+    /**
+     * This is called with the result of an executed request, after its {@link ExecutionInput#getCacheControl()} has
+     * received all the cache control hints
+     *
+     * @param executionInput  the request
+     * @param executionResult the result of the request
+     */
+    void put(ExecutionInput executionInput, ExecutionResult executionResult);
+}
@@ -3,7 +3,6 @@ package graphql.execution;
 import graphql.ExecutionResult;
 import graphql.ExecutionResultImpl;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -25,13 +24,12 @@ public abstract class AbstractAsyncExecutionStrategy extends ExecutionStrategy {
                 handleNonNullException(executionContext, overallResult, exception);
                 return;
             }
-            Map<String, Object> resolvedValuesByField = new LinkedHashMap<>();
+            Object[] values = new Object[results.size()];
             int ix = 0;
             for (ExecutionResult executionResult : results) {
-
-                String fieldName = fieldNames.get(ix++);
-                resolvedValuesByField.put(fieldName, executionResult.getData());
+                values[ix++] = executionResult.getData();
             }
+            Map<String, Object> resolvedValuesByField = new CompactResultMap(executionContext.getResultKeys(fieldNames), values);
             overallResult.complete(new ExecutionResultImpl(resolvedValuesByField, executionContext.getErrors()));
         };
     }
@@ -0,0 +1,221 @@
+package graphql.execution;
+
+import graphql.Internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+
+/**
+ * The map of field results of an object in the execution result.
+ * <p>
+ * All the objects of a selection set have the same keys, so rather than one {@link java.util.LinkedHashMap} with an entry
+ * object per field, this holds the keys in an array that is shared by all those objects and the values in an array of
+ * its own.  Keys are looked up by a scan, which for the usual size of a selection set is as fast as hashing.
+ * <p>
+ * It is still a fully functional map that keeps the keys in field order, so code that changes the results keeps working,
+ * the shared key array is copied before it is changed.
+ */
+@Internal
+public class CompactResultMap extends AbstractMap<String, Object> {
+
+    private String[] keys;
+    private Object[] values;
+    private int size;
+    private boolean keysShared;
+
+    /**
+     * @param keys   the keys, which may be shared with other maps and is never changed by this map
+     * @param values the values in the same order as the keys, which is owned by this map from now on
+     */
+    public CompactResultMap(String[] keys, Object[] values) {
+        this.keys = assertNotNull(keys);
+        this.values = assertNotNull(values);
+        assertTrue(keys.length == values.length, "keys and values must have the same length");
+        this.size = keys.length;
+        this.keysShared = true;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        if (key != null) {
+            for (int i = 0; i < size; i++) {
+                if (key.equals(keys[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void ownKeys(int capacity) {
+        if (keysShared || capacity > keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(capacity, keys.length));
+            keysShared = false;
+        }
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            Object previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+        ownKeys(size + 1 > keys.length ? Math.max(4, size * 2) : size + 1);
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object previous = values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    private void removeAt(int index) {
+        ownKeys(size);
+        int moved = size - index - 1;
+        System.arraycopy(keys, index + 1, keys, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    @Override
+    public void clear() {
+        keys = new String[0];
+        values = new Object[0];
+        size = 0;
+        keysShared = false;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+        private int next;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new ResultEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+        }
+    }
+
+    private class ResultEntry implements Map.Entry<String, Object> {
+        private final int index;
+
+        ResultEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return values[index];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+            Object value = getValue();
+            return getKey().equals(that.getKey()) && (value == null ? that.getValue() == null : value.equals(that.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -29,6 +29,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
 
 import static graphql.Assert.assertShouldNeverHappen;
 import static graphql.execution.ExecutionContextBuilder.newExecutionContextBuilder;
@@ -49,15 +51,26 @@ public class Execution {
     private final ExecutionStrategy mutationStrategy;
     private final ExecutionStrategy subscriptionStrategy;
     private final Instrumentation instrumentation;
+    private final ResultLimits resultLimits;
 
     public Execution(ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy, ExecutionStrategy subscriptionStrategy, Instrumentation instrumentation) {
+        this(queryStrategy, mutationStrategy, subscriptionStrategy, instrumentation, null);
+    }
+
+    public Execution(ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy, ExecutionStrategy subscriptionStrategy, Instrumentation instrumentation, ResultLimits resultLimits) {
         this.queryStrategy = queryStrategy != null ? queryStrategy : new AsyncExecutionStrategy();
         this.mutationStrategy = mutationStrategy != null ? mutationStrategy : new AsyncSerialExecutionStrategy();
         this.subscriptionStrategy = subscriptionStrategy != null ? subscriptionStrategy : new AsyncExecutionStrategy();
         this.instrumentation = instrumentation;
+        this.resultLimits = resultLimits;
     }
 
     public CompletableFuture<ExecutionResult> execute(Document document, GraphQLSchema graphQLSchema, ExecutionId executionId, ExecutionInput executionInput, InstrumentationState instrumentationState) {
+        ExecutionCancellation inputCancellation = executionInput.getCancellation();
+        AbortExecutionException abortException = inputCancellation.getAbortException();
+        if (abortException != null) {
+            return completedFuture(abortException.toExecutionResult());
+        }
 
         NodeUtil.GetOperationResult getOperationResult = NodeUtil.getOperation(document, executionInput.getOperationName());
         Map<String, FragmentDefinition> fragmentsByName = getOperationResult.fragmentsByName;
@@ -76,6 +89,10 @@ public class Execution {
             throw rte;
         }
 
+        // an execution that aborts itself when its result is too large must not cancel the others sharing its token
+        boolean abortsOnResultLimits = resultLimits != null && !resultLimits.isTruncate();
+        ExecutionCancellation cancellation = abortsOnResultLimits ? inputCancellation.newChild() : inputCancellation;
+
         ExecutionContext executionContext = newExecutionContextBuilder()
                 .instrumentation(instrumentation)
                 .instrumentationState(instrumentationState)
@@ -92,6 +109,8 @@ public class Execution {
                 .operationDefinition(operationDefinition)
                 .dataLoaderRegistry(executionInput.getDataLoaderRegistry())
                 .cacheControl(executionInput.getCacheControl())
+                .cancellation(cancellation)
+                .resultLimits(resultLimits)
                 .build();
 
 
@@ -99,7 +118,34 @@ public class Execution {
                 executionInput, graphQLSchema, instrumentationState
         );
         executionContext = instrumentation.instrumentExecutionContext(executionContext, parameters);
-        return executeOperation(executionContext, parameters, executionInput.getRoot(), executionContext.getOperationDefinition());
+        ScheduledFuture<?> deadlineTimer = cancellation.startDeadlineTimer();
+        CompletableFuture<ExecutionResult> result = executeOperation(executionContext, parameters, executionInput.getRoot(), executionContext.getOperationDefinition());
+        if (deadlineTimer != null) {
+            result = result.whenComplete((executionResult, throwable) -> deadlineTimer.cancel(false));
+        }
+        if (cancellation != inputCancellation) {
+            result = result.whenComplete((executionResult, throwable) -> inputCancellation.removeChild(cancellation));
+        }
+        return abortOnCancellation(cancellation, result);
+    }
+
+    /*
+     * Once the execution is cancelled its result is the abort error, without waiting for the fields that are still running
+     */
+    private CompletableFuture<ExecutionResult> abortOnCancellation(ExecutionCancellation cancellation, CompletableFuture<ExecutionResult> result) {
+        if (cancellation == ExecutionCancellation.never()) {
+            return result;
+        }
+        return cancellation.unlessCancelled(result).handle((executionResult, throwable) -> {
+            if (throwable == null) {
+                return executionResult;
+            }
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (cause instanceof AbortExecutionException) {
+                return ((AbortExecutionException) cause).toExecutionResult();
+            }
+            throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
+        });
     }
 
 
@@ -0,0 +1,287 @@
+package graphql.execution;
+
+import graphql.PublicApi;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+
+/**
+ * A deadline and cancellation token for an execution, given to it via {@link graphql.ExecutionInput.Builder#cancellation(ExecutionCancellation)}.
+ * <p>
+ * Once it is cancelled, by calling {@link #cancel(String)} or because its deadline has passed, the execution stops fetching
+ * fields and completing list elements, the fetches that are still outstanding are completed exceptionally so that the
+ * execution does not wait on them, and the execution result holds an {@link AbortExecutionException} error.
+ * <p>
+ * Data fetchers get it via {@link graphql.schema.DataFetchingEnvironment#getCancellation()} so they can pass the remaining
+ * time on to the services they call, and stop their own work via {@link #whenCancelled(Runnable)}.
+ * <pre>
+ * {@code
+ *     ExecutionCancellation cancellation = ExecutionCancellation.withTimeout(Duration.ofSeconds(5));
+ *     ExecutionInput executionInput = ExecutionInput.newExecutionInput(query).cancellation(cancellation).build();
+ *
+ *     // and when the client goes away
+ *     cancellation.cancel("client disconnected");
+ * }
+ * </pre>
+ */
+@PublicApi
+public class ExecutionCancellation {
+
+    private static final ExecutionCancellation NEVER = new ExecutionCancellation(false, 0);
+    private static final Runnable NO_ACTION = () -> {
+    };
+
+    private static final class Timer {
+        // only created once a deadline is used
+        static final ScheduledThreadPoolExecutor TIMER = newTimer();
+
+        private static ScheduledThreadPoolExecutor newTimer() {
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "graphql-java-execution-deadlines");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.setRemoveOnCancelPolicy(true);
+            return timer;
+        }
+    }
+
+    private final boolean cancellable;
+    private final boolean hasDeadline;
+    private final long deadlineNanos;
+    private final AtomicReference<AbortExecutionException> abortException = new AtomicReference<>();
+    private final Set<CompletableFuture<?>> outstanding = ConcurrentHashMap.newKeySet();
+    // each action is wrapped so that it can be removed on its own and runs at most once
+    private final Set<Runnable> cancelActions = ConcurrentHashMap.newKeySet();
+    private final Set<ExecutionCancellation> children = ConcurrentHashMap.newKeySet();
+
+    private ExecutionCancellation(boolean cancellable, long timeoutNanos) {
+        this(cancellable, timeoutNanos > 0, timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0);
+    }
+
+    private ExecutionCancellation(boolean cancellable, boolean hasDeadline, long deadlineNanos) {
+        this.cancellable = cancellable;
+        this.hasDeadline = hasDeadline;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @return a token that is never cancelled, which is what executions get by default
+     */
+    public static ExecutionCancellation never() {
+        return NEVER;
+    }
+
+    /**
+     * @return a new token without a deadline that is cancelled by calling {@link #cancel(String)}
+     */
+    public static ExecutionCancellation newCancellation() {
+        return new ExecutionCancellation(true, 0);
+    }
+
+    /**
+     * @param timeout how long the executions given this token may run, from now
+     *
+     * @return a new token that cancels itself once the timeout has elapsed, and that can be cancelled before that
+     */
+    public static ExecutionCancellation withTimeout(Duration timeout) {
+        assertNotNull(timeout, "timeout can't be null");
+        assertTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+        return new ExecutionCancellation(true, timeout.toNanos());
+    }
+
+    /**
+     * Cancels the executions given this token.  This does nothing if it is already cancelled or if it is the {@link #never()} token.
+     *
+     * @param reason why the execution is cancelled, this is the message of the {@link AbortExecutionException} error
+     *
+     * @return true if this call cancelled the token
+     */
+    public boolean cancel(String reason) {
+        if (!cancellable) {
+            return false;
+        }
+        AbortExecutionException exception = new AbortExecutionException(reason);
+        if (!abortException.compareAndSet(null, exception)) {
+            return false;
+        }
+        for (CompletableFuture<?> future : outstanding) {
+            future.completeExceptionally(exception);
+        }
+        outstanding.clear();
+        for (ExecutionCancellation child : children) {
+            child.cancel(reason);
+        }
+        children.clear();
+        for (Runnable action : cancelActions) {
+            if (cancelActions.remove(action)) {
+                action.run();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the token has been cancelled or its deadline has passed
+     */
+    public boolean isCancelled() {
+        if (abortException.get() != null) {
+            return true;
+        }
+        if (hasDeadline && System.nanoTime() - deadlineNanos >= 0) {
+            cancel(deadlineExceededMessage());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if this token has a deadline
+     */
+    public boolean hasDeadline() {
+        return hasDeadline;
+    }
+
+    /**
+     * Data fetchers can pass this on as the timeout of the calls they make
+     *
+     * @return the time left before the deadline, which is zero once it has passed, or null if there is no deadline
+     */
+    public Duration getTimeRemaining() {
+        if (!hasDeadline) {
+            return null;
+        }
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Runs the given action once the token is cancelled, or straight away if it already is.  The action runs in the thread
+     * that cancels the token and so should not block.
+     * <p>
+     * A token can be shared by many executions and never be cancelled, so the action should be removed, by running the
+     * returned remover, once the work it would stop has completed.
+     *
+     * @param action the action to run
+     *
+     * @return the remover of the action, which does nothing once the action has run
+     */
+    public Runnable whenCancelled(Runnable action) {
+        assertNotNull(action, "action can't be null");
+        if (!cancellable) {
+            return NO_ACTION;
+        }
+        Runnable registered = action::run;
+        cancelActions.add(registered);
+        // the token may have been cancelled before the action was added, in which case it runs now unless cancel ran it
+        if (abortException.get() != null && cancelActions.remove(registered)) {
+            action.run();
+        }
+        return () -> cancelActions.remove(registered);
+    }
+
+    /**
+     * Makes the given future complete exceptionally with an {@link AbortExecutionException} if the token is cancelled
+     * before the future completes.
+     *
+     * @param future the future to complete on cancellation
+     * @param <T>    the type of the future
+     *
+     * @return the same future
+     */
+    public <T> CompletableFuture<T> propagateTo(CompletableFuture<T> future) {
+        if (!cancellable || future.isDone()) {
+            return future;
+        }
+        outstanding.add(future);
+        future.whenComplete((result, exception) -> outstanding.remove(future));
+        AbortExecutionException exception = abortException.get();
+        if (exception != null) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    /**
+     * Unlike {@link #propagateTo(CompletableFuture)} this leaves the given future alone, which may be shared, for example
+     * by a {@link org.dataloader.DataLoader} cache
+     *
+     * @param future the future to follow
+     * @param <T>    the type of the future
+     *
+     * @return a future that completes as the given one does, or exceptionally once the token is cancelled
+     */
+    <T> CompletableFuture<T> unlessCancelled(CompletableFuture<T> future) {
+        if (!cancellable || future.isDone()) {
+            return future;
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Async.copyResults(future, result);
+        return propagateTo(result);
+    }
+
+    /**
+     * @return the exception the cancellation aborts the execution with, or null if the token is not cancelled
+     */
+    public AbortExecutionException getAbortException() {
+        return isCancelled() ? abortException.get() : null;
+    }
+
+    /**
+     * An execution uses a child token when it may cancel itself, so that it does not cancel the other executions given
+     * this token
+     *
+     * @return a token with the same deadline that is cancelled with this one, and that can be cancelled on its own
+     */
+    ExecutionCancellation newChild() {
+        ExecutionCancellation child = new ExecutionCancellation(true, hasDeadline, deadlineNanos);
+        if (cancellable) {
+            children.add(child);
+            AbortExecutionException exception = abortException.get();
+            if (exception != null) {
+                child.cancel(exception.getMessage());
+            }
+        }
+        return child;
+    }
+
+    void removeChild(ExecutionCancellation child) {
+        children.remove(child);
+    }
+
+    /**
+     * Starts the timer that cancels the token at its deadline, so that outstanding fetches are given up even if nothing
+     * checks the token in the meantime
+     *
+     * @return the started timer, which the execution stops once it has completed, or null if there is no deadline
+     */
+    ScheduledFuture<?> startDeadlineTimer() {
+        if (!hasDeadline || abortException.get() != null) {
+            return null;
+        }
+        long delay = Math.max(0, deadlineNanos - System.nanoTime());
+        return Timer.TIMER.schedule(() -> {
+            cancel(deadlineExceededMessage());
+        }, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private static String deadlineExceededMessage() {
+        return "Execution deadline exceeded";
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionCancellation{" +
+                "cancelled=" + (abortException.get() != null) +
+                ", timeRemaining=" + getTimeRemaining() +
+                '}';
+    }
+}
@@ -12,13 +12,16 @@ import graphql.language.Document;
 import graphql.language.FragmentDefinition;
 import graphql.language.OperationDefinition;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.SelectionSetCache;
 import org.dataloader.DataLoaderRegistry;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
@@ -43,10 +46,16 @@ public class ExecutionContext {
     private final Set<ExecutionPath> errorPaths = new HashSet<>();
     private final DataLoaderRegistry dataLoaderRegistry;
     private final CacheControl cacheControl;
+    private final ExecutionCancellation cancellation;
+    private final ResultLimits resultLimits;
+    private final ResultSizeTracker resultSizeTracker;
     private final DeferSupport deferSupport = new DeferSupport();
+    private final Map<List<String>, String[]> resultKeys = new ConcurrentHashMap<>();
+    private final SelectionSetCache selectionSetCache;
+    private volatile MemoizedFetches memoizedFetches;
 
     @Internal
-    ExecutionContext(Instrumentation instrumentation, ExecutionId executionId, GraphQLSchema graphQLSchema, InstrumentationState instrumentationState, ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy, ExecutionStrategy subscriptionStrategy, Map<String, FragmentDefinition> fragmentsByName, Document document, OperationDefinition operationDefinition, Map<String, Object> variables, Object context, Object root, DataLoaderRegistry dataLoaderRegistry, CacheControl cacheControl, List<GraphQLError> startingErrors) {
+    ExecutionContext(Instrumentation instrumentation, ExecutionId executionId, GraphQLSchema graphQLSchema, InstrumentationState instrumentationState, ExecutionStrategy queryStrategy, ExecutionStrategy mutationStrategy, ExecutionStrategy subscriptionStrategy, Map<String, FragmentDefinition> fragmentsByName, Document document, OperationDefinition operationDefinition, Map<String, Object> variables, Object context, Object root, DataLoaderRegistry dataLoaderRegistry, CacheControl cacheControl, ExecutionCancellation cancellation, ResultLimits resultLimits, List<GraphQLError> startingErrors) {
         this.graphQLSchema = graphQLSchema;
         this.executionId = executionId;
         this.instrumentationState = instrumentationState;
@@ -55,6 +64,7 @@ public class ExecutionContext {
         this.subscriptionStrategy = subscriptionStrategy;
         this.fragmentsByName = Collections.unmodifiableMap(fragmentsByName);
         this.variables = Collections.unmodifiableMap(variables);
+        this.selectionSetCache = new SelectionSetCache(graphQLSchema, document, variables);
         this.document = document;
         this.operationDefinition = operationDefinition;
         this.context = context;
@@ -62,6 +72,9 @@ public class ExecutionContext {
         this.instrumentation = instrumentation;
         this.dataLoaderRegistry = dataLoaderRegistry;
         this.cacheControl = cacheControl;
+        this.cancellation = cancellation;
+        this.resultLimits = resultLimits;
+        this.resultSizeTracker = resultLimits == null ? null : new ResultSizeTracker(resultLimits);
         this.errors.addAll(startingErrors);
     }
 
@@ -119,6 +132,24 @@ public class ExecutionContext {
         return cacheControl;
     }
 
+    /**
+     * @return the deadline and cancellation token of this execution
+     */
+    public ExecutionCancellation getCancellation() {
+        return cancellation;
+    }
+
+    /**
+     * @return the limits on the size of the result of this execution, or null if there are none
+     */
+    public ResultLimits getResultLimits() {
+        return resultLimits;
+    }
+
+    ResultSizeTracker getResultSizeTracker() {
+        return resultSizeTracker;
+    }
+
     /**
      * This method will only put one error per field path.
      *
@@ -176,6 +207,50 @@ public class ExecutionContext {
         return deferSupport;
     }
 
+    /**
+     * All the objects of a selection set have the same result keys, this gives back one shared array of them
+     * per distinct list of keys in this execution
+     *
+     * @param keys the result keys of an object
+     *
+     * @return a shared array of the keys, which must not be changed
+     */
+    @Internal
+    public String[] getResultKeys(List<String> keys) {
+        String[] resultKeys = this.resultKeys.get(keys);
+        if (resultKeys == null) {
+            String[] newResultKeys = keys.toArray(new String[0]);
+            resultKeys = this.resultKeys.putIfAbsent(Arrays.asList(newResultKeys), newResultKeys);
+            if (resultKeys == null) {
+                resultKeys = newResultKeys;
+            }
+        }
+        return resultKeys;
+    }
+
+    /**
+     * @return the cache of the computed {@link graphql.schema.DataFetchingFieldSelectionSet}s of this execution
+     */
+    @Internal
+    public SelectionSetCache getSelectionSetCache() {
+        return selectionSetCache;
+    }
+
+    MemoizedFetches getMemoizedFetches() {
+        // only created for the executions that fetch memoized fields
+        MemoizedFetches memoizedFetches = this.memoizedFetches;
+        if (memoizedFetches == null) {
+            synchronized (this) {
+                memoizedFetches = this.memoizedFetches;
+                if (memoizedFetches == null) {
+                    memoizedFetches = new MemoizedFetches(graphQLSchema.getCodeRegistry().getMaxMemoizedFetches());
+                    this.memoizedFetches = memoizedFetches;
+                }
+            }
+        }
+        return memoizedFetches;
+    }
+
     /**
      * This helps you transform the current ExecutionContext object into another one by starting a builder with all
      * the current values and allows you to transform it how you want.
@@ -37,6 +37,8 @@ public class ExecutionContextBuilder {
     private Map<String, FragmentDefinition> fragmentsByName = new LinkedHashMap<>();
     private DataLoaderRegistry dataLoaderRegistry;
     private CacheControl cacheControl;
+    private ExecutionCancellation cancellation = ExecutionCancellation.never();
+    private ResultLimits resultLimits;
     private List<GraphQLError> errors = new ArrayList<>();
 
     /**
@@ -78,6 +80,8 @@ public class ExecutionContextBuilder {
         fragmentsByName = new LinkedHashMap<>(other.getFragmentsByName());
         dataLoaderRegistry = other.getDataLoaderRegistry();
         cacheControl = other.getCacheControl();
+        cancellation = other.getCancellation();
+        resultLimits = other.getResultLimits();
         errors = new ArrayList<>(other.getErrors());
     }
 
@@ -156,6 +160,21 @@ public class ExecutionContextBuilder {
         return this;
     }
 
+    public ExecutionContextBuilder cancellation(ExecutionCancellation cancellation) {
+        this.cancellation = assertNotNull(cancellation);
+        return this;
+    }
+
+    /**
+     * @param resultLimits the limits on the size of the result, or null for no limits
+     *
+     * @return this builder
+     */
+    public ExecutionContextBuilder resultLimits(ResultLimits resultLimits) {
+        this.resultLimits = resultLimits;
+        return this;
+    }
+
     public ExecutionContext build() {
         // preconditions
         assertNotNull(executionId, "You must provide a query identifier");
@@ -176,6 +195,8 @@ public class ExecutionContextBuilder {
                 root,
                 dataLoaderRegistry,
                 cacheControl,
+                cancellation,
+                resultLimits,
                 errors
         );
     }
@@ -3,9 +3,13 @@ package graphql.execution;
 import graphql.Assert;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This opaque identifier is used to identify a unique query execution
+ * <p>
+ * Generated identifiers hold their numbers and are only formatted as a string when {@link #toString()} is called, which
+ * many executions never do.
  */
 public class ExecutionId {
 
@@ -15,7 +19,35 @@ public class ExecutionId {
      * @return a query execution identifier
      */
     public static ExecutionId generate() {
-        return new ExecutionId(UUID.randomUUID().toString());
+        UUID uuid = UUID.randomUUID();
+        return new ExecutionId(null, null, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Create an unique identifier in the same format as {@link #generate()}, but from a {@link ThreadLocalRandom} rather than
+     * the {@link java.security.SecureRandom} of {@link UUID#randomUUID()}, which is a lot cheaper and does not contend on
+     * a lock.  The identifier is unique but not unpredictable.
+     *
+     * @return a query execution identifier
+     */
+    public static ExecutionId generateFast() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // the version and variant bits of a random (version 4) UUID
+        long mostSigBits = random.nextLong() & ~0xf000L | 0x4000L;
+        long leastSigBits = random.nextLong() & ~(0xc000000000000000L) | 0x8000000000000000L;
+        return new ExecutionId(null, null, mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Create an identifier from the given prefix and sequence number, which is the prefix followed by the number
+     *
+     * @param prefix   the prefix, for example the name of the node
+     * @param sequence the sequence number
+     *
+     * @return a query identifier
+     */
+    public static ExecutionId from(String prefix, long sequence) {
+        return new ExecutionId(null, Assert.assertNotNull(prefix, "You must provided a non null prefix"), 0, sequence);
     }
 
     /**
@@ -26,18 +58,32 @@ public class ExecutionId {
      * @return a query identifier
      */
     public static ExecutionId from(String id) {
-        return new ExecutionId(id);
+        Assert.assertNotNull(id, "You must provided a non null id");
+        return new ExecutionId(id, null, 0, 0);
     }
 
-    private final String id;
+    // formatted lazily for generated identifiers, the race to do so is benign
+    private String id;
+    private final boolean uuid;
+    private final String prefix;
+    private final long mostSigBits;
+    private final long leastSigBits;
 
-    private ExecutionId(String id) {
-        Assert.assertNotNull(id, "You must provided a non null id");
+    private ExecutionId(String id, String prefix, long mostSigBits, long leastSigBits) {
         this.id = id;
+        this.uuid = id == null && prefix == null;
+        this.prefix = prefix;
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
     }
 
     @Override
     public String toString() {
+        String id = this.id;
+        if (id == null) {
+            id = uuid ? new UUID(mostSigBits, leastSigBits).toString() : prefix + leastSigBits;
+            this.id = id;
+        }
         return id;
     }
 
@@ -48,11 +94,14 @@ public class ExecutionId {
 
         ExecutionId that = (ExecutionId) o;
 
-        return id.equals(that.id);
+        if (uuid && that.uuid) {
+            return mostSigBits == that.mostSigBits && leastSigBits == that.leastSigBits;
+        }
+        return toString().equals(that.toString());
     }
 
     @Override
     public int hashCode() {
-        return id.hashCode();
+        return toString().hashCode();
     }
 }
@@ -1,5 +1,9 @@
 package graphql.execution;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+import static graphql.Assert.assertNotNull;
+
 /**
  * A provider of {@link ExecutionId}s
  */
@@ -7,6 +11,11 @@ public interface ExecutionIdProvider {
 
     ExecutionIdProvider DEFAULT_EXECUTION_ID_PROVIDER = (query, operationName, context) -> ExecutionId.generate();
 
+    /**
+     * Provides random identifiers like the default provider does, but via {@link ExecutionId#generateFast()}
+     */
+    ExecutionIdProvider FAST_EXECUTION_ID_PROVIDER = (query, operationName, context) -> ExecutionId.generateFast();
+
 
     /**
      * Allows provision of a unique identifier per query execution.
@@ -18,4 +27,19 @@ public interface ExecutionIdProvider {
      * @return a non null {@link ExecutionId}
      */
     ExecutionId provide(String query, String operationName, Object context);
+
+    /**
+     * Creates a provider of identifiers made of the given prefix followed by an ever increasing number, for example
+     * "node1-" gives "node1-1", "node1-2" and so on.  They are unique as long as the prefix is unique, so it should name the
+     * node and the start of the process, and they are cheaper to create than random identifiers.
+     *
+     * @param prefix the prefix of the identifiers
+     *
+     * @return a provider of sequential identifiers
+     */
+    static ExecutionIdProvider sequential(String prefix) {
+        assertNotNull(prefix, "prefix must be non null");
+        AtomicLong sequence = new AtomicLong();
+        return (query, operationName, context) -> ExecutionId.from(prefix, sequence.incrementAndGet());
+    }
 }
@@ -18,30 +18,40 @@ import graphql.execution.instrumentation.parameters.InstrumentationFieldParamete
 import graphql.introspection.Introspection;
 import graphql.language.Argument;
 import graphql.language.Field;
+import graphql.schema.Coercing;
 import graphql.schema.CoercingSerializeException;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
-import graphql.schema.DataFetchingFieldSelectionSet;
 import graphql.schema.DataFetchingFieldSelectionSetImpl;
+import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLEnumType;
 import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
 import graphql.util.FpKit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static graphql.execution.Async.exceptionallyCompletedFuture;
 import static graphql.execution.ExecutionStepInfo.newExecutionStepInfo;
@@ -228,20 +238,23 @@ public abstract class ExecutionStrategy {
      * @throws NonNullableFieldWasNullException in the future if a non null field resolves to a null value
      */
     protected CompletableFuture<FetchedValue> fetchField(ExecutionContext executionContext, ExecutionStrategyParameters parameters) {
+        ExecutionCancellation cancellation = executionContext.getCancellation();
+        AbortExecutionException abortException = cancellation.getAbortException();
+        if (abortException != null) {
+            return exceptionallyCompletedFuture(abortException);
+        }
         MergedField field = parameters.getField();
         GraphQLObjectType parentType = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
         GraphQLFieldDefinition fieldDef = getFieldDef(executionContext.getGraphQLSchema(), parentType, field.getSingleField());
 
         GraphQLCodeRegistry codeRegistry = executionContext.getGraphQLSchema().getCodeRegistry();
+        // the arguments are not computed lazily so that invalid argument values still fail the field before it is fetched
         Map<String, Object> argumentValues = valuesResolver.getArgumentValues(codeRegistry, fieldDef.getArguments(), field.getArguments(), executionContext.getVariables());
 
-        QueryDirectivesImpl queryDirectives = new QueryDirectivesImpl(field, executionContext.getGraphQLSchema(), executionContext.getVariables());
-
         GraphQLOutputType fieldType = fieldDef.getType();
-        DataFetchingFieldSelectionSet fieldCollector = DataFetchingFieldSelectionSetImpl.newCollector(executionContext, fieldType, parameters.getField());
-        ExecutionStepInfo executionStepInfo = createExecutionStepInfo(executionContext, parameters, fieldDef, parentType);
-
 
+        // most data fetchers, and all the trivial ones, never look at the step info so it is only computed when asked for,
+        // the selection set and the query directives compute their values lazily themselves
         DataFetchingEnvironment environment = newDataFetchingEnvironment(executionContext)
                 .source(parameters.getSource())
                 .localContext(parameters.getLocalContext())
@@ -249,10 +262,10 @@ public abstract class ExecutionStrategy {
                 .fieldDefinition(fieldDef)
                 .mergedField(parameters.getField())
                 .fieldType(fieldType)
-                .executionStepInfo(executionStepInfo)
+                .executionStepInfo(() -> createExecutionStepInfo(executionContext, parameters, fieldDef, parentType))
                 .parentType(parentType)
-                .selectionSet(fieldCollector)
-                .queryDirectives(queryDirectives)
+                .selectionSet(DataFetchingFieldSelectionSetImpl.newCollector(executionContext, fieldType, field))
+                .queryDirectives(new QueryDirectivesImpl(field, executionContext.getGraphQLSchema(), executionContext.getVariables()))
                 .build();
 
         DataFetcher dataFetcher = codeRegistry.getDataFetcher(parentType, fieldDef);
@@ -262,26 +275,26 @@ public abstract class ExecutionStrategy {
         InstrumentationFieldFetchParameters instrumentationFieldFetchParams = new InstrumentationFieldFetchParameters(executionContext, fieldDef, environment, parameters, dataFetcher instanceof TrivialDataFetcher);
         InstrumentationContext<Object> fetchCtx = instrumentation.beginFieldFetch(instrumentationFieldFetchParams);
 
+        DataFetcher instrumentedDataFetcher = instrumentation.instrumentDataFetcher(dataFetcher, instrumentationFieldFetchParams);
         CompletableFuture<Object> fetchedValue;
-        dataFetcher = instrumentation.instrumentDataFetcher(dataFetcher, instrumentationFieldFetchParams);
-        ExecutionId executionId = executionContext.getExecutionId();
-        try {
-            log.debug("'{}' fetching field '{}' using data fetcher '{}'...", executionId, executionStepInfo.getPath(), dataFetcher.getClass().getName());
-            Object fetchedValueRaw = dataFetcher.get(environment);
-            log.debug("'{}' field '{}' fetch returned '{}'", executionId, executionStepInfo.getPath(), fetchedValueRaw == null ? "null" : fetchedValueRaw.getClass().getName());
-
-            fetchedValue = Async.toCompletableFuture(fetchedValueRaw);
-        } catch (Exception e) {
-            log.debug(String.format("'%s', field '%s' fetch threw exception", executionId, executionStepInfo.getPath()), e);
-
-            fetchedValue = new CompletableFuture<>();
-            fetchedValue.completeExceptionally(e);
+        if (codeRegistry.isMemoized(parentType, fieldDef)) {
+            FieldCoordinates coordinates = FieldCoordinates.coordinates(parentType, fieldDef);
+            fetchedValue = executionContext.getMemoizedFetches().fetch(parameters.getSource(), coordinates, argumentValues,
+                    () -> invokeDataFetcher(executionContext, parameters, instrumentedDataFetcher, environment));
+        } else {
+            fetchedValue = invokeDataFetcher(executionContext, parameters, instrumentedDataFetcher, environment);
         }
+        // outstanding fetches are given up once the execution is cancelled
+        fetchedValue = cancellation.unlessCancelled(fetchedValue);
         fetchCtx.onDispatched(fetchedValue);
         return fetchedValue
                 .handle((result, exception) -> {
                     fetchCtx.onCompleted(result, exception);
                     if (exception != null) {
+                        if (cancellation.isCancelled()) {
+                            // the execution is aborted as a whole, this is not an error of the field
+                            throw new CompletionException(cancellation.getAbortException());
+                        }
                         handleFetchingException(executionContext, parameters, environment, exception);
                         return null;
                     } else {
@@ -291,6 +304,30 @@ public abstract class ExecutionStrategy {
                 .thenApply(result -> unboxPossibleDataFetcherResult(executionContext, parameters, result));
     }
 
+    private CompletableFuture<Object> invokeDataFetcher(ExecutionContext executionContext, ExecutionStrategyParameters parameters, DataFetcher dataFetcher, DataFetchingEnvironment environment) {
+        CompletableFuture<Object> fetchedValue;
+        ExecutionId executionId = executionContext.getExecutionId();
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("'{}' fetching field '{}' using data fetcher '{}'...", executionId, parameters.getPath(), dataFetcher.getClass().getName());
+            }
+            Object fetchedValueRaw = dataFetcher.get(environment);
+            if (log.isDebugEnabled()) {
+                log.debug("'{}' field '{}' fetch returned '{}'", executionId, parameters.getPath(), fetchedValueRaw == null ? "null" : fetchedValueRaw.getClass().getName());
+            }
+
+            fetchedValue = Async.toCompletableFuture(fetchedValueRaw);
+        } catch (Exception e) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("'%s', field '%s' fetch threw exception", executionId, parameters.getPath()), e);
+            }
+
+            fetchedValue = new CompletableFuture<>();
+            fetchedValue.completeExceptionally(e);
+        }
+        return fetchedValue;
+    }
+
     FetchedValue unboxPossibleDataFetcherResult(ExecutionContext executionContext,
                                                 ExecutionStrategyParameters parameters,
                                                 Object result) {
@@ -416,6 +453,14 @@ public abstract class ExecutionStrategy {
         GraphQLType fieldType = executionStepInfo.getUnwrappedNonNullType();
         CompletableFuture<ExecutionResult> fieldValue;
 
+        ResultSizeTracker resultSizeTracker = executionContext.getResultSizeTracker();
+        if (resultSizeTracker != null) {
+            FieldValueInfo overLimits = checkResultSize(executionContext, parameters, resultSizeTracker, result);
+            if (overLimits != null) {
+                return overLimits;
+            }
+        }
+
         if (result == null) {
             fieldValue = completeValueForNull(parameters);
             return FieldValueInfo.newFieldValueInfo(NULL).fieldValue(fieldValue).build();
@@ -447,6 +492,19 @@ public abstract class ExecutionStrategy {
         return FieldValueInfo.newFieldValueInfo(OBJECT).fieldValue(fieldValue).build();
     }
 
+    private FieldValueInfo checkResultSize(ExecutionContext executionContext, ExecutionStrategyParameters parameters, ResultSizeTracker resultSizeTracker, Object result) {
+        ExecutionPath path = parameters.getPath();
+        // a field value also takes its name in the result, and a list element its separator
+        long bytes = ResultSizeTracker.estimateBytes(result) + (path.getPathWithoutListEnd() == path ? path.getSegmentName().length() + 4 : 1);
+        String message = resultSizeTracker.add(1, bytes);
+        if (message == null) {
+            return null;
+        }
+        AbortExecutionException abortException = resultSizeTracker.exceeded(executionContext, path, message, true);
+        CompletableFuture<ExecutionResult> fieldValue = abortException != null ? exceptionallyCompletedFuture(abortException) : completeValueForNull(parameters);
+        return FieldValueInfo.newFieldValueInfo(NULL).fieldValue(fieldValue).build();
+    }
+
     private void handleUnresolvedTypeProblem(ExecutionContext context, ExecutionStrategyParameters parameters, UnresolvedTypeException e) {
         UnresolvedTypeError error = new UnresolvedTypeError(parameters.getPath(), parameters.getExecutionStepInfo(), e);
         log.warn(error.getMessage(), e);
@@ -464,7 +522,8 @@ public abstract class ExecutionStrategy {
 
     /**
      * Called to complete a list of value for a field based on a list type.  This iterates the values and calls
-     * {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)} for each value.
+     * {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)} for each value, unless the items are scalars or
+     * enums and {@link #completesLeafListsDirectly()} is true, in which case they are serialized in one loop.
      *
      * @param executionContext contains the top level execution parameters
      * @param parameters       contains the parameters holding the fields to be executed and source object
@@ -473,6 +532,15 @@ public abstract class ExecutionStrategy {
      * @return a {@link FieldValueInfo}
      */
     protected FieldValueInfo completeValueForList(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Object result) {
+        AbortExecutionException abortException = executionContext.getCancellation().getAbortException();
+        if (abortException != null) {
+            return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(exceptionallyCompletedFuture(abortException)).build();
+        }
+        GraphQLType itemType = ((GraphQLList) parameters.getExecutionStepInfo().getUnwrappedNonNullType()).getWrappedType();
+        GraphQLType unwrappedItemType = GraphQLTypeUtil.unwrapNonNull(itemType);
+        if ((unwrappedItemType instanceof GraphQLScalarType || unwrappedItemType instanceof GraphQLEnumType) && completesLeafListsDirectly()) {
+            return completeLeafValuesForList(executionContext, parameters, result, itemType);
+        }
         Iterable<Object> resultIterable = toIterable(executionContext, parameters, result);
         try {
             resultIterable = parameters.getNonNullFieldValidator().validate(parameters.getPath(), resultIterable);
@@ -487,7 +555,8 @@ public abstract class ExecutionStrategy {
 
     /**
      * Called to complete a list of value for a field based on a list type.  This iterates the values and calls
-     * {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)} for each value.
+     * {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)} for each value, unless the items are scalars or
+     * enums and {@link #completesLeafListsDirectly()} is true, in which case they are serialized in one loop.
      *
      * @param executionContext contains the top level execution parameters
      * @param parameters       contains the parameters holding the fields to be executed and source object
@@ -497,7 +566,30 @@ public abstract class ExecutionStrategy {
      */
     protected FieldValueInfo completeValueForList(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Iterable<Object> iterableValues) {
 
-        Collection<Object> values = FpKit.toCollection(iterableValues);
+        ResultSizeTracker resultSizeTracker = executionContext.getResultSizeTracker();
+        int maxLength = resultSizeTracker != null ? resultSizeTracker.getMaxListLength() : Integer.MAX_VALUE;
+        Collection<Object> values;
+        String tooLong = null;
+        if (iterableValues instanceof Collection || maxLength == Integer.MAX_VALUE) {
+            values = FpKit.toCollection(iterableValues);
+            if (values.size() > maxLength) {
+                tooLong = resultSizeTracker.listTooLong(values.size());
+                values = values instanceof List ? ((List<Object>) values).subList(0, maxLength) : firstValues(values.iterator(), maxLength);
+            }
+        } else {
+            // other iterables can be very long or endless, so they are only read up to the first value over the maximum
+            Iterator<Object> iterator = iterableValues.iterator();
+            values = firstValues(iterator, maxLength);
+            if (iterator.hasNext()) {
+                tooLong = resultSizeTracker.listTooLong();
+            }
+        }
+        if (tooLong != null) {
+            AbortExecutionException abortException = resultSizeTracker.exceeded(executionContext, parameters.getPath(), tooLong, false);
+            if (abortException != null) {
+                return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(exceptionallyCompletedFuture(abortException)).build();
+            }
+        }
         ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
         GraphQLFieldDefinition fieldDef = parameters.getExecutionStepInfo().getFieldDefinition();
         GraphQLObjectType fieldContainer = parameters.getExecutionStepInfo().getFieldContainer();
@@ -509,9 +601,18 @@ public abstract class ExecutionStrategy {
                 instrumentationParams
         );
 
-        List<FieldValueInfo> fieldValueInfos = new ArrayList<>();
+        ExecutionCancellation cancellation = executionContext.getCancellation();
+        int listSize = values.size();
+        List<FieldValueInfo> fieldValueInfos = new ArrayList<>(listSize);
         int index = 0;
         for (Object item : values) {
+            AbortExecutionException abortException = cancellation.getAbortException();
+            if (abortException != null) {
+                CompletableFuture<ExecutionResult> abortedResult = exceptionallyCompletedFuture(abortException);
+                completeListCtx.onDispatched(abortedResult);
+                completeListCtx.onCompleted(null, abortException);
+                return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(abortedResult).fieldValueInfos(fieldValueInfos).build();
+            }
             ExecutionPath indexedPath = parameters.getPath().segment(index);
 
             ExecutionStepInfo stepInfoForListElement = executionStepInfoFactory.newExecutionStepInfoForListElement(executionStepInfo, index);
@@ -524,7 +625,7 @@ public abstract class ExecutionStrategy {
             ExecutionStrategyParameters newParameters = parameters.transform(builder ->
                     builder.executionStepInfo(stepInfoForListElement)
                             .nonNullFieldValidator(nonNullableFieldValidator)
-                            .listSize(values.size())
+                            .listSize(listSize)
                             .localContext(value.getLocalContext())
                             .currentListIndex(finalIndex)
                             .path(indexedPath)
@@ -545,7 +646,7 @@ public abstract class ExecutionStrategy {
                 completeListCtx.onCompleted(executionResult, exception);
                 return;
             }
-            List<Object> completedResults = new ArrayList<>();
+            List<Object> completedResults = new ArrayList<>(results.size());
             for (ExecutionResult completedValue : results) {
                 completedResults.add(completedValue.getData());
             }
@@ -560,6 +661,242 @@ public abstract class ExecutionStrategy {
                 .build();
     }
 
+    private static List<Object> firstValues(Iterator<Object> iterator, int maxLength) {
+        List<Object> values = new ArrayList<>();
+        while (values.size() < maxLength && iterator.hasNext()) {
+            values.add(iterator.next());
+        }
+        return values;
+    }
+
+    /**
+     * Lists of scalars or enums can be completed in one loop, see {@link #completeValueForList(ExecutionContext, ExecutionStrategyParameters, Object)},
+     * which serializes the elements without calling {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)},
+     * {@link #completeValueForScalar(ExecutionContext, ExecutionStrategyParameters, GraphQLScalarType, Object)} or
+     * {@link #completeValueForEnum(ExecutionContext, ExecutionStrategyParameters, GraphQLEnumType, Object)} for each of them.
+     * <p>
+     * By default this is only done when the strategy overrides none of {@code completeValue}, {@code completeValueForList},
+     * {@code completeValueForScalar}, {@code completeValueForEnum} and {@code toIterable}, so that custom completion keeps
+     * seeing every element.  Strategies can override this to decide for themselves.
+     *
+     * @return true if lists of scalars or enums are completed in one loop
+     */
+    protected boolean completesLeafListsDirectly() {
+        return !OVERRIDES_COMPLETION.get(getClass());
+    }
+
+    // computed once per strategy class
+    private static final ClassValue<Boolean> OVERRIDES_COMPLETION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> clazz = type; clazz != null && clazz != ExecutionStrategy.class; clazz = clazz.getSuperclass()) {
+                for (Method method : clazz.getDeclaredMethods()) {
+                    switch (method.getName()) {
+                        case "completeValue":
+                        case "completeValueForList":
+                        case "completeValueForScalar":
+                        case "completeValueForEnum":
+                        case "toIterable":
+                            return true;
+                        default:
+                    }
+                }
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Lists of scalars or enums, for example long time series of numbers, are completed in one loop rather than via
+     * {@link #completeValue(ExecutionContext, ExecutionStrategyParameters)} per element.  The path, step info and parameters
+     * of an element are only created when it has an error.  Arrays of primitives and primitive streams are read without
+     * first boxing them into a list.
+     */
+    private FieldValueInfo completeLeafValuesForList(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Object result, GraphQLType itemType) {
+        Object values = toLeafValues(executionContext, parameters, result);
+        try {
+            values = parameters.getNonNullFieldValidator().validate(parameters.getPath(), values);
+        } catch (NonNullableFieldWasNullException e) {
+            return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(exceptionallyCompletedFuture(e)).build();
+        }
+        if (values == null) {
+            return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(completedFuture(new ExecutionResultImpl(null, null))).build();
+        }
+
+        ResultSizeTracker resultSizeTracker = executionContext.getResultSizeTracker();
+        int length = values instanceof Collection ? ((Collection<?>) values).size() : Array.getLength(values);
+        if (resultSizeTracker != null && length > resultSizeTracker.getMaxListLength()) {
+            AbortExecutionException abortException = resultSizeTracker.exceeded(executionContext, parameters.getPath(), resultSizeTracker.listTooLong(length), false);
+            if (abortException != null) {
+                return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(exceptionallyCompletedFuture(abortException)).build();
+            }
+            length = resultSizeTracker.getMaxListLength();
+        }
+
+        ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
+        GraphQLFieldDefinition fieldDef = executionStepInfo.getFieldDefinition();
+        InstrumentationFieldCompleteParameters instrumentationParams = new InstrumentationFieldCompleteParameters(executionContext, parameters, fieldDef, createExecutionStepInfo(executionContext, parameters, fieldDef, executionStepInfo.getFieldContainer()), values);
+        InstrumentationContext<ExecutionResult> completeListCtx = executionContext.getInstrumentation().beginFieldListComplete(instrumentationParams);
+
+        LeafListCompleter completer = new LeafListCompleter(executionContext, parameters, itemType, resultSizeTracker != null);
+        completer.start(length);
+        if (values instanceof Collection) {
+            Iterator<?> iterator = ((Collection<?>) values).iterator();
+            for (int i = 0; i < length && iterator.hasNext(); i++) {
+                completer.complete(iterator.next());
+            }
+        } else if (values instanceof Object[]) {
+            Object[] array = (Object[]) values;
+            for (int i = 0; i < length; i++) {
+                completer.complete(array[i]);
+            }
+        } else if (values instanceof int[]) {
+            int[] array = (int[]) values;
+            for (int i = 0; i < length; i++) {
+                completer.complete(array[i]);
+            }
+        } else if (values instanceof long[]) {
+            long[] array = (long[]) values;
+            for (int i = 0; i < length; i++) {
+                completer.complete(array[i]);
+            }
+        } else if (values instanceof double[]) {
+            double[] array = (double[]) values;
+            for (int i = 0; i < length; i++) {
+                completer.complete(array[i]);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                completer.complete(Array.get(values, i));
+            }
+        }
+
+        if (resultSizeTracker != null) {
+            String message = resultSizeTracker.add(completer.completedResults.size(), completer.estimatedBytes);
+            if (message != null) {
+                AbortExecutionException abortException = resultSizeTracker.exceeded(executionContext, parameters.getPath(), message, true);
+                CompletableFuture<ExecutionResult> fieldValue = abortException != null ? exceptionallyCompletedFuture(abortException) : completeValueForNull(parameters);
+                completeListCtx.onDispatched(fieldValue);
+                fieldValue.whenComplete(completeListCtx::onCompleted);
+                return FieldValueInfo.newFieldValueInfo(LIST).fieldValue(fieldValue).fieldValueInfos(Collections.emptyList()).build();
+            }
+        }
+
+        CompletableFuture<ExecutionResult> overallResult = new CompletableFuture<>();
+        completeListCtx.onDispatched(overallResult);
+        if (completer.nonNullException != null) {
+            CompletionException exception = new CompletionException(completer.nonNullException);
+            ExecutionResult executionResult = handleNonNullException(executionContext, overallResult, exception);
+            completeListCtx.onCompleted(executionResult, exception);
+        } else {
+            overallResult.complete(new ExecutionResultImpl(completer.completedResults, null));
+        }
+        overallResult.whenComplete(completeListCtx::onCompleted);
+
+        return FieldValueInfo.newFieldValueInfo(LIST)
+                .fieldValue(overallResult)
+                .fieldValueInfos(Collections.emptyList())
+                .build();
+    }
+
+    private Object toLeafValues(ExecutionContext executionContext, ExecutionStrategyParameters parameters, Object result) {
+        if (result instanceof Collection || result.getClass().isArray()) {
+            return result;
+        }
+        if (result instanceof IntStream) {
+            return ((IntStream) result).toArray();
+        }
+        if (result instanceof LongStream) {
+            return ((LongStream) result).toArray();
+        }
+        if (result instanceof DoubleStream) {
+            return ((DoubleStream) result).toArray();
+        }
+        Iterable<Object> values = toIterable(executionContext, parameters, result);
+        return values == null || values instanceof Collection ? values : FpKit.toCollection(values);
+    }
+
+    private class LeafListCompleter {
+        private final ExecutionContext executionContext;
+        private final ExecutionStrategyParameters parameters;
+        private final boolean nonNullItems;
+        private final GraphQLScalarType scalarType;
+        private final Coercing<?, ?> coercing;
+        private final boolean estimatesBytes;
+        private List<Object> completedResults;
+        private int index;
+        private int size;
+        private NonNullableFieldWasNullException nonNullException;
+        private long estimatedBytes;
+
+        LeafListCompleter(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLType itemType, boolean estimatesBytes) {
+            this.executionContext = executionContext;
+            this.estimatesBytes = estimatesBytes;
+            this.parameters = parameters;
+            this.nonNullItems = GraphQLTypeUtil.isNonNull(itemType);
+            GraphQLType unwrappedItemType = GraphQLTypeUtil.unwrapNonNull(itemType);
+            this.scalarType = unwrappedItemType instanceof GraphQLScalarType ? (GraphQLScalarType) unwrappedItemType : null;
+            this.coercing = scalarType != null ? scalarType.getCoercing() : ((GraphQLEnumType) unwrappedItemType).getCoercing();
+        }
+
+        void start(int size) {
+            this.size = size;
+            this.completedResults = new ArrayList<>(size);
+        }
+
+        void complete(Object item) {
+            ExecutionStrategyParameters elementParameters = null;
+            if (item instanceof DataFetcherResult) {
+                item = unboxPossibleDataFetcherResult(executionContext, parameters, item).getFetchedValue();
+            } else {
+                item = UnboxPossibleOptional.unboxPossibleOptional(item);
+            }
+            Object serialized = null;
+            if (item != null) {
+                try {
+                    serialized = coercing.serialize(item);
+                } catch (CoercingSerializeException e) {
+                    elementParameters = elementParameters(elementParameters);
+                    serialized = handleCoercionProblem(executionContext, elementParameters, e);
+                }
+                //6.6.1 http://facebook.github.io/graphql/#sec-Field-entries
+                if (scalarType != null && serialized instanceof Double && ((Double) serialized).isNaN()) {
+                    serialized = null;
+                }
+            }
+            if (serialized == null && nonNullItems) {
+                elementParameters = elementParameters(elementParameters);
+                try {
+                    elementParameters.getNonNullFieldValidator().validate(elementParameters.getPath(), null);
+                } catch (NonNullableFieldWasNullException e) {
+                    if (nonNullException == null) {
+                        nonNullException = e;
+                    }
+                }
+            }
+            if (estimatesBytes) {
+                estimatedBytes += ResultSizeTracker.estimateBytes(serialized) + 1;
+            }
+            completedResults.add(serialized);
+            index++;
+        }
+
+        private ExecutionStrategyParameters elementParameters(ExecutionStrategyParameters existing) {
+            if (existing != null) {
+                return existing;
+            }
+            ExecutionStepInfo stepInfoForListElement = executionStepInfoFactory.newExecutionStepInfoForListElement(parameters.getExecutionStepInfo(), index);
+            NonNullableFieldValidator nonNullableFieldValidator = new NonNullableFieldValidator(executionContext, stepInfoForListElement);
+            int elementIndex = index;
+            return parameters.transform(builder ->
+                    builder.executionStepInfo(stepInfoForListElement)
+                            .nonNullFieldValidator(nonNullableFieldValidator)
+                            .listSize(size)
+                            .currentListIndex(elementIndex)
+                            .path(stepInfoForListElement.getPath()));
+        }
+    }
+
     /**
      * Called to turn an object into a scalar value according to the {@link GraphQLScalarType} by asking that scalar type to coerce the object
      * into a valid value
@@ -685,8 +1022,18 @@ public abstract class ExecutionStrategy {
     }
 
 
+    @SuppressWarnings("unchecked")
     protected Iterable<Object> toIterable(ExecutionContext context, ExecutionStrategyParameters parameters, Object result) {
-        if (result.getClass().isArray() || result instanceof Iterable) {
+        if (context.getResultSizeTracker() != null && !(result instanceof Collection)) {
+            // with a maximum list length, iterables and streams are only read as far as they are completed
+            if (result instanceof Iterable) {
+                return (Iterable<Object>) result;
+            }
+            if (result instanceof BaseStream) {
+                return ((BaseStream<Object, ?>) result)::iterator;
+            }
+        }
+        if (result.getClass().isArray() || result instanceof Iterable || result instanceof BaseStream) {
             return toIterable(result);
         }
 
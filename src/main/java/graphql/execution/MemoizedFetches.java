@@ -0,0 +1,105 @@
+package graphql.execution;
+
+import graphql.Internal;
+import graphql.schema.FieldCoordinates;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The values fetched for the memoized fields of an execution, see {@link graphql.schema.GraphQLCodeRegistry.Builder#memoizedField(FieldCoordinates)}.
+ * <p>
+ * At most the given number of fetches are remembered, the ones after that are simply not memoized.
+ */
+@Internal
+class MemoizedFetches {
+
+    private final int maxFetches;
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final ConcurrentMap<FetchKey, CompletableFuture<Object>> fetchedValues = new ConcurrentHashMap<>();
+
+    MemoizedFetches(int maxFetches) {
+        this.maxFetches = maxFetches;
+    }
+
+    /**
+     * Gives back the value fetched before for the same source object, field and arguments, or else fetches it
+     *
+     * @param source      the source object of the field
+     * @param coordinates the coordinates of the field
+     * @param arguments   the argument values of the field
+     * @param fetch       fetches the value when it was not fetched before
+     *
+     * @return the fetched value
+     */
+    CompletableFuture<Object> fetch(Object source, FieldCoordinates coordinates, Map<String, Object> arguments, Supplier<CompletableFuture<Object>> fetch) {
+        FetchKey key = new FetchKey(source, coordinates, arguments);
+        CompletableFuture<Object> fetchedValue = fetchedValues.get(key);
+        if (fetchedValue != null) {
+            return fetchedValue;
+        }
+        if (fetches.get() >= maxFetches) {
+            return fetch.get();
+        }
+        // claimed before fetching so that the same field asked concurrently is fetched only once
+        CompletableFuture<Object> claimed = new CompletableFuture<>();
+        fetchedValue = fetchedValues.putIfAbsent(key, claimed);
+        if (fetchedValue != null) {
+            return fetchedValue;
+        }
+        fetches.incrementAndGet();
+        try {
+            fetch.get().whenComplete((value, exception) -> {
+                if (exception != null) {
+                    claimed.completeExceptionally(exception);
+                } else {
+                    claimed.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            claimed.completeExceptionally(e);
+        }
+        return claimed;
+    }
+
+    /**
+     * The same field with the same argument values on the same source object, which is compared by identity
+     */
+    private static class FetchKey {
+        private final Object source;
+        private final FieldCoordinates coordinates;
+        private final Map<String, Object> arguments;
+        private final int hashCode;
+
+        FetchKey(Object source, FieldCoordinates coordinates, Map<String, Object> arguments) {
+            this.source = source;
+            this.coordinates = coordinates;
+            this.arguments = arguments;
+            this.hashCode = 31 * (31 * System.identityHashCode(source) + coordinates.hashCode()) + arguments.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FetchKey)) {
+                return false;
+            }
+            FetchKey that = (FetchKey) o;
+            return source == that.source &&
+                    coordinates.equals(that.coordinates) &&
+                    Objects.equals(arguments, that.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import graphql.Internal;
 import graphql.TypeResolutionEnvironment;
 import graphql.schema.GraphQLInterfaceType;
 import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLSchema;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLUnionType;
 import graphql.schema.TypeResolver;
@@ -15,59 +17,43 @@ public class ResolveType {
 
 
     public GraphQLObjectType resolveType(ExecutionContext executionContext, MergedField field, Object source, Map<String, Object> arguments, GraphQLType fieldType) {
-        GraphQLObjectType resolvedType;
+        // this is called for every value of an abstract type so the environment is made directly rather than via TypeResolutionParameters
+        GraphQLSchema schema = executionContext.getGraphQLSchema();
         if (fieldType instanceof GraphQLInterfaceType) {
-            TypeResolutionParameters resolutionParams = TypeResolutionParameters.newParameters()
-                    .graphQLInterfaceType((GraphQLInterfaceType) fieldType)
-                    .field(field)
-                    .value(source)
-                    .argumentValues(arguments)
-                    .context(executionContext.getContext())
-                    .schema(executionContext.getGraphQLSchema()).build();
-            resolvedType = resolveTypeForInterface(resolutionParams);
+            GraphQLInterfaceType interfaceType = (GraphQLInterfaceType) fieldType;
+            TypeResolutionEnvironment env = new TypeResolutionEnvironment(source, arguments, field, interfaceType, schema, executionContext.getContext());
+            return resolveAbstractType(env, interfaceType, schema.getCodeRegistry().getTypeResolver(interfaceType));
 
         } else if (fieldType instanceof GraphQLUnionType) {
-            TypeResolutionParameters resolutionParams = TypeResolutionParameters.newParameters()
-                    .graphQLUnionType((GraphQLUnionType) fieldType)
-                    .field(field)
-                    .value(source)
-                    .argumentValues(arguments)
-                    .context(executionContext.getContext())
-                    .schema(executionContext.getGraphQLSchema()).build();
-            resolvedType = resolveTypeForUnion(resolutionParams);
+            GraphQLUnionType unionType = (GraphQLUnionType) fieldType;
+            TypeResolutionEnvironment env = new TypeResolutionEnvironment(source, arguments, field, unionType, schema, executionContext.getContext());
+            return resolveAbstractType(env, unionType, schema.getCodeRegistry().getTypeResolver(unionType));
         } else {
-            resolvedType = (GraphQLObjectType) fieldType;
+            return (GraphQLObjectType) fieldType;
         }
-
-        return resolvedType;
     }
 
     public GraphQLObjectType resolveTypeForInterface(TypeResolutionParameters params) {
         TypeResolutionEnvironment env = new TypeResolutionEnvironment(params.getValue(), params.getArgumentValues(), params.getField(), params.getGraphQLInterfaceType(), params.getSchema(), params.getContext());
         GraphQLInterfaceType abstractType = params.getGraphQLInterfaceType();
         TypeResolver typeResolver = params.getSchema().getCodeRegistry().getTypeResolver(abstractType);
-        GraphQLObjectType result = typeResolver.getType(env);
-        if (result == null) {
-            throw new UnresolvedTypeException(abstractType);
-        }
-
-        if (!params.getSchema().isPossibleType(abstractType, result)) {
-            throw new UnresolvedTypeException(abstractType, result);
-        }
-
-        return result;
+        return resolveAbstractType(env, abstractType, typeResolver);
     }
 
     public GraphQLObjectType resolveTypeForUnion(TypeResolutionParameters params) {
         TypeResolutionEnvironment env = new TypeResolutionEnvironment(params.getValue(), params.getArgumentValues(), params.getField(), params.getGraphQLUnionType(), params.getSchema(), params.getContext());
         GraphQLUnionType abstractType = params.getGraphQLUnionType();
         TypeResolver typeResolver = params.getSchema().getCodeRegistry().getTypeResolver(abstractType);
+        return resolveAbstractType(env, abstractType, typeResolver);
+    }
+
+    private GraphQLObjectType resolveAbstractType(TypeResolutionEnvironment env, GraphQLOutputType abstractType, TypeResolver typeResolver) {
         GraphQLObjectType result = typeResolver.getType(env);
         if (result == null) {
             throw new UnresolvedTypeException(abstractType);
         }
 
-        if (!params.getSchema().isPossibleType(abstractType, result)) {
+        if (!env.getSchema().isPossibleType(abstractType, result)) {
             throw new UnresolvedTypeException(abstractType, result);
         }
 
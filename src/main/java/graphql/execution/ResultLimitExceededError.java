@@ -0,0 +1,65 @@
+package graphql.execution;
+
+import graphql.ErrorType;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorHelper;
+import graphql.PublicApi;
+import graphql.language.SourceLocation;
+
+import java.util.List;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * The error of a result that was truncated because it went over its {@link ResultLimits}
+ */
+@PublicApi
+public class ResultLimitExceededError implements GraphQLError {
+
+    private final String message;
+    private final List<Object> path;
+
+    public ResultLimitExceededError(String message, ExecutionPath path) {
+        this.message = assertNotNull(message);
+        this.path = assertNotNull(path).toList();
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public List<SourceLocation> getLocations() {
+        return null;
+    }
+
+    @Override
+    public ErrorType getErrorType() {
+        return ErrorType.ExecutionAborted;
+    }
+
+    @Override
+    public List<Object> getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultLimitExceededError{" +
+                "path=" + path +
+                ", message=" + message +
+                '}';
+    }
+
+    @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+    @Override
+    public boolean equals(Object o) {
+        return GraphqlErrorHelper.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return GraphqlErrorHelper.hashCode(this);
+    }
+}
@@ -0,0 +1,123 @@
+package graphql.execution;
+
+import graphql.PublicApi;
+
+import static graphql.Assert.assertTrue;
+
+/**
+ * Limits on the size of the results of executions, which are checked as the results are completed, unlike the query
+ * complexity and depth limits of {@link graphql.analysis.MaxQueryComplexityInstrumentation} and
+ * {@link graphql.analysis.MaxQueryDepthInstrumentation} which are estimated before the execution.
+ * <ul>
+ * <li>the maximum number of result nodes, that is field values and list elements</li>
+ * <li>the maximum length of a list</li>
+ * <li>the maximum size of the result, as estimated from the lengths of its strings, field names and the number of its other values</li>
+ * </ul>
+ * By default a result over a limit aborts the execution, whose result is then an {@link AbortExecutionException} error.
+ * When truncating instead, lists are cut down to their maximum length and the values completed after the other limits
+ * are reached are null, with a {@link ResultLimitExceededError} for each list that is cut and for the first value that is
+ * left out.
+ * <p>
+ * Each execution is checked on its own, and so is each event of a subscription.
+ *
+ * @see graphql.GraphQL.Builder#resultLimits(ResultLimits)
+ */
+@PublicApi
+public class ResultLimits {
+
+    private final long maxResultNodes;
+    private final int maxListLength;
+    private final long maxEstimatedBytes;
+    private final boolean truncate;
+
+    private ResultLimits(Builder builder) {
+        this.maxResultNodes = builder.maxResultNodes;
+        this.maxListLength = builder.maxListLength;
+        this.maxEstimatedBytes = builder.maxEstimatedBytes;
+        this.truncate = builder.truncate;
+    }
+
+    /**
+     * @return the maximum number of field values and list elements of a result
+     */
+    public long getMaxResultNodes() {
+        return maxResultNodes;
+    }
+
+    /**
+     * @return the maximum number of elements of a list
+     */
+    public int getMaxListLength() {
+        return maxListLength;
+    }
+
+    /**
+     * @return the maximum estimated size of a result, in bytes
+     */
+    public long getMaxEstimatedBytes() {
+        return maxEstimatedBytes;
+    }
+
+    /**
+     * @return true if results over the limits are truncated rather than aborted
+     */
+    public boolean isTruncate() {
+        return truncate;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultLimits{" +
+                "maxResultNodes=" + maxResultNodes +
+                ", maxListLength=" + maxListLength +
+                ", maxEstimatedBytes=" + maxEstimatedBytes +
+                ", truncate=" + truncate +
+                '}';
+    }
+
+    /**
+     * @return a new builder of result limits, which are unlimited until set
+     */
+    public static Builder newResultLimits() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private long maxResultNodes = Long.MAX_VALUE;
+        private int maxListLength = Integer.MAX_VALUE;
+        private long maxEstimatedBytes = Long.MAX_VALUE;
+        private boolean truncate = false;
+
+        public Builder maxResultNodes(long maxResultNodes) {
+            assertTrue(maxResultNodes > 0, "maxResultNodes must be positive");
+            this.maxResultNodes = maxResultNodes;
+            return this;
+        }
+
+        public Builder maxListLength(int maxListLength) {
+            assertTrue(maxListLength >= 0, "maxListLength can't be negative");
+            this.maxListLength = maxListLength;
+            return this;
+        }
+
+        public Builder maxEstimatedBytes(long maxEstimatedBytes) {
+            assertTrue(maxEstimatedBytes > 0, "maxEstimatedBytes must be positive");
+            this.maxEstimatedBytes = maxEstimatedBytes;
+            return this;
+        }
+
+        /**
+         * @param truncate true to truncate results over the limits, false to abort their executions, which is the default
+         *
+         * @return this builder
+         */
+        public Builder truncate(boolean truncate) {
+            this.truncate = truncate;
+            return this;
+        }
+
+        public ResultLimits build() {
+            return new ResultLimits(this);
+        }
+    }
+}
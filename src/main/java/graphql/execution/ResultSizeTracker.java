@@ -0,0 +1,98 @@
+package graphql.execution;
+
+import graphql.Internal;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the nodes and the estimated bytes of a result as it is completed, against its {@link ResultLimits}
+ */
+@Internal
+class ResultSizeTracker {
+
+    private final ResultLimits limits;
+    private final AtomicLong nodes = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicBoolean exceededReported = new AtomicBoolean();
+
+    ResultSizeTracker(ResultLimits limits) {
+        this.limits = limits;
+    }
+
+    int getMaxListLength() {
+        return limits.getMaxListLength();
+    }
+
+    /**
+     * @param nodeCount the number of nodes to add
+     * @param byteCount the estimated bytes to add
+     *
+     * @return null if the result is still within its limits, otherwise what is wrong with it
+     */
+    String add(long nodeCount, long byteCount) {
+        if (nodes.addAndGet(nodeCount) > limits.getMaxResultNodes()) {
+            return "The result exceeds the maximum of " + limits.getMaxResultNodes() + " nodes";
+        }
+        if (bytes.addAndGet(byteCount) > limits.getMaxEstimatedBytes()) {
+            return "The result exceeds the maximum estimated size of " + limits.getMaxEstimatedBytes() + " bytes";
+        }
+        return null;
+    }
+
+    String listTooLong(int length) {
+        return "The list has " + length + " elements, more than the maximum of " + limits.getMaxListLength();
+    }
+
+    // for lists that are only read up to the first element over the maximum
+    String listTooLong() {
+        return "The list has more elements than the maximum of " + limits.getMaxListLength();
+    }
+
+    /**
+     * Called when a value goes over the limits.  When aborting, the execution is cancelled.  When truncating, an error is
+     * added for the value, or only for the first value over the limits if the given message is shared by all of them.
+     *
+     * @param executionContext the execution
+     * @param path             the path of the value
+     * @param message          what is wrong with the result
+     * @param firstOnly        true to only add an error for the first value over the limits
+     *
+     * @return the exception to fail the value with when aborting, or null when truncating
+     */
+    AbortExecutionException exceeded(ExecutionContext executionContext, ExecutionPath path, String message, boolean firstOnly) {
+        if (!limits.isTruncate()) {
+            ExecutionCancellation cancellation = executionContext.getCancellation();
+            cancellation.cancel(message);
+            AbortExecutionException abortException = cancellation.getAbortException();
+            return abortException != null ? abortException : new AbortExecutionException(message);
+        }
+        if (!firstOnly || exceededReported.compareAndSet(false, true)) {
+            executionContext.addError(new ResultLimitExceededError(message, path), path);
+        }
+        return null;
+    }
+
+    /**
+     * A rough size of the value once serialized, which only looks at strings and otherwise counts a few bytes per value
+     *
+     * @param value the value
+     *
+     * @return the estimated bytes of the value
+     */
+    static long estimateBytes(Object value) {
+        if (value == null) {
+            return 4;
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() + 2;
+        }
+        if (value instanceof Number) {
+            return 8;
+        }
+        if (value instanceof Boolean) {
+            return 5;
+        }
+        return 2;
+    }
+}
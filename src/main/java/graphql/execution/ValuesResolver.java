@@ -11,7 +11,6 @@ import graphql.language.Value;
 import graphql.language.VariableDefinition;
 import graphql.language.VariableReference;
 import graphql.schema.Coercing;
-import graphql.schema.CoercingParseValueException;
 import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLEnumType;
@@ -28,9 +27,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-import static graphql.Assert.assertShouldNeverHappen;
 import static graphql.schema.GraphQLTypeUtil.isList;
 import static graphql.schema.GraphQLTypeUtil.isNonNull;
 import static graphql.schema.GraphQLTypeUtil.unwrapOne;
@@ -61,6 +58,8 @@ public class ValuesResolver {
      * 4. Return coercedValues.
      * </pre>
      *
+     * The supplied values are coerced by {@link VariableCoercionPlan}s, whose input object types are compiled once per schema.
+     *
      * @param schema              the schema
      * @param variableDefinitions the variable definitions
      * @param variableValues      the supplied variables
@@ -72,7 +71,8 @@ public class ValuesResolver {
         Map<String, Object> coercedValues = new LinkedHashMap<>();
         for (VariableDefinition variableDefinition : variableDefinitions) {
             String variableName = variableDefinition.getName();
-            GraphQLType variableType = TypeFromAST.getTypeFromAST(schema, variableDefinition.getType());
+            VariableCoercionPlan plan = VariableCoercionPlan.plan(schema, fieldVisibility, variableDefinition);
+            GraphQLType variableType = plan.getVariableType();
 
             // 3.e
             if (!variableValues.containsKey(variableName)) {
@@ -88,7 +88,7 @@ public class ValuesResolver {
             } else {
                 Object value = variableValues.get(variableName);
                 // 3.f
-                Object coercedValue = getVariableValue(fieldVisibility, variableDefinition, variableType, value);
+                Object coercedValue = getVariableValue(fieldVisibility, variableDefinition, plan, value);
                 // 3.g
                 coercedValues.put(variableName, coercedValue);
             }
@@ -97,13 +97,13 @@ public class ValuesResolver {
         return coercedValues;
     }
 
-    private Object getVariableValue(GraphqlFieldVisibility fieldVisibility, VariableDefinition variableDefinition, GraphQLType variableType, Object value) {
+    private Object getVariableValue(GraphqlFieldVisibility fieldVisibility, VariableDefinition variableDefinition, VariableCoercionPlan plan, Object value) {
 
         if (value == null && variableDefinition.getDefaultValue() != null) {
-            return coerceValueAst(fieldVisibility, variableType, variableDefinition.getDefaultValue(), null);
+            return coerceValueAst(fieldVisibility, plan.getVariableType(), variableDefinition.getDefaultValue(), null);
         }
 
-        return coerceValue(fieldVisibility, variableDefinition, variableDefinition.getName(), variableType, value);
+        return plan.coerce(variableDefinition, value);
     }
 
     public Map<String, Object> getArgumentValues(List<GraphQLArgument> argumentTypes, List<Argument> arguments, Map<String, Object> variables) {
@@ -150,100 +150,6 @@ public class ValuesResolver {
     }
 
 
-    @SuppressWarnings("unchecked")
-    private Object coerceValue(GraphqlFieldVisibility fieldVisibility, VariableDefinition variableDefinition, String inputName, GraphQLType graphQLType, Object value) {
-        try {
-            if (isNonNull(graphQLType)) {
-                Object returnValue =
-                        coerceValue(fieldVisibility, variableDefinition, inputName, unwrapOne(graphQLType), value);
-                if (returnValue == null) {
-                    throw new NonNullableValueCoercedAsNullException(variableDefinition, inputName, graphQLType);
-                }
-                return returnValue;
-            }
-
-            if (value == null) {
-                return null;
-            }
-
-            if (graphQLType instanceof GraphQLScalarType) {
-                return coerceValueForScalar((GraphQLScalarType) graphQLType, value);
-            } else if (graphQLType instanceof GraphQLEnumType) {
-                return coerceValueForEnum((GraphQLEnumType) graphQLType, value);
-            } else if (graphQLType instanceof GraphQLList) {
-                return coerceValueForList(fieldVisibility, variableDefinition, inputName, (GraphQLList) graphQLType, value);
-            } else if (graphQLType instanceof GraphQLInputObjectType) {
-                if (value instanceof Map) {
-                    return coerceValueForInputObjectType(fieldVisibility, variableDefinition, (GraphQLInputObjectType) graphQLType, (Map<String, Object>) value);
-                } else {
-                    throw new CoercingParseValueException(
-                            "Expected type 'Map' but was '" + value.getClass().getSimpleName() +
-                                    "'. Variables for input objects must be an instance of type 'Map'."
-                    );
-                }
-            } else {
-                return assertShouldNeverHappen("unhandled type %s", graphQLType);
-            }
-        } catch (CoercingParseValueException e) {
-            if (e.getLocations() != null) {
-                throw e;
-            }
-
-            throw new CoercingParseValueException(
-                    "Variable '" + inputName + "' has an invalid value. " + e.getMessage(),
-                    e.getCause(),
-                    variableDefinition.getSourceLocation()
-            );
-        }
-    }
-
-    private Object coerceValueForInputObjectType(GraphqlFieldVisibility fieldVisibility, VariableDefinition variableDefinition, GraphQLInputObjectType inputObjectType, Map<String, Object> input) {
-        Map<String, Object> result = new LinkedHashMap<>();
-        List<GraphQLInputObjectField> fields = fieldVisibility.getFieldDefinitions(inputObjectType);
-        List<String> fieldNames = fields.stream().map(GraphQLInputObjectField::getName).collect(Collectors.toList());
-        for (String inputFieldName : input.keySet()) {
-            if (!fieldNames.contains(inputFieldName)) {
-                throw new InputMapDefinesTooManyFieldsException(inputObjectType, inputFieldName);
-            }
-        }
-
-        for (GraphQLInputObjectField inputField : fields) {
-            if (input.containsKey(inputField.getName()) || alwaysHasValue(inputField)) {
-                Object value = coerceValue(fieldVisibility, variableDefinition,
-                        inputField.getName(),
-                        inputField.getType(),
-                        input.get(inputField.getName()));
-                result.put(inputField.getName(), value == null ? inputField.getDefaultValue() : value);
-            }
-        }
-        return result;
-    }
-
-    private boolean alwaysHasValue(GraphQLInputObjectField inputField) {
-        return inputField.getDefaultValue() != null
-                || isNonNull(inputField.getType());
-    }
-
-    private Object coerceValueForScalar(GraphQLScalarType graphQLScalarType, Object value) {
-        return graphQLScalarType.getCoercing().parseValue(value);
-    }
-
-    private Object coerceValueForEnum(GraphQLEnumType graphQLEnumType, Object value) {
-        return graphQLEnumType.getCoercing().parseValue(value);
-    }
-
-    private List coerceValueForList(GraphqlFieldVisibility fieldVisibility, VariableDefinition variableDefinition, String inputName, GraphQLList graphQLList, Object value) {
-        if (value instanceof Iterable) {
-            List<Object> result = new ArrayList<>();
-            for (Object val : (Iterable) value) {
-                result.add(coerceValue(fieldVisibility, variableDefinition, inputName, graphQLList.getWrappedType(), val));
-            }
-            return result;
-        } else {
-            return Collections.singletonList(coerceValue(fieldVisibility, variableDefinition, inputName, graphQLList.getWrappedType(), value));
-        }
-    }
-
     private Object coerceValueAst(GraphqlFieldVisibility fieldVisibility, GraphQLType type, Value inputValue, Map<String, Object> variables) {
         if (inputValue instanceof VariableReference) {
             return variables.get(((VariableReference) inputValue).getName());
@@ -0,0 +1,304 @@
+package graphql.execution;
+
+import graphql.Internal;
+import graphql.language.VariableDefinition;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.visibility.BlockedFields;
+import graphql.schema.visibility.DefaultGraphqlFieldVisibility;
+import graphql.schema.visibility.GraphqlFieldVisibility;
+import graphql.schema.visibility.NoIntrospectionGraphqlFieldVisibility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static graphql.Assert.assertShouldNeverHappen;
+import static graphql.schema.GraphQLTypeUtil.isNonNull;
+
+/**
+ * The compiled input coercion of a variable.  The input object types of the variable are compiled into coercers that have
+ * their visible fields, their field lookup maps and the default values of their fields at hand, so that coercing a value
+ * only has to walk the value itself.
+ * <p>
+ * The compiled input object types only depend on the schema and its field visibility.  When that is one of the built in
+ * visibilities, whose answers never change, they are kept on the schema, see
+ * {@link GraphQLSchema#getDerivedData(Object, java.util.function.Function)}, and compiled once for all the executions against
+ * it.  Other visibilities may answer per request, for example by the current user, so their input object types are
+ * compiled again for every call.  The plan of a variable itself only wraps them with the list and non null types of the
+ * variable and its name.
+ * <p>
+ * The coercion rules and error messages are those of {@link ValuesResolver#coerceArgumentValues}.
+ */
+@Internal
+class VariableCoercionPlan {
+
+    private final GraphQLType variableType;
+    private final Coercer coercer;
+
+    private VariableCoercionPlan(GraphQLType variableType, Coercer coercer) {
+        this.variableType = variableType;
+        this.coercer = coercer;
+    }
+
+    static VariableCoercionPlan plan(GraphQLSchema schema, GraphqlFieldVisibility fieldVisibility, VariableDefinition variableDefinition) {
+        // what is compiled for a visibility that is not the one of the schema, or that may answer per request, is not kept
+        boolean shared = fieldVisibility == schema.getCodeRegistry().getFieldVisibility() && isStatic(fieldVisibility);
+        Map<String, InputObjectFields> compiledInputObjects = shared
+                ? schema.getDerivedData(VariableCoercionPlan.class, key -> new ConcurrentHashMap<String, InputObjectFields>())
+                : new ConcurrentHashMap<>();
+        GraphQLType variableType = TypeFromAST.getTypeFromAST(schema, variableDefinition.getType());
+        Compiler compiler = new Compiler(fieldVisibility, compiledInputObjects);
+        Coercer coercer = compiler.compile(variableDefinition.getName(), variableType);
+        compiler.publish();
+        return new VariableCoercionPlan(variableType, coercer);
+    }
+
+    private static boolean isStatic(GraphqlFieldVisibility fieldVisibility) {
+        return fieldVisibility instanceof DefaultGraphqlFieldVisibility
+                || fieldVisibility instanceof NoIntrospectionGraphqlFieldVisibility
+                || fieldVisibility instanceof BlockedFields;
+    }
+
+    GraphQLType getVariableType() {
+        return variableType;
+    }
+
+    /**
+     * @param variableDefinition the variable definition this plan was made for
+     * @param value              the supplied value of the variable
+     *
+     * @return the coerced value
+     */
+    Object coerce(VariableDefinition variableDefinition, Object value) {
+        return coercer.coerce(variableDefinition, value);
+    }
+
+    private static class Compiler {
+        private final GraphqlFieldVisibility fieldVisibility;
+        private final Map<String, InputObjectFields> compiledInputObjects;
+        // input object types can refer to themselves, so their fields are compiled once per type, and only made
+        // visible to other compilations once all of them are compiled
+        private final Map<String, InputObjectFields> inputObjectFields = new HashMap<>();
+
+        Compiler(GraphqlFieldVisibility fieldVisibility, Map<String, InputObjectFields> compiledInputObjects) {
+            this.fieldVisibility = fieldVisibility;
+            this.compiledInputObjects = compiledInputObjects;
+        }
+
+        Coercer compile(String inputName, GraphQLType type) {
+            if (type instanceof GraphQLNonNull) {
+                return new NonNullCoercer(inputName, type, compile(inputName, ((GraphQLNonNull) type).getWrappedType()));
+            }
+            if (type instanceof GraphQLScalarType) {
+                return new LeafCoercer(inputName, ((GraphQLScalarType) type).getCoercing());
+            }
+            if (type instanceof GraphQLEnumType) {
+                return new LeafCoercer(inputName, ((GraphQLEnumType) type).getCoercing());
+            }
+            if (type instanceof GraphQLList) {
+                return new ListCoercer(inputName, compile(inputName, ((GraphQLList) type).getWrappedType()));
+            }
+            if (type instanceof GraphQLInputObjectType) {
+                return new InputObjectCoercer(inputName, inputObjectFields((GraphQLInputObjectType) type));
+            }
+            return assertShouldNeverHappen("unhandled type %s", type);
+        }
+
+        void publish() {
+            for (Map.Entry<String, InputObjectFields> entry : inputObjectFields.entrySet()) {
+                compiledInputObjects.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+
+        private InputObjectFields inputObjectFields(GraphQLInputObjectType type) {
+            InputObjectFields fields = compiledInputObjects.get(type.getName());
+            if (fields == null) {
+                fields = inputObjectFields.get(type.getName());
+            }
+            if (fields == null) {
+                fields = new InputObjectFields(type);
+                inputObjectFields.put(type.getName(), fields);
+                for (GraphQLInputObjectField inputField : fieldVisibility.getFieldDefinitions(type)) {
+                    FieldCoercer fieldCoercer = new FieldCoercer(inputField, compile(inputField.getName(), inputField.getType()));
+                    fields.fields.add(fieldCoercer);
+                    fields.fieldsByName.put(inputField.getName(), fieldCoercer);
+                }
+            }
+            return fields;
+        }
+    }
+
+    private abstract static class Coercer {
+        final String inputName;
+
+        Coercer(String inputName) {
+            this.inputName = inputName;
+        }
+
+        Object coerce(VariableDefinition variableDefinition, Object value) {
+            try {
+                return coerceImpl(variableDefinition, value);
+            } catch (CoercingParseValueException e) {
+                if (e.getLocations() != null) {
+                    throw e;
+                }
+
+                throw new CoercingParseValueException(
+                        "Variable '" + inputName + "' has an invalid value. " + e.getMessage(),
+                        e.getCause(),
+                        variableDefinition.getSourceLocation()
+                );
+            }
+        }
+
+        abstract Object coerceImpl(VariableDefinition variableDefinition, Object value);
+    }
+
+    private static class NonNullCoercer extends Coercer {
+        private final GraphQLType type;
+        private final Coercer wrapped;
+
+        NonNullCoercer(String inputName, GraphQLType type, Coercer wrapped) {
+            super(inputName);
+            this.type = type;
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        Object coerceImpl(VariableDefinition variableDefinition, Object value) {
+            Object returnValue = wrapped.coerce(variableDefinition, value);
+            if (returnValue == null) {
+                throw new NonNullableValueCoercedAsNullException(variableDefinition, inputName, type);
+            }
+            return returnValue;
+        }
+    }
+
+    private static class LeafCoercer extends Coercer {
+        private final Coercing coercing;
+
+        LeafCoercer(String inputName, Coercing coercing) {
+            super(inputName);
+            this.coercing = coercing;
+        }
+
+        @Override
+        Object coerceImpl(VariableDefinition variableDefinition, Object value) {
+            if (value == null) {
+                return null;
+            }
+            return coercing.parseValue(value);
+        }
+    }
+
+    private static class ListCoercer extends Coercer {
+        private final Coercer element;
+
+        ListCoercer(String inputName, Coercer element) {
+            super(inputName);
+            this.element = element;
+        }
+
+        @Override
+        Object coerceImpl(VariableDefinition variableDefinition, Object value) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof List && value instanceof RandomAccess) {
+                List<?> values = (List<?>) value;
+                int size = values.size();
+                List<Object> result = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    result.add(element.coerce(variableDefinition, values.get(i)));
+                }
+                return result;
+            } else if (value instanceof Iterable) {
+                List<Object> result = new ArrayList<>();
+                for (Object val : (Iterable<?>) value) {
+                    result.add(element.coerce(variableDefinition, val));
+                }
+                return result;
+            } else {
+                return Collections.singletonList(element.coerce(variableDefinition, value));
+            }
+        }
+    }
+
+    private static class InputObjectFields {
+        private final GraphQLInputObjectType type;
+        private final List<FieldCoercer> fields = new ArrayList<>();
+        private final Map<String, FieldCoercer> fieldsByName = new HashMap<>();
+
+        InputObjectFields(GraphQLInputObjectType type) {
+            this.type = type;
+        }
+    }
+
+    private static class FieldCoercer {
+        private final String name;
+        private final Object defaultValue;
+        private final boolean alwaysHasValue;
+        private final Coercer coercer;
+
+        FieldCoercer(GraphQLInputObjectField inputField, Coercer coercer) {
+            this.name = inputField.getName();
+            this.defaultValue = inputField.getDefaultValue();
+            this.alwaysHasValue = defaultValue != null || isNonNull(inputField.getType());
+            this.coercer = coercer;
+        }
+    }
+
+    private static class InputObjectCoercer extends Coercer {
+        private final InputObjectFields inputObjectFields;
+
+        InputObjectCoercer(String inputName, InputObjectFields inputObjectFields) {
+            super(inputName);
+            this.inputObjectFields = inputObjectFields;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object coerceImpl(VariableDefinition variableDefinition, Object value) {
+            if (value == null) {
+                return null;
+            }
+            if (!(value instanceof Map)) {
+                throw new CoercingParseValueException(
+                        "Expected type 'Map' but was '" + value.getClass().getSimpleName() +
+                                "'. Variables for input objects must be an instance of type 'Map'."
+                );
+            }
+            Map<String, Object> input = (Map<String, Object>) value;
+            for (String inputFieldName : input.keySet()) {
+                if (!inputObjectFields.fieldsByName.containsKey(inputFieldName)) {
+                    throw new InputMapDefinesTooManyFieldsException(inputObjectFields.type, inputFieldName);
+                }
+            }
+
+            List<FieldCoercer> fields = inputObjectFields.fields;
+            Map<String, Object> result = new LinkedHashMap<>(Math.max(16, (int) (fields.size() / .75f) + 1));
+            for (int i = 0; i < fields.size(); i++) {
+                FieldCoercer field = fields.get(i);
+                if (field.alwaysHasValue || input.containsKey(field.name)) {
+                    Object fieldValue = field.coercer.coerce(variableDefinition, input.get(field.name));
+                    result.put(field.name, fieldValue == null ? field.defaultValue : fieldValue);
+                }
+            }
+            return result;
+        }
+    }
+}
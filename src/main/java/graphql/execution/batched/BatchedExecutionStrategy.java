@@ -6,6 +6,7 @@ import graphql.ExecutionResultImpl;
 import graphql.PublicApi;
 import graphql.TrivialDataFetcher;
 import graphql.execution.Async;
+import graphql.execution.CompactResultMap;
 import graphql.execution.DataFetcherExceptionHandler;
 import graphql.execution.DataFetcherExceptionHandlerParameters;
 import graphql.execution.DataFetcherExceptionHandlerResult;
@@ -26,6 +27,7 @@ import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionStrategyParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationFieldParameters;
+import graphql.language.OperationDefinition;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingFieldSelectionSet;
@@ -43,16 +45,14 @@ import graphql.schema.GraphQLTypeUtil;
 import graphql.schema.GraphQLUnionType;
 
 import java.lang.reflect.Array;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.stream.IntStream;
 
@@ -112,66 +112,85 @@ public class BatchedExecutionStrategy extends ExecutionStrategy {
 
         GraphQLObjectType type = (GraphQLObjectType) parameters.getExecutionStepInfo().getUnwrappedNonNullType();
 
+        Map<String, MergedField> rootFields = parameters.getFields().getSubFields();
+        MapOrList rootResult = MapOrList.createMap(newResultMap(executionContext, rootFields));
         ExecutionNode root = new ExecutionNode(type,
                 parameters.getExecutionStepInfo(),
-                parameters.getFields().getSubFields(),
-                singletonList(MapOrList.createMap(new LinkedHashMap<>())),
+                rootFields,
+                singletonList(rootResult),
                 Collections.singletonList(parameters.getSource())
         );
 
-        Queue<ExecutionNode> nodes = new ArrayDeque<>();
         CompletableFuture<ExecutionResult> result = new CompletableFuture<>();
-        executeImpl(executionContext,
-                parameters,
-                root,
-                root,
-                nodes,
-                root.getFields().keySet().iterator(),
-                result);
+        // the top level fields of a mutation must be executed serially, every other level is dispatched all at once
+        boolean serial = executionContext.getOperationDefinition().getOperation() == OperationDefinition.Operation.MUTATION;
+        CompletableFuture<List<List<ExecutionNode>>> rootLevel = serial
+                ? Async.eachSequentially(rootFields.keySet(), (fieldName, index, prevResults) -> resolveField(executionContext, parameters, fieldName, root))
+                : resolveLevel(executionContext, parameters, singletonList(root));
+        rootLevel.whenComplete(executeNextLevel(executionContext, parameters, rootResult, result));
 
         executionStrategyCtx.onDispatched(result);
         result.whenComplete(executionStrategyCtx::onCompleted);
         return result;
     }
 
-    @SuppressWarnings("FutureReturnValueIgnored")
-    private void executeImpl(ExecutionContext executionContext,
-                             ExecutionStrategyParameters parameters,
-                             ExecutionNode root,
-                             ExecutionNode curNode,
-                             Queue<ExecutionNode> queueOfNodes,
-                             Iterator<String> curFieldNames,
-                             CompletableFuture<ExecutionResult> overallResult) {
-
-        if (!curFieldNames.hasNext() && queueOfNodes.isEmpty()) {
-            overallResult.complete(new ExecutionResultImpl(root.getParentResults().get(0).toObject(), executionContext.getErrors()));
-            return;
-        }
+    private BiConsumer<List<List<ExecutionNode>>, Throwable> executeNextLevel(ExecutionContext executionContext,
+                                                                          ExecutionStrategyParameters parameters,
+                                                                          MapOrList rootResult,
+                                                                          CompletableFuture<ExecutionResult> overallResult) {
+        return (childNodesPerField, exception) -> {
+            if (exception != null) {
+                handleNonNullException(executionContext, overallResult, exception);
+                return;
+            }
+            List<ExecutionNode> nextLevel = new ArrayList<>();
+            childNodesPerField.forEach(nextLevel::addAll);
+            if (nextLevel.isEmpty()) {
+                overallResult.complete(new ExecutionResultImpl(rootResult.toObject(), executionContext.getErrors()));
+                return;
+            }
+            resolveLevel(executionContext, parameters, nextLevel)
+                    .whenComplete(executeNextLevel(executionContext, parameters, rootResult, overallResult));
+        };
+    }
 
-        if (!curFieldNames.hasNext()) {
-            curNode = queueOfNodes.poll();
-            curFieldNames = curNode.getFields().keySet().iterator();
+    /*
+     * Dispatches the fields of all the nodes of a level at once, so that batched data fetchers that return
+     * a CompletionStage can overlap their I/O
+     */
+    private CompletableFuture<List<List<ExecutionNode>>> resolveLevel(ExecutionContext executionContext,
+                                                                      ExecutionStrategyParameters parameters,
+                                                                      List<ExecutionNode> nodes) {
+        List<CompletableFuture<List<ExecutionNode>>> futures = new ArrayList<>();
+        for (ExecutionNode node : nodes) {
+            for (String fieldName : node.getFields().keySet()) {
+                futures.add(resolveField(executionContext, parameters, fieldName, node));
+            }
         }
+        return Async.each(futures);
+    }
 
-        String fieldName = curFieldNames.next();
-        MergedField currentField = curNode.getFields().get(fieldName);
-
+    private CompletableFuture<List<ExecutionNode>> resolveField(ExecutionContext executionContext,
+                                                                ExecutionStrategyParameters parameters,
+                                                                String fieldName,
+                                                                ExecutionNode node) {
+        MergedField currentField = node.getFields().get(fieldName);
 
         //
         // once an object is resolved from a interface / union to a node with an object type, the
         // parent type info has effectively changed (it has got more specific), even though the path etc...
         // has not changed
-        ExecutionStepInfo currentParentExecutionStepInfo = parameters.getExecutionStepInfo();
+        ExecutionStepInfo currentParentExecutionStepInfo = node.getExecutionStepInfo();
         ExecutionStepInfo newParentExecutionStepInfo = newExecutionStepInfo()
-                .type(curNode.getType())
+                .type(node.getType())
                 .fieldDefinition(currentParentExecutionStepInfo.getFieldDefinition())
                 .field(currentParentExecutionStepInfo.getField())
                 .path(currentParentExecutionStepInfo.getPath())
                 .parentInfo(currentParentExecutionStepInfo.getParent())
                 .build();
 
-        ExecutionPath fieldPath = curNode.getExecutionStepInfo().getPath().segment(mkNameForPath(currentField));
-        GraphQLFieldDefinition fieldDefinition = getFieldDef(executionContext.getGraphQLSchema(), curNode.getType(), currentField.getSingleField());
+        ExecutionPath fieldPath = currentParentExecutionStepInfo.getPath().segment(mkNameForPath(currentField));
+        GraphQLFieldDefinition fieldDefinition = getFieldDef(executionContext.getGraphQLSchema(), node.getType(), currentField.getSingleField());
 
         ExecutionStepInfo executionStepInfo = newExecutionStepInfo()
                 .type(fieldDefinition.getType())
@@ -188,30 +207,16 @@ public class BatchedExecutionStrategy extends ExecutionStrategy {
                         .executionStepInfo(executionStepInfo)
                 );
 
-        ExecutionNode finalCurNode = curNode;
-        Iterator<String> finalCurFieldNames = curFieldNames;
-
-        resolveField(executionContext, newParameters, fieldName, curNode)
-                .whenComplete((childNodes, exception) -> {
-                    if (exception != null) {
-                        handleNonNullException(executionContext, overallResult, exception);
-                        return;
-                    }
-                    queueOfNodes.addAll(childNodes);
-                    executeImpl(executionContext, newParameters, root, finalCurNode, queueOfNodes, finalCurFieldNames, overallResult);
-                });
+        return Async.tryCatch(() -> resolveField(executionContext, newParameters, fieldName, node, fieldDefinition));
     }
 
-
     private CompletableFuture<List<ExecutionNode>> resolveField(ExecutionContext executionContext,
                                                                 ExecutionStrategyParameters parameters,
                                                                 String fieldName,
-                                                                ExecutionNode node) {
-        GraphQLObjectType parentType = node.getType();
+                                                                ExecutionNode node,
+                                                                GraphQLFieldDefinition fieldDef) {
         MergedField fields = node.getFields().get(fieldName);
 
-        GraphQLFieldDefinition fieldDef = getFieldDef(executionContext.getGraphQLSchema(), parentType, fields.getSingleField());
-
         Instrumentation instrumentation = executionContext.getInstrumentation();
         ExecutionStepInfo executionStepInfo = parameters.getExecutionStepInfo();
         InstrumentationContext<ExecutionResult> fieldCtx = instrumentation.beginField(
@@ -387,14 +392,18 @@ public class BatchedExecutionStrategy extends ExecutionStrategy {
         return completeValues(executionContext, flattenedFetchedValues, newExecutionStepInfo, fieldName, fields, argumentValues);
     }
 
-    @SuppressWarnings("UnnecessaryLocalVariable")
     private List<ExecutionNode> handleObject(ExecutionContext executionContext, Map<String, Object> argumentValues,
                                              FetchedValues fetchedValues, String fieldName, MergedField fields,
                                              ExecutionStepInfo executionStepInfo) {
 
-        // collect list of values by actual type (needed because of interfaces and unions)
-        Map<GraphQLObjectType, List<MapOrList>> resultsByType = new LinkedHashMap<>();
-        Map<GraphQLObjectType, List<Object>> sourceByType = new LinkedHashMap<>();
+        GraphQLType fieldType = executionStepInfo.getUnwrappedNonNullType();
+        // only the values of interfaces and unions need their actual type resolved
+        GraphQLObjectType objectType = fieldType instanceof GraphQLObjectType ? (GraphQLObjectType) fieldType : null;
+
+        // collect list of values by actual type, the child fields and result keys are worked out once per type
+        Map<GraphQLObjectType, ChildNode> childNodesByType = new IdentityHashMap<>();
+        List<ChildNode> childNodes = new ArrayList<>();
+        ChildNode lastChildNode = null;
 
         for (FetchedValue value : fetchedValues.getValues()) {
             MapOrList mapOrList = value.getParentResult();
@@ -402,30 +411,49 @@ public class BatchedExecutionStrategy extends ExecutionStrategy {
                 mapOrList.putOrAdd(fieldName, null);
                 continue;
             }
-            MapOrList childResult = mapOrList.createAndPutMap(fieldName);
+            GraphQLObjectType resolvedType = objectType != null ? objectType : getGraphQLObjectType(executionContext, fields, fieldType, value.getValue(), argumentValues);
+            ChildNode childNode = lastChildNode != null && lastChildNode.type == resolvedType ? lastChildNode : childNodesByType.get(resolvedType);
+            if (childNode == null) {
+                childNode = new ChildNode(resolvedType, getChildFields(executionContext, resolvedType, fields).getSubFields());
+                childNodesByType.put(resolvedType, childNode);
+                childNodes.add(childNode);
+            }
+            lastChildNode = childNode;
 
-            GraphQLObjectType resolvedType = getGraphQLObjectType(executionContext, fields, executionStepInfo.getUnwrappedNonNullType(), value.getValue(), argumentValues);
-            resultsByType.putIfAbsent(resolvedType, new ArrayList<>());
-            resultsByType.get(resolvedType).add(childResult);
+            MapOrList childResult = mapOrList.putMap(fieldName, newResultMap(executionContext, childNode.fields));
+            childNode.results.add(childResult);
+            childNode.sources.add(value.getValue());
+        }
 
-            sourceByType.putIfAbsent(resolvedType, new ArrayList<>());
-            sourceByType.get(resolvedType).add(value.getValue());
+        List<ExecutionNode> result = new ArrayList<>(childNodes.size());
+        for (ChildNode childNode : childNodes) {
+            ExecutionStepInfo newExecutionStepInfo = executionStepInfo.changeTypeWithPreservedNonNull(childNode.type);
+            result.add(new ExecutionNode(childNode.type, newExecutionStepInfo, childNode.fields, childNode.results, childNode.sources));
         }
+        return result;
+    }
 
-        List<ExecutionNode> childNodes = new ArrayList<>();
-        for (GraphQLObjectType resolvedType : resultsByType.keySet()) {
-            List<MapOrList> results = resultsByType.get(resolvedType);
-            List<Object> sources = sourceByType.get(resolvedType);
-            MergedSelectionSet childFields = getChildFields(executionContext, resolvedType, fields);
+    /*
+     * The fields of a level are completed concurrently, so every result map gets all of its keys up front, in field order,
+     * and the fields only ever set their own value
+     */
+    private Map<String, Object> newResultMap(ExecutionContext executionContext, Map<String, MergedField> fields) {
+        String[] keys = executionContext.getResultKeys(new ArrayList<>(fields.keySet()));
+        return new CompactResultMap(keys, new Object[keys.length]);
+    }
 
-            ExecutionStepInfo newExecutionStepInfo = executionStepInfo.changeTypeWithPreservedNonNull(resolvedType);
+    private static class ChildNode {
+        private final GraphQLObjectType type;
+        private final Map<String, MergedField> fields;
+        private final List<MapOrList> results = new ArrayList<>();
+        private final List<Object> sources = new ArrayList<>();
 
-            childNodes.add(new ExecutionNode(resolvedType, newExecutionStepInfo, childFields.getSubFields(), results, sources));
+        ChildNode(GraphQLObjectType type, Map<String, MergedField> fields) {
+            this.type = type;
+            this.fields = fields;
         }
-        return childNodes;
     }
 
-
     private void handleNonNullType(ExecutionContext executionContext, FetchedValues fetchedValues) {
 
         ExecutionStepInfo executionStepInfo = fetchedValues.getExecutionStepInfo();
@@ -33,6 +33,11 @@ public class MapOrList {
         return createMap(map);
     }
 
+    public MapOrList putMap(String key, Map<String, Object> map) {
+        putOrAdd(key, map);
+        return createMap(map);
+    }
+
     public MapOrList createAndPutList(String key) {
         List<Object> resultList = new ArrayList<>();
         putOrAdd(key, resultList);
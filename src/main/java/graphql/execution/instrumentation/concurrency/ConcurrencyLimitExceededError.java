@@ -0,0 +1,71 @@
+package graphql.execution.instrumentation.concurrency;
+
+import graphql.ErrorType;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorHelper;
+import graphql.PublicApi;
+import graphql.execution.ExecutionPath;
+import graphql.language.SourceLocation;
+import graphql.schema.FieldCoordinates;
+
+import java.util.Collections;
+import java.util.List;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * The error of a field that was not fetched because its {@link ConcurrencyLimiter} was saturated
+ */
+@PublicApi
+public class ConcurrencyLimitExceededError implements GraphQLError {
+
+    private final String message;
+    private final List<Object> path;
+    private final List<SourceLocation> locations;
+
+    public ConcurrencyLimitExceededError(FieldCoordinates coordinates, ExecutionPath path, SourceLocation sourceLocation) {
+        this.message = "Too many concurrent fetches of field '" + assertNotNull(coordinates).getTypeName() + "." + coordinates.getFieldName()
+                + "', the fetch of '" + assertNotNull(path) + "' was rejected";
+        this.path = path.toList();
+        this.locations = sourceLocation == null ? null : Collections.singletonList(sourceLocation);
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public List<SourceLocation> getLocations() {
+        return locations;
+    }
+
+    @Override
+    public ErrorType getErrorType() {
+        return ErrorType.DataFetchingException;
+    }
+
+    @Override
+    public List<Object> getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimitExceededError{" +
+                "path=" + path +
+                ", message=" + message +
+                '}';
+    }
+
+    @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+    @Override
+    public boolean equals(Object o) {
+        return GraphqlErrorHelper.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return GraphqlErrorHelper.hashCode(this);
+    }
+}
@@ -0,0 +1,278 @@
+package graphql.execution.instrumentation.concurrency;
+
+import graphql.PublicApi;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static graphql.Assert.assertTrue;
+
+/**
+ * Limits how many calls may be in flight at once.  Calls over the limit wait in a bounded queue and start as others
+ * complete, and calls that find the queue full are rejected straight away.
+ * <p>
+ * The limit is either fixed or adaptive.  An adaptive limit follows the latency of the calls, in the manner of a
+ * latency gradient : it is lowered as the recent latency grows over the long term latency, which is taken to be the
+ * latency without load, and raised while the recent latency stays close to it and the limit is in use.
+ * <p>
+ * A queued call is started by the thread that completes a call in flight, when the result of that call completes.  When
+ * queued calls complete straight away, the calls they make room for are started by the same thread one after the other
+ * rather than from within each other, so that a long queue does not grow the stack of that thread.
+ * <p>
+ * A limiter can be shared by many executions and is safe to use from many threads.
+ *
+ * @see FieldConcurrencyInstrumentation
+ */
+@PublicApi
+public class ConcurrencyLimiter {
+
+    // recent latencies up to this many times the long term one are not taken as a sign of load
+    private static final double LATENCY_TOLERANCE = 1.5;
+    // how much each call weighs in the recent and the long term latency
+    private static final double SHORT_LATENCY_WEIGHT = 0.5;
+    private static final double LONG_LATENCY_WEIGHT = 0.01;
+
+    // the queued calls that the current thread is about to start, while it is starting queued calls
+    private static final ThreadLocal<Deque<Runnable>> STARTING = new ThreadLocal<>();
+
+    private final int maxQueueSize;
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+
+    private final Deque<Runnable> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long rejectedCount;
+    private double shortLatencyNanos;
+    private double longLatencyNanos;
+
+    private ConcurrencyLimiter(Builder builder) {
+        this.maxQueueSize = builder.maxQueueSize;
+        this.adaptive = builder.adaptive;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.smoothing = builder.smoothing;
+        this.limit = builder.limit;
+    }
+
+    /**
+     * @return the current limit of calls in flight
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of calls in flight
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the number of calls waiting for others to complete
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of calls rejected so far
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Makes the given call now if the limit allows it, or once enough calls in flight have completed
+     *
+     * @param call the call to make
+     * @param <T>  the type of the call result
+     *
+     * @return a promise to the result of the call, or null if the call was rejected because the queue is full
+     */
+    <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        synchronized (this) {
+            if (inFlight >= (int) limit) {
+                if (queue.size() >= maxQueueSize) {
+                    rejectedCount++;
+                    return null;
+                }
+                queue.add(() -> start(call, result));
+                return result;
+            }
+            inFlight++;
+        }
+        start(call, result);
+        return result;
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        future.whenComplete((value, exception) -> {
+            completed(System.nanoTime() - startNanos, exception == null);
+            if (exception != null) {
+                result.completeExceptionally(exception);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void completed(long latencyNanos, boolean success) {
+        List<Runnable> toStart = null;
+        synchronized (this) {
+            if (adaptive && success) {
+                adjustLimit(latencyNanos);
+            }
+            inFlight--;
+            while (!queue.isEmpty() && inFlight < (int) limit) {
+                if (toStart == null) {
+                    toStart = new ArrayList<>();
+                }
+                toStart.add(queue.poll());
+                inFlight++;
+            }
+        }
+        if (toStart == null) {
+            return;
+        }
+        Deque<Runnable> starting = STARTING.get();
+        if (starting != null) {
+            // a queued call of this thread that completed straight away, the loop below starts these once it returns
+            starting.addAll(toStart);
+            return;
+        }
+        starting = new ArrayDeque<>(toStart);
+        STARTING.set(starting);
+        try {
+            Runnable call;
+            while ((call = starting.poll()) != null) {
+                call.run();
+            }
+        } finally {
+            STARTING.remove();
+        }
+    }
+
+    private void adjustLimit(long latencyNanos) {
+        double latency = Math.max(1, latencyNanos);
+        if (longLatencyNanos == 0) {
+            shortLatencyNanos = latency;
+            longLatencyNanos = latency;
+        } else {
+            shortLatencyNanos = shortLatencyNanos * (1 - SHORT_LATENCY_WEIGHT) + latency * SHORT_LATENCY_WEIGHT;
+            longLatencyNanos = longLatencyNanos * (1 - LONG_LATENCY_WEIGHT) + latency * LONG_LATENCY_WEIGHT;
+        }
+        if (longLatencyNanos > 2 * shortLatencyNanos) {
+            // the load has gone down, so the long term latency catches up faster
+            longLatencyNanos = longLatencyNanos * 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, LATENCY_TOLERANCE * longLatencyNanos / shortLatencyNanos));
+        if (gradient >= 1.0 && inFlight < limit / 2) {
+            // the limit is not what holds the calls back, so there is nothing to learn about raising it
+            return;
+        }
+        // the square root of the limit is the headroom of calls allowed to queue up downstream
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ConcurrencyLimiter{" +
+                "limit=" + (int) limit +
+                ", inFlight=" + inFlight +
+                ", queued=" + queue.size() +
+                ", rejected=" + rejectedCount +
+                '}';
+    }
+
+    /**
+     * @return a new builder of limiters
+     */
+    public static Builder newLimiter() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int limit = 20;
+        private int maxQueueSize = 0;
+        private boolean adaptive = false;
+        private int minLimit = 1;
+        private int maxLimit = 1000;
+        private double smoothing = 0.2;
+
+        /**
+         * @param limit the number of calls that may be in flight, or the starting limit if it is adaptive, 20 by default
+         *
+         * @return this builder
+         */
+        public Builder limit(int limit) {
+            assertTrue(limit > 0, "limit must be positive");
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * @param maxQueueSize the number of calls that may wait for others to complete, by default calls over the limit are rejected
+         *
+         * @return this builder
+         */
+        public Builder maxQueueSize(int maxQueueSize) {
+            assertTrue(maxQueueSize >= 0, "maxQueueSize can't be negative");
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * Makes the limit follow the latency of the calls, between the given bounds
+         *
+         * @param minLimit the lowest limit
+         * @param maxLimit the highest limit
+         *
+         * @return this builder
+         */
+        public Builder adaptive(int minLimit, int maxLimit) {
+            assertTrue(minLimit > 0 && minLimit <= maxLimit, "minLimit must be positive and not more than maxLimit");
+            this.adaptive = true;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * @param smoothing how much of a change of an adaptive limit is made per call, between 0 and 1, 0.2 by default
+         *
+         * @return this builder
+         */
+        public Builder smoothing(double smoothing) {
+            assertTrue(smoothing > 0 && smoothing <= 1, "smoothing must be more than 0 and at most 1");
+            this.smoothing = smoothing;
+            return this;
+        }
+
+        public ConcurrencyLimiter build() {
+            if (adaptive) {
+                limit = Math.max(minLimit, Math.min(maxLimit, limit));
+            }
+            return new ConcurrencyLimiter(this);
+        }
+    }
+}
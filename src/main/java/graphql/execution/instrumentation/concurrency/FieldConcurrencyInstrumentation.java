@@ -0,0 +1,189 @@
+package graphql.execution.instrumentation.concurrency;
+
+import graphql.PublicApi;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.Async;
+import graphql.execution.DataFetcherResult;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * This {@link graphql.execution.instrumentation.Instrumentation} limits how many fetches of a field may be in flight at
+ * once, across all the executions that use it, so that a single expensive field can not use up the connections to the
+ * services it calls.  There can be a {@link ConcurrencyLimiter} per field and one for all the fields.
+ * <pre>
+ * {@code
+ *     FieldConcurrencyInstrumentation instrumentation = FieldConcurrencyInstrumentation.newFieldConcurrencyInstrumentation()
+ *          .fieldLimit(FieldCoordinates.coordinates("Query", "search"), ConcurrencyLimiter.newLimiter().limit(10).maxQueueSize(50).build())
+ *          .globalLimit(ConcurrencyLimiter.newLimiter().adaptive(20, 500).build())
+ *          .build();
+ * }
+ * </pre>
+ * A fetch that is rejected because a limiter and its queue are full is not made, and the field is null with a
+ * {@link ConcurrencyLimitExceededError}.  Fetches by {@link graphql.TrivialDataFetcher}s are never limited.
+ * <p>
+ * The limits apply to the fetches made by data fetchers, from the call of the data fetcher until its value completes.  The
+ * fields whose data fetchers return {@link org.dataloader.DataLoader} promises should be excluded with
+ * {@link Builder#excludeField(FieldCoordinates)} : their values are loaded in a batch once the fetches of their level are
+ * made, so they would hold their place until then, and a fetch that waited in a queue could start after its batch was
+ * dispatched.  The calls of a batch are better limited by the batch loader itself.
+ * <p>
+ * A fetch that waited in a queue is made by the thread that completed a fetch in flight, see {@link ConcurrencyLimiter}.
+ */
+@PublicApi
+public class FieldConcurrencyInstrumentation extends SimpleInstrumentation {
+
+    private final Map<String, Map<String, ConcurrencyLimiter>> fieldLimiters;
+    private final Map<String, Set<String>> excludedFields;
+    private final ConcurrencyLimiter globalLimiter;
+
+    private FieldConcurrencyInstrumentation(Builder builder) {
+        this.fieldLimiters = builder.fieldLimiters;
+        this.excludedFields = builder.excludedFields;
+        this.globalLimiter = builder.globalLimiter;
+    }
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters) {
+        if (parameters.isTrivialDataFetcher()) {
+            return dataFetcher;
+        }
+        GraphQLFieldDefinition fieldDefinition = parameters.getField();
+        GraphQLType parentType = parameters.getEnvironment().getParentType();
+        String typeName = GraphQLTypeUtil.unwrapAll(parentType).getName();
+        if (excludedFields.getOrDefault(typeName, Collections.emptySet()).contains(fieldDefinition.getName())) {
+            return dataFetcher;
+        }
+        ConcurrencyLimiter fieldLimiter = fieldLimiters.getOrDefault(typeName, Collections.emptyMap()).get(fieldDefinition.getName());
+        if (fieldLimiter == null && globalLimiter == null) {
+            return dataFetcher;
+        }
+        FieldCoordinates coordinates = FieldCoordinates.coordinates(typeName, fieldDefinition.getName());
+        return environment -> {
+            Supplier<CompletableFuture<Object>> fetch = () -> fetch(dataFetcher, environment);
+            Supplier<CompletableFuture<Object>> limitedFetch = globalLimiter == null ? fetch : () -> submit(globalLimiter, fetch);
+            CompletableFuture<Object> result = fieldLimiter == null ? limitedFetch.get() : submit(fieldLimiter, limitedFetch);
+            if (result.isDone() && !result.isCompletedExceptionally()) {
+                return result.join();
+            }
+            CompletableFuture<Object> fetchResult = new CompletableFuture<>();
+            result.whenComplete((value, exception) -> {
+                Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+                if (cause instanceof RejectedFetchException) {
+                    fetchResult.complete(rejected(coordinates, environment));
+                } else if (exception != null) {
+                    fetchResult.completeExceptionally(exception);
+                } else {
+                    fetchResult.complete(value);
+                }
+            });
+            return fetchResult;
+        };
+    }
+
+    private static CompletableFuture<Object> submit(ConcurrencyLimiter limiter, Supplier<CompletableFuture<Object>> fetch) {
+        CompletableFuture<Object> result = limiter.submit(fetch);
+        return result != null ? result : Async.exceptionallyCompletedFuture(RejectedFetchException.INSTANCE);
+    }
+
+    private static CompletableFuture<Object> fetch(DataFetcher<?> dataFetcher, DataFetchingEnvironment environment) {
+        // a fetch that waited in a queue is not made once its execution is cancelled
+        AbortExecutionException abortException = environment.getCancellation().getAbortException();
+        if (abortException != null) {
+            return Async.exceptionallyCompletedFuture(abortException);
+        }
+        try {
+            return Async.toCompletableFuture(dataFetcher.get(environment));
+        } catch (Exception e) {
+            return Async.exceptionallyCompletedFuture(e);
+        }
+    }
+
+    private static DataFetcherResult<Object> rejected(FieldCoordinates coordinates, DataFetchingEnvironment environment) {
+        ConcurrencyLimitExceededError error = new ConcurrencyLimitExceededError(coordinates,
+                environment.getExecutionStepInfo().getPath(), environment.getField().getSourceLocation());
+        return DataFetcherResult.<Object>newResult().error(error).build();
+    }
+
+    /*
+     * Used to tell a rejection apart from an exception of the data fetcher
+     */
+    private static class RejectedFetchException extends RuntimeException {
+        static final RejectedFetchException INSTANCE = new RejectedFetchException();
+
+        RejectedFetchException() {
+            super("fetch rejected", null, false, false);
+        }
+    }
+
+    /**
+     * @return a new builder of {@link FieldConcurrencyInstrumentation}s
+     */
+    public static Builder newFieldConcurrencyInstrumentation() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final Map<String, Map<String, ConcurrencyLimiter>> fieldLimiters = new HashMap<>();
+        private final Map<String, Set<String>> excludedFields = new HashMap<>();
+        private ConcurrencyLimiter globalLimiter;
+
+        /**
+         * @param coordinates the field to limit
+         * @param limiter     the limiter of the fetches of the field
+         *
+         * @return this builder
+         */
+        public Builder fieldLimit(FieldCoordinates coordinates, ConcurrencyLimiter limiter) {
+            assertNotNull(coordinates);
+            assertNotNull(limiter);
+            fieldLimiters.computeIfAbsent(coordinates.getTypeName(), typeName -> new HashMap<>()).put(coordinates.getFieldName(), limiter);
+            return this;
+        }
+
+        /**
+         * Excludes a field from all the limits, for example a field whose data fetcher returns a
+         * {@link org.dataloader.DataLoader} promise
+         *
+         * @param coordinates the field whose fetches are not limited
+         *
+         * @return this builder
+         */
+        public Builder excludeField(FieldCoordinates coordinates) {
+            assertNotNull(coordinates);
+            excludedFields.computeIfAbsent(coordinates.getTypeName(), typeName -> new HashSet<>()).add(coordinates.getFieldName());
+            return this;
+        }
+
+        /**
+         * @param limiter the limiter of the fetches of all the fields but the excluded ones, which also applies to the fields with their own limiter
+         *
+         * @return this builder
+         */
+        public Builder globalLimit(ConcurrencyLimiter limiter) {
+            this.globalLimiter = assertNotNull(limiter);
+            return this;
+        }
+
+        public FieldConcurrencyInstrumentation build() {
+            return new FieldConcurrencyInstrumentation(this);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package graphql.execution.instrumentation.dataloader;
+
+import graphql.Internal;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.dataloader.stats.Statistics;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lets the operations of a batch that share a {@link DataLoaderRegistry} also share its dispatches.
+ * <p>
+ * Every operation gets its own view of the registry, as given by {@link #newOperationRegistry()}.  When an operation
+ * dispatches its view, for example because the {@link DataLoaderDispatcherInstrumentation} found that a level of the
+ * operation is ready, it is marked as waiting for a dispatch instead.  The registry is only dispatched once every operation
+ * that has not completed yet is waiting, so the loads of all the operations go out in the same batch calls.
+ * <p>
+ * This cannot hold up an operation for good : an operation only waits on data loaders once it has dispatched, and an operation
+ * that is not waiting is either still running or waiting on something else, and will eventually dispatch or complete.
+ */
+@Internal
+public class DataLoaderDispatchBarrier {
+
+    private final DataLoaderRegistry dataLoaderRegistry;
+    private final Set<OperationRegistry> running = new LinkedHashSet<>();
+    private int notWaitingCount;
+
+    public DataLoaderDispatchBarrier(DataLoaderRegistry dataLoaderRegistry) {
+        this.dataLoaderRegistry = dataLoaderRegistry;
+    }
+
+    /**
+     * This must be called for all the operations of the batch before any of them starts executing
+     *
+     * @return a view of the shared registry for one more operation
+     */
+    public synchronized DataLoaderRegistry newOperationRegistry() {
+        OperationRegistry operationRegistry = new OperationRegistry();
+        running.add(operationRegistry);
+        notWaitingCount++;
+        return operationRegistry;
+    }
+
+    /**
+     * This is called when an operation has completed, the dispatches of the other operations no longer wait on it
+     *
+     * @param operationRegistry the registry given out for the operation
+     */
+    public void operationCompleted(DataLoaderRegistry operationRegistry) {
+        boolean dispatch;
+        synchronized (this) {
+            if (!running.remove(operationRegistry)) {
+                return;
+            }
+            if (!((OperationRegistry) operationRegistry).waiting) {
+                notWaitingCount--;
+            }
+            // the remaining operations may all be waiting on the one that completed
+            dispatch = notWaitingCount == 0 && !running.isEmpty();
+            if (dispatch) {
+                stopWaiting();
+            }
+        }
+        if (dispatch) {
+            dataLoaderRegistry.dispatchAll();
+        }
+    }
+
+    private void dispatch(OperationRegistry operationRegistry) {
+        boolean dispatch;
+        synchronized (this) {
+            if (!running.contains(operationRegistry)) {
+                // a completed operation has nothing to wait for
+                dispatch = true;
+            } else {
+                if (!operationRegistry.waiting) {
+                    operationRegistry.waiting = true;
+                    notWaitingCount--;
+                }
+                dispatch = notWaitingCount == 0;
+                if (dispatch) {
+                    stopWaiting();
+                }
+            }
+        }
+        if (dispatch) {
+            dataLoaderRegistry.dispatchAll();
+        }
+    }
+
+    private void stopWaiting() {
+        for (OperationRegistry operationRegistry : running) {
+            operationRegistry.waiting = false;
+        }
+        notWaitingCount = running.size();
+    }
+
+    private class OperationRegistry extends DataLoaderRegistry {
+        private boolean waiting;
+
+        @Override
+        public DataLoaderRegistry register(String key, DataLoader<?, ?> dataLoader) {
+            dataLoaderRegistry.register(key, dataLoader);
+            return this;
+        }
+
+        @Override
+        public DataLoaderRegistry combine(DataLoaderRegistry registry) {
+            return dataLoaderRegistry.combine(registry);
+        }
+
+        @Override
+        public List<DataLoader<?, ?>> getDataLoaders() {
+            return dataLoaderRegistry.getDataLoaders();
+        }
+
+        @Override
+        public DataLoaderRegistry unregister(String key) {
+            dataLoaderRegistry.unregister(key);
+            return this;
+        }
+
+        @Override
+        public <K, V> DataLoader<K, V> getDataLoader(String key) {
+            return dataLoaderRegistry.getDataLoader(key);
+        }
+
+        @Override
+        public Set<String> getKeys() {
+            return dataLoaderRegistry.getKeys();
+        }
+
+        @Override
+        public void dispatchAll() {
+            dispatch(this);
+        }
+
+        @Override
+        public Statistics getStatistics() {
+            return dataLoaderRegistry.getStatistics();
+        }
+    }
+}
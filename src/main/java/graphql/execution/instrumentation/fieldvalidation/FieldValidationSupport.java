@@ -3,6 +3,7 @@ package graphql.execution.instrumentation.fieldvalidation;
 import graphql.ErrorType;
 import graphql.GraphQLError;
 import graphql.Internal;
+import graphql.analysis.QueryTraversalCache;
 import graphql.analysis.QueryTraverser;
 import graphql.analysis.QueryVisitorFieldEnvironment;
 import graphql.analysis.QueryVisitorStub;
@@ -34,6 +35,7 @@ class FieldValidationSupport {
                 .document(executionContext.getDocument())
                 .operationName(executionContext.getOperationDefinition().getName())
                 .variables(executionContext.getVariables())
+                .traversalCache(QueryTraversalCache.forDocument(executionContext.getDocument()))
                 .build();
 
         queryTraverser.visitPreOrder(new QueryVisitorStub() {
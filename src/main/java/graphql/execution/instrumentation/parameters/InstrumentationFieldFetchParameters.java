@@ -16,14 +16,15 @@ public class InstrumentationFieldFetchParameters extends InstrumentationFieldPar
     private final boolean trivialDataFetcher;
 
     public InstrumentationFieldFetchParameters(ExecutionContext getExecutionContext, GraphQLFieldDefinition fieldDef, DataFetchingEnvironment environment, ExecutionStrategyParameters executionStrategyParameters, boolean trivialDataFetcher) {
-        super(getExecutionContext, fieldDef, environment.getExecutionStepInfo());
+        // the step info is computed lazily by the environment, so it is only asked for when needed
+        super(getExecutionContext, fieldDef, environment::getExecutionStepInfo, getExecutionContext.getInstrumentationState());
         this.environment = environment;
         this.executionStrategyParameters = executionStrategyParameters;
         this.trivialDataFetcher = trivialDataFetcher;
     }
 
     private InstrumentationFieldFetchParameters(ExecutionContext getExecutionContext, GraphQLFieldDefinition fieldDef, DataFetchingEnvironment environment, InstrumentationState instrumentationState, ExecutionStrategyParameters executionStrategyParameters, boolean trivialDataFetcher) {
-        super(getExecutionContext, fieldDef, environment.getExecutionStepInfo(), instrumentationState);
+        super(getExecutionContext, fieldDef, environment::getExecutionStepInfo, instrumentationState);
         this.environment = environment;
         this.executionStrategyParameters = executionStrategyParameters;
         this.trivialDataFetcher = trivialDataFetcher;
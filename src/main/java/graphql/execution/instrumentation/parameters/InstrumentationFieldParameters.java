@@ -6,13 +6,15 @@ import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.instrumentation.InstrumentationState;
 import graphql.schema.GraphQLFieldDefinition;
 
+import java.util.function.Supplier;
+
 /**
  * Parameters sent to {@link Instrumentation} methods
  */
 public class InstrumentationFieldParameters {
     private final ExecutionContext executionContext;
     private final graphql.schema.GraphQLFieldDefinition fieldDef;
-    private final ExecutionStepInfo executionStepInfo;
+    private final Supplier<ExecutionStepInfo> executionStepInfo;
     private final InstrumentationState instrumentationState;
 
     public InstrumentationFieldParameters(ExecutionContext executionContext, GraphQLFieldDefinition fieldDef, ExecutionStepInfo executionStepInfo) {
@@ -20,6 +22,10 @@ public class InstrumentationFieldParameters {
     }
 
     InstrumentationFieldParameters(ExecutionContext executionContext, GraphQLFieldDefinition fieldDef, ExecutionStepInfo executionStepInfo, InstrumentationState instrumentationState) {
+        this(executionContext, fieldDef, () -> executionStepInfo, instrumentationState);
+    }
+
+    InstrumentationFieldParameters(ExecutionContext executionContext, GraphQLFieldDefinition fieldDef, Supplier<ExecutionStepInfo> executionStepInfo, InstrumentationState instrumentationState) {
         this.executionContext = executionContext;
         this.fieldDef = fieldDef;
         this.executionStepInfo = executionStepInfo;
@@ -48,7 +54,7 @@ public class InstrumentationFieldParameters {
     }
 
     public ExecutionStepInfo getExecutionStepInfo() {
-        return executionStepInfo;
+        return executionStepInfo.get();
     }
 
     @SuppressWarnings("TypeParameterUnusedInFormals")
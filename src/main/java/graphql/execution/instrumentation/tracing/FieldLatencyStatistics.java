@@ -0,0 +1,75 @@
+package graphql.execution.instrumentation.tracing;
+
+import graphql.PublicApi;
+import graphql.ThreadSafe;
+import graphql.schema.FieldCoordinates;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This aggregates field fetch latencies per {@link FieldCoordinates} across many executions.  One instance is
+ * intended to live for as long as the schema it measures and to be shared by all requests.
+ * <p>
+ * Each field gets a single {@link LatencyHistogram} so the memory used is bounded by the number of fields in the
+ * schema and not by the number of requests.  Recording a latency for a field that has been seen before
+ * does not allocate.
+ */
+@PublicApi
+@ThreadSafe
+public class FieldLatencyStatistics {
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, LatencyHistogram>> histogramsByType = new ConcurrentHashMap<>();
+
+    /**
+     * Records the latency of a field fetch
+     *
+     * @param typeName  the name of the parent type of the field
+     * @param fieldName the name of the field
+     * @param nanos     the latency in nanoseconds
+     */
+    public void record(String typeName, String fieldName, long nanos) {
+        getHistogram(typeName, fieldName).record(nanos);
+    }
+
+    /**
+     * Returns the histogram for the specified field, creating it if needs be
+     *
+     * @param typeName  the name of the parent type of the field
+     * @param fieldName the name of the field
+     *
+     * @return the histogram for that field
+     */
+    public LatencyHistogram getHistogram(String typeName, String fieldName) {
+        ConcurrentHashMap<String, LatencyHistogram> byField = histogramsByType.get(typeName);
+        if (byField == null) {
+            byField = histogramsByType.computeIfAbsent(typeName, k -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = byField.get(fieldName);
+        if (histogram == null) {
+            histogram = byField.computeIfAbsent(fieldName, k -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+
+    /**
+     * This will snapshot the statistics of every field that has been recorded so far
+     *
+     * @return a map of field coordinates to histogram snapshots
+     */
+    public Map<FieldCoordinates, LatencyHistogram.Snapshot> snapshot() {
+        Map<FieldCoordinates, LatencyHistogram.Snapshot> snapshot = new LinkedHashMap<>();
+        histogramsByType.forEach((typeName, byField) ->
+                byField.forEach((fieldName, histogram) ->
+                        snapshot.put(FieldCoordinates.coordinates(typeName, fieldName), histogram.snapshot())));
+        return snapshot;
+    }
+
+    /**
+     * Throws away all recorded statistics, for example after they have been exported
+     */
+    public void reset() {
+        histogramsByType.clear();
+    }
+}
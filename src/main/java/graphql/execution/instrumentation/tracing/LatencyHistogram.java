@@ -0,0 +1,181 @@
+package graphql.execution.instrumentation.tracing;
+
+import graphql.PublicApi;
+import graphql.ThreadSafe;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed memory, lock free histogram of latency values recorded in nanoseconds.
+ * <p>
+ * Values are placed into log-linear buckets in the same spirit as HdrHistogram : each power of two range
+ * is split into {@link #SUB_BUCKET_COUNT} linear sub buckets which gives a relative precision of about 3% for
+ * any recorded value.  Values larger than {@link #MAX_TRACKABLE_NANOS} are clamped into the highest bucket.
+ * <p>
+ * Recording a value never allocates and never blocks which makes it suitable for always on use in
+ * the hot path of field fetching.
+ */
+@PublicApi
+@ThreadSafe
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    /**
+     * The number of linear sub buckets each power of two range is divided into
+     */
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_BIT = 36;
+    /**
+     * Values above this (about 137 seconds) are counted as this value
+     */
+    public static final long MAX_TRACKABLE_NANOS = (1L << (MAX_BIT + 1)) - 1;
+    private static final int BUCKET_COUNT = (MAX_BIT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxNanos = new AtomicLong(0);
+
+    /**
+     * Records a latency value
+     *
+     * @param nanos the latency in nanoseconds, negative values are treated as zero
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_NANOS);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(value);
+        updateMin(value);
+        updateMax(value);
+    }
+
+    private void updateMin(long value) {
+        long current = minNanos.get();
+        while (value < current && !minNanos.compareAndSet(current, value)) {
+            current = minNanos.get();
+        }
+    }
+
+    private void updateMax(long value) {
+        long current = maxNanos.get();
+        while (value > current && !maxNanos.compareAndSet(current, value)) {
+            current = maxNanos.get();
+        }
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * This takes a point in time copy of the histogram.  Recording may continue concurrently and hence the snapshot
+     * may not include values that are being recorded while it is taken.
+     *
+     * @return a snapshot of the recorded values
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long min = minNanos.get();
+        return new Snapshot(copy, count, totalNanos.get(), min == Long.MAX_VALUE ? 0 : min, maxNanos.get());
+    }
+
+    /**
+     * An immutable copy of the values recorded in a {@link LatencyHistogram}
+     */
+    @PublicApi
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long minNanos;
+        private final long maxNanos;
+
+        private Snapshot(long[] counts, long count, long totalNanos, long minNanos, long maxNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.minNanos = minNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMinNanos() {
+            return minNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * Returns the value at the given percentile.  The value returned is the highest value that is equivalent
+         * to the recorded values at that percentile, capped to the maximum recorded value.
+         *
+         * @param percentile the percentile between 0 and 100
+         *
+         * @return the latency in nanoseconds at that percentile
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            double p = Math.min(Math.max(percentile, 0.0), 100.0);
+            long countAtPercentile = Math.max(1, (long) Math.ceil((p / 100.0) * count));
+            long running = 0;
+            for (int i = 0; i < counts.length; i++) {
+                running += counts[i];
+                if (running >= countAtPercentile) {
+                    return Math.min(highestEquivalentValue(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        /**
+         * @return a map representation of this snapshot suitable for serialising
+         */
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count);
+            map.put("min", minNanos);
+            map.put("mean", getMeanNanos());
+            map.put("p50", getValueAtPercentile(50));
+            map.put("p90", getValueAtPercentile(90));
+            map.put("p99", getValueAtPercentile(99));
+            map.put("max", maxNanos);
+            return map;
+        }
+    }
+}
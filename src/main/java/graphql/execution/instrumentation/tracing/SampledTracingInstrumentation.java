@@ -0,0 +1,157 @@
+package graphql.execution.instrumentation.tracing;
+
+import graphql.PublicApi;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetchingEnvironment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+
+/**
+ * This {@link Instrumentation} implementation is a low overhead alternative to {@link TracingInstrumentation} that is
+ * intended to be left on in production.
+ * <p>
+ * Rather than capturing a trace of every field of every request into the {@link graphql.ExecutionResult}, it samples a
+ * configurable fraction of requests and aggregates the field fetch latencies of those requests into a shared
+ * {@link FieldLatencyStatistics} object, one fixed size {@link LatencyHistogram} per field.  Requests that are not sampled
+ * pay only the cost of a random number per request.
+ * <p>
+ * The aggregated statistics can be exported at any time via {@link #getStatistics()} or {@link #snapshot()}
+ */
+@PublicApi
+public class SampledTracingInstrumentation extends SimpleInstrumentation {
+
+    public static class Options {
+        private final double sampleRate;
+        private final boolean includeTrivialDataFetchers;
+
+        private Options(double sampleRate, boolean includeTrivialDataFetchers) {
+            this.sampleRate = sampleRate;
+            this.includeTrivialDataFetchers = includeTrivialDataFetchers;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public boolean isIncludeTrivialDataFetchers() {
+            return includeTrivialDataFetchers;
+        }
+
+        /**
+         * The fraction of requests that will be traced.  By default every request is traced.
+         *
+         * @param sampleRate a value between 0.0 and 1.0 inclusive
+         *
+         * @return a new options object
+         */
+        public Options sampleRate(double sampleRate) {
+            assertTrue(sampleRate >= 0.0 && sampleRate <= 1.0, "sampleRate must be between 0.0 and 1.0");
+            return new Options(sampleRate, includeTrivialDataFetchers);
+        }
+
+        /**
+         * By default trivial data fetchers (those that simple pull data from an object into field) are NOT included
+         * in sampled tracing since they dominate the number of fetches but rarely the latency.
+         *
+         * @param flag the flag on whether to trace trivial data fetchers
+         *
+         * @return a new options object
+         */
+        public Options includeTrivialDataFetchers(boolean flag) {
+            return new Options(sampleRate, flag);
+        }
+
+        public static Options newOptions() {
+            return new Options(1.0, false);
+        }
+    }
+
+    private static final SampledState SAMPLED = new SampledState(true);
+    private static final SampledState NOT_SAMPLED = new SampledState(false);
+    private static final InstrumentationContext<Object> NOT_TRACED = new SimpleInstrumentationContext<>();
+
+    private final Options options;
+    private final FieldLatencyStatistics statistics;
+
+    public SampledTracingInstrumentation() {
+        this(Options.newOptions());
+    }
+
+    public SampledTracingInstrumentation(Options options) {
+        this(options, new FieldLatencyStatistics());
+    }
+
+    /**
+     * Creates a sampled tracing instrumentation that records into the specified statistics, which allows
+     * statistics to be shared between multiple {@link graphql.GraphQL} instances
+     *
+     * @param options    the options to use
+     * @param statistics the statistics to aggregate into
+     */
+    public SampledTracingInstrumentation(Options options, FieldLatencyStatistics statistics) {
+        this.options = assertNotNull(options);
+        this.statistics = assertNotNull(statistics);
+    }
+
+    public FieldLatencyStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * A short cut to {@link FieldLatencyStatistics#snapshot()} that returns the statistics as a map
+     * of "Type.field" to a map of latency percentiles
+     *
+     * @return a map of field statistics
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        statistics.snapshot().forEach((coordinates, snapshot) ->
+                map.put(coordinates.getTypeName() + "." + coordinates.getFieldName(), snapshot.toMap()));
+        return map;
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        double sampleRate = options.getSampleRate();
+        if (sampleRate >= 1.0) {
+            return SAMPLED;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? SAMPLED : NOT_SAMPLED;
+    }
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters) {
+        SampledState state = parameters.getInstrumentationState();
+        if (state == null || !state.sampled) {
+            return NOT_TRACED;
+        }
+        if (!options.isIncludeTrivialDataFetchers() && parameters.isTrivialDataFetcher()) {
+            return NOT_TRACED;
+        }
+        DataFetchingEnvironment environment = parameters.getEnvironment();
+        String typeName = environment.getParentType().getName();
+        String fieldName = environment.getFieldDefinition().getName();
+        long startNanos = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((result, t) ->
+                statistics.record(typeName, fieldName, System.nanoTime() - startNanos));
+    }
+
+    private static class SampledState implements InstrumentationState {
+        private final boolean sampled;
+
+        private SampledState(boolean sampled) {
+            this.sampled = sampled;
+        }
+    }
+}
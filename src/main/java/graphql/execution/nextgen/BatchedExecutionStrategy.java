@@ -8,14 +8,10 @@ import graphql.execution.ExecutionStepInfoFactory;
 import graphql.execution.FetchedValue;
 import graphql.execution.MergedField;
 import graphql.execution.MergedSelectionSet;
-import graphql.execution.nextgen.result.ExecutionResultNode;
-import graphql.execution.nextgen.result.ObjectExecutionResultNode;
-import graphql.execution.nextgen.result.ResultNodesUtil;
+import graphql.execution.nextgen.result.ResultTreeBuilder;
+import graphql.execution.nextgen.result.ResultTreeBuilder.UnresolvedNode;
 import graphql.execution.nextgen.result.RootExecutionResultNode;
-import graphql.execution.nextgen.result.UnresolvedObjectResultNode;
 import graphql.util.FpKit;
-import graphql.util.NodeMultiZipper;
-import graphql.util.NodeZipper;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,8 +20,6 @@ import java.util.concurrent.CompletableFuture;
 
 import static graphql.Assert.assertNotEmpty;
 import static graphql.Assert.assertTrue;
-import static graphql.execution.nextgen.result.ResultNodeAdapter.RESULT_NODE_ADAPTER;
-import static graphql.util.FpKit.flatList;
 import static graphql.util.FpKit.map;
 import static graphql.util.FpKit.mapEntries;
 import static graphql.util.FpKit.transposeMatrix;
@@ -43,48 +37,37 @@ public class BatchedExecutionStrategy implements ExecutionStrategy {
 
     @Override
     public CompletableFuture<RootExecutionResultNode> execute(ExecutionContext executionContext, FieldSubSelection fieldSubSelection) {
-        CompletableFuture<RootExecutionResultNode> rootCF = Async.each(util.fetchSubSelection(executionContext, fieldSubSelection))
-                .thenApply(RootExecutionResultNode::new);
-
-        return rootCF.thenCompose(rootNode -> {
-            NodeMultiZipper<ExecutionResultNode> unresolvedNodes = ResultNodesUtil.getUnresolvedNodes(rootNode);
-            return nextStep(executionContext, unresolvedNodes);
-        })
-                .thenApply(multiZipper -> multiZipper.toRootNode())
-                .thenApply(RootExecutionResultNode.class::cast);
+        return Async.each(util.fetchSubSelection(executionContext, fieldSubSelection))
+                .thenApply(ResultTreeBuilder::new)
+                .thenCompose(resultTree -> nextStep(executionContext, resultTree, resultTree.getUnresolvedNodes()))
+                .thenApply(ResultTreeBuilder::build);
     }
 
 
-    private CompletableFuture<NodeMultiZipper<ExecutionResultNode>> nextStep(ExecutionContext executionContext, NodeMultiZipper<ExecutionResultNode> multizipper) {
-        NodeMultiZipper<ExecutionResultNode> nextUnresolvedNodes = ResultNodesUtil.getUnresolvedNodes(multizipper.toRootNode());
-        if (nextUnresolvedNodes.getZippers().size() == 0) {
-            return completedFuture(nextUnresolvedNodes);
+    private CompletableFuture<ResultTreeBuilder> nextStep(ExecutionContext executionContext, ResultTreeBuilder resultTree, List<UnresolvedNode> unresolvedNodes) {
+        if (unresolvedNodes.isEmpty()) {
+            return completedFuture(resultTree);
         }
-        List<NodeMultiZipper<ExecutionResultNode>> groups = groupNodesIntoBatches(nextUnresolvedNodes);
-        return resolveNodes(executionContext, groups).thenCompose(next -> nextStep(executionContext, next));
+        List<List<UnresolvedNode>> groups = groupNodesIntoBatches(unresolvedNodes);
+        return resolveNodes(executionContext, groups).thenCompose(ignored -> nextStep(executionContext, resultTree, resultTree.nextUnresolvedNodes()));
     }
 
-    // all multizipper have the same root
-    private CompletableFuture<NodeMultiZipper<ExecutionResultNode>> resolveNodes(ExecutionContext executionContext, List<NodeMultiZipper<ExecutionResultNode>> unresolvedNodes) {
+    private CompletableFuture<List<Void>> resolveNodes(ExecutionContext executionContext, List<List<UnresolvedNode>> unresolvedNodes) {
         assertNotEmpty(unresolvedNodes, "unresolvedNodes can't be empty");
-        ExecutionResultNode commonRoot = unresolvedNodes.get(0).getCommonRoot();
-        CompletableFuture<List<List<NodeZipper<ExecutionResultNode>>>> listListCF = Async.flatMap(unresolvedNodes,
-                executionResultMultiZipper -> fetchAndAnalyze(executionContext, executionResultMultiZipper.getZippers()));
-
-        return flatList(listListCF).thenApply(zippers -> new NodeMultiZipper<ExecutionResultNode>(commonRoot, zippers, RESULT_NODE_ADAPTER));
+        return Async.flatMap(unresolvedNodes, batch -> fetchAndAnalyze(executionContext, batch));
     }
 
-    private List<NodeMultiZipper<ExecutionResultNode>> groupNodesIntoBatches(NodeMultiZipper<ExecutionResultNode> unresolvedZipper) {
-        Map<MergedField, List<NodeZipper<ExecutionResultNode>>> zipperBySubSelection = FpKit.groupingBy(unresolvedZipper.getZippers(),
-                (executionResultZipper -> executionResultZipper.getCurNode().getMergedField()));
-        return mapEntries(zipperBySubSelection, (key, value) -> new NodeMultiZipper<ExecutionResultNode>(unresolvedZipper.getCommonRoot(), value, RESULT_NODE_ADAPTER));
+    private List<List<UnresolvedNode>> groupNodesIntoBatches(List<UnresolvedNode> unresolvedNodes) {
+        Map<MergedField, List<UnresolvedNode>> nodesBySubSelection = FpKit.groupingBy(unresolvedNodes,
+                (unresolvedNode -> unresolvedNode.getNode().getMergedField()));
+        return new ArrayList<>(nodesBySubSelection.values());
     }
 
-    private CompletableFuture<List<NodeZipper<ExecutionResultNode>>> fetchAndAnalyze(ExecutionContext executionContext, List<NodeZipper<ExecutionResultNode>> unresolvedNodes) {
+    private CompletableFuture<Void> fetchAndAnalyze(ExecutionContext executionContext, List<UnresolvedNode> unresolvedNodes) {
         assertTrue(unresolvedNodes.size() > 0, "unresolvedNodes can't be empty");
 
         List<FieldSubSelection> fieldSubSelections = map(unresolvedNodes,
-                node -> util.createFieldSubSelection(executionContext, node.getCurNode().getFetchedValueAnalysis()));
+                node -> util.createFieldSubSelection(executionContext, node.getNode().getFetchedValueAnalysis()));
 
         //constrain: all fieldSubSelections have the same mergedSelectionSet
         MergedSelectionSet mergedSelectionSet = fieldSubSelections.get(0).getMergedSelectionSet();
@@ -94,18 +77,15 @@ public class BatchedExecutionStrategy implements ExecutionStrategy {
         return mapBatchedResultsBack(unresolvedNodes, fetchedValues);
     }
 
-    private CompletableFuture<List<NodeZipper<ExecutionResultNode>>> mapBatchedResultsBack(List<NodeZipper<ExecutionResultNode>> unresolvedNodes, List<CompletableFuture<List<FetchedValueAnalysis>>> fetchedValues) {
-        return Async.each(fetchedValues).thenApply(fetchedValuesMatrix -> {
-            List<NodeZipper<ExecutionResultNode>> result = new ArrayList<>();
+    private CompletableFuture<Void> mapBatchedResultsBack(List<UnresolvedNode> unresolvedNodes, List<CompletableFuture<List<FetchedValueAnalysis>>> fetchedValues) {
+        return Async.each(fetchedValues).thenAccept(fetchedValuesMatrix -> {
             List<List<FetchedValueAnalysis>> newChildsPerNode = transposeMatrix(fetchedValuesMatrix);
 
             for (int i = 0; i < newChildsPerNode.size(); i++) {
-                NodeZipper<ExecutionResultNode> unresolvedNodeZipper = unresolvedNodes.get(i);
+                UnresolvedNode unresolvedNode = unresolvedNodes.get(i);
                 List<FetchedValueAnalysis> fetchedValuesForNode = newChildsPerNode.get(i);
-                NodeZipper<ExecutionResultNode> resolvedZipper = resolveZipper(unresolvedNodeZipper, fetchedValuesForNode);
-                result.add(resolvedZipper);
+                unresolvedNode.resolve(util.fetchedValueAnalysisToNodes(fetchedValuesForNode));
             }
-            return result;
         });
     }
 
@@ -126,14 +106,6 @@ public class BatchedExecutionStrategy implements ExecutionStrategy {
                 subSelection -> executionInfoFactory.newExecutionStepInfoForSubField(executionContext, mergedField, subSelection.getExecutionStepInfo()));
     }
 
-    private NodeZipper<ExecutionResultNode> resolveZipper(NodeZipper<ExecutionResultNode> unresolvedNodeZipper, List<FetchedValueAnalysis> fetchedValuesForNode) {
-        UnresolvedObjectResultNode unresolvedNode = (UnresolvedObjectResultNode) unresolvedNodeZipper.getCurNode();
-        List<ExecutionResultNode> newChildren = util.fetchedValueAnalysisToNodes(fetchedValuesForNode);
-        ObjectExecutionResultNode newNode = unresolvedNode.withNewChildren(newChildren);
-        return unresolvedNodeZipper.withNewNode(newNode);
-    }
-
-
     private List<FetchedValueAnalysis> analyseValues(ExecutionContext executionContext, List<FetchedValue> fetchedValues, List<ExecutionStepInfo> executionInfos) {
         List<FetchedValueAnalysis> result = new ArrayList<>();
         for (int i = 0; i < fetchedValues.size(); i++) {
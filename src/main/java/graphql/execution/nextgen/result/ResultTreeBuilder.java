@@ -0,0 +1,135 @@
+package graphql.execution.nextgen.result;
+
+import graphql.Internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+
+/**
+ * A result tree that is built up level by level during execution.
+ * <p>
+ * Rather than searching the whole (immutable) tree for {@link UnresolvedObjectResultNode}s after every level and rebuilding
+ * it via zippers, this keeps the unresolved nodes of the current level in a work list and fills them in place.  The immutable
+ * {@link RootExecutionResultNode} is only created once, via {@link #build()}, when all nodes are resolved.
+ * <p>
+ * The unresolved nodes are always given out in the same depth first order as {@link ResultNodesUtil#getUnresolvedNodes(ExecutionResultNode)}.
+ */
+@Internal
+public class ResultTreeBuilder {
+
+    private final List<NodeBuilder> children;
+    private List<UnresolvedNode> unresolvedNodes = new ArrayList<>();
+
+    public ResultTreeBuilder(List<ExecutionResultNode> rootChildren) {
+        this.children = wrap(rootChildren, unresolvedNodes);
+    }
+
+    /**
+     * @return the unresolved object nodes of the current level
+     */
+    public List<UnresolvedNode> getUnresolvedNodes() {
+        return unresolvedNodes;
+    }
+
+    /**
+     * Moves on to the next level, all the unresolved nodes of the current level must have been resolved
+     *
+     * @return the unresolved object nodes of the next level, which is empty if the tree is complete
+     */
+    public List<UnresolvedNode> nextUnresolvedNodes() {
+        List<UnresolvedNode> next = new ArrayList<>();
+        for (UnresolvedNode unresolvedNode : unresolvedNodes) {
+            assertTrue(unresolvedNode.nodeBuilder.children != null, "all unresolved nodes must be resolved before moving on");
+            next.addAll(unresolvedNode.unresolvedChildren);
+        }
+        unresolvedNodes = next;
+        return next;
+    }
+
+    /**
+     * @return the immutable result tree
+     */
+    public RootExecutionResultNode build() {
+        return new RootExecutionResultNode(buildAll(children));
+    }
+
+    private static List<NodeBuilder> wrap(List<ExecutionResultNode> nodes, List<UnresolvedNode> unresolvedNodes) {
+        List<NodeBuilder> result = new ArrayList<>(nodes.size());
+        for (ExecutionResultNode node : nodes) {
+            result.add(wrap(node, unresolvedNodes));
+        }
+        return result;
+    }
+
+    private static NodeBuilder wrap(ExecutionResultNode node, List<UnresolvedNode> unresolvedNodes) {
+        NodeBuilder nodeBuilder = new NodeBuilder(node);
+        if (node instanceof UnresolvedObjectResultNode) {
+            unresolvedNodes.add(new UnresolvedNode(nodeBuilder));
+        } else if (node instanceof ListExecutionResultNode) {
+            int unresolvedBefore = unresolvedNodes.size();
+            List<NodeBuilder> children = wrap(node.getChildren(), unresolvedNodes);
+            // lists without object values are complete already and are kept as they are
+            if (unresolvedNodes.size() > unresolvedBefore) {
+                nodeBuilder.children = children;
+            }
+        }
+        return nodeBuilder;
+    }
+
+    private static List<ExecutionResultNode> buildAll(List<NodeBuilder> nodeBuilders) {
+        List<ExecutionResultNode> result = new ArrayList<>(nodeBuilders.size());
+        for (NodeBuilder nodeBuilder : nodeBuilders) {
+            result.add(nodeBuilder.build());
+        }
+        return result;
+    }
+
+    private static class NodeBuilder {
+        private final ExecutionResultNode node;
+        // null if the node is complete as it is
+        private List<NodeBuilder> children;
+
+        NodeBuilder(ExecutionResultNode node) {
+            this.node = node;
+        }
+
+        ExecutionResultNode build() {
+            if (children == null) {
+                assertTrue(!(node instanceof UnresolvedObjectResultNode), "the result tree still has unresolved nodes");
+                return node;
+            }
+            return node.withNewChildren(buildAll(children));
+        }
+    }
+
+    /**
+     * An object node of the result tree that still has to be resolved
+     */
+    public static class UnresolvedNode {
+        private final NodeBuilder nodeBuilder;
+        private List<UnresolvedNode> unresolvedChildren;
+
+        private UnresolvedNode(NodeBuilder nodeBuilder) {
+            this.nodeBuilder = nodeBuilder;
+        }
+
+        public UnresolvedObjectResultNode getNode() {
+            return (UnresolvedObjectResultNode) nodeBuilder.node;
+        }
+
+        /**
+         * Fills in the children of this node, any unresolved object nodes among them are resolved as part of the next level
+         *
+         * @param children the result nodes of the fields of this object
+         */
+        public void resolve(List<ExecutionResultNode> children) {
+            assertTrue(nodeBuilder.children == null, "node is already resolved");
+            List<UnresolvedNode> unresolvedChildren = new ArrayList<>();
+            nodeBuilder.children = wrap(assertNotNull(children), unresolvedChildren);
+            this.unresolvedChildren = unresolvedChildren;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package graphql.execution.preparsed;
+
+import graphql.ExecutionInput;
+import graphql.Internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * Used while executing a batch of operations so that a query that appears more than once in the batch is only parsed and
+ * validated once.  The first operation with a given query gets its document from the given provider, the others reuse it.
+ */
+@Internal
+public class BatchPreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+    private final PreparsedDocumentProvider delegate;
+    private final Map<String, PreparsedDocumentEntry> entries = new HashMap<>();
+
+    public BatchPreparsedDocumentProvider(PreparsedDocumentProvider delegate) {
+        this.delegate = assertNotNull(delegate);
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> computeFunction) {
+        String query = executionInput.getQuery();
+        PreparsedDocumentEntry entry;
+        synchronized (entries) {
+            entry = entries.get(query);
+        }
+        if (entry == null) {
+            entry = delegate.getDocument(executionInput, computeFunction);
+            synchronized (entries) {
+                PreparsedDocumentEntry existing = entries.putIfAbsent(query, entry);
+                if (existing != null) {
+                    entry = existing;
+                }
+            }
+        }
+        return entry;
+    }
+}
@@ -4,27 +4,28 @@ import graphql.AssertException;
 import graphql.PublicApi;
 
 import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.io.Writer;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static graphql.Assert.assertTrue;
 import static java.lang.String.valueOf;
-import static java.util.stream.Collectors.joining;
 
 /**
  * This can take graphql language AST and print it out as a string
+ * <p>
+ * The whole AST is printed in one pass into a single {@link StringBuilder}, which can be given to
+ * {@link #printAst(StringBuilder, Node)} and {@link #printAstCompact(StringBuilder, Node)} to print several nodes one after the other.
  */
-@SuppressWarnings("UnnecessaryLocalVariable")
 @PublicApi
 public class AstPrinter {
 
     private final Map<Class<? extends Node>, NodePrinter<? extends Node>> printers = new LinkedHashMap<>();
 
+    private static final AstPrinter PRETTY = new AstPrinter(false);
+    private static final AstPrinter COMPACT = new AstPrinter(true);
+
     private final boolean compactMode;
 
     private AstPrinter(boolean compactMode) {
@@ -74,65 +75,64 @@ public class AstPrinter {
     }
 
     private NodePrinter<Argument> argument() {
-        if (compactMode) {
-            return (out, node) -> out.printf("%s:%s", node.getName(), value(node.getValue()));
-        }
-        return (out, node) -> out.printf("%s: %s", node.getName(), value(node.getValue()));
+        final String nameValueSep = compactMode ? ":" : ": ";
+        return (out, node) -> {
+            out.append(node.getName()).append(nameValueSep);
+            value(out, node.getValue());
+        };
     }
 
     private NodePrinter<Document> document() {
         if (compactMode) {
-            return (out, node) -> out.printf("%s", join(node.getDefinitions(), " "));
+            return (out, node) -> join(out, node.getDefinitions(), " ");
         }
-        return (out, node) -> out.printf("%s\n", join(node.getDefinitions(), "\n\n"));
+        return (out, node) -> {
+            join(out, node.getDefinitions(), "\n\n");
+            out.newline();
+        };
     }
 
     private NodePrinter<Directive> directive() {
         final String argSep = compactMode ? "," : ", ";
         return (out, node) -> {
-            String arguments = wrap("(", join(node.getArguments(), argSep), ")");
-            out.printf("@%s%s", node.getName(), arguments);
+            out.append('@').append(node.getName());
+            wrap(out, "(", node.getArguments(), argSep, ")");
         };
     }
 
     private NodePrinter<DirectiveDefinition> directiveDefinition() {
         final String argSep = compactMode ? "," : ", ";
         return (out, node) -> {
-            String arguments = wrap("(", join(node.getInputValueDefinitions(), argSep), ")");
-            String locations = join(node.getDirectiveLocations(), " | ");
-            out.printf("directive @%s%s on %s", node.getName(), arguments, locations);
+            out.append("directive @").append(node.getName());
+            wrap(out, "(", node.getInputValueDefinitions(), argSep, ")");
+            out.append(" on ");
+            join(out, node.getDirectiveLocations(), " | ");
         };
     }
 
     private NodePrinter<DirectiveLocation> directiveLocation() {
-        return (out, node) -> out.print(node.getName());
+        return (out, node) -> out.append(node.getName());
     }
 
     private NodePrinter<EnumTypeDefinition> enumTypeDefinition() {
         return (out, node) -> {
-            out.printf("%s", comments(node));
-            out.printf("%s",
-                    spaced(
-                            "enum",
-                            node.getName(),
-                            directives(node.getDirectives()),
-                            block(node.getEnumValueDefinitions())
-                    ));
+            comments(out, node);
+            out.append("enum ").append(node.getName());
+            directives(out, node.getDirectives());
+            out.append(' ');
+            block(out, node.getEnumValueDefinitions());
         };
     }
 
     private NodePrinter<EnumValue> enumValue() {
-        return (out, node) -> out.printf("%s", node.getName());
+        return (out, node) -> out.append(node.getName());
     }
 
     private NodePrinter<EnumValueDefinition> enumValueDefinition() {
         return (out, node) -> {
-            out.printf("%s", comments(node));
-            out.printf("%s",
-                    spaced(
-                            node.getName(),
-                            directives(node.getDirectives())
-                    ));
+            comments(out, node);
+            out.append(node.getName());
+            directives(out, node.getDirectives());
         };
     }
 
@@ -140,17 +140,16 @@ public class AstPrinter {
         final String argSep = compactMode ? "," : ", ";
         final String aliasSuffix = compactMode ? ":" : ": ";
         return (out, node) -> {
-            String alias = wrap("", node.getAlias(), aliasSuffix);
-            String name = node.getName();
-            String arguments = wrap("(", join(node.getArguments(), argSep), ")");
-            String directives = directives(node.getDirectives());
-            String selectionSet = node(node.getSelectionSet());
-
-            out.printf("%s", spaced(
-                    alias + name + arguments,
-                    directives,
-                    selectionSet
-            ));
+            if (!isEmpty(node.getAlias())) {
+                out.append(node.getAlias()).append(aliasSuffix);
+            }
+            out.append(node.getName());
+            wrap(out, "(", node.getArguments(), argSep, ")");
+            directives(out, node.getDirectives());
+            if (node.getSelectionSet() != null) {
+                out.append(' ');
+                node(out, node.getSelectionSet());
+            }
         };
     }
 
@@ -158,29 +157,20 @@ public class AstPrinter {
     private NodePrinter<FieldDefinition> fieldDefinition() {
         final String argSep = compactMode ? "," : ", ";
         return (out, node) -> {
-            out.printf("%s", comments(node));
-            String args;
+            comments(out, node);
+            out.append(node.getName());
             if (hasComments(node.getInputValueDefinitions()) && !compactMode) {
-                args = join(node.getInputValueDefinitions(), "\n");
-                out.printf("%s", node.getName() +
-                        wrap("(\n", args, "\n)") +
-                        ": " +
-                        spaced(
-                                type(node.getType()),
-                                directives(node.getDirectives())
-                        )
-                );
+                if (!isEmpty(node.getInputValueDefinitions())) {
+                    out.append('(').newline();
+                    join(out, node.getInputValueDefinitions(), "\n");
+                    out.newline().append(')');
+                }
             } else {
-                args = join(node.getInputValueDefinitions(), argSep);
-                out.printf("%s", node.getName() +
-                        wrap("(", args, ")") +
-                        ": " +
-                        spaced(
-                                type(node.getType()),
-                                directives(node.getDirectives())
-                        )
-                );
+                wrap(out, "(", node.getInputValueDefinitions(), argSep, ")");
             }
+            out.append(": ");
+            type(out, node.getType());
+            directives(out, node.getDirectives());
         };
     }
 
@@ -190,241 +180,231 @@ public class AstPrinter {
 
     private NodePrinter<FragmentDefinition> fragmentDefinition() {
         return (out, node) -> {
-            String name = node.getName();
-            String typeCondition = type(node.getTypeCondition());
-            String directives = directives(node.getDirectives());
-            String selectionSet = node(node.getSelectionSet());
-
-            out.printf("fragment %s on %s ", name, typeCondition);
-            out.printf("%s", directives + selectionSet);
+            out.append("fragment ").append(node.getName()).append(" on ");
+            type(out, node.getTypeCondition());
+            out.append(' ');
+            join(out, node.getDirectives(), " ");
+            node(out, node.getSelectionSet());
         };
     }
 
     private NodePrinter<FragmentSpread> fragmentSpread() {
         return (out, node) -> {
-            String name = node.getName();
-            String directives = directives(node.getDirectives());
-
-            out.printf("...%s%s", name, directives);
+            out.append("...").append(node.getName());
+            join(out, node.getDirectives(), " ");
         };
     }
 
     private NodePrinter<InlineFragment> inlineFragment() {
         return (out, node) -> {
-            TypeName typeName = node.getTypeCondition();
+            comments(out, node);
+            out.append("...");
             //Inline fragments may not have a type condition
-            String typeCondition = typeName == null ? "" : wrap("on ", type(typeName), "");
-            String directives = directives(node.getDirectives());
-            String selectionSet = node(node.getSelectionSet());
-
-            out.printf("%s", comments(node));
-            out.printf("%s", spaced(
-                    "...",
-                    typeCondition,
-                    directives,
-                    selectionSet
-            ));
+            TypeName typeName = node.getTypeCondition();
+            if (typeName != null) {
+                out.append(" on ");
+                type(out, typeName);
+            }
+            directives(out, node.getDirectives());
+            if (node.getSelectionSet() != null) {
+                out.append(' ');
+                node(out, node.getSelectionSet());
+            }
         };
     }
 
     private NodePrinter<InputObjectTypeDefinition> inputObjectTypeDefinition() {
         return (out, node) -> {
-            out.printf("%s", comments(node));
-            out.printf("%s", spaced(
-                    "input",
-                    node.getName(),
-                    directives(node.getDirectives()),
-                    block(node.getInputValueDefinitions())
-                    )
-            );
+            comments(out, node);
+            out.append("input ").append(node.getName());
+            directives(out, node.getDirectives());
+            out.append(' ');
+            block(out, node.getInputValueDefinitions());
         };
     }
 
     private NodePrinter<InputValueDefinition> inputValueDefinition() {
         String nameTypeSep = compactMode ? ":" : ": ";
-        String defaultValueEquals = compactMode ? "=" : "= ";
+        String defaultValueEquals = compactMode ? " =" : " = ";
         return (out, node) -> {
-            Value defaultValue = node.getDefaultValue();
-            out.printf("%s", comments(node));
-            out.printf("%s", spaced(
-                    node.getName() + nameTypeSep + type(node.getType()),
-                    wrap(defaultValueEquals, defaultValue, ""),
-                    directives(node.getDirectives())
-                    )
-            );
+            comments(out, node);
+            out.append(node.getName()).append(nameTypeSep);
+            type(out, node.getType());
+            if (node.getDefaultValue() != null) {
+                out.append(defaultValueEquals);
+                node(out, node.getDefaultValue());
+            }
+            directives(out, node.getDirectives());
         };
     }
 
     private NodePrinter<InterfaceTypeDefinition> interfaceTypeDefinition() {
         return (out, node) -> {
-            out.printf("%s", comments(node));
-            out.printf("%s", spaced(
-                    "interface",
-                    node.getName(),
-                    directives(node.getDirectives()),
-                    block(node.getFieldDefinitions())
-                    )
-            );
+            comments(out, node);
+            out.append("interface ").append(node.getName());
+            directives(out, node.getDirectives());
+            out.append(' ');
+            block(out, node.getFieldDefinitions());
         };
     }
 
     private NodePrinter<ObjectField> objectField() {
         String nameValueSep = compactMode ? ":" : " : ";
-        return (out, node) -> out.printf("%s%s%s", node.getName(), nameValueSep, value(node.getValue()));
+        return (out, node) -> {
+            out.append(node.getName()).append(nameValueSep);
+            value(out, node.getValue());
+        };
     }
 
 
     private NodePrinter<OperationDefinition> operationDefinition() {
         final String argSep = compactMode ? "," : ", ";
         return (out, node) -> {
-            String op = node.getOperation().toString().toLowerCase();
-            String name = node.getName();
-            String varDefinitions = wrap("(", join(nvl(node.getVariableDefinitions()), argSep), ")");
-            String directives = directives(node.getDirectives());
-            String selectionSet = node(node.getSelectionSet());
-
-            // Anonymous queries with no directives or variable definitions can use
-            // the query short form.
-            if (isEmpty(name) && isEmpty(directives) && isEmpty(varDefinitions) && op.equals("QUERY")) {
-                out.printf("%s", selectionSet);
-            } else {
-                out.printf("%s", spaced(op, smooshed(name, varDefinitions), directives, selectionSet));
+            out.append(node.getOperation().toString().toLowerCase());
+            boolean hasName = !isEmpty(node.getName());
+            boolean hasVariableDefinitions = !isEmpty(node.getVariableDefinitions());
+            if (hasName || hasVariableDefinitions) {
+                out.append(' ');
+                if (hasName) {
+                    out.append(node.getName());
+                }
+                wrap(out, "(", node.getVariableDefinitions(), argSep, ")");
+            }
+            directives(out, node.getDirectives());
+            if (node.getSelectionSet() != null) {
+                out.append(' ');
+                node(out, node.getSelectionSet());
             }
         };
     }
 
     private NodePrinter<OperationTypeDefinition> operationTypeDefinition() {
         String nameTypeSep = compactMode ? ":" : ": ";
-        return (out, node) -> out.printf("%s%s%s", node.getName(), nameTypeSep, type(node.getTypeName()));
+        return (out, node) -> {
+            out.append(node.getName()).append(nameTypeSep);
+            type(out, node.getTypeName());
+        };
     }
 
     private NodePrinter<ObjectTypeDefinition> objectTypeDefinition() {
         return (out, node) -> {
-            out.printf("%s", comments(node));
-            out.printf("%s", spaced(
-                    "type",
-                    node.getName(),
-                    wrap("implements ", join(node.getImplements(), " & "), ""),
-                    directives(node.getDirectives()),
-                    block(node.getFieldDefinitions())
-            ));
+            comments(out, node);
+            out.append("type ").append(node.getName());
+            if (!isEmpty(node.getImplements())) {
+                out.append(" implements ");
+                join(out, node.getImplements(), " & ");
+            }
+            directives(out, node.getDirectives());
+            out.append(' ');
+            block(out, node.getFieldDefinitions());
         };
     }
 
     private NodePrinter<SelectionSet> selectionSet() {
         return (out, node) -> {
-            out.printf("%s", comments(node));
-            out.printf("%s", block(node.getSelections()));
+            comments(out, node);
+            block(out, node.getSelections());
         };
     }
 
     private NodePrinter<ScalarTypeDefinition> scalarTypeDefinition() {
         return (out, node) -> {
-            out.printf("%s", comments(node));
-            out.printf("%s", spaced(
-                    "scalar",
-                    node.getName(),
-                    directives(node.getDirectives())));
+            comments(out, node);
+            out.append("scalar ").append(node.getName());
+            directives(out, node.getDirectives());
         };
     }
 
 
     private NodePrinter<SchemaDefinition> schemaDefinition() {
         return (out, node) -> {
-            out.printf("%s", comments(node));
-            out.printf("%s", spaced(
-                    "schema",
-                    directives(node.getDirectives()),
-                    block(node.getOperationTypeDefinitions())
-
-            ));
+            comments(out, node);
+            out.append("schema");
+            directives(out, node.getDirectives());
+            out.append(' ');
+            block(out, node.getOperationTypeDefinitions());
         };
     }
 
 
     private NodePrinter<Type> type() {
-        return (out, node) -> out.print(type(node));
+        return this::type;
     }
 
-    private String type(Type type) {
+    private void type(Output out, Type type) {
         if (type instanceof NonNullType) {
-            NonNullType inner = (NonNullType) type;
-            return wrap("", type(inner.getType()), "!");
+            type(out, ((NonNullType) type).getType());
+            out.append('!');
         } else if (type instanceof ListType) {
-            ListType inner = (ListType) type;
-            return wrap("[", type(inner.getType()), "]");
+            out.append('[');
+            type(out, ((ListType) type).getType());
+            out.append(']');
         } else {
-            TypeName inner = (TypeName) type;
-            return inner.getName();
+            out.append(((TypeName) type).getName());
         }
     }
 
     private NodePrinter<ObjectTypeExtensionDefinition> objectTypeExtensionDefinition() {
-        return (out, node) -> out.printf("extend %s", node(node, ObjectTypeDefinition.class));
+        return (out, node) -> extension(out, node, ObjectTypeDefinition.class);
     }
 
     private NodePrinter<EnumTypeExtensionDefinition> enumTypeExtensionDefinition() {
-        return (out, node) -> out.printf("extend %s", node(node, EnumTypeDefinition.class));
+        return (out, node) -> extension(out, node, EnumTypeDefinition.class);
     }
 
     private NodePrinter<InterfaceTypeDefinition> interfaceTypeExtensionDefinition() {
-        return (out, node) -> out.printf("extend %s", node(node, InterfaceTypeDefinition.class));
+        return (out, node) -> extension(out, node, InterfaceTypeDefinition.class);
     }
 
     private NodePrinter<UnionTypeExtensionDefinition> unionTypeExtensionDefinition() {
-        return (out, node) -> out.printf("extend %s", node(node, UnionTypeDefinition.class));
+        return (out, node) -> extension(out, node, UnionTypeDefinition.class);
     }
 
     private NodePrinter<ScalarTypeExtensionDefinition> scalarTypeExtensionDefinition() {
-        return (out, node) -> out.printf("extend %s", node(node, ScalarTypeDefinition.class));
+        return (out, node) -> extension(out, node, ScalarTypeDefinition.class);
     }
 
     private NodePrinter<InputObjectTypeExtensionDefinition> inputObjectTypeExtensionDefinition() {
-        return (out, node) -> out.printf("extend %s", node(node, InputObjectTypeDefinition.class));
+        return (out, node) -> extension(out, node, InputObjectTypeDefinition.class);
+    }
+
+    private void extension(Output out, Node node, Class<? extends Node> definitionClass) {
+        assertTrue(definitionClass.isInstance(node), "The starting class must be in the inherit tree");
+        out.append("extend ");
+        this.<Node>_findPrinter(node, definitionClass).print(out, node);
     }
 
     private NodePrinter<UnionTypeDefinition> unionTypeDefinition() {
         String barSep = compactMode ? "|" : " | ";
         String equals = compactMode ? "=" : "= ";
         return (out, node) -> {
-            out.printf("%s", comments(node));
-            out.printf("%s", spaced(
-                    "union",
-                    node.getName(),
-                    directives(node.getDirectives()),
-                    equals + join(node.getMemberTypes(), barSep)
-            ));
+            comments(out, node);
+            out.append("union ").append(node.getName());
+            directives(out, node.getDirectives());
+            out.append(' ').append(equals);
+            join(out, node.getMemberTypes(), barSep);
         };
     }
 
     private NodePrinter<VariableDefinition> variableDefinition() {
         String nameTypeSep = compactMode ? ":" : ": ";
         String defaultValueEquals = compactMode ? "=" : " = ";
-        return (out, node) -> out.printf("$%s%s%s%s",
-                node.getName(),
-                nameTypeSep,
-                type(node.getType()),
-                wrap(defaultValueEquals, node.getDefaultValue(), "")
-        );
+        return (out, node) -> {
+            out.append('$').append(node.getName()).append(nameTypeSep);
+            type(out, node.getType());
+            if (node.getDefaultValue() != null) {
+                out.append(defaultValueEquals);
+                node(out, node.getDefaultValue());
+            }
+        };
     }
 
     private NodePrinter<VariableReference> variableReference() {
-        return (out, node) -> out.printf("$%s", node.getName());
+        return (out, node) -> out.append('$').append(node.getName());
     }
 
-    private String node(Node node) {
-        return node(node, null);
-    }
-
-    private String node(Node node, Class startClass) {
-        if (startClass != null) {
-            assertTrue(startClass.isInstance(node), "The starting class must be in the inherit tree");
-        }
-        StringWriter sw = new StringWriter();
-        PrintWriter out = new PrintWriter(sw);
-        NodePrinter<Node> printer = _findPrinter(node, startClass);
-        printer.print(out, node);
-        return sw.toString();
+    private void node(Output out, Node node) {
+        this.<Node>_findPrinter(node).print(out, node);
     }
 
     @SuppressWarnings("unchecked")
@@ -449,121 +429,105 @@ public class AstPrinter {
         throw new AssertException(String.format("We have a missing printer implementation for %s : report a bug!", clazz));
     }
 
-    private <T> boolean isEmpty(List<T> list) {
+    private static <T> boolean isEmpty(List<T> list) {
         return list == null || list.isEmpty();
     }
 
-    private boolean isEmpty(String s) {
+    private static boolean isEmpty(String s) {
         return s == null || s.trim().length() == 0;
     }
 
-    private <T> List<T> nvl(List<T> list) {
-        return list != null ? list : Collections.emptyList();
-    }
-
     private NodePrinter<Value> value() {
-        return (out, node) -> out.print(value(node));
+        return this::value;
     }
 
-    private String value(Value value) {
-        String argSep = compactMode ? "," : ", ";
+    private void value(Output out, Value value) {
         if (value instanceof IntValue) {
-            return valueOf(((IntValue) value).getValue());
+            out.append(valueOf(((IntValue) value).getValue()));
         } else if (value instanceof FloatValue) {
-            return valueOf(((FloatValue) value).getValue());
+            out.append(valueOf(((FloatValue) value).getValue()));
         } else if (value instanceof StringValue) {
-            return wrap("\"", valueOf(((StringValue) value).getValue()), "\"");
+            String string = valueOf(((StringValue) value).getValue());
+            if (isEmpty(string)) {
+                out.append("\"\"");
+            } else {
+                out.append('"').text(string).append('"');
+            }
         } else if (value instanceof EnumValue) {
-            return valueOf(((EnumValue) value).getName());
+            out.append(valueOf(((EnumValue) value).getName()));
         } else if (value instanceof BooleanValue) {
-            return valueOf(((BooleanValue) value).isValue());
+            out.append(valueOf(((BooleanValue) value).isValue()));
         } else if (value instanceof NullValue) {
-            return "null";
+            out.append("null");
         } else if (value instanceof ArrayValue) {
-            return "[" + join(((ArrayValue) value).getValues(), argSep) + "]";
+            out.append('[');
+            join(out, ((ArrayValue) value).getValues(), compactMode ? "," : ", ");
+            out.append(']');
         } else if (value instanceof ObjectValue) {
-            return "{" + join(((ObjectValue) value).getObjectFields(), argSep) + "}";
+            out.append('{');
+            join(out, ((ObjectValue) value).getObjectFields(), compactMode ? "," : ", ");
+            out.append('}');
         } else if (value instanceof VariableReference) {
-            return "$" + ((VariableReference) value).getName();
+            out.append('$').append(((VariableReference) value).getName());
         }
-        return "";
     }
 
-    private String comments(Node<?> node) {
-        List<Comment> comments = nvl(node.getComments());
+    private void comments(Output out, Node<?> node) {
+        List<Comment> comments = node.getComments();
         if (isEmpty(comments) || compactMode) {
-            return "";
+            return;
+        }
+        for (Comment comment : comments) {
+            out.append('#').text(comment.getContent()).newline();
         }
-        String s = comments.stream().map(c -> "#" + c.getContent()).collect(joining("\n", "", "\n"));
-        return s;
-    }
-
-
-    private String directives(List<Directive> directives) {
-        return join(nvl(directives), " ");
-    }
-
-    private <T extends Node> String join(List<T> nodes, String delim) {
-        return join(nodes, delim, "", "");
-    }
-
-    @SuppressWarnings("SameParameterValue")
-    private <T extends Node> String join(List<T> nodes, String delim, String prefix, String suffix) {
-        String s = nvl(nodes).stream().map(this::node).collect(joining(delim, prefix, suffix));
-        return s;
-    }
-
-    private String spaced(String... args) {
-        return join(" ", args);
-    }
-
-    private String smooshed(String... args) {
-        return join("", args);
-    }
-
-    private String join(String delim, String... args) {
-        String s = Arrays.stream(args).filter(arg -> !isEmpty(arg)).collect(joining(delim));
-        return s;
     }
 
-    String wrap(String start, String maybeString, String end) {
-        if (isEmpty(maybeString)) {
-            if (start.equals("\"") && end.equals("\"")) {
-                return "\"\"";
-            }
-            return "";
+    private void directives(Output out, List<Directive> directives) {
+        if (!isEmpty(directives)) {
+            out.append(' ');
+            join(out, directives, " ");
         }
-        return start + maybeString + (!isEmpty(end) ? end : "");
     }
 
-    private <T extends Node> String block(List<T> nodes) {
-        if (isEmpty(nodes)) {
-            return "{}";
+    private <T extends Node> void join(Output out, List<T> nodes, String delim) {
+        if (nodes == null) {
+            return;
         }
-        if (compactMode) {
-            return "{"
-                    + join(nodes, " ")
-                    + "}";
+        boolean first = true;
+        for (T node : nodes) {
+            if (!first) {
+                out.delimiter(delim);
+            }
+            first = false;
+            node(out, node);
         }
-        return indent("{\n"
-                + join(nodes, "\n"))
-                + "\n}";
     }
 
-    private String indent(String maybeString) {
-        if (isEmpty(maybeString)) {
-            return "";
+    private <T extends Node> void wrap(Output out, String start, List<T> nodes, String delim, String end) {
+        if (!isEmpty(nodes)) {
+            out.append(start);
+            join(out, nodes, delim);
+            out.append(end);
         }
-        maybeString = maybeString.replaceAll("\\n", "\n  ");
-        return maybeString;
     }
 
-    @SuppressWarnings("SameParameterValue")
-    String wrap(String start, Node maybeNode, String end) {
-        if (maybeNode == null) {
-            return "";
+    private <T extends Node> void block(Output out, List<T> nodes) {
+        if (isEmpty(nodes)) {
+            out.append("{}");
+        } else if (compactMode) {
+            out.append('{');
+            join(out, nodes, " ");
+            out.append('}');
+        } else {
+            out.append('{');
+            out.indent++;
+            for (T node : nodes) {
+                out.newline();
+                node(out, node);
+            }
+            out.indent--;
+            out.newline().append('}');
         }
-        return start + node(maybeNode) + (isEmpty(end) ? "" : end);
     }
 
     /**
@@ -574,9 +538,9 @@ public class AstPrinter {
      * @return the printed node in graphql language format
      */
     public static String printAst(Node node) {
-        StringWriter sw = new StringWriter();
-        printAst(sw, node);
-        return sw.toString();
+        StringBuilder sb = new StringBuilder();
+        printAst(sb, node);
+        return sb.toString();
     }
 
     /**
@@ -586,7 +550,17 @@ public class AstPrinter {
      * @param node   the AST node to print
      */
     public static void printAst(Writer writer, Node node) {
-        printImpl(writer, node, false);
+        new PrintWriter(writer).print(printAst(node));
+    }
+
+    /**
+     * This will pretty print the AST node in graphql language format, appending it to the given builder in one pass
+     *
+     * @param stringBuilder the place to put the output
+     * @param node          the AST node to print
+     */
+    public static void printAst(StringBuilder stringBuilder, Node node) {
+        printImpl(stringBuilder, node, PRETTY);
     }
 
     /**
@@ -598,23 +572,82 @@ public class AstPrinter {
      * @return the printed node in a compact graphql language format
      */
     public static String printAstCompact(Node node) {
-        StringWriter sw = new StringWriter();
-        printImpl(sw, node, true);
-        return sw.toString();
+        StringBuilder sb = new StringBuilder();
+        printAstCompact(sb, node);
+        return sb.toString();
     }
 
-    private static void printImpl(Writer writer, Node node, boolean compactMode) {
-        AstPrinter astPrinter = new AstPrinter(compactMode);
-        NodePrinter<Node> printer = astPrinter._findPrinter(node);
-        printer.print(new PrintWriter(writer), node);
+    /**
+     * This will print the Ast node in graphql language format in a compact manner, appending it to the given builder in one pass
+     *
+     * @param stringBuilder the place to put the output
+     * @param node          the AST node to print
+     */
+    public static void printAstCompact(StringBuilder stringBuilder, Node node) {
+        printImpl(stringBuilder, node, COMPACT);
+    }
+
+    private static void printImpl(StringBuilder stringBuilder, Node node, AstPrinter astPrinter) {
+        astPrinter.node(new Output(stringBuilder), node);
+    }
+
+    /**
+     * The text printed so far.  The nodes within a block are indented by putting spaces after every new line, including
+     * the new lines within comments and string values.
+     */
+    private static class Output {
+        private final StringBuilder sb;
+        private int indent;
+
+        Output(StringBuilder sb) {
+            this.sb = sb;
+        }
+
+        Output append(String s) {
+            sb.append(s);
+            return this;
+        }
+
+        Output append(char c) {
+            sb.append(c);
+            return this;
+        }
+
+        Output text(String s) {
+            if (indent == 0 || s.indexOf('\n') < 0) {
+                sb.append(s);
+            } else {
+                for (int i = 0; i < s.length(); i++) {
+                    char c = s.charAt(i);
+                    if (c == '\n') {
+                        newline();
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+            return this;
+        }
+
+        Output delimiter(String delim) {
+            return delim.indexOf('\n') < 0 ? append(delim) : text(delim);
+        }
+
+        Output newline() {
+            sb.append('\n');
+            for (int i = 0; i < indent; i++) {
+                sb.append("  ");
+            }
+            return this;
+        }
     }
 
     /**
-     * These print nodes into output writers
+     * These print nodes into the output
      *
      * @param <T> the type of node
      */
     private interface NodePrinter<T extends Node> {
-        void print(PrintWriter out, T node);
+        void print(Output out, T node);
     }
 }
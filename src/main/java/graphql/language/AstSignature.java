@@ -40,6 +40,25 @@ public class AstSignature {
         );
     }
 
+    /**
+     * This computes a stable 128 bit fingerprint of the signature of an operation, suitable as a key for query metrics,
+     * caches and rate limits.  Unlike {@link #signatureQuery(Document, String)} it makes a single read only pass over the
+     * document and builds no new nodes, so there is no need to sort and print a signature document to get a key.
+     *
+     * The fingerprint ignores literal values, variable names, field aliases, the order of selections, arguments, directives
+     * and variable definitions as well as any fragment the operation does not use.  Variables are told apart by the order in
+     * which the sorted operation first references them.  Two operations with the same fingerprint
+     * therefore have equivalent signatures.
+     *
+     * @param document      the document containing the operation
+     * @param operationName the name of the operation to do it for (since only one query can be run at a time)
+     *
+     * @return the fingerprint of the signature of the operation
+     */
+    public QueryFingerprint signatureFingerprint(Document document, String operationName) {
+        return new SignatureFingerprinter().fingerprint(document, operationName);
+    }
+
     private Document hideLiterals(Document document) {
         final Map<String, String> variableRemapping = new HashMap<>();
         final AtomicInteger variableCount = new AtomicInteger();
@@ -10,7 +10,10 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static graphql.Assert.assertNotNull;
@@ -21,6 +24,7 @@ import static java.util.Collections.emptyMap;
 public class Document extends AbstractNode<Document> {
 
     private final List<Definition> definitions;
+    private transient volatile ConcurrentMap<Object, Object> derivedData;
 
     public static final String CHILD_DEFINITIONS = "definitions";
 
@@ -43,6 +47,33 @@ public class Document extends AbstractNode<Document> {
         return new ArrayList<>(definitions);
     }
 
+    /**
+     * Data the execution derives from this document, such as its resolved fields and selection sets, is kept on the
+     * document itself so that it is shared by all the executions of the same document instance, as given out by a
+     * {@link graphql.execution.preparsed.PreparsedDocumentProvider}, and goes away with the document.
+     *
+     * @param key             the key of the data, usually the class that computes it
+     * @param computeFunction computes the data the first time it is asked for
+     * @param <T>             the type of the data
+     *
+     * @return the derived data for the key
+     */
+    @Internal
+    @SuppressWarnings("unchecked")
+    public <T> T getDerivedData(Object key, Function<Object, T> computeFunction) {
+        ConcurrentMap<Object, Object> derivedData = this.derivedData;
+        if (derivedData == null) {
+            synchronized (this) {
+                derivedData = this.derivedData;
+                if (derivedData == null) {
+                    derivedData = new ConcurrentHashMap<>();
+                    this.derivedData = derivedData;
+                }
+            }
+        }
+        return (T) derivedData.computeIfAbsent(key, computeFunction);
+    }
+
     /**
      * Returns a list of definitions of the specific type.  It uses {@link java.lang.Class#isAssignableFrom(Class)} for the test
      *
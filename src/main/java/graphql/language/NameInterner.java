@@ -0,0 +1,104 @@
+package graphql.language;
+
+import graphql.PublicApi;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static graphql.Assert.assertTrue;
+
+/**
+ * A name interner hands out one canonical instance for equal names, string values and source locations, so that the
+ * documents parsed with it share their storage.  This is useful when many documents are kept around, for example in a
+ * {@link graphql.execution.preparsed.PreparsedDocumentProvider} cache, where the same names appear over and over.
+ *
+ * The nodes themselves are not interned : every node has its source location, which the errors about it point to, so
+ * the same field with the same arguments at another place of another document is a different node.
+ *
+ * The entries are kept in a table of a fixed size, where a new value takes the slot of the value it collides with.  The
+ * values that stop being used are so replaced by the ones in use, and the interner never holds more than its maximum
+ * number of entries.  An interner is safe to share between threads and takes no locks.
+ *
+ * @see graphql.GraphQL.Builder#nameInterner(NameInterner)
+ */
+@PublicApi
+public class NameInterner {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1 << 16;
+
+    private final AtomicReferenceArray<Object> entries;
+    private final int mask;
+
+    public NameInterner() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries the maximum number of entries that this interner holds, which is rounded up to a power of two
+     */
+    public NameInterner(int maxEntries) {
+        assertTrue(maxEntries > 0 && maxEntries <= 1 << 30, "maxEntries must be greater than zero and at most 2^30");
+        int size = Integer.highestOneBit(maxEntries);
+        size = size < maxEntries ? size << 1 : size;
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @param value a name or string value
+     *
+     * @return the canonical instance of the string
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        return canonical(value);
+    }
+
+    /**
+     * @param sourceLocation the source location
+     *
+     * @return the canonical instance of the source location
+     */
+    public SourceLocation intern(SourceLocation sourceLocation) {
+        if (sourceLocation == null) {
+            return null;
+        }
+        return canonical(sourceLocation);
+    }
+
+    /**
+     * @return the number of entries held by this interner
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < entries.length(); i++) {
+            if (entries.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Forgets all the entries of this interner, the documents that share them are not affected
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T canonical(T value) {
+        int hash = value.hashCode();
+        // strings and source locations of the same document often differ in their low bits only
+        int index = (hash ^ (hash >>> 16)) & mask;
+        Object existing = entries.get(index);
+        if (existing != null && existing.getClass() == value.getClass() && existing.equals(value)) {
+            return (T) existing;
+        }
+        entries.set(index, value);
+        return value;
+    }
+}
@@ -22,14 +22,21 @@ public class NodeTraverser {
 
     private final Map<Class<?>, Object> rootVars;
     private final Function<? super Node, ? extends List<Node>> getChildren;
+    private final boolean noCycles;
 
     public NodeTraverser(Map<Class<?>, Object> rootVars, Function<? super Node, ? extends List<Node>> getChildren) {
-        this.rootVars = rootVars;
-        this.getChildren = getChildren;
+        this(rootVars, getChildren, false);
     }
 
     public NodeTraverser() {
-        this(Collections.emptyMap(), Node::getChildren);
+        // the children of the nodes themselves form a tree, there is no need to remember the visited nodes
+        this(Collections.emptyMap(), Node::getChildren, true);
+    }
+
+    private NodeTraverser(Map<Class<?>, Object> rootVars, Function<? super Node, ? extends List<Node>> getChildren, boolean noCycles) {
+        this.rootVars = rootVars;
+        this.getChildren = getChildren;
+        this.noCycles = noCycles;
     }
 
 
@@ -145,6 +152,9 @@ public class NodeTraverser {
 
     private Object doTraverse(Collection<? extends Node> roots, TraverserVisitor traverserVisitor) {
         Traverser<Node> nodeTraverser = Traverser.depthFirst(this.getChildren);
+        if (noCycles) {
+            nodeTraverser.noCycles();
+        }
         nodeTraverser.rootVars(rootVars);
         return nodeTraverser.traverse(roots, traverserVisitor).getAccumulatedResult();
     }
@@ -0,0 +1,73 @@
+package graphql.language;
+
+import graphql.PublicApi;
+
+import java.io.Serializable;
+
+/**
+ * A 128 bit hash of the signature of a query operation, as produced by {@link AstSignature#signatureFingerprint(Document, String)}.
+ *
+ * Two operations that only differ in their literal values, variable names, field aliases, the order of their selections, arguments
+ * and directives or the fragments they do not use will have the same fingerprint, which makes it suitable as a key for query
+ * metrics, caches and rate limits.
+ */
+@PublicApi
+public class QueryFingerprint implements Serializable {
+
+    private final long high;
+    private final long low;
+
+    public QueryFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * @return the most significant 64 bits of the fingerprint
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * @return the least significant 64 bits of the fingerprint
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * @return the fingerprint as 32 lower case hexadecimal characters
+     */
+    public String toHexString() {
+        StringBuilder sb = new StringBuilder(32);
+        appendHex(sb, high);
+        appendHex(sb, low);
+        return sb.toString();
+    }
+
+    private static void appendHex(StringBuilder sb, long value) {
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            sb.append(Character.forDigit((int) (value >>> shift) & 0xF, 16));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        QueryFingerprint that = (QueryFingerprint) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        return toHexString();
+    }
+}
@@ -0,0 +1,399 @@
+package graphql.language;
+
+import graphql.Internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Computes a {@link QueryFingerprint} by walking the chosen operation and the fragments it uses in canonical order and
+ * feeding a compact token stream of its signature straight into a streaming MurmurHash3 (x64, 128 bit).  No new nodes are
+ * built : literal values are hashed as their kind only, aliases are skipped and lists are only copied when they need sorting.
+ *
+ * Variables are numbered in the order they are first referenced by that canonical walk, and the variables that are defined
+ * but never referenced after them in the order of their definitions, as {@link AstSignature#signatureQuery} numbers them in
+ * order of appearance.  Their definitions are hashed last, in the order of their numbers, so that neither the names of the
+ * variables nor the order of their definitions change the fingerprint.
+ *
+ * Selections are sorted by their kind and name, and the selections with the same kind and name, such as aliased fields,
+ * by the fingerprint of their own signature where variables stand for their types.  Selections that only differ in which
+ * of the variables of the same type they use can still be told apart by their order, as their variables are then numbered
+ * in that order.
+ *
+ * Names are terminated by a zero char and every other element is introduced by a tag char, so that no two different
+ * signatures can produce the same token stream.
+ *
+ * An instance computes one fingerprint only.
+ */
+@Internal
+class SignatureFingerprinter {
+
+    private static final Comparator<Argument> ARGUMENTS = Comparator.comparing(Argument::getName);
+    private static final Comparator<Directive> DIRECTIVES = Comparator.comparing(Directive::getName);
+    private static final Comparator<Selection> SELECTIONS = Comparator.comparingInt(SignatureFingerprinter::selectionKind)
+            .thenComparing(SignatureFingerprinter::selectionName);
+    private static final Comparator<QueryFingerprint> SHAPES = Comparator.comparingLong(QueryFingerprint::getHigh)
+            .thenComparingLong(QueryFingerprint::getLow);
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private final Map<String, FragmentDefinition> fragmentDefinitions = new HashMap<>();
+    private final Map<String, Integer> variables = new HashMap<>();
+    private final Map<String, Type> variableTypes;
+    // when only the shape of a selection is hashed, to order the selections with the same kind and name
+    private final boolean shapeOnly;
+    private final TreeSet<String> pendingFragments = new TreeSet<>();
+    private final Set<String> seenFragments = new HashSet<>();
+
+    // murmur3 state
+    private long h1;
+    private long h2;
+    private long k1;
+    private long k2;
+    private int blockPosition;
+    private long length;
+
+    SignatureFingerprinter() {
+        this(new HashMap<>(), false);
+    }
+
+    private SignatureFingerprinter(Map<String, Type> variableTypes, boolean shapeOnly) {
+        this.variableTypes = variableTypes;
+        this.shapeOnly = shapeOnly;
+    }
+
+    QueryFingerprint fingerprint(Document document, String operationName) {
+        OperationDefinition operation = null;
+        for (Definition definition : document.getDefinitions()) {
+            if (definition instanceof OperationDefinition) {
+                OperationDefinition operationDefinition = (OperationDefinition) definition;
+                if (operation == null && isThisOperation(operationDefinition, operationName)) {
+                    operation = operationDefinition;
+                }
+            } else if (definition instanceof FragmentDefinition) {
+                FragmentDefinition fragmentDefinition = (FragmentDefinition) definition;
+                fragmentDefinitions.putIfAbsent(fragmentDefinition.getName(), fragmentDefinition);
+            }
+            // SDL in a query makes no sense - its ignored should it be present
+        }
+        if (operation != null) {
+            for (VariableDefinition variableDefinition : operation.getVariableDefinitions()) {
+                variableTypes.putIfAbsent(variableDefinition.getName(), variableDefinition.getType());
+            }
+            operation(operation);
+        }
+        // fragments are hashed once each and only when the operation reaches them, the smallest pending name first
+        String fragmentName;
+        while ((fragmentName = pendingFragments.pollFirst()) != null) {
+            FragmentDefinition fragmentDefinition = fragmentDefinitions.get(fragmentName);
+            if (fragmentDefinition != null) {
+                fragmentDefinition(fragmentDefinition);
+            }
+        }
+        if (operation != null) {
+            variableDefinitions(operation.getVariableDefinitions());
+        }
+        return finish();
+    }
+
+    private static boolean isThisOperation(OperationDefinition operationDefinition, String operationName) {
+        String name = operationDefinition.getName();
+        if (operationName == null) {
+            return name == null;
+        }
+        return operationName.equals(name);
+    }
+
+    private void operation(OperationDefinition operation) {
+        OperationDefinition.Operation kind = operation.getOperation();
+        putChar('O');
+        putName(kind == null ? OperationDefinition.Operation.QUERY.name() : kind.name());
+        putName(operation.getName() == null ? "" : operation.getName());
+        directives(operation.getDirectives());
+        selectionSet(operation.getSelectionSet());
+    }
+
+    private void variableDefinitions(List<VariableDefinition> variableDefinitions) {
+        for (VariableDefinition variableDefinition : variableDefinitions) {
+            variables.putIfAbsent(variableDefinition.getName(), variables.size());
+        }
+        List<VariableDefinition> byNumber = sorted(variableDefinitions, Comparator.comparingInt(variableDefinition -> variables.get(variableDefinition.getName())));
+        for (VariableDefinition variableDefinition : byNumber) {
+            putChar('V');
+            variable(variableDefinition.getName());
+            type(variableDefinition.getType());
+            if (variableDefinition.getDefaultValue() != null) {
+                putChar('=');
+                value(variableDefinition.getDefaultValue());
+            }
+        }
+    }
+
+    private void fragmentDefinition(FragmentDefinition fragmentDefinition) {
+        putChar('D');
+        putName(fragmentDefinition.getName());
+        putName(fragmentDefinition.getTypeCondition().getName());
+        directives(fragmentDefinition.getDirectives());
+        selectionSet(fragmentDefinition.getSelectionSet());
+    }
+
+    private void selectionSet(SelectionSet selectionSet) {
+        if (selectionSet == null) {
+            return;
+        }
+        putChar('{');
+        List<Selection> selections = sorted(selectionSet.getSelections(), SELECTIONS);
+        sortSameNamed(selections);
+        for (Selection selection : selections) {
+            selection(selection);
+        }
+        putChar('}');
+    }
+
+    private void selection(Selection selection) {
+        if (selection instanceof Field) {
+            Field field = (Field) selection;
+            putChar('F');
+            putName(field.getName());
+            arguments(field.getArguments());
+            directives(field.getDirectives());
+            selectionSet(field.getSelectionSet());
+        } else if (selection instanceof FragmentSpread) {
+            FragmentSpread fragmentSpread = (FragmentSpread) selection;
+            putChar('S');
+            putName(fragmentSpread.getName());
+            directives(fragmentSpread.getDirectives());
+            if (seenFragments.add(fragmentSpread.getName())) {
+                pendingFragments.add(fragmentSpread.getName());
+            }
+        } else if (selection instanceof InlineFragment) {
+            InlineFragment inlineFragment = (InlineFragment) selection;
+            putChar('I');
+            putName(selectionName(inlineFragment));
+            directives(inlineFragment.getDirectives());
+            selectionSet(inlineFragment.getSelectionSet());
+        }
+    }
+
+    private void sortSameNamed(List<Selection> selections) {
+        int start = 0;
+        while (start < selections.size()) {
+            int end = start + 1;
+            while (end < selections.size() && SELECTIONS.compare(selections.get(start), selections.get(end)) == 0) {
+                end++;
+            }
+            if (end - start > 1) {
+                // only the selections with the same kind and name, which are rare, pay for hashing their shape
+                Map<Selection, QueryFingerprint> shapes = new IdentityHashMap<>();
+                for (Selection selection : selections.subList(start, end)) {
+                    shapes.put(selection, shape(selection));
+                }
+                selections.subList(start, end).sort(Comparator.comparing(shapes::get, SHAPES));
+            }
+            start = end;
+        }
+    }
+
+    private QueryFingerprint shape(Selection selection) {
+        SignatureFingerprinter shapeFingerprinter = new SignatureFingerprinter(variableTypes, true);
+        shapeFingerprinter.selection(selection);
+        return shapeFingerprinter.finish();
+    }
+
+    private void directives(List<Directive> directives) {
+        for (Directive directive : sorted(directives, DIRECTIVES)) {
+            putChar('@');
+            putName(directive.getName());
+            arguments(directive.getArguments());
+        }
+    }
+
+    private void arguments(List<Argument> arguments) {
+        if (arguments.isEmpty()) {
+            return;
+        }
+        putChar('(');
+        for (Argument argument : sorted(arguments, ARGUMENTS)) {
+            putName(argument.getName());
+            value(argument.getValue());
+        }
+        putChar(')');
+    }
+
+    private void value(Value value) {
+        // literals are hidden, only their kind is part of the signature
+        if (value instanceof VariableReference) {
+            putChar('$');
+            variable(((VariableReference) value).getName());
+        } else if (value instanceof EnumValue) {
+            putChar('E');
+            putName(((EnumValue) value).getName());
+        } else if (value instanceof IntValue || value instanceof FloatValue) {
+            putChar('0');
+        } else if (value instanceof StringValue) {
+            putChar('"');
+        } else if (value instanceof BooleanValue) {
+            putChar('B');
+        } else if (value instanceof ArrayValue) {
+            putChar('[');
+        } else if (value instanceof ObjectValue) {
+            putChar('<');
+        } else {
+            putChar('N');
+        }
+    }
+
+    private void variable(String name) {
+        if (shapeOnly) {
+            Type type = variableTypes.get(name);
+            if (type == null) {
+                putChar('?');
+            } else {
+                type(type);
+            }
+            return;
+        }
+        Integer index = variables.get(name);
+        if (index == null) {
+            // numbered on first reference
+            index = variables.size();
+            variables.put(name, index);
+        }
+        putChar((char) (index >>> 16));
+        putChar((char) index.intValue());
+    }
+
+    private void type(Type type) {
+        if (type instanceof NonNullType) {
+            putChar('!');
+            type(((NonNullType) type).getType());
+        } else if (type instanceof ListType) {
+            putChar('[');
+            type(((ListType) type).getType());
+        } else {
+            putChar('T');
+            putName(((TypeName) type).getName());
+        }
+    }
+
+    private static int selectionKind(Selection selection) {
+        if (selection instanceof Field) {
+            return 1;
+        }
+        if (selection instanceof FragmentSpread) {
+            return 2;
+        }
+        if (selection instanceof InlineFragment) {
+            return 3;
+        }
+        return 4;
+    }
+
+    private static String selectionName(Selection selection) {
+        if (selection instanceof Field) {
+            return ((Field) selection).getName();
+        }
+        if (selection instanceof FragmentSpread) {
+            return ((FragmentSpread) selection).getName();
+        }
+        if (selection instanceof InlineFragment) {
+            TypeName typeCondition = ((InlineFragment) selection).getTypeCondition();
+            return typeCondition == null ? "" : typeCondition.getName();
+        }
+        return "";
+    }
+
+    private static <T> List<T> sorted(List<T> items, Comparator<? super T> comparator) {
+        if (items.size() < 2) {
+            return items;
+        }
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    private void putName(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            putChar(name.charAt(i));
+        }
+        putChar('\0');
+    }
+
+    private void putChar(char c) {
+        putByte(c & 0xFF);
+        putByte(c >>> 8);
+    }
+
+    private void putByte(int b) {
+        if (blockPosition < 8) {
+            k1 |= (b & 0xFFL) << (blockPosition * 8);
+        } else {
+            k2 |= (b & 0xFFL) << ((blockPosition - 8) * 8);
+        }
+        length++;
+        if (++blockPosition == 16) {
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+
+            k1 = 0;
+            k2 = 0;
+            blockPosition = 0;
+        }
+    }
+
+    private QueryFingerprint finish() {
+        if (blockPosition > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (blockPosition > 0) {
+            h1 ^= mixK1(k1);
+        }
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new QueryFingerprint(h1, h2);
+    }
+
+    private static long mixK1(long k) {
+        k *= C1;
+        k = Long.rotateLeft(k, 31);
+        k *= C2;
+        return k;
+    }
+
+    private static long mixK2(long k) {
+        k *= C2;
+        k = Long.rotateLeft(k, 33);
+        k *= C1;
+        return k;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -24,6 +24,7 @@ import graphql.language.FragmentDefinition;
 import graphql.language.FragmentSpread;
 import graphql.language.IgnoredChar;
 import graphql.language.IgnoredChars;
+import graphql.language.NameInterner;
 import graphql.language.InlineFragment;
 import graphql.language.InputObjectTypeDefinition;
 import graphql.language.InputObjectTypeExtensionDefinition;
@@ -61,6 +62,7 @@ import graphql.parser.antlr.GraphqlParser;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -81,11 +83,22 @@ public class GraphqlAntlrToLanguage {
     private static final int CHANNEL_IGNORED_CHARS = 3;
     private final CommonTokenStream tokens;
     private final MultiSourceReader multiSourceReader;
+    private final NameInterner nameInterner;
 
 
     public GraphqlAntlrToLanguage(CommonTokenStream tokens, MultiSourceReader multiSourceReader) {
+        this(tokens, multiSourceReader, null);
+    }
+
+    /**
+     * @param tokens            the tokens of the document
+     * @param multiSourceReader the reader of the document
+     * @param nameInterner      the interner for names, string values and source locations, or null to not intern them
+     */
+    public GraphqlAntlrToLanguage(CommonTokenStream tokens, MultiSourceReader multiSourceReader, NameInterner nameInterner) {
         this.tokens = tokens;
         this.multiSourceReader = multiSourceReader;
+        this.nameInterner = nameInterner;
     }
 
     //MARKER START: Here GraphqlOperation.g4 specific methods begin
@@ -121,7 +134,7 @@ public class GraphqlAntlrToLanguage {
             operationDefinition.operation(parseOperation(ctx.operationType()));
         }
         if (ctx.name() != null) {
-            operationDefinition.name(ctx.name().getText());
+            operationDefinition.name(text(ctx.name()));
         }
         operationDefinition.variableDefinitions(createVariableDefinitions(ctx.variableDefinitions()));
         operationDefinition.selectionSet(createSelectionSet(ctx.selectionSet()));
@@ -143,7 +156,7 @@ public class GraphqlAntlrToLanguage {
     }
 
     protected FragmentSpread createFragmentSpread(GraphqlParser.FragmentSpreadContext ctx) {
-        FragmentSpread.Builder fragmentSpread = FragmentSpread.newFragmentSpread().name(ctx.fragmentName().getText());
+        FragmentSpread.Builder fragmentSpread = FragmentSpread.newFragmentSpread().name(text(ctx.fragmentName()));
         addCommonData(fragmentSpread, ctx);
         fragmentSpread.directives(createDirectives(ctx.directives()));
         return fragmentSpread.build();
@@ -159,7 +172,7 @@ public class GraphqlAntlrToLanguage {
     protected VariableDefinition createVariableDefinition(GraphqlParser.VariableDefinitionContext ctx) {
         VariableDefinition.Builder variableDefinition = VariableDefinition.newVariableDefinition();
         addCommonData(variableDefinition, ctx);
-        variableDefinition.name(ctx.variable().name().getText());
+        variableDefinition.name(text(ctx.variable().name()));
         if (ctx.defaultValue() != null) {
             Value value = createValue(ctx.defaultValue().value());
             variableDefinition.defaultValue(value);
@@ -172,8 +185,8 @@ public class GraphqlAntlrToLanguage {
     protected FragmentDefinition createFragmentDefinition(GraphqlParser.FragmentDefinitionContext ctx) {
         FragmentDefinition.Builder fragmentDefinition = FragmentDefinition.newFragmentDefinition();
         addCommonData(fragmentDefinition, ctx);
-        fragmentDefinition.name(ctx.fragmentName().getText());
-        fragmentDefinition.typeCondition(TypeName.newTypeName().name(ctx.typeCondition().typeName().getText()).build());
+        fragmentDefinition.name(text(ctx.fragmentName()));
+        fragmentDefinition.typeCondition(TypeName.newTypeName().name(text(ctx.typeCondition().typeName())).build());
         fragmentDefinition.directives(createDirectives(ctx.directives()));
         fragmentDefinition.selectionSet(createSelectionSet(ctx.selectionSet()));
         return fragmentDefinition.build();
@@ -207,9 +220,9 @@ public class GraphqlAntlrToLanguage {
     protected Field createField(GraphqlParser.FieldContext ctx) {
         Field.Builder builder = Field.newField();
         addCommonData(builder, ctx);
-        builder.name(ctx.name().getText());
+        builder.name(text(ctx.name()));
         if (ctx.alias() != null) {
-            builder.alias(ctx.alias().name().getText());
+            builder.alias(text(ctx.alias().name()));
         }
 
         builder.directives(createDirectives(ctx.directives()));
@@ -308,7 +321,7 @@ public class GraphqlAntlrToLanguage {
 
     protected TypeName createTypeName(GraphqlParser.TypeNameContext ctx) {
         TypeName.Builder builder = TypeName.newTypeName();
-        builder.name(ctx.name().getText());
+        builder.name(text(ctx.name()));
         addCommonData(builder, ctx);
         return builder.build();
     }
@@ -336,7 +349,7 @@ public class GraphqlAntlrToLanguage {
     protected Argument createArgument(GraphqlParser.ArgumentContext ctx) {
         Argument.Builder builder = Argument.newArgument();
         addCommonData(builder, ctx);
-        builder.name(ctx.name().getText());
+        builder.name(text(ctx.name()));
         builder.value(createValue(ctx.valueWithVariable()));
         return builder.build();
     }
@@ -358,7 +371,7 @@ public class GraphqlAntlrToLanguage {
 
     protected Directive createDirective(GraphqlParser.DirectiveContext ctx) {
         Directive.Builder builder = Directive.newDirective();
-        builder.name(ctx.name().getText());
+        builder.name(text(ctx.name()));
         addCommonData(builder, ctx);
         builder.arguments(createArguments(ctx.arguments()));
         return builder.build();
@@ -375,7 +388,7 @@ public class GraphqlAntlrToLanguage {
 
     protected OperationTypeDefinition createOperationTypeDefinition(GraphqlParser.OperationTypeDefinitionContext ctx) {
         OperationTypeDefinition.Builder def = OperationTypeDefinition.newOperationTypeDefinition();
-        def.name(ctx.operationType().getText());
+        def.name(text(ctx.operationType()));
         def.typeName(createTypeName(ctx.typeName()));
         addCommonData(def, ctx);
         return def.build();
@@ -383,7 +396,7 @@ public class GraphqlAntlrToLanguage {
 
     protected ScalarTypeDefinition createScalarTypeDefinition(GraphqlParser.ScalarTypeDefinitionContext ctx) {
         ScalarTypeDefinition.Builder def = ScalarTypeDefinition.newScalarTypeDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.description(newDescription(ctx.description()));
         def.directives(createDirectives(ctx.directives()));
@@ -392,7 +405,7 @@ public class GraphqlAntlrToLanguage {
 
     protected ScalarTypeExtensionDefinition createScalarTypeExtensionDefinition(GraphqlParser.ScalarTypeExtensionDefinitionContext ctx) {
         ScalarTypeExtensionDefinition.Builder def = ScalarTypeExtensionDefinition.newScalarTypeExtensionDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.directives(createDirectives(ctx.directives()));
         return def.build();
@@ -400,7 +413,7 @@ public class GraphqlAntlrToLanguage {
 
     protected ObjectTypeDefinition createObjectTypeDefinition(GraphqlParser.ObjectTypeDefinitionContext ctx) {
         ObjectTypeDefinition.Builder def = ObjectTypeDefinition.newObjectTypeDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.description(newDescription(ctx.description()));
         def.directives(createDirectives(ctx.directives()));
@@ -420,7 +433,7 @@ public class GraphqlAntlrToLanguage {
 
     protected ObjectTypeExtensionDefinition createObjectTypeExtensionDefinition(GraphqlParser.ObjectTypeExtensionDefinitionContext ctx) {
         ObjectTypeExtensionDefinition.Builder def = ObjectTypeExtensionDefinition.newObjectTypeExtensionDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.directives(createDirectives(ctx.directives()));
         GraphqlParser.ImplementsInterfacesContext implementsInterfacesContext = ctx.implementsInterfaces();
@@ -454,7 +467,7 @@ public class GraphqlAntlrToLanguage {
 
     protected FieldDefinition createFieldDefinition(GraphqlParser.FieldDefinitionContext ctx) {
         FieldDefinition.Builder def = FieldDefinition.newFieldDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         def.type(createType(ctx.type()));
         addCommonData(def, ctx);
         def.description(newDescription(ctx.description()));
@@ -472,7 +485,7 @@ public class GraphqlAntlrToLanguage {
 
     protected InputValueDefinition createInputValueDefinition(GraphqlParser.InputValueDefinitionContext ctx) {
         InputValueDefinition.Builder def = InputValueDefinition.newInputValueDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         def.type(createType(ctx.type()));
         addCommonData(def, ctx);
         def.description(newDescription(ctx.description()));
@@ -485,7 +498,7 @@ public class GraphqlAntlrToLanguage {
 
     protected InterfaceTypeDefinition createInterfaceTypeDefinition(GraphqlParser.InterfaceTypeDefinitionContext ctx) {
         InterfaceTypeDefinition.Builder def = InterfaceTypeDefinition.newInterfaceTypeDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.description(newDescription(ctx.description()));
         def.directives(createDirectives(ctx.directives()));
@@ -495,7 +508,7 @@ public class GraphqlAntlrToLanguage {
 
     protected InterfaceTypeExtensionDefinition createInterfaceTypeExtensionDefinition(GraphqlParser.InterfaceTypeExtensionDefinitionContext ctx) {
         InterfaceTypeExtensionDefinition.Builder def = InterfaceTypeExtensionDefinition.newInterfaceTypeExtensionDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.directives(createDirectives(ctx.directives()));
         def.definitions(createFieldDefinitions(ctx.extensionFieldsDefinition()));
@@ -504,7 +517,7 @@ public class GraphqlAntlrToLanguage {
 
     protected UnionTypeDefinition createUnionTypeDefinition(GraphqlParser.UnionTypeDefinitionContext ctx) {
         UnionTypeDefinition.Builder def = UnionTypeDefinition.newUnionTypeDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.description(newDescription(ctx.description()));
         def.directives(createDirectives(ctx.directives()));
@@ -523,7 +536,7 @@ public class GraphqlAntlrToLanguage {
 
     protected UnionTypeExtensionDefinition createUnionTypeExtensionDefinition(GraphqlParser.UnionTypeExtensionDefinitionContext ctx) {
         UnionTypeExtensionDefinition.Builder def = UnionTypeExtensionDefinition.newUnionTypeExtensionDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.directives(createDirectives(ctx.directives()));
         List<Type> members = new ArrayList<>();
@@ -540,7 +553,7 @@ public class GraphqlAntlrToLanguage {
 
     protected EnumTypeDefinition createEnumTypeDefinition(GraphqlParser.EnumTypeDefinitionContext ctx) {
         EnumTypeDefinition.Builder def = EnumTypeDefinition.newEnumTypeDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.description(newDescription(ctx.description()));
         def.directives(createDirectives(ctx.directives()));
@@ -553,7 +566,7 @@ public class GraphqlAntlrToLanguage {
 
     protected EnumTypeExtensionDefinition createEnumTypeExtensionDefinition(GraphqlParser.EnumTypeExtensionDefinitionContext ctx) {
         EnumTypeExtensionDefinition.Builder def = EnumTypeExtensionDefinition.newEnumTypeExtensionDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.directives(createDirectives(ctx.directives()));
         if (ctx.extensionEnumValueDefinitions() != null) {
@@ -565,7 +578,7 @@ public class GraphqlAntlrToLanguage {
 
     protected EnumValueDefinition createEnumValueDefinition(GraphqlParser.EnumValueDefinitionContext ctx) {
         EnumValueDefinition.Builder def = EnumValueDefinition.newEnumValueDefinition();
-        def.name(ctx.enumValue().getText());
+        def.name(text(ctx.enumValue()));
         addCommonData(def, ctx);
         def.description(newDescription(ctx.description()));
         def.directives(createDirectives(ctx.directives()));
@@ -574,7 +587,7 @@ public class GraphqlAntlrToLanguage {
 
     protected InputObjectTypeDefinition createInputObjectTypeDefinition(GraphqlParser.InputObjectTypeDefinitionContext ctx) {
         InputObjectTypeDefinition.Builder def = InputObjectTypeDefinition.newInputObjectDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.description(newDescription(ctx.description()));
         def.directives(createDirectives(ctx.directives()));
@@ -586,7 +599,7 @@ public class GraphqlAntlrToLanguage {
 
     protected InputObjectTypeExtensionDefinition createInputObjectTypeExtensionDefinition(GraphqlParser.InputObjectTypeExtensionDefinitionContext ctx) {
         InputObjectTypeExtensionDefinition.Builder def = InputObjectTypeExtensionDefinition.newInputObjectTypeExtensionDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.directives(createDirectives(ctx.directives()));
         if (ctx.extensionInputObjectValueDefinitions() != null) {
@@ -597,7 +610,7 @@ public class GraphqlAntlrToLanguage {
 
     protected DirectiveDefinition createDirectiveDefinition(GraphqlParser.DirectiveDefinitionContext ctx) {
         DirectiveDefinition.Builder def = DirectiveDefinition.newDirectiveDefinition();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         def.description(newDescription(ctx.description()));
         GraphqlParser.DirectiveLocationsContext directiveLocationsContext = ctx.directiveLocations();
@@ -615,7 +628,7 @@ public class GraphqlAntlrToLanguage {
 
     protected DirectiveLocation createDirectiveLocation(GraphqlParser.DirectiveLocationContext ctx) {
         DirectiveLocation.Builder def = DirectiveLocation.newDirectiveLocation();
-        def.name(ctx.name().getText());
+        def.name(text(ctx.name()));
         addCommonData(def, ctx);
         return def.build();
     }
@@ -636,11 +649,11 @@ public class GraphqlAntlrToLanguage {
         } else if (ctx.NullValue() != null) {
             return Null;
         } else if (ctx.stringValue() != null) {
-            StringValue.Builder stringValue = StringValue.newStringValue().value(quotedString(ctx.stringValue()));
+            StringValue.Builder stringValue = StringValue.newStringValue().value(intern(quotedString(ctx.stringValue())));
             addCommonData(stringValue, ctx);
             return stringValue.build();
         } else if (ctx.enumValue() != null) {
-            EnumValue.Builder enumValue = EnumValue.newEnumValue().name(ctx.enumValue().getText());
+            EnumValue.Builder enumValue = EnumValue.newEnumValue().name(text(ctx.enumValue()));
             addCommonData(enumValue, ctx);
             return enumValue.build();
         } else if (ctx.arrayValueWithVariable() != null) {
@@ -659,14 +672,14 @@ public class GraphqlAntlrToLanguage {
                     ctx.objectValueWithVariable().objectFieldWithVariable()) {
 
                 ObjectField objectField = ObjectField.newObjectField()
-                        .name(objectFieldWithVariableContext.name().getText())
+                        .name(text(objectFieldWithVariableContext.name()))
                         .value(createValue(objectFieldWithVariableContext.valueWithVariable()))
                         .build();
                 objectFields.add(objectField);
             }
             return objectValue.objectFields(objectFields).build();
         } else if (ctx.variable() != null) {
-            VariableReference.Builder variableReference = VariableReference.newVariableReference().name(ctx.variable().name().getText());
+            VariableReference.Builder variableReference = VariableReference.newVariableReference().name(text(ctx.variable().name()));
             addCommonData(variableReference, ctx);
             return variableReference.build();
         }
@@ -689,11 +702,11 @@ public class GraphqlAntlrToLanguage {
         } else if (ctx.NullValue() != null) {
             return Null;
         } else if (ctx.stringValue() != null) {
-            StringValue.Builder stringValue = StringValue.newStringValue().value(quotedString(ctx.stringValue()));
+            StringValue.Builder stringValue = StringValue.newStringValue().value(intern(quotedString(ctx.stringValue())));
             addCommonData(stringValue, ctx);
             return stringValue.build();
         } else if (ctx.enumValue() != null) {
-            EnumValue.Builder enumValue = EnumValue.newEnumValue().name(ctx.enumValue().getText());
+            EnumValue.Builder enumValue = EnumValue.newEnumValue().name(text(ctx.enumValue()));
             addCommonData(enumValue, ctx);
             return enumValue.build();
         } else if (ctx.arrayValue() != null) {
@@ -711,7 +724,7 @@ public class GraphqlAntlrToLanguage {
             for (GraphqlParser.ObjectFieldContext objectFieldContext :
                     ctx.objectValue().objectField()) {
                 ObjectField objectField = ObjectField.newObjectField()
-                        .name(objectFieldContext.name().getText())
+                        .name(text(objectFieldContext.name()))
                         .value(createValue(objectFieldContext.value()))
                         .build();
                 objectFields.add(objectField);
@@ -751,7 +764,11 @@ public class GraphqlAntlrToLanguage {
         List<Token> rightChannel = tokens.getHiddenTokensToRight(tokenStopIndex, CHANNEL_IGNORED_CHARS);
         List<IgnoredChar> ignoredCharsRight = mapTokenToIgnoredChar(rightChannel);
 
-        nodeBuilder.ignoredChars(new IgnoredChars(ignoredCharsLeft, ignoredCharsRight));
+        if (ignoredCharsLeft.isEmpty() && ignoredCharsRight.isEmpty()) {
+            nodeBuilder.ignoredChars(IgnoredChars.EMPTY);
+        } else {
+            nodeBuilder.ignoredChars(new IgnoredChars(ignoredCharsLeft, ignoredCharsRight));
+        }
     }
 
     private List<IgnoredChar> mapTokenToIgnoredChar(List<Token> tokens) {
@@ -787,7 +804,7 @@ public class GraphqlAntlrToLanguage {
             default:
                 kind = IgnoredChar.IgnoredCharKind.OTHER;
         }
-        return new IgnoredChar(token.getText(), kind, getSourceLocation(token));
+        return new IgnoredChar(intern(token.getText()), kind, getSourceLocation(token));
     }
 
     protected Description newDescription(GraphqlParser.DescriptionContext descriptionCtx) {
@@ -810,7 +827,16 @@ public class GraphqlAntlrToLanguage {
     }
 
     protected SourceLocation getSourceLocation(Token token) {
-        return SourceLocationHelper.mkSourceLocation(multiSourceReader, token);
+        SourceLocation sourceLocation = SourceLocationHelper.mkSourceLocation(multiSourceReader, token);
+        return nameInterner == null ? sourceLocation : nameInterner.intern(sourceLocation);
+    }
+
+    private String text(ParseTree parseTree) {
+        return intern(parseTree.getText());
+    }
+
+    private String intern(String value) {
+        return nameInterner == null ? value : nameInterner.intern(value);
     }
 
     protected SourceLocation getSourceLocation(ParserRuleContext parserRuleContext) {
@@ -2,6 +2,7 @@ package graphql.parser;
 
 import graphql.Internal;
 import graphql.language.Document;
+import graphql.language.NameInterner;
 import graphql.language.SourceLocation;
 import graphql.parser.antlr.GraphqlBaseListener;
 import graphql.parser.antlr.GraphqlLexer;
@@ -68,9 +69,19 @@ public class Parser {
      * Whether this parser should skip all checks or not. Used by {@link graphql.schema.idl.SchemaParser}.
      */
     private final boolean checksSkipped;
+    private final NameInterner nameInterner;
 
     public Parser(boolean checksSkipped) {
+        this(checksSkipped, null);
+    }
+
+    /**
+     * @param checksSkipped whether this parser should skip all checks or not
+     * @param nameInterner  the interner to share names, string values and source locations between the parsed documents, or null
+     */
+    public Parser(boolean checksSkipped, NameInterner nameInterner) {
         this.checksSkipped = checksSkipped;
+        this.nameInterner = nameInterner;
     }
 
     public Parser() {
@@ -159,7 +170,7 @@ public class Parser {
             };
             parser.addParseListener(listener);
         }
-        GraphqlAntlrToLanguage toLanguage = new GraphqlAntlrToLanguage(tokens, multiSourceReader);
+        GraphqlAntlrToLanguage toLanguage = new GraphqlAntlrToLanguage(tokens, multiSourceReader, nameInterner);
         GraphqlParser.DocumentContext documentContext = parser.document();
 
         Document doc = toLanguage.createDocument(documentContext);
@@ -0,0 +1,30 @@
+package graphql.relay;
+
+import graphql.PublicApi;
+
+import java.util.List;
+
+/**
+ * The source of the items of an {@link IndexedConnection}, for example a database table or a remote service.
+ * <p>
+ * Only the items of the requested page are ever asked for and the total number of items is only asked for when it
+ * is really needed, so the items never have to be loaded into memory all at once.
+ *
+ * @param <T> the type of the items
+ */
+@PublicApi
+public interface ConnectionDataSource<T> {
+
+    /**
+     * @param offset the index of the first item to give back, never negative
+     * @param limit  the maximum number of items to give back, never negative
+     *
+     * @return the items from the offset on, which has fewer than limit items if the source ends before that
+     */
+    List<T> slice(int offset, int limit);
+
+    /**
+     * @return the total number of items in the source
+     */
+    int count();
+}
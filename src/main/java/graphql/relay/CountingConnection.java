@@ -0,0 +1,36 @@
+package graphql.relay;
+
+import graphql.PublicApi;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * A {@link DefaultConnection} that can also tell the total number of items, as is often asked for via a {@code totalCount}
+ * field of the connection type.  The items are only counted when {@link #getTotalCount()} is called, that is when the
+ * field is actually selected.
+ */
+@PublicApi
+public class CountingConnection<T> extends DefaultConnection<T> {
+
+    private final IntSupplier totalCount;
+
+    /**
+     * @param edges      a non null list of edges
+     * @param pageInfo   a non null page info
+     * @param totalCount counts the items, which is only called when the total count is asked for
+     */
+    public CountingConnection(List<Edge<T>> edges, PageInfo pageInfo, IntSupplier totalCount) {
+        super(edges, pageInfo);
+        this.totalCount = assertNotNull(totalCount, "total count cannot be null");
+    }
+
+    /**
+     * @return the total number of items of the connection, not only those of this page
+     */
+    public int getTotalCount() {
+        return totalCount.getAsInt();
+    }
+}
@@ -0,0 +1,226 @@
+package graphql.relay;
+
+import graphql.PublicApi;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static graphql.Assert.assertNotNull;
+import static graphql.Assert.assertTrue;
+import static java.lang.String.format;
+import static java.util.Base64.getDecoder;
+import static java.util.Base64.getEncoder;
+
+/**
+ * A connection data fetcher like {@link SimpleListConnection} whose cursors are the indexes of the items, but that gets its items
+ * from a {@link ConnectionDataSource} rather than from a list in memory.
+ * <p>
+ * Only the items of the requested page are loaded.  When paging forward with {@code first} one more item is loaded to tell
+ * whether there is a next page.  The items are only counted when that can't be avoided, which is when the page is not
+ * limited by {@code first} or {@code before}, or when {@link CountingConnection#getTotalCount()} or, for a page selected
+ * with both {@code first} and {@code last}, {@link PageInfo#isHasNextPage()} are called.
+ * <p>
+ * The cursors are the same as those of a {@link SimpleListConnection} with the same prefix.
+ */
+@PublicApi
+public class IndexedConnection<T> implements DataFetcher<Connection<T>> {
+
+    private static final int MAX_OFFSET_DIGITS = 10;
+
+    private final ConnectionDataSource<T> dataSource;
+    private final byte[] prefix;
+
+    public IndexedConnection(ConnectionDataSource<T> dataSource, String prefix) {
+        this.dataSource = assertNotNull(dataSource, "data source cannot be null");
+        assertTrue(prefix != null && !prefix.isEmpty(), "prefix cannot be null or empty");
+        this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public IndexedConnection(ConnectionDataSource<T> dataSource) {
+        this(dataSource, SimpleListConnection.DUMMY_CURSOR_PREFIX);
+    }
+
+    @Override
+    public Connection<T> get(DataFetchingEnvironment environment) {
+        int begin = getOffsetFromCursor(environment.getArgument("after"), -1) + 1;
+        String beforeCursor = environment.getArgument("before");
+        Integer before = beforeCursor == null ? null : getOffsetFromCursor(beforeCursor, 0);
+
+        Integer first = environment.getArgument("first");
+        Integer last = environment.getArgument("last");
+        if (first != null && first < 0) {
+            throw new InvalidPageSizeException(format("The page size must not be negative: 'first'=%s", first));
+        }
+        if (last != null && last < 0) {
+            throw new InvalidPageSizeException(format("The page size must not be negative: 'last'=%s", last));
+        }
+
+        TotalCount totalCount = new TotalCount(dataSource);
+        int start;
+        int end;
+        List<T> items;
+        if (first != null) {
+            long firstEnd = (long) begin + first;
+            if (before != null) {
+                firstEnd = Math.min(firstEnd, before);
+            }
+            int size = (int) Math.max(0, firstEnd - begin);
+            items = dataSource.slice(begin, last == null && size < Integer.MAX_VALUE ? size + 1 : size);
+            if (items.size() > size) {
+                // the extra item tells that there is a next page without having to count
+                items = items.subList(0, size);
+                totalCount.atLeast(begin + size + 1);
+            } else if (items.size() < size && (begin == 0 || !items.isEmpty())) {
+                totalCount.is(begin + items.size());
+            }
+            end = begin + items.size();
+            start = last == null ? begin : Math.max(begin, end - last);
+            items = items.subList(start - begin, items.size());
+        } else {
+            end = before != null && last == null ? before : totalCount.getAsInt();
+            if (before != null) {
+                end = Math.min(end, before);
+            }
+            start = last != null ? Math.max(begin, end - last) : begin;
+            int size = Math.max(0, end - start);
+            items = dataSource.slice(start, size);
+            if (items.size() < size && (start == 0 || !items.isEmpty())) {
+                totalCount.is(start + items.size());
+            }
+            end = start + items.size();
+        }
+
+        if (items.isEmpty()) {
+            return new CountingConnection<>(Collections.emptyList(), new DefaultPageInfo(null, null, false, false), totalCount);
+        }
+
+        List<Edge<T>> edges = new ArrayList<>(items.size());
+        int index = start;
+        for (T item : items) {
+            edges.add(new DefaultEdge<>(item, cursorForIndex(index++)));
+        }
+        PageInfo pageInfo = new IndexedPageInfo(edges.get(0).getCursor(), edges.get(edges.size() - 1).getCursor(),
+                start > 0, end, totalCount);
+        return new CountingConnection<>(edges, pageInfo, totalCount);
+    }
+
+    /**
+     * @param index the index of an item in the data source
+     *
+     * @return the cursor of that item
+     */
+    public ConnectionCursor cursorForIndex(int index) {
+        assertTrue(index >= 0, "index cannot be negative");
+        int digits = 1;
+        for (int rest = index / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        byte[] bytes = new byte[prefix.length + digits];
+        System.arraycopy(prefix, 0, bytes, 0, prefix.length);
+        for (int i = bytes.length - 1, rest = index; i >= prefix.length; i--, rest /= 10) {
+            bytes[i] = (byte) ('0' + rest % 10);
+        }
+        return new DefaultConnectionCursor(getEncoder().encodeToString(bytes));
+    }
+
+    private int getOffsetFromCursor(String cursor, int defaultValue) {
+        if (cursor == null) {
+            return defaultValue;
+        }
+        byte[] bytes;
+        try {
+            bytes = getDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(format("The cursor is not in base64 format : '%s'", cursor), e);
+        }
+        if (prefix.length > bytes.length) {
+            throw new InvalidCursorException(format("The cursor prefix is missing from the cursor : '%s'", cursor));
+        }
+        int digits = bytes.length - prefix.length;
+        if (digits == 0 || digits > MAX_OFFSET_DIGITS) {
+            throw new InvalidCursorException(format("The cursor was not created by this class  : '%s'", cursor));
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                throw new InvalidCursorException(format("The cursor was not created by this class  : '%s'", cursor));
+            }
+        }
+        long offset = 0;
+        for (int i = prefix.length; i < bytes.length; i++) {
+            byte b = bytes[i];
+            if (b < '0' || b > '9') {
+                throw new InvalidCursorException(format("The cursor was not created by this class  : '%s'", cursor));
+            }
+            offset = offset * 10 + (b - '0');
+        }
+        if (offset > Integer.MAX_VALUE) {
+            throw new InvalidCursorException(format("The cursor was not created by this class  : '%s'", cursor));
+        }
+        return (int) offset;
+    }
+
+    /**
+     * Counts the items of the data source at most once, and only if asked for.  Loading a page often tells the count,
+     * or a lower bound of it, already.
+     */
+    private static class TotalCount implements IntSupplier {
+        private final ConnectionDataSource<?> dataSource;
+        private int count = -1;
+        private int atLeast;
+
+        TotalCount(ConnectionDataSource<?> dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        void is(int count) {
+            this.count = count;
+        }
+
+        void atLeast(int count) {
+            this.atLeast = count;
+        }
+
+        boolean isGreaterThan(int value) {
+            return atLeast > value || getAsInt() > value;
+        }
+
+        @Override
+        public int getAsInt() {
+            if (count < 0) {
+                count = dataSource.count();
+            }
+            return count;
+        }
+    }
+
+    private static class IndexedPageInfo extends DefaultPageInfo {
+        private final int end;
+        private final TotalCount totalCount;
+
+        IndexedPageInfo(ConnectionCursor startCursor, ConnectionCursor endCursor, boolean hasPreviousPage, int end, TotalCount totalCount) {
+            super(startCursor, endCursor, hasPreviousPage, false);
+            this.end = end;
+            this.totalCount = totalCount;
+        }
+
+        @Override
+        public boolean isHasNextPage() {
+            return totalCount.isGreaterThan(end);
+        }
+
+        @Override
+        public String toString() {
+            return "IndexedPageInfo{" +
+                    " startCursor=" + getStartCursor() +
+                    ", endCursor=" + getEndCursor() +
+                    ", hasPreviousPage=" + isHasPreviousPage() +
+                    ", end=" + end +
+                    '}';
+        }
+    }
+}
@@ -2,6 +2,7 @@ package graphql.schema;
 
 import graphql.PublicApi;
 import graphql.cachecontrol.CacheControl;
+import graphql.execution.ExecutionCancellation;
 import graphql.execution.ExecutionId;
 import graphql.execution.ExecutionStepInfo;
 import graphql.execution.MergedField;
@@ -208,6 +209,14 @@ public interface DataFetchingEnvironment {
      */
     CacheControl getCacheControl();
 
+    /**
+     * Data fetchers that call other services can use this to pass on the time left for the execution, and to stop their
+     * work once it is cancelled.
+     *
+     * @return the deadline and cancellation token of the current execution
+     */
+    ExecutionCancellation getCancellation();
+
     /**
      * @return the current operation that is being executed
      */
@@ -3,6 +3,7 @@ package graphql.schema;
 
 import graphql.Internal;
 import graphql.cachecontrol.CacheControl;
+import graphql.execution.ExecutionCancellation;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionId;
 import graphql.execution.ExecutionStepInfo;
@@ -12,12 +13,14 @@ import graphql.language.Document;
 import graphql.language.Field;
 import graphql.language.FragmentDefinition;
 import graphql.language.OperationDefinition;
+import graphql.util.MemoizedSupplier;
 import org.dataloader.DataLoader;
 import org.dataloader.DataLoaderRegistry;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
 @Internal
@@ -35,9 +38,10 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
     private final Map<String, FragmentDefinition> fragmentsByName;
     private final ExecutionId executionId;
     private final DataFetchingFieldSelectionSet selectionSet;
-    private final ExecutionStepInfo executionStepInfo;
+    private final Supplier<ExecutionStepInfo> executionStepInfo;
     private final DataLoaderRegistry dataLoaderRegistry;
     private final CacheControl cacheControl;
+    private final ExecutionCancellation cancellation;
     private final OperationDefinition operationDefinition;
     private final Document document;
     private final Map<String, Object> variables;
@@ -60,6 +64,7 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
         this.executionStepInfo = builder.executionStepInfo;
         this.dataLoaderRegistry = builder.dataLoaderRegistry;
         this.cacheControl = builder.cacheControl;
+        this.cancellation = builder.cancellation == null ? ExecutionCancellation.never() : builder.cancellation;
         this.operationDefinition = builder.operationDefinition;
         this.document = builder.document;
         this.variables = builder.variables == null ? Collections.emptyMap() : builder.variables;
@@ -158,7 +163,7 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
 
     @Override
     public ExecutionStepInfo getExecutionStepInfo() {
-        return executionStepInfo;
+        return executionStepInfo.get();
     }
 
     @Override
@@ -171,6 +176,11 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
         return cacheControl;
     }
 
+    @Override
+    public ExecutionCancellation getCancellation() {
+        return cancellation;
+    }
+
     @Override
     public OperationDefinition getOperationDefinition() {
         return operationDefinition;
@@ -189,7 +199,7 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
     @Override
     public String toString() {
         return "DataFetchingEnvironmentImpl{" +
-                "executionStepInfo=" + executionStepInfo +
+                "executionStepInfo=" + executionStepInfo.get() +
                 '}';
     }
 
@@ -212,12 +222,20 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
                 .fragmentsByName(executionContext.getFragmentsByName())
                 .dataLoaderRegistry(executionContext.getDataLoaderRegistry())
                 .cacheControl(executionContext.getCacheControl())
+                .cancellation(executionContext.getCancellation())
                 .document(executionContext.getDocument())
                 .operationDefinition(executionContext.getOperationDefinition())
                 .variables(executionContext.getVariables())
                 .executionId(executionContext.getExecutionId());
     }
 
+    private static final Supplier<?> NULL_SUPPLIER = MemoizedSupplier.of(null);
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> nullSupplier() {
+        return (Supplier<T>) NULL_SUPPLIER;
+    }
+
     public static class Builder {
 
         private Object source;
@@ -231,9 +249,10 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
         private GraphQLSchema graphQLSchema;
         private ExecutionId executionId;
         private DataFetchingFieldSelectionSet selectionSet;
-        private ExecutionStepInfo executionStepInfo;
+        private Supplier<ExecutionStepInfo> executionStepInfo = nullSupplier();
         private DataLoaderRegistry dataLoaderRegistry;
         private CacheControl cacheControl;
+        private ExecutionCancellation cancellation;
         private OperationDefinition operationDefinition;
         private Document document;
         private Map<String, Object> arguments;
@@ -258,6 +277,7 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
             this.executionStepInfo = env.executionStepInfo;
             this.dataLoaderRegistry = env.dataLoaderRegistry;
             this.cacheControl = env.cacheControl;
+            this.cancellation = env.cancellation;
             this.operationDefinition = env.operationDefinition;
             this.document = env.document;
             this.variables = env.variables;
@@ -333,7 +353,19 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
         }
 
         public Builder executionStepInfo(ExecutionStepInfo executionStepInfo) {
-            this.executionStepInfo = executionStepInfo;
+            this.executionStepInfo = MemoizedSupplier.of(executionStepInfo);
+            return this;
+        }
+
+        /**
+         * The execution step info is only computed when the data fetcher asks for it
+         *
+         * @param executionStepInfo computes the execution step info, at most once
+         *
+         * @return this builder
+         */
+        public Builder executionStepInfo(Supplier<ExecutionStepInfo> executionStepInfo) {
+            this.executionStepInfo = MemoizedSupplier.memoize(executionStepInfo);
             return this;
         }
 
@@ -347,6 +379,11 @@ public class DataFetchingEnvironmentImpl implements DataFetchingEnvironment {
             return this;
         }
 
+        public Builder cancellation(ExecutionCancellation cancellation) {
+            this.cancellation = cancellation;
+            return this;
+        }
+
         public Builder operationDefinition(OperationDefinition operationDefinition) {
             this.operationDefinition = operationDefinition;
             return this;
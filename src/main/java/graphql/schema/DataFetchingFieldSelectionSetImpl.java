@@ -18,11 +18,9 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static graphql.Assert.assertNotNull;
 import static java.util.Collections.emptyList;
@@ -92,49 +90,50 @@ public class DataFetchingFieldSelectionSetImpl implements DataFetchingFieldSelec
         return unwrappedType instanceof GraphQLObjectType ? (GraphQLObjectType) unwrappedType : null;
     }
 
-    private final FieldCollector fieldCollector = new FieldCollector();
-    private final ValuesResolver valuesResolver = new ValuesResolver();
+    private final static FieldCollector fieldCollector = new FieldCollector();
+    private final static ValuesResolver valuesResolver = new ValuesResolver();
 
     private final MergedField parentFields;
     private final GraphQLSchema graphQLSchema;
     private final GraphQLFieldsContainer parentFieldType;
     private final Map<String, Object> variables;
     private final Map<String, FragmentDefinition> fragmentsByName;
+    // null if the selection set is not computed as part of an execution
+    private final SelectionSetCache selectionSetCache;
 
-    private Map<String, MergedField> selectionSetFields;
-    private Map<String, GraphQLFieldDefinition> selectionSetFieldDefinitions;
-    private Map<String, Map<String, Object>> selectionSetFieldArgs;
-    private Set<String> flattenedFields;
+    private volatile SelectionValues values;
 
     private DataFetchingFieldSelectionSetImpl(ExecutionContext executionContext, GraphQLFieldsContainer parentFieldType, MergedField parentFields) {
-        this(parentFields, parentFieldType, executionContext.getGraphQLSchema(), executionContext.getVariables(), executionContext.getFragmentsByName());
+        this(parentFields, parentFieldType, executionContext.getGraphQLSchema(), executionContext.getVariables(), executionContext.getFragmentsByName(), executionContext.getSelectionSetCache());
     }
 
     public DataFetchingFieldSelectionSetImpl(MergedField parentFields, GraphQLFieldsContainer parentFieldType, GraphQLSchema graphQLSchema, Map<String, Object> variables, Map<String, FragmentDefinition> fragmentsByName) {
+        this(parentFields, parentFieldType, graphQLSchema, variables, fragmentsByName, null);
+    }
+
+    private DataFetchingFieldSelectionSetImpl(MergedField parentFields, GraphQLFieldsContainer parentFieldType, GraphQLSchema graphQLSchema, Map<String, Object> variables, Map<String, FragmentDefinition> fragmentsByName, SelectionSetCache selectionSetCache) {
         this.parentFields = parentFields;
         this.graphQLSchema = graphQLSchema;
         this.parentFieldType = parentFieldType;
         this.variables = variables;
         this.fragmentsByName = fragmentsByName;
+        this.selectionSetCache = selectionSetCache;
     }
 
     @Override
     public MergedSelectionSet get() {
         // by having a .get() method we get lazy evaluation.
-        computeValuesLazily();
-        return MergedSelectionSet.newMergedSelectionSet().subFields(selectionSetFields).build();
+        return MergedSelectionSet.newMergedSelectionSet().subFields(values().selectionSetFields).build();
     }
 
     @Override
     public Map<String, Map<String, Object>> getArguments() {
-        computeValuesLazily();
-        return selectionSetFieldArgs;
+        return values().selectionSetFieldArgs;
     }
 
     @Override
     public Map<String, GraphQLFieldDefinition> getDefinitions() {
-        computeValuesLazily();
-        return selectionSetFieldDefinitions;
+        return values().selectionSetFieldDefinitions;
     }
 
     @Override
@@ -142,15 +141,7 @@ public class DataFetchingFieldSelectionSetImpl implements DataFetchingFieldSelec
         if (fieldGlobPattern == null || fieldGlobPattern.isEmpty()) {
             return false;
         }
-        computeValuesLazily();
-        PathMatcher globMatcher = globMatcher(fieldGlobPattern);
-        for (String flattenedField : flattenedFields) {
-            Path path = Paths.get(flattenedField);
-            if (globMatcher.matches(path)) {
-                return true;
-            }
-        }
-        return false;
+        return !values().matching(fieldGlobPattern).isEmpty();
     }
 
     @Override
@@ -186,16 +177,28 @@ public class DataFetchingFieldSelectionSetImpl implements DataFetchingFieldSelec
 
     @Override
     public SelectedField getField(String fqFieldName) {
-        computeValuesLazily();
-
-        MergedField fields = selectionSetFields.get(fqFieldName);
+        SelectionValues values = values();
+        SelectedField selectedField = values.selectedFields.get(fqFieldName);
+        if (selectedField != null) {
+            return selectedField;
+        }
+        MergedField fields = values.selectionSetFields.get(fqFieldName);
         if (fields == null) {
             return null;
         }
-        GraphQLFieldDefinition fieldDefinition = selectionSetFieldDefinitions.get(fqFieldName);
-        Map<String, Object> arguments = selectionSetFieldArgs.get(fqFieldName);
+        GraphQLFieldDefinition fieldDefinition = values.selectionSetFieldDefinitions.get(fqFieldName);
+        Map<String, Object> arguments = values.selectionSetFieldArgs.get(fqFieldName);
         arguments = arguments == null ? emptyMap() : arguments;
-        return new SelectedFieldImpl(fqFieldName, fields, fieldDefinition, arguments);
+        DataFetchingFieldSelectionSet selectionSet = NOOP;
+        GraphQLType unwrappedType = GraphQLTypeUtil.unwrapAll(fieldDefinition.getType());
+        if (unwrappedType instanceof GraphQLFieldsContainer) {
+            // the selected fields are shared with the other selection sets of the document so they must not hold this execution,
+            // the sub selection set computes its values once for all of them
+            selectionSet = new DataFetchingFieldSelectionSetImpl(fields, (GraphQLFieldsContainer) unwrappedType, graphQLSchema, variables, fragmentsByName);
+        }
+        selectedField = new SelectedFieldImpl(fqFieldName, fields.getName(), fieldDefinition, arguments, selectionSet);
+        SelectedField existing = values.selectedFields.putIfAbsent(fqFieldName, selectedField);
+        return existing != null ? existing : selectedField;
     }
 
     @Override
@@ -203,48 +206,35 @@ public class DataFetchingFieldSelectionSetImpl implements DataFetchingFieldSelec
         if (fieldGlobPattern == null || fieldGlobPattern.isEmpty()) {
             return emptyList();
         }
-        computeValuesLazily();
-
-        List<String> targetNames = new ArrayList<>();
-        PathMatcher globMatcher = globMatcher(fieldGlobPattern);
-        for (String flattenedField : flattenedFields) {
-            Path path = Paths.get(flattenedField);
-            if (globMatcher.matches(path)) {
-                targetNames.add(flattenedField);
-            }
-        }
-        return targetNames.stream()
-                .map(this::getField)
-                .collect(Collectors.toList());
+        return toSelectedFields(values().matching(fieldGlobPattern));
     }
 
     @Override
     public List<SelectedField> getFields() {
-        computeValuesLazily();
+        return toSelectedFields(values().flattenedFields);
+    }
 
-        return flattenedFields.stream()
-                .map(this::getField)
-                .collect(Collectors.toList());
+    private List<SelectedField> toSelectedFields(List<String> fieldNames) {
+        List<SelectedField> selectedFields = new ArrayList<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            selectedFields.add(getField(fieldName));
+        }
+        return selectedFields;
     }
 
-    private class SelectedFieldImpl implements SelectedField {
+    private static class SelectedFieldImpl implements SelectedField {
         private final String qualifiedName;
         private final String name;
         private final GraphQLFieldDefinition fieldDefinition;
         private final DataFetchingFieldSelectionSet selectionSet;
         private final Map<String, Object> arguments;
 
-        private SelectedFieldImpl(String qualifiedName, MergedField parentFields, GraphQLFieldDefinition fieldDefinition, Map<String, Object> arguments) {
+        private SelectedFieldImpl(String qualifiedName, String name, GraphQLFieldDefinition fieldDefinition, Map<String, Object> arguments, DataFetchingFieldSelectionSet selectionSet) {
             this.qualifiedName = qualifiedName;
-            this.name = parentFields.getName();
+            this.name = name;
             this.fieldDefinition = fieldDefinition;
             this.arguments = arguments;
-            GraphQLType unwrappedType = GraphQLTypeUtil.unwrapAll(fieldDefinition.getType());
-            if (unwrappedType instanceof GraphQLFieldsContainer) {
-                this.selectionSet = new DataFetchingFieldSelectionSetImpl(parentFields, (GraphQLFieldsContainer) unwrappedType, graphQLSchema, variables, fragmentsByName);
-            } else {
-                this.selectionSet = NOOP;
-            }
+            this.selectionSet = selectionSet;
         }
 
         @Override
@@ -273,29 +263,30 @@ public class DataFetchingFieldSelectionSetImpl implements DataFetchingFieldSelec
         }
     }
 
-    private PathMatcher globMatcher(String fieldGlobPattern) {
-        return FileSystems.getDefault().getPathMatcher("glob:" + fieldGlobPattern);
+    private SelectionValues values() {
+        SelectionValues values = this.values;
+        if (values == null) {
+            values = selectionSetCache != null ? selectionSetCache.get(parentFields, parentFieldType, this::computeValues) : computeValues();
+            this.values = values;
+        }
+        return values;
     }
 
-    private void computeValuesLazily() {
-        synchronized (this) {
-            if (selectionSetFields != null) {
-                return;
-            }
-
-            selectionSetFields = new LinkedHashMap<>();
-            selectionSetFieldDefinitions = new LinkedHashMap<>();
-            selectionSetFieldArgs = new LinkedHashMap<>();
-            flattenedFields = new LinkedHashSet<>();
-
-            traverseFields(parentFields, parentFieldType, "");
-        }
+    private SelectionValues computeValues() {
+        Map<String, MergedField> selectionSetFields = new LinkedHashMap<>();
+        Map<String, GraphQLFieldDefinition> selectionSetFieldDefinitions = new LinkedHashMap<>();
+        Map<String, Map<String, Object>> selectionSetFieldArgs = new LinkedHashMap<>();
+        traverseFields(parentFields, parentFieldType, "", selectionSetFields, selectionSetFieldDefinitions, selectionSetFieldArgs);
+        return new SelectionValues(selectionSetFields, selectionSetFieldDefinitions, selectionSetFieldArgs);
     }
 
     private final static String SEP = "/";
 
 
-    private void traverseFields(MergedField fieldList, GraphQLFieldsContainer parentFieldType, String fieldPrefix) {
+    private void traverseFields(MergedField fieldList, GraphQLFieldsContainer parentFieldType, String fieldPrefix,
+                                Map<String, MergedField> selectionSetFields,
+                                Map<String, GraphQLFieldDefinition> selectionSetFieldDefinitions,
+                                Map<String, Map<String, Object>> selectionSetFieldArgs) {
 
         FieldCollectorParameters parameters = FieldCollectorParameters.newParameters()
                 .schema(graphQLSchema)
@@ -317,10 +308,9 @@ public class DataFetchingFieldSelectionSetImpl implements DataFetchingFieldSelec
 
             selectionSetFieldArgs.put(fieldName, argumentValues);
             selectionSetFieldDefinitions.put(fieldName, fieldDef);
-            flattenedFields.add(fieldName);
 
             if (unwrappedType instanceof GraphQLFieldsContainer) {
-                traverseFields(collectedFieldList, (GraphQLFieldsContainer) unwrappedType, fieldName);
+                traverseFields(collectedFieldList, (GraphQLFieldsContainer) unwrappedType, fieldName, selectionSetFields, selectionSetFieldDefinitions, selectionSetFieldArgs);
             }
         }
     }
@@ -328,4 +318,57 @@ public class DataFetchingFieldSelectionSetImpl implements DataFetchingFieldSelec
     private String mkFieldName(String fieldPrefix, String fieldName) {
         return (!fieldPrefix.isEmpty() ? fieldPrefix + SEP : "") + fieldName;
     }
+
+    /**
+     * The computed fields of a selection set, which are immutable and may be shared by many selection sets
+     */
+    static class SelectionValues {
+        // glob patterns come from code so there are only a few of them, this is just a safety net
+        private static final int MAX_CACHED_GLOBS = 256;
+
+        private final Map<String, MergedField> selectionSetFields;
+        private final Map<String, GraphQLFieldDefinition> selectionSetFieldDefinitions;
+        private final Map<String, Map<String, Object>> selectionSetFieldArgs;
+        private final List<String> flattenedFields;
+        private final Map<String, SelectedField> selectedFields = new ConcurrentHashMap<>();
+        private final Map<String, List<String>> matchingFields = new ConcurrentHashMap<>();
+        private volatile Path[] flattenedPaths;
+
+        SelectionValues(Map<String, MergedField> selectionSetFields, Map<String, GraphQLFieldDefinition> selectionSetFieldDefinitions, Map<String, Map<String, Object>> selectionSetFieldArgs) {
+            this.selectionSetFields = Collections.unmodifiableMap(selectionSetFields);
+            this.selectionSetFieldDefinitions = Collections.unmodifiableMap(selectionSetFieldDefinitions);
+            this.selectionSetFieldArgs = Collections.unmodifiableMap(selectionSetFieldArgs);
+            this.flattenedFields = Collections.unmodifiableList(new ArrayList<>(selectionSetFields.keySet()));
+        }
+
+        List<String> matching(String fieldGlobPattern) {
+            List<String> matching = matchingFields.get(fieldGlobPattern);
+            if (matching == null) {
+                matching = computeMatching(fieldGlobPattern);
+                if (matchingFields.size() < MAX_CACHED_GLOBS) {
+                    matchingFields.put(fieldGlobPattern, matching);
+                }
+            }
+            return matching;
+        }
+
+        private List<String> computeMatching(String fieldGlobPattern) {
+            Path[] paths = this.flattenedPaths;
+            if (paths == null) {
+                paths = new Path[flattenedFields.size()];
+                for (int i = 0; i < paths.length; i++) {
+                    paths[i] = Paths.get(flattenedFields.get(i));
+                }
+                this.flattenedPaths = paths;
+            }
+            PathMatcher globMatcher = FileSystems.getDefault().getPathMatcher("glob:" + fieldGlobPattern);
+            List<String> matching = new ArrayList<>();
+            for (int i = 0; i < paths.length; i++) {
+                if (globMatcher.matches(paths[i])) {
+                    matching.add(flattenedFields.get(i));
+                }
+            }
+            return Collections.unmodifiableList(matching);
+        }
+    }
 }
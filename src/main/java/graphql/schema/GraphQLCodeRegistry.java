@@ -3,9 +3,12 @@ package graphql.schema;
 import graphql.PublicApi;
 import graphql.schema.visibility.GraphqlFieldVisibility;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static graphql.Assert.assertNotNull;
@@ -21,6 +24,8 @@ import static graphql.schema.visibility.DefaultGraphqlFieldVisibility.DEFAULT_FI
  * the {@link graphql.schema.DataFetcher}s associated with fields, the {@link graphql.schema.TypeResolver}s associated with
  * abstract types and the {@link graphql.schema.visibility.GraphqlFieldVisibility}
  *
+ * It also tells which fields are memoized, see {@link Builder#memoizedField(FieldCoordinates)}
+ *
  * For legacy reasons these code functions can still exist on the original type objects but this will be removed in a future version.  Once
  * removed the type system objects will be able have proper hashCode/equals methods and be checked for proper equality.
  */
@@ -31,12 +36,16 @@ public class GraphQLCodeRegistry {
     private final Map<String, DataFetcherFactory> systemDataFetcherMap;
     private final Map<String, TypeResolver> typeResolverMap;
     private final GraphqlFieldVisibility fieldVisibility;
+    private final Set<FieldCoordinates> memoizedFields;
+    private final int maxMemoizedFetches;
 
-    private GraphQLCodeRegistry(Map<FieldCoordinates, DataFetcherFactory> dataFetcherMap, Map<String, DataFetcherFactory> systemDataFetcherMap, Map<String, TypeResolver> typeResolverMap, GraphqlFieldVisibility fieldVisibility) {
+    private GraphQLCodeRegistry(Map<FieldCoordinates, DataFetcherFactory> dataFetcherMap, Map<String, DataFetcherFactory> systemDataFetcherMap, Map<String, TypeResolver> typeResolverMap, GraphqlFieldVisibility fieldVisibility, Set<FieldCoordinates> memoizedFields, int maxMemoizedFetches) {
         this.dataFetcherMap = dataFetcherMap;
         this.systemDataFetcherMap = systemDataFetcherMap;
         this.typeResolverMap = typeResolverMap;
         this.fieldVisibility = fieldVisibility;
+        this.memoizedFields = memoizedFields;
+        this.maxMemoizedFetches = maxMemoizedFetches;
     }
 
     /**
@@ -86,6 +95,45 @@ public class GraphQLCodeRegistry {
                 .build());
     }
 
+    /**
+     * Returns true if the values fetched for the field at the specified coordinates are memoized within an execution
+     *
+     * @param coordinates the field coordinates
+     *
+     * @return true if the field is memoized
+     *
+     * @see Builder#memoizedField(FieldCoordinates)
+     */
+    public boolean isMemoized(FieldCoordinates coordinates) {
+        return !memoizedFields.isEmpty() && memoizedFields.contains(coordinates);
+    }
+
+    /**
+     * Returns true if the values fetched for a field within a container type are memoized within an execution
+     *
+     * @param parentType      the container type
+     * @param fieldDefinition the field definition
+     *
+     * @return true if the field is memoized
+     */
+    public boolean isMemoized(GraphQLFieldsContainer parentType, GraphQLFieldDefinition fieldDefinition) {
+        return !memoizedFields.isEmpty() && memoizedFields.contains(FieldCoordinates.coordinates(parentType, fieldDefinition));
+    }
+
+    /**
+     * @return the coordinates of the memoized fields
+     */
+    public Set<FieldCoordinates> getMemoizedFields() {
+        return Collections.unmodifiableSet(memoizedFields);
+    }
+
+    /**
+     * @return the maximum number of fetched values of memoized fields that an execution remembers
+     */
+    public int getMaxMemoizedFetches() {
+        return maxMemoizedFetches;
+    }
+
     private static boolean hasDataFetcherImpl(FieldCoordinates coords, Map<FieldCoordinates, DataFetcherFactory> dataFetcherMap, Map<String, DataFetcherFactory> systemDataFetcherMap) {
         assertNotNull(coords);
 
@@ -170,11 +218,15 @@ public class GraphQLCodeRegistry {
         return new Builder(existingCodeRegistry);
     }
 
+    public static final int DEFAULT_MAX_MEMOIZED_FETCHES = 1000;
+
     public static class Builder {
         private final Map<FieldCoordinates, DataFetcherFactory> dataFetcherMap = new LinkedHashMap<>();
         private final Map<String, DataFetcherFactory> systemDataFetcherMap = new LinkedHashMap<>();
         private final Map<String, TypeResolver> typeResolverMap = new HashMap<>();
+        private final Set<FieldCoordinates> memoizedFields = new HashSet<>();
         private GraphqlFieldVisibility fieldVisibility = DEFAULT_FIELD_VISIBILITY;
+        private int maxMemoizedFetches = DEFAULT_MAX_MEMOIZED_FETCHES;
 
 
         private Builder() {
@@ -184,6 +236,8 @@ public class GraphQLCodeRegistry {
             this.dataFetcherMap.putAll(codeRegistry.dataFetcherMap);
             this.typeResolverMap.putAll(codeRegistry.typeResolverMap);
             this.fieldVisibility = codeRegistry.fieldVisibility;
+            this.memoizedFields.addAll(codeRegistry.memoizedFields);
+            this.maxMemoizedFetches = codeRegistry.maxMemoizedFetches;
         }
 
         /**
@@ -379,6 +433,53 @@ public class GraphQLCodeRegistry {
             return this;
         }
 
+        /**
+         * Memoizes the values fetched for a field within an execution.  When the same field is asked again of the same
+         * source object with the same argument values, for example because several fragments select it, the value fetched
+         * the first time is used again rather than calling the data fetcher again.
+         * <p>
+         * This is meant for expensive computed fields.  Their data fetchers must only depend on the source object and the arguments,
+         * not on the local context, the selection set or the aliases of the field.  Source objects are compared by identity.
+         * <p>
+         * A {@link graphql.schema.idl.SchemaDirectiveWiring} can use this to mark fields with a directive as memoized.
+         *
+         * @param coordinates the field coordinates
+         *
+         * @return this builder
+         */
+        public Builder memoizedField(FieldCoordinates coordinates) {
+            memoizedFields.add(assertNotNull(coordinates));
+            return this;
+        }
+
+        /**
+         * Memoizes the values fetched for a field within an execution
+         *
+         * @param parentType      the container type
+         * @param fieldDefinition the field definition
+         *
+         * @return this builder
+         *
+         * @see #memoizedField(FieldCoordinates)
+         */
+        public Builder memoizedField(GraphQLFieldsContainer parentType, GraphQLFieldDefinition fieldDefinition) {
+            return memoizedField(FieldCoordinates.coordinates(parentType.getName(), fieldDefinition.getName()));
+        }
+
+        /**
+         * Sets how many fetched values of memoized fields an execution remembers at most, the fetches beyond that are not
+         * memoized.  It defaults to {@value GraphQLCodeRegistry#DEFAULT_MAX_MEMOIZED_FETCHES}.
+         *
+         * @param maxMemoizedFetches the maximum number of memoized fetches of an execution
+         *
+         * @return this builder
+         */
+        public Builder maxMemoizedFetches(int maxMemoizedFetches) {
+            assertTrue(maxMemoizedFetches >= 0, "maxMemoizedFetches must not be negative");
+            this.maxMemoizedFetches = maxMemoizedFetches;
+            return this;
+        }
+
         public Builder clearDataFetchers() {
             dataFetcherMap.clear();
             return this;
@@ -390,7 +491,7 @@ public class GraphQLCodeRegistry {
         }
 
         public GraphQLCodeRegistry build() {
-            return new GraphQLCodeRegistry(dataFetcherMap, systemDataFetcherMap, typeResolverMap, fieldVisibility);
+            return new GraphQLCodeRegistry(dataFetcherMap, systemDataFetcherMap, typeResolverMap, fieldVisibility, new HashSet<>(memoizedFields), maxMemoizedFetches);
         }
     }
 }
@@ -12,12 +12,17 @@ import graphql.schema.visibility.GraphqlFieldVisibility;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static graphql.Assert.assertNotNull;
 import static graphql.Assert.assertShouldNeverHappen;
@@ -44,7 +49,10 @@ public class GraphQLSchema {
     private final Set<GraphQLType> additionalTypes = new LinkedHashSet<>();
     private final Set<GraphQLDirective> directives = new LinkedHashSet<>();
     private final Map<String, List<GraphQLObjectType>> byInterface;
+    // the names of the possible object types of every interface and union type, so that isPossibleType is a hash lookup
+    private final Map<String, Set<String>> possibleTypeNames;
     private final GraphQLCodeRegistry codeRegistry;
+    private final ConcurrentMap<Object, Object> derivedData = new ConcurrentHashMap<>();
 
     /**
      * @param queryType the query type
@@ -100,7 +108,8 @@ public class GraphQLSchema {
         // sorted by type name
         SchemaUtil schemaUtil = new SchemaUtil();
         this.typeMap = new TreeMap<>(schemaUtil.allTypes(this, additionalTypes));
-        this.byInterface = new TreeMap<>(schemaUtil.groupImplementations(this));
+        this.byInterface = sortedImplementations(schemaUtil.groupImplementations(this));
+        this.possibleTypeNames = possibleTypeNames(typeMap, byInterface);
         this.codeRegistry = codeRegistry;
     }
 
@@ -115,9 +124,51 @@ public class GraphQLSchema {
         this.directives.addAll(otherSchema.directives);
         this.typeMap = otherSchema.typeMap;
         this.byInterface = otherSchema.byInterface;
+        this.possibleTypeNames = otherSchema.possibleTypeNames;
         this.codeRegistry = codeRegistry;
     }
 
+    /**
+     * Data the execution derives from this schema alone, such as the compiled input coercion of its types, is kept on the
+     * schema so that it is computed once for all the executions against the schema and goes away with it.
+     *
+     * @param key             the key of the data, usually the class that computes it
+     * @param computeFunction computes the data the first time it is asked for
+     * @param <T>             the type of the data
+     *
+     * @return the derived data for the key
+     */
+    @Internal
+    @SuppressWarnings("unchecked")
+    public <T> T getDerivedData(Object key, Function<Object, T> computeFunction) {
+        return (T) derivedData.computeIfAbsent(key, computeFunction);
+    }
+
+    private static Map<String, List<GraphQLObjectType>> sortedImplementations(Map<String, List<GraphQLObjectType>> implementationsByInterface) {
+        Map<String, List<GraphQLObjectType>> result = new TreeMap<>();
+        implementationsByInterface.forEach((interfaceName, implementations) ->
+                result.put(interfaceName, Collections.unmodifiableList(sortTypes(byNameAsc(), implementations))));
+        return result;
+    }
+
+    private static Map<String, Set<String>> possibleTypeNames(Map<String, GraphQLType> typeMap, Map<String, List<GraphQLObjectType>> byInterface) {
+        Map<String, Set<String>> result = new HashMap<>();
+        byInterface.forEach((interfaceName, implementations) -> {
+            Set<String> names = new HashSet<>();
+            implementations.forEach(implementation -> names.add(implementation.getName()));
+            result.put(interfaceName, names);
+        });
+        for (GraphQLType type : typeMap.values()) {
+            if (type instanceof GraphQLUnionType) {
+                // the possible types can still be type references at this point, but their names are already known
+                Set<String> names = new HashSet<>();
+                ((GraphQLUnionType) type).getTypes().forEach(possibleType -> names.add(possibleType.getName()));
+                result.put(type.getName(), names);
+            }
+        }
+        return result;
+    }
+
 
     public GraphQLCodeRegistry getCodeRegistry() {
         return codeRegistry;
@@ -169,7 +220,7 @@ public class GraphQLSchema {
         List<GraphQLObjectType> implementations = byInterface.get(type.getName());
         return (implementations == null)
                 ? Collections.emptyList()
-                : Collections.unmodifiableList(sortTypes(byNameAsc(), implementations));
+                : implementations;
     }
 
     /**
@@ -184,6 +235,13 @@ public class GraphQLSchema {
      * @return true if possible type, false otherwise.
      */
     public boolean isPossibleType(GraphQLType abstractType, GraphQLObjectType concreteType) {
+        if (abstractType instanceof GraphQLInterfaceType || abstractType instanceof GraphQLUnionType) {
+            Set<String> names = possibleTypeNames.get(abstractType.getName());
+            // abstract types that are not part of this schema are checked the slow way
+            if (names != null && typeMap.get(abstractType.getName()) == abstractType) {
+                return names.contains(concreteType.getName());
+            }
+        }
         if (abstractType instanceof GraphQLInterfaceType) {
             return getImplementations((GraphQLInterfaceType) abstractType).stream()
                     .map(GraphQLType::getName)
@@ -0,0 +1,128 @@
+package graphql.schema;
+
+
+import graphql.PublicApi;
+import graphql.TypeResolutionEnvironment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * A {@link graphql.schema.TypeResolver} that resolves the object type from the Java class of the value.  The resolved
+ * object type is cached per class (and schema) so that resolving many values of the same class, say the items of a
+ * large list of union values, is a single hash lookup per value.
+ * <pre>
+ * {@code
+ *     // Human.class to "Human" and Droid.class to "Droid"
+ *     TypeResolver characterResolver = new JavaClassTypeResolver();
+ *
+ *     // explicit mapping, sub classes of the mapped classes resolve to the same type
+ *     Map<Class<?>, String> typeNames = new HashMap<>();
+ *     typeNames.put(HumanEntity.class, "Human");
+ *     typeNames.put(DroidEntity.class, "Droid");
+ *     TypeResolver resolver = new JavaClassTypeResolver(typeNames);
+ * }
+ * </pre>
+ * The type name function must always give the same answer for a given class.
+ */
+@PublicApi
+public class JavaClassTypeResolver implements TypeResolver {
+
+    private final Function<Class<?>, String> typeNameFunction;
+    private final Map<Class<?>, ResolvedType> resolvedTypes = new ConcurrentHashMap<>();
+
+    /**
+     * A type resolver that uses the simple name of the class of the value as the type name
+     */
+    public JavaClassTypeResolver() {
+        this(Class::getSimpleName);
+    }
+
+    /**
+     * A type resolver that looks up the class of the value, its super classes and then its interfaces in the given map
+     *
+     * @param typeNamesByClass the object type names by class
+     */
+    public JavaClassTypeResolver(Map<Class<?>, String> typeNamesByClass) {
+        this(typeNameInHierarchy(new LinkedHashMap<>(assertNotNull(typeNamesByClass, "typeNamesByClass can't be null"))));
+    }
+
+    /**
+     * A type resolver that uses the given function to map the class of the value to a type name
+     *
+     * @param typeNameFunction the function from class to object type name, which may return null if there is no type for the class
+     */
+    public JavaClassTypeResolver(Function<Class<?>, String> typeNameFunction) {
+        this.typeNameFunction = assertNotNull(typeNameFunction, "typeNameFunction can't be null");
+    }
+
+    @Override
+    public GraphQLObjectType getType(TypeResolutionEnvironment env) {
+        Object object = env.getObject();
+        if (object == null) {
+            return null;
+        }
+        Class<?> clazz = object.getClass();
+        GraphQLSchema schema = env.getSchema();
+        ResolvedType resolvedType = resolvedTypes.get(clazz);
+        if (resolvedType != null && resolvedType.schema == schema) {
+            return resolvedType.objectType;
+        }
+        String typeName = typeNameFunction.apply(clazz);
+        if (typeName == null) {
+            return null;
+        }
+        GraphQLType type = schema.getType(typeName);
+        if (!(type instanceof GraphQLObjectType)) {
+            return null;
+        }
+        GraphQLObjectType objectType = (GraphQLObjectType) type;
+        resolvedTypes.put(clazz, new ResolvedType(schema, objectType));
+        return objectType;
+    }
+
+    private static Function<Class<?>, String> typeNameInHierarchy(Map<Class<?>, String> typeNamesByClass) {
+        return clazz -> {
+            List<Class<?>> interfaces = new ArrayList<>();
+            for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+                String typeName = typeNamesByClass.get(c);
+                if (typeName != null) {
+                    return typeName;
+                }
+                collectInterfaces(c, interfaces);
+            }
+            for (Class<?> anInterface : interfaces) {
+                String typeName = typeNamesByClass.get(anInterface);
+                if (typeName != null) {
+                    return typeName;
+                }
+            }
+            return null;
+        };
+    }
+
+    private static void collectInterfaces(Class<?> clazz, List<Class<?>> interfaces) {
+        for (Class<?> anInterface : clazz.getInterfaces()) {
+            if (!interfaces.contains(anInterface)) {
+                interfaces.add(anInterface);
+                collectInterfaces(anInterface, interfaces);
+            }
+        }
+    }
+
+    private static class ResolvedType {
+        private final GraphQLSchema schema;
+        private final GraphQLObjectType objectType;
+
+        ResolvedType(GraphQLSchema schema, GraphQLObjectType objectType) {
+            this.schema = schema;
+            this.objectType = objectType;
+        }
+    }
+}
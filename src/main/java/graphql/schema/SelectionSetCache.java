@@ -0,0 +1,120 @@
+package graphql.schema;
+
+import graphql.Internal;
+import graphql.execution.MergedField;
+import graphql.language.Document;
+import graphql.language.Field;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the computed {@link DataFetchingFieldSelectionSet}s of an execution, so that the selection set of a field is
+ * only computed once and not again for every object of a list.
+ * <p>
+ * Without variables the selection sets only depend on the document and the schema, so they are then also shared with
+ * later executions of the same {@link Document} instance, as given out by a {@link graphql.execution.preparsed.PreparsedDocumentProvider}.
+ * They are then kept as {@link Document#getDerivedData(Object, java.util.function.Function) derived data} of the document
+ * and go away with it.
+ */
+@Internal
+public class SelectionSetCache {
+
+    private final GraphQLSchema graphQLSchema;
+    private final Document document;
+    private volatile ConcurrentMap<SelectionKey, DataFetchingFieldSelectionSetImpl.SelectionValues> selectionSets;
+
+    public SelectionSetCache(GraphQLSchema graphQLSchema, Document document, Map<String, Object> variables) {
+        this.graphQLSchema = graphQLSchema;
+        // variables could change which fields are selected and their arguments
+        this.document = variables.isEmpty() ? document : null;
+    }
+
+    DataFetchingFieldSelectionSetImpl.SelectionValues get(MergedField fields, GraphQLFieldsContainer parentType, Supplier<DataFetchingFieldSelectionSetImpl.SelectionValues> compute) {
+        ConcurrentMap<SelectionKey, DataFetchingFieldSelectionSetImpl.SelectionValues> selectionSets = selectionSets();
+        SelectionKey key = new SelectionKey(fields.getFields(), parentType);
+        DataFetchingFieldSelectionSetImpl.SelectionValues values = selectionSets.get(key);
+        if (values == null) {
+            values = compute.get();
+            DataFetchingFieldSelectionSetImpl.SelectionValues existing = selectionSets.putIfAbsent(key, values);
+            if (existing != null) {
+                values = existing;
+            }
+        }
+        return values;
+    }
+
+    private ConcurrentMap<SelectionKey, DataFetchingFieldSelectionSetImpl.SelectionValues> selectionSets() {
+        ConcurrentMap<SelectionKey, DataFetchingFieldSelectionSetImpl.SelectionValues> selectionSets = this.selectionSets;
+        if (selectionSets == null) {
+            DocumentSelectionSets documentSelectionSets = document != null
+                    ? document.getDerivedData(SelectionSetCache.class, key -> new DocumentSelectionSets(graphQLSchema))
+                    : null;
+            // a document is executed against a single schema unless the schema is replaced, then it is no longer shared
+            if (documentSelectionSets != null && documentSelectionSets.graphQLSchema == graphQLSchema) {
+                selectionSets = documentSelectionSets.selectionSets;
+            } else {
+                selectionSets = new ConcurrentHashMap<>();
+            }
+            this.selectionSets = selectionSets;
+        }
+        return selectionSets;
+    }
+
+    private static class DocumentSelectionSets {
+        private final GraphQLSchema graphQLSchema;
+        private final ConcurrentMap<SelectionKey, DataFetchingFieldSelectionSetImpl.SelectionValues> selectionSets = new ConcurrentHashMap<>();
+
+        DocumentSelectionSets(GraphQLSchema graphQLSchema) {
+            this.graphQLSchema = graphQLSchema;
+        }
+    }
+
+    /**
+     * The same field nodes below the same type, the field nodes are compared by identity as they are the same
+     * for all the objects of a list
+     */
+    private static class SelectionKey {
+        private final List<Field> fields;
+        private final GraphQLFieldsContainer parentType;
+        private final int hashCode;
+
+        SelectionKey(List<Field> fields, GraphQLFieldsContainer parentType) {
+            this.fields = fields;
+            this.parentType = parentType;
+            int hashCode = System.identityHashCode(parentType);
+            for (Field field : fields) {
+                hashCode = 31 * hashCode + System.identityHashCode(field);
+            }
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SelectionKey)) {
+                return false;
+            }
+            SelectionKey that = (SelectionKey) o;
+            if (parentType != that.parentType || fields.size() != that.fields.size()) {
+                return false;
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                if (fields.get(i) != that.fields.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
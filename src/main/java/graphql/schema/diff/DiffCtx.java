@@ -1,68 +1,197 @@
 package graphql.schema.diff;
 
 import graphql.Internal;
+import graphql.language.AstPrinter;
+import graphql.language.Definition;
 import graphql.language.Document;
+import graphql.language.ObjectTypeDefinition;
 import graphql.language.Type;
 import graphql.language.TypeDefinition;
 import graphql.schema.diff.reporting.DifferenceReporter;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /*
  * A helper class that represents diff state (eg visited types) as well as helpers
+ *
+ * The type definitions of both documents are indexed by name once, and the fingerprints of the types are computed
+ * at most once per type.  Both are shared with the recording contexts that compare types in parallel.
  */
 @Internal
 class DiffCtx {
-    final List<String> examinedTypes = new ArrayList<>();
+    final Set<String> examinedTypes = new HashSet<>();
     final Deque<String> currentTypes = new ArrayDeque<>();
     private final DifferenceReporter reporter;
     final Document oldDoc;
     final Document newDoc;
+    private final Map<String, TypeDefinition> oldTypes;
+    private final Map<String, TypeDefinition> newTypes;
+    private final Map<String, String> oldFingerprints;
+    private final Map<String, String> newFingerprints;
+    // when not null, the events and the types to examine are recorded here instead of being reported
+    private final List<Object> recording;
 
     DiffCtx(DifferenceReporter reporter, Document oldDoc, Document newDoc) {
         this.reporter = reporter;
         this.oldDoc = oldDoc;
         this.newDoc = newDoc;
+        this.oldTypes = indexTypes(oldDoc);
+        this.newTypes = indexTypes(newDoc);
+        this.oldFingerprints = new ConcurrentHashMap<>();
+        this.newFingerprints = new ConcurrentHashMap<>();
+        this.recording = null;
+    }
+
+    private DiffCtx(DiffCtx parent, List<Object> recording) {
+        this.reporter = null;
+        this.oldDoc = parent.oldDoc;
+        this.newDoc = parent.newDoc;
+        this.oldTypes = parent.oldTypes;
+        this.newTypes = parent.newTypes;
+        this.oldFingerprints = parent.oldFingerprints;
+        this.newFingerprints = parent.newFingerprints;
+        this.recording = recording;
+    }
+
+    /**
+     * @param recording the list to record into
+     *
+     * @return a context sharing the documents of this one that records the events and the types to examine into the given list
+     */
+    DiffCtx recordingInto(List<Object> recording) {
+        return new DiffCtx(this, recording);
+    }
+
+    boolean isRecording() {
+        return recording != null;
     }
 
     void report(DiffEvent differenceEvent) {
-        reporter.report(differenceEvent);
+        if (recording != null) {
+            recording.add(differenceEvent);
+        } else {
+            reporter.report(differenceEvent);
+        }
+    }
+
+    void recordTypeVisit(Type oldType, Type newType) {
+        recording.add(new TypeVisit(oldType, newType));
     }
 
     boolean examiningType(String typeName) {
-        if (examinedTypes.contains(typeName)) {
+        if (!examinedTypes.add(typeName)) {
             return true;
         }
-        examinedTypes.add(typeName);
         currentTypes.push(typeName);
         return false;
     }
 
     void exitType() {
-        currentTypes.pop();
+        if (recording == null) {
+            currentTypes.pop();
+        }
     }
 
     <T extends TypeDefinition> Optional<T> getOldTypeDef(Type type, Class<T> typeDefClass) {
-        return getType(SchemaDiff.getTypeName(type), typeDefClass, oldDoc);
+        return getType(SchemaDiff.getTypeName(type), typeDefClass, oldTypes);
     }
 
     <T extends TypeDefinition> Optional<T> getNewTypeDef(Type type, Class<T> typeDefClass) {
-        return getType(SchemaDiff.getTypeName(type), typeDefClass, newDoc);
+        return getType(SchemaDiff.getTypeName(type), typeDefClass, newTypes);
+    }
+
+    /**
+     * A type is unchanged when its definition prints the same in both documents, and so do the interfaces of an object type
+     * since they are checked as part of it.
+     *
+     * @param oldDef the old definition of a type
+     * @param newDef the new definition of a type
+     *
+     * @return true if the type is unchanged
+     */
+    boolean isUnchanged(TypeDefinition oldDef, TypeDefinition newDef) {
+        String oldFingerprint = oldFingerprints.computeIfAbsent(oldDef.getName(), name -> fingerprint(oldDef, oldTypes));
+        String newFingerprint = newFingerprints.computeIfAbsent(newDef.getName(), name -> fingerprint(newDef, newTypes));
+        return oldFingerprint.hashCode() == newFingerprint.hashCode() && oldFingerprint.equals(newFingerprint);
+    }
+
+    private static String fingerprint(TypeDefinition typeDefinition, Map<String, TypeDefinition> types) {
+        StringBuilder sb = new StringBuilder(AstPrinter.printAst(typeDefinition));
+        if (typeDefinition instanceof ObjectTypeDefinition) {
+            for (Type implemented : ((ObjectTypeDefinition) typeDefinition).getImplements()) {
+                TypeDefinition interfaceDefinition = types.get(SchemaDiff.getTypeName(implemented));
+                sb.append('\n');
+                if (interfaceDefinition != null) {
+                    sb.append(AstPrinter.printAst(interfaceDefinition));
+                }
+            }
+        }
+        return sb.toString();
     }
 
-    private <T extends TypeDefinition> Optional<T> getType(String typeName, Class<T> typeDefClass, Document doc) {
+    private static Map<String, TypeDefinition> indexTypes(Document doc) {
+        if (doc == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, TypeDefinition> types = new HashMap<>();
+        for (Definition definition : doc.getDefinitions()) {
+            if (definition instanceof TypeDefinition) {
+                TypeDefinition typeDefinition = (TypeDefinition) definition;
+                types.putIfAbsent(typeDefinition.getName(), typeDefinition);
+            }
+        }
+        return types;
+    }
+
+    private <T extends TypeDefinition> Optional<T> getType(String typeName, Class<T> typeDefClass, Map<String, TypeDefinition> types) {
         if (typeName == null) {
             return Optional.empty();
         }
-        return doc.getDefinitions().stream()
-                .filter(def -> typeDefClass.isAssignableFrom(def.getClass()))
-                .map(typeDefClass::cast)
-                .filter(defT -> defT.getName().equals(typeName))
-                .findFirst();
+        TypeDefinition typeDefinition = types.get(typeName);
+        if (typeDefinition == null || !typeDefClass.isAssignableFrom(typeDefinition.getClass())) {
+            return Optional.empty();
+        }
+        return Optional.of(typeDefClass.cast(typeDefinition));
+    }
+
+    /*
+     * A type to examine, as recorded by a recording context
+     */
+    static class TypeVisit {
+        final Type oldType;
+        final Type newType;
+        final String oldName;
+        final String newName;
+
+        TypeVisit(Type oldType, Type newType) {
+            this.oldType = oldType;
+            this.newType = newType;
+            this.oldName = SchemaDiff.getTypeName(oldType);
+            this.newName = SchemaDiff.getTypeName(newType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            TypeVisit that = (TypeVisit) o;
+            return Objects.equals(oldName, that.oldName) && Objects.equals(newName, that.newName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(oldName, newName);
+        }
     }
 }
@@ -5,6 +5,8 @@ import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.PublicApi;
 import graphql.introspection.IntrospectionQuery;
+import graphql.introspection.IntrospectionResultToSchema;
+import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
 
 import java.util.Map;
@@ -12,23 +14,36 @@ import java.util.Map;
 /**
  * Represents 2 schemas that can be diffed.  The {@link SchemaDiff} code
  * assumes that that schemas to be diffed are the result of a
- * {@link graphql.introspection.IntrospectionQuery}.
+ * {@link graphql.introspection.IntrospectionQuery}, unless it was created with
+ * {@link #schemaDiffSet(GraphQLSchema, GraphQLSchema)} in which case the schemas are read directly.
  */
 @PublicApi
 public class DiffSet {
 
-    private final Map<String, Object> introspectionOld;
-    private final Map<String, Object> introspectionNew;
+    private Map<String, Object> introspectionOld;
+    private Map<String, Object> introspectionNew;
+    private final GraphQLSchema schemaOld;
+    private final GraphQLSchema schemaNew;
 
     public DiffSet(Map<String, Object> introspectionOld, Map<String, Object> introspectionNew) {
         this.introspectionOld = introspectionOld;
         this.introspectionNew = introspectionNew;
+        this.schemaOld = null;
+        this.schemaNew = null;
+    }
+
+    private DiffSet(GraphQLSchema schemaOld, GraphQLSchema schemaNew) {
+        this.schemaOld = Assert.assertNotNull(schemaOld, "schemaOld can't be null");
+        this.schemaNew = Assert.assertNotNull(schemaNew, "schemaNew can't be null");
     }
 
     /**
      * @return the old API as an introspection result
      */
     public Map<String, Object> getOld() {
+        if (introspectionOld == null && schemaOld != null) {
+            introspectionOld = introspect(schemaOld);
+        }
         return introspectionOld;
     }
 
@@ -36,9 +51,20 @@ public class DiffSet {
      * @return the new API as an introspection result
      */
     public Map<String, Object> getNew() {
+        if (introspectionNew == null && schemaNew != null) {
+            introspectionNew = introspect(schemaNew);
+        }
         return introspectionNew;
     }
 
+    Document getOldDocument() {
+        return schemaOld != null ? new SchemaToDiffDocument().createSchemaDefinition(schemaOld) : new IntrospectionResultToSchema().createSchemaDefinition(introspectionOld);
+    }
+
+    Document getNewDocument() {
+        return schemaNew != null ? new SchemaToDiffDocument().createSchemaDefinition(schemaNew) : new IntrospectionResultToSchema().createSchemaDefinition(introspectionNew);
+    }
+
 
     /**
      * Creates a diff set out of the result of 2 introspection queries.
@@ -66,6 +92,19 @@ public class DiffSet {
         return diffSet(introspectionOld, introspectionNew);
     }
 
+    /**
+     * Creates a diff set out of 2 schemas that are read directly when they are diffed, so unlike
+     * {@link #diffSet(GraphQLSchema, GraphQLSchema)} no introspection query is executed on them.
+     *
+     * @param schemaOld the older schema
+     * @param schemaNew the newer schema
+     *
+     * @return a diff set representing them
+     */
+    public static DiffSet schemaDiffSet(GraphQLSchema schemaOld, GraphQLSchema schemaNew) {
+        return new DiffSet(schemaOld, schemaNew);
+    }
+
     private static Map<String, Object> introspect(GraphQLSchema schema) {
         GraphQL gql = GraphQL.newGraphQL(schema).build();
         ExecutionResult result = gql.execute(IntrospectionQuery.INTROSPECTION_QUERY);
@@ -1,6 +1,5 @@
 package graphql.schema.diff;
 
-import graphql.introspection.IntrospectionResultToSchema;
 import graphql.language.Argument;
 import graphql.language.Directive;
 import graphql.language.Document;
@@ -23,13 +22,18 @@ import graphql.language.Value;
 import graphql.schema.diff.reporting.DifferenceReporter;
 import graphql.schema.idl.TypeInfo;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -51,17 +55,44 @@ public class SchemaDiff {
     public static class Options {
 
         final boolean enforceDirectives;
+        final boolean skipUnchangedTypes;
+        final Executor executor;
 
-        Options(boolean enforceDirectives) {
+        Options(boolean enforceDirectives, boolean skipUnchangedTypes, Executor executor) {
             this.enforceDirectives = enforceDirectives;
+            this.skipUnchangedTypes = skipUnchangedTypes;
+            this.executor = executor;
         }
 
         public Options enforceDirectives() {
-            return new Options(true);
+            return new Options(true, skipUnchangedTypes, executor);
+        }
+
+        /**
+         * A type whose definition is the same in both schemas cannot have breaking or dangerous changes, so with this option
+         * its fields are not examined one by one, only the types it refers to are.  The per field info events of such
+         * types are then not reported.
+         *
+         * @return new options that skip the unchanged types
+         */
+        public Options skipUnchangedTypes() {
+            return new Options(enforceDirectives, true, executor);
+        }
+
+        /**
+         * The types are compared on the given executor, many at a time.  The events are still reported on the calling
+         * thread and in the same order as when the types are compared one after the other.
+         *
+         * @param executor the executor to compare the types on
+         *
+         * @return new options that compare the types on the given executor
+         */
+        public Options executor(Executor executor) {
+            return new Options(enforceDirectives, skipUnchangedTypes, executor);
         }
 
         public static Options defaultOptions() {
-            return new Options(false);
+            return new Options(false, false, null);
         }
 
     }
@@ -126,26 +157,97 @@ public class SchemaDiff {
     }
 
     private void diffSchemaImpl(DiffSet diffSet, DifferenceReporter reporter) {
-        Map<String, Object> oldApi = diffSet.getOld();
-        Map<String, Object> newApi = diffSet.getNew();
-
-        Document oldDoc = new IntrospectionResultToSchema().createSchemaDefinition(oldApi);
-        Document newDoc = new IntrospectionResultToSchema().createSchemaDefinition(newApi);
+        Document oldDoc = diffSet.getOldDocument();
+        Document newDoc = diffSet.getNewDocument();
 
         DiffCtx ctx = new DiffCtx(reporter, oldDoc, newDoc);
 
         Optional<SchemaDefinition> oldSchemaDef = getSchemaDef(oldDoc);
         Optional<SchemaDefinition> newSchemaDef = getSchemaDef(newDoc);
 
+        if (options.executor == null) {
+            // check query operation
+            checkOperation(ctx, "query", oldSchemaDef, newSchemaDef);
+            checkOperation(ctx, "mutation", oldSchemaDef, newSchemaDef);
+            checkOperation(ctx, "subscription", oldSchemaDef, newSchemaDef);
+        } else {
+            List<Object> operations = new ArrayList<>();
+            DiffCtx recordingCtx = ctx.recordingInto(operations);
+            checkOperation(recordingCtx, "query", oldSchemaDef, newSchemaDef);
+            checkOperation(recordingCtx, "mutation", oldSchemaDef, newSchemaDef);
+            checkOperation(recordingCtx, "subscription", oldSchemaDef, newSchemaDef);
 
-        // check query operation
-        checkOperation(ctx, "query", oldSchemaDef, newSchemaDef);
-        checkOperation(ctx, "mutation", oldSchemaDef, newSchemaDef);
-        checkOperation(ctx, "subscription", oldSchemaDef, newSchemaDef);
+            Map<DiffCtx.TypeVisit, List<Object>> comparedTypes = compareTypes(ctx, operations);
+            replay(ctx, operations, comparedTypes);
+        }
 
         reporter.onEnd();
     }
 
+    /*
+     * Compares every type that can be reached from the recorded operations, one wave of newly reached types at a time,
+     * with the types of a wave being compared in parallel.  Each comparison records its events and the types it refers to
+     * rather than recursing into them.
+     */
+    private Map<DiffCtx.TypeVisit, List<Object>> compareTypes(DiffCtx ctx, List<Object> operations) {
+        Map<DiffCtx.TypeVisit, List<Object>> comparedTypes = new HashMap<>();
+        Set<DiffCtx.TypeVisit> firstWave = new LinkedHashSet<>();
+        collectTypeVisits(operations, firstWave);
+        List<DiffCtx.TypeVisit> wave = new ArrayList<>(firstWave);
+        while (!wave.isEmpty()) {
+            List<CompletableFuture<List<Object>>> comparisons = new ArrayList<>(wave.size());
+            for (DiffCtx.TypeVisit typeVisit : wave) {
+                comparisons.add(CompletableFuture.supplyAsync(() -> {
+                    List<Object> recording = new ArrayList<>();
+                    checkTypeDefinitions(ctx.recordingInto(recording), typeVisit.oldType, typeVisit.newType);
+                    return recording;
+                }, options.executor));
+            }
+            Set<DiffCtx.TypeVisit> nextWave = new LinkedHashSet<>();
+            for (int i = 0; i < wave.size(); i++) {
+                List<Object> recording = join(comparisons.get(i));
+                comparedTypes.put(wave.get(i), recording);
+                collectTypeVisits(recording, nextWave);
+            }
+            nextWave.removeAll(comparedTypes.keySet());
+            wave = new ArrayList<>(nextWave);
+        }
+        return comparedTypes;
+    }
+
+    private void collectTypeVisits(List<Object> recording, Set<DiffCtx.TypeVisit> typeVisits) {
+        for (Object recorded : recording) {
+            if (recorded instanceof DiffCtx.TypeVisit) {
+                typeVisits.add((DiffCtx.TypeVisit) recorded);
+            }
+        }
+    }
+
+    private static List<Object> join(CompletableFuture<List<Object>> comparison) {
+        try {
+            return comparison.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // reports the recorded events in the order that the recursive comparison would have reported them
+    private void replay(DiffCtx ctx, List<Object> recording, Map<DiffCtx.TypeVisit, List<Object>> comparedTypes) {
+        for (Object recorded : recording) {
+            if (recorded instanceof DiffEvent) {
+                ctx.report((DiffEvent) recorded);
+            } else {
+                DiffCtx.TypeVisit typeVisit = (DiffCtx.TypeVisit) recorded;
+                if (!ctx.examiningType(typeVisit.oldName)) {
+                    replay(ctx, comparedTypes.get(typeVisit), comparedTypes);
+                }
+            }
+        }
+    }
+
     private void checkOperation(DiffCtx ctx, String opName, Optional<SchemaDefinition> oldSchemaDef, Optional<SchemaDefinition> newSchemaDef) {
         // if schema declaration is missing then it is assumed to contain Query / Mutation / Subscription
         Optional<OperationTypeDefinition> oldOpTypeDef;
@@ -195,12 +297,21 @@ public class SchemaDiff {
     }
 
     private void checkType(DiffCtx ctx, Type oldType, Type newType) {
+        if (ctx.isRecording()) {
+            ctx.recordTypeVisit(oldType, newType);
+            return;
+        }
         String typeName = getTypeName(oldType);
 
         // prevent circular references
         if (ctx.examiningType(typeName)) {
             return;
         }
+        checkTypeDefinitions(ctx, oldType, newType);
+    }
+
+    private void checkTypeDefinitions(DiffCtx ctx, Type oldType, Type newType) {
+        String typeName = getTypeName(oldType);
         if (isSystemScalar(typeName)) {
             return;
         }
@@ -248,6 +359,11 @@ public class SchemaDiff {
             ctx.exitType();
             return;
         }
+        if (options.skipUnchangedTypes && ctx.isUnchanged(oldDef, newDef)) {
+            checkUnchangedType(ctx, oldDef);
+            ctx.exitType();
+            return;
+        }
         if (oldDef instanceof ObjectTypeDefinition) {
             checkObjectType(ctx, (ObjectTypeDefinition) oldDef, (ObjectTypeDefinition) newDef);
         }
@@ -269,6 +385,35 @@ public class SchemaDiff {
         ctx.exitType();
     }
 
+    // examines the types that an unchanged type refers to, in the same order as the full check does
+    private void checkUnchangedType(DiffCtx ctx, TypeDefinition def) {
+        if (def instanceof ObjectTypeDefinition) {
+            ObjectTypeDefinition objectDef = (ObjectTypeDefinition) def;
+            checkUnchangedFields(ctx, objectDef.getFieldDefinitions());
+            for (Type implemented : sortedMap(objectDef.getImplements(), SchemaDiff::getTypeName).values()) {
+                ctx.getOldTypeDef(implemented, InterfaceTypeDefinition.class)
+                        .ifPresent(interfaceDef -> checkUnchangedFields(ctx, interfaceDef.getFieldDefinitions()));
+            }
+        }
+        if (def instanceof InterfaceTypeDefinition) {
+            checkUnchangedFields(ctx, ((InterfaceTypeDefinition) def).getFieldDefinitions());
+        }
+        if (def instanceof InputObjectTypeDefinition) {
+            for (InputValueDefinition inputField : sortedMap(((InputObjectTypeDefinition) def).getInputValueDefinitions(), InputValueDefinition::getName).values()) {
+                checkType(ctx, inputField.getType(), inputField.getType());
+            }
+        }
+    }
+
+    private void checkUnchangedFields(DiffCtx ctx, List<FieldDefinition> fieldDefinitions) {
+        for (FieldDefinition field : sortedMap(fieldDefinitions, FieldDefinition::getName).values()) {
+            for (InputValueDefinition arg : sortedMap(field.getInputValueDefinitions(), InputValueDefinition::getName).values()) {
+                checkType(ctx, arg.getType(), arg.getType());
+            }
+            checkType(ctx, field.getType(), field.getType());
+        }
+    }
+
     private boolean isReservedType(String typeName) {
         return typeName.startsWith("__");
     }
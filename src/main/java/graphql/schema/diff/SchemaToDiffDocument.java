@@ -0,0 +1,191 @@
+package graphql.schema.diff;
+
+import graphql.Internal;
+import graphql.language.Argument;
+import graphql.language.AstValueHelper;
+import graphql.language.Directive;
+import graphql.language.Document;
+import graphql.language.EnumTypeDefinition;
+import graphql.language.EnumValueDefinition;
+import graphql.language.FieldDefinition;
+import graphql.language.InputObjectTypeDefinition;
+import graphql.language.InputValueDefinition;
+import graphql.language.InterfaceTypeDefinition;
+import graphql.language.ListType;
+import graphql.language.NonNullType;
+import graphql.language.ObjectTypeDefinition;
+import graphql.language.OperationTypeDefinition;
+import graphql.language.ScalarTypeDefinition;
+import graphql.language.SchemaDefinition;
+import graphql.language.StringValue;
+import graphql.language.Type;
+import graphql.language.TypeDefinition;
+import graphql.language.TypeName;
+import graphql.language.UnionTypeDefinition;
+import graphql.schema.GraphQLArgument;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLEnumValueDefinition;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLInputType;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLUnionType;
+import graphql.schema.idl.ScalarInfo;
+import graphql.schema.visibility.GraphqlFieldVisibility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Builds the same document that IntrospectionResultToSchema builds from the introspection result of a schema, but
+ * straight from the schema objects, so that no introspection query has to be executed.  Descriptions are left out
+ * since they play no part in a diff.
+ */
+@Internal
+class SchemaToDiffDocument {
+
+    Document createSchemaDefinition(GraphQLSchema schema) {
+        GraphqlFieldVisibility fieldVisibility = schema.getCodeRegistry().getFieldVisibility();
+
+        SchemaDefinition.Builder schemaDefinition = SchemaDefinition.newSchemaDefinition();
+        boolean nonDefaultNames = operationTypeDefinition(schemaDefinition, "query", "Query", schema.getQueryType());
+        nonDefaultNames |= operationTypeDefinition(schemaDefinition, "mutation", "Mutation", schema.getMutationType());
+        nonDefaultNames |= operationTypeDefinition(schemaDefinition, "subscription", "Subscription", schema.getSubscriptionType());
+
+        Document.Builder document = Document.newDocument();
+        if (nonDefaultNames) {
+            document.definition(schemaDefinition.build());
+        }
+        for (GraphQLType type : schema.getAllTypesAsList()) {
+            TypeDefinition typeDefinition = createTypeDefinition(type, fieldVisibility);
+            if (typeDefinition != null) {
+                document.definition(typeDefinition);
+            }
+        }
+        return document.build();
+    }
+
+    private boolean operationTypeDefinition(SchemaDefinition.Builder schemaDefinition, String operation, String defaultName, GraphQLObjectType type) {
+        if (type == null) {
+            return false;
+        }
+        schemaDefinition.operationTypeDefinition(OperationTypeDefinition.newOperationTypeDefinition()
+                .name(operation)
+                .typeName(TypeName.newTypeName().name(type.getName()).build())
+                .build());
+        return !defaultName.equals(type.getName());
+    }
+
+    private TypeDefinition createTypeDefinition(GraphQLType type, GraphqlFieldVisibility fieldVisibility) {
+        if (type.getName().startsWith("__")) {
+            return null;
+        }
+        if (type instanceof GraphQLObjectType) {
+            GraphQLObjectType objectType = (GraphQLObjectType) type;
+            List<Type> interfaces = new ArrayList<>();
+            for (GraphQLOutputType interfaceType : objectType.getInterfaces()) {
+                interfaces.add(createType(interfaceType));
+            }
+            return ObjectTypeDefinition.newObjectTypeDefinition()
+                    .name(objectType.getName())
+                    .implementz(interfaces)
+                    .fieldDefinitions(createFields(fieldVisibility.getFieldDefinitions(objectType)))
+                    .build();
+        }
+        if (type instanceof GraphQLInterfaceType) {
+            GraphQLInterfaceType interfaceType = (GraphQLInterfaceType) type;
+            return InterfaceTypeDefinition.newInterfaceTypeDefinition()
+                    .name(interfaceType.getName())
+                    .definitions(createFields(fieldVisibility.getFieldDefinitions(interfaceType)))
+                    .build();
+        }
+        if (type instanceof GraphQLUnionType) {
+            UnionTypeDefinition.Builder unionTypeDefinition = UnionTypeDefinition.newUnionTypeDefinition().name(type.getName());
+            for (GraphQLOutputType memberType : ((GraphQLUnionType) type).getTypes()) {
+                unionTypeDefinition.memberType(createType(memberType));
+            }
+            return unionTypeDefinition.build();
+        }
+        if (type instanceof GraphQLEnumType) {
+            EnumTypeDefinition.Builder enumTypeDefinition = EnumTypeDefinition.newEnumTypeDefinition().name(type.getName());
+            for (GraphQLEnumValueDefinition enumValue : ((GraphQLEnumType) type).getValues()) {
+                enumTypeDefinition.enumValueDefinition(EnumValueDefinition.newEnumValueDefinition()
+                        .name(enumValue.getName())
+                        .directives(deprecatedDirective(enumValue.isDeprecated(), enumValue.getDeprecationReason()))
+                        .build());
+            }
+            return enumTypeDefinition.build();
+        }
+        if (type instanceof GraphQLInputObjectType) {
+            List<InputValueDefinition> inputValueDefinitions = new ArrayList<>();
+            for (GraphQLInputObjectField inputField : fieldVisibility.getFieldDefinitions((GraphQLInputObjectType) type)) {
+                inputValueDefinitions.add(createInputValueDefinition(inputField.getName(), inputField.getType(), inputField.getDefaultValue()));
+            }
+            return InputObjectTypeDefinition.newInputObjectDefinition()
+                    .name(type.getName())
+                    .inputValueDefinitions(inputValueDefinitions)
+                    .build();
+        }
+        if (type instanceof GraphQLScalarType && !ScalarInfo.isStandardScalar(type.getName())) {
+            return ScalarTypeDefinition.newScalarTypeDefinition().name(type.getName()).build();
+        }
+        return null;
+    }
+
+    private List<FieldDefinition> createFields(List<GraphQLFieldDefinition> fieldDefinitions) {
+        List<FieldDefinition> result = new ArrayList<>(fieldDefinitions.size());
+        for (GraphQLFieldDefinition fieldDefinition : fieldDefinitions) {
+            List<InputValueDefinition> inputValueDefinitions = new ArrayList<>();
+            for (GraphQLArgument argument : fieldDefinition.getArguments()) {
+                inputValueDefinitions.add(createInputValueDefinition(argument.getName(), argument.getType(), argument.getDefaultValue()));
+            }
+            result.add(FieldDefinition.newFieldDefinition()
+                    .name(fieldDefinition.getName())
+                    .type(createType(fieldDefinition.getType()))
+                    .directives(deprecatedDirective(fieldDefinition.isDeprecated(), fieldDefinition.getDeprecationReason()))
+                    .inputValueDefinitions(inputValueDefinitions)
+                    .build());
+        }
+        return result;
+    }
+
+    private InputValueDefinition createInputValueDefinition(String name, GraphQLInputType type, Object defaultValue) {
+        InputValueDefinition.Builder inputValueDefinition = InputValueDefinition.newInputValueDefinition()
+                .name(name)
+                .type(createType(type));
+        if (defaultValue != null) {
+            inputValueDefinition.defaultValue(AstValueHelper.astFromValue(defaultValue, type));
+        }
+        return inputValueDefinition.build();
+    }
+
+    private List<Directive> deprecatedDirective(boolean deprecated, String reason) {
+        if (!deprecated) {
+            return Collections.emptyList();
+        }
+        if (reason == null) {
+            reason = "No longer supported"; // default according to spec
+        }
+        Argument reasonArg = Argument.newArgument().name("reason").value(StringValue.newStringValue().value(reason).build()).build();
+        return Collections.singletonList(Directive.newDirective().name("deprecated").arguments(Collections.singletonList(reasonArg)).build());
+    }
+
+    private Type createType(GraphQLType type) {
+        if (type instanceof GraphQLNonNull) {
+            return NonNullType.newNonNullType().type(createType(((GraphQLNonNull) type).getWrappedType())).build();
+        }
+        if (type instanceof GraphQLList) {
+            return ListType.newListType().type(createType(((GraphQLList) type).getWrappedType())).build();
+        }
+        return TypeName.newTypeName().name(type.getName()).build();
+    }
+}
@@ -18,6 +18,8 @@ import graphql.schema.GraphQLInputObjectField;
 import graphql.schema.GraphQLInputObjectType;
 import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLScalarType;
@@ -29,8 +31,6 @@ import graphql.schema.GraphqlTypeComparatorEnvironment;
 import graphql.schema.GraphqlTypeComparatorRegistry;
 import graphql.schema.visibility.GraphqlFieldVisibility;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -39,10 +39,8 @@ import java.util.Map;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static graphql.schema.visibility.DefaultGraphqlFieldVisibility.DEFAULT_FIELD_VISIBILITY;
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -228,9 +226,22 @@ public class SchemaPrinter {
      * @return the logical schema definition
      */
     public String print(GraphQLSchema schema) {
-        StringWriter sw = new StringWriter();
-        PrintWriter out = new PrintWriter(sw);
+        StringBuilder out = new StringBuilder();
+        print(out, schema);
+        if (out.length() >= 2 && out.charAt(out.length() - 1) == '\n' && out.charAt(out.length() - 2) == '\n') {
+            out.setLength(out.length() - 1);
+        }
+        return out.toString();
+    }
 
+    /**
+     * This prints an in memory GraphQL schema back to a logical schema definition, appending it to the given builder in one pass.
+     * Unlike {@link #print(GraphQLSchema)} the definition ends with an empty line.
+     *
+     * @param out    the place to put the output
+     * @param schema the schema in play
+     */
+    public void print(StringBuilder out, GraphQLSchema schema) {
         GraphqlFieldVisibility visibility = schema.getCodeRegistry().getFieldVisibility();
 
         printer(schema.getClass()).print(out, schema, visibility);
@@ -246,17 +257,11 @@ public class SchemaPrinter {
         printType(out, typesAsList, GraphQLEnumType.class, visibility);
         printType(out, typesAsList, GraphQLScalarType.class, visibility);
         printType(out, typesAsList, GraphQLInputObjectType.class, visibility);
-
-        String result = sw.toString();
-        if (result.endsWith("\n\n")) {
-            result = result.substring(0, result.length() - 1);
-        }
-        return result;
     }
 
     private interface TypePrinter<T> {
 
-        void print(PrintWriter out, T type, GraphqlFieldVisibility visibility);
+        void print(StringBuilder out, T type, GraphqlFieldVisibility visibility);
 
     }
 
@@ -281,7 +286,9 @@ public class SchemaPrinter {
             }
             if (printScalar) {
                 printComments(out, type, "");
-                out.format("scalar %s%s\n\n", type.getName(), directivesString(GraphQLScalarType.class, type.getDirectives()));
+                out.append("scalar ").append(type.getName());
+                directivesString(out, GraphQLScalarType.class, type.getDirectives());
+                out.append("\n\n");
             }
         };
     }
@@ -299,16 +306,20 @@ public class SchemaPrinter {
             Comparator<? super GraphQLType> comparator = options.comparatorRegistry.getComparator(environment);
 
             printComments(out, type, "");
-            out.format("enum %s%s {\n", type.getName(), directivesString(GraphQLEnumType.class, type.getDirectives()));
+            out.append("enum ").append(type.getName());
+            directivesString(out, GraphQLEnumType.class, type.getDirectives());
+            out.append(" {\n");
             List<GraphQLEnumValueDefinition> values = type.getValues()
                     .stream()
                     .sorted(comparator)
                     .collect(toList());
             for (GraphQLEnumValueDefinition enumValueDefinition : values) {
                 printComments(out, enumValueDefinition, "  ");
-                out.format("  %s%s\n", enumValueDefinition.getName(), directivesString(GraphQLEnumValueDefinition.class, enumValueDefinition.getDirectives()));
+                out.append("  ").append(enumValueDefinition.getName());
+                directivesString(out, GraphQLEnumValueDefinition.class, enumValueDefinition.getDirectives());
+                out.append('\n');
             }
-            out.format("}\n\n");
+            out.append("}\n\n");
         };
     }
 
@@ -325,17 +336,14 @@ public class SchemaPrinter {
             Comparator<? super GraphQLType> comparator = options.comparatorRegistry.getComparator(environment);
 
             printComments(out, type, "");
-            out.format("interface %s%s {\n", type.getName(), directivesString(GraphQLInterfaceType.class, type.getDirectives()));
+            out.append("interface ").append(type.getName());
+            directivesString(out, GraphQLInterfaceType.class, type.getDirectives());
+            out.append(" {\n");
             visibility.getFieldDefinitions(type)
                     .stream()
                     .sorted(comparator)
-                    .forEach(fd -> {
-                        printComments(out, fd, "  ");
-                        out.format("  %s%s: %s%s\n",
-                                fd.getName(), argsString(GraphQLFieldDefinition.class, fd.getArguments()), typeString(fd.getType()),
-                                directivesString(GraphQLFieldDefinition.class, fd.getDirectives()));
-                    });
-            out.format("}\n\n");
+                    .forEach(fd -> printFieldDefinition(out, fd));
+            out.append("}\n\n");
         };
     }
 
@@ -352,7 +360,9 @@ public class SchemaPrinter {
             Comparator<? super GraphQLType> comparator = options.comparatorRegistry.getComparator(environment);
 
             printComments(out, type, "");
-            out.format("union %s%s = ", type.getName(), directivesString(GraphQLUnionType.class, type.getDirectives()));
+            out.append("union ").append(type.getName());
+            directivesString(out, GraphQLUnionType.class, type.getDirectives());
+            out.append(" = ");
             List<GraphQLOutputType> types = type.getTypes()
                     .stream()
                     .sorted(comparator)
@@ -360,11 +370,11 @@ public class SchemaPrinter {
             for (int i = 0; i < types.size(); i++) {
                 GraphQLOutputType objectType = types.get(i);
                 if (i > 0) {
-                    out.format(" | ");
+                    out.append(" | ");
                 }
-                out.format("%s", objectType.getName());
+                out.append(objectType.getName());
             }
-            out.format("\n\n");
+            out.append("\n\n");
         };
     }
 
@@ -374,9 +384,8 @@ public class SchemaPrinter {
                 return;
             }
             printComments(out, type, "");
-            if (type.getInterfaces().isEmpty()) {
-                out.format("type %s%s {\n", type.getName(), directivesString(GraphQLObjectType.class, type.getDirectives()));
-            } else {
+            out.append("type ").append(type.getName());
+            if (!type.getInterfaces().isEmpty()) {
 
                 GraphqlTypeComparatorEnvironment environment = GraphqlTypeComparatorEnvironment.newEnvironment()
                         .parentType(GraphQLObjectType.class)
@@ -384,15 +393,20 @@ public class SchemaPrinter {
                         .build();
                 Comparator<? super GraphQLType> implementsComparator = options.comparatorRegistry.getComparator(environment);
 
-                Stream<String> interfaceNames = type.getInterfaces()
+                List<GraphQLOutputType> interfaces = type.getInterfaces()
                         .stream()
                         .sorted(implementsComparator)
-                        .map(GraphQLType::getName);
-                out.format("type %s implements %s%s {\n",
-                        type.getName(),
-                        interfaceNames.collect(joining(" & ")),
-                        directivesString(GraphQLObjectType.class, type.getDirectives()));
+                        .collect(toList());
+                out.append(" implements ");
+                for (int i = 0; i < interfaces.size(); i++) {
+                    if (i > 0) {
+                        out.append(" & ");
+                    }
+                    out.append(interfaces.get(i).getName());
+                }
             }
+            directivesString(out, GraphQLObjectType.class, type.getDirectives());
+            out.append(" {\n");
 
             GraphqlTypeComparatorEnvironment environment = GraphqlTypeComparatorEnvironment.newEnvironment()
                     .parentType(GraphQLObjectType.class)
@@ -403,13 +417,8 @@ public class SchemaPrinter {
             visibility.getFieldDefinitions(type)
                     .stream()
                     .sorted(comparator)
-                    .forEach(fd -> {
-                        printComments(out, fd, "  ");
-                        out.format("  %s%s: %s%s\n",
-                                fd.getName(), argsString(GraphQLFieldDefinition.class, fd.getArguments()), typeString(fd.getType()),
-                                directivesString(GraphQLFieldDefinition.class, fd.getDirectives()));
-                    });
-            out.format("}\n\n");
+                    .forEach(fd -> printFieldDefinition(out, fd));
+            out.append("}\n\n");
         };
     }
 
@@ -426,28 +435,40 @@ public class SchemaPrinter {
                     .build();
             Comparator<? super GraphQLType> comparator = options.comparatorRegistry.getComparator(environment);
 
-            out.format("input %s%s {\n", type.getName(), directivesString(GraphQLInputObjectType.class, type.getDirectives()));
+            out.append("input ").append(type.getName());
+            directivesString(out, GraphQLInputObjectType.class, type.getDirectives());
+            out.append(" {\n");
             visibility.getFieldDefinitions(type)
                     .stream()
                     .sorted(comparator)
                     .forEach(fd -> {
                         printComments(out, fd, "  ");
-                        out.format("  %s: %s",
-                                fd.getName(), typeString(fd.getType()));
+                        out.append("  ").append(fd.getName()).append(": ");
+                        typeString(out, fd.getType());
                         Object defaultValue = fd.getDefaultValue();
                         if (defaultValue != null) {
-                            String astValue = printAst(defaultValue, fd.getType());
-                            out.format(" = %s", astValue);
+                            out.append(" = ");
+                            printAst(out, defaultValue, fd.getType());
                         }
-                        out.format(directivesString(GraphQLInputObjectField.class, fd.getDirectives()));
-                        out.format("\n");
+                        directivesString(out, GraphQLInputObjectField.class, fd.getDirectives());
+                        out.append('\n');
                     });
-            out.format("}\n\n");
+            out.append("}\n\n");
         };
     }
 
-    private static String printAst(Object value, GraphQLInputType type) {
-        return AstPrinter.printAst(AstValueHelper.astFromValue(value, type));
+    private void printFieldDefinition(StringBuilder out, GraphQLFieldDefinition fd) {
+        printComments(out, fd, "  ");
+        out.append("  ").append(fd.getName());
+        argsString(out, GraphQLFieldDefinition.class, fd.getArguments());
+        out.append(": ");
+        typeString(out, fd.getType());
+        directivesString(out, GraphQLFieldDefinition.class, fd.getDirectives());
+        out.append('\n');
+    }
+
+    private static void printAst(StringBuilder out, Object value, GraphQLInputType type) {
+        AstPrinter.printAst(out, AstValueHelper.astFromValue(value, type));
     }
 
     private TypePrinter<GraphQLSchema> schemaPrinter() {
@@ -473,21 +494,21 @@ public class SchemaPrinter {
             }
 
             if (needsSchemaPrinted) {
-                out.format("schema {\n");
+                out.append("schema {\n");
                 if (queryType != null) {
-                    out.format("  query: %s\n", queryType.getName());
+                    out.append("  query: ").append(queryType.getName()).append('\n');
                 }
                 if (mutationType != null) {
-                    out.format("  mutation: %s\n", mutationType.getName());
+                    out.append("  mutation: ").append(mutationType.getName()).append('\n');
                 }
                 if (subscriptionType != null) {
-                    out.format("  subscription: %s\n", subscriptionType.getName());
+                    out.append("  subscription: ").append(subscriptionType.getName()).append('\n');
                 }
-                out.format("}\n\n");
+                out.append("}\n\n");
             }
 
             if (options.includeDirectives) {
-                out.format("%s", directiveDefinitions(getDirectives(schema)));
+                directiveDefinitions(out, getDirectives(schema));
             }
         };
     }
@@ -509,16 +530,37 @@ public class SchemaPrinter {
         return GraphQLTypeUtil.simplePrint(rawType);
     }
 
+    private void typeString(StringBuilder out, GraphQLType rawType) {
+        if (rawType instanceof GraphQLNonNull) {
+            typeString(out, ((GraphQLNonNull) rawType).getWrappedType());
+            out.append('!');
+        } else if (rawType instanceof GraphQLList) {
+            out.append('[');
+            typeString(out, ((GraphQLList) rawType).getWrappedType());
+            out.append(']');
+        } else {
+            out.append(rawType.getName());
+        }
+    }
+
     String argsString(List<GraphQLArgument> arguments) {
         return argsString(null, arguments);
     }
 
     String argsString(Class<? extends GraphQLType> parent, List<GraphQLArgument> arguments) {
+        StringBuilder sb = new StringBuilder();
+        argsString(sb, parent, arguments);
+        return sb.toString();
+    }
+
+    private void argsString(StringBuilder sb, Class<? extends GraphQLType> parent, List<GraphQLArgument> arguments) {
+        if (arguments.isEmpty()) {
+            return;
+        }
         boolean hasDescriptions = arguments.stream().anyMatch(arg -> !isNullOrEmpty(arg.getDescription()));
         String halfPrefix = hasDescriptions ? "  " : "";
         String prefix = hasDescriptions ? "    " : "";
         int count = 0;
-        StringBuilder sb = new StringBuilder();
 
         GraphqlTypeComparatorEnvironment environment = GraphqlTypeComparatorEnvironment.newEnvironment()
                 .parentType(parent)
@@ -542,27 +584,33 @@ public class SchemaPrinter {
             String description = argument.getDescription();
             if (!isNullOrEmpty(description)) {
                 String[] descriptionSplitByNewlines = description.split("\n");
-                Stream<String> stream = Arrays.stream(descriptionSplitByNewlines);
                 if (descriptionSplitByNewlines.length > 1) {
                     String multiLineComment = "\"\"\"";
-                    stream = Stream.concat(Stream.of(multiLineComment), stream);
-                    stream = Stream.concat(stream, Stream.of(multiLineComment));
-                    stream.map(s -> prefix + s + "\n").forEach(sb::append);
+                    sb.append(prefix).append(multiLineComment).append('\n');
+                    for (String line : descriptionSplitByNewlines) {
+                        sb.append(prefix).append(line).append('\n');
+                    }
+                    sb.append(prefix).append(multiLineComment).append('\n');
                 } else {
-                    stream.map(s -> prefix + "#" + s + "\n").forEach(sb::append);
+                    for (String line : descriptionSplitByNewlines) {
+                        sb.append(prefix).append('#').append(line).append('\n');
+                    }
                 }
             }
-            sb.append(prefix).append(argument.getName()).append(": ").append(typeString(argument.getType()));
+            sb.append(prefix).append(argument.getName()).append(": ");
+            typeString(sb, argument.getType());
             Object defaultValue = argument.getDefaultValue();
             if (defaultValue != null) {
                 sb.append(" = ");
-                sb.append(printAst(defaultValue, argument.getType()));
+                printAst(sb, defaultValue, argument.getType());
             }
 
-            argument.getDirectives().stream()
-                    .map(this::directiveString)
-                    .filter(it -> !it.isEmpty())
-                    .forEach(directiveString -> sb.append(" ").append(directiveString));
+            if (options.includeDirectives) {
+                for (GraphQLDirective directive : argument.getDirectives()) {
+                    sb.append(' ');
+                    directiveString(sb, directive);
+                }
+            }
 
             count++;
         }
@@ -572,17 +620,19 @@ public class SchemaPrinter {
             }
             sb.append(halfPrefix).append(")");
         }
-        return sb.toString();
     }
 
     String directivesString(Class<? extends GraphQLType> parent, List<GraphQLDirective> directives) {
-        if (!options.includeDirectives) {
-            return "";
-        }
         StringBuilder sb = new StringBuilder();
-        if (!directives.isEmpty()) {
-            sb.append(" ");
+        directivesString(sb, parent, directives);
+        return sb.toString();
+    }
+
+    private void directivesString(StringBuilder sb, Class<? extends GraphQLType> parent, List<GraphQLDirective> directives) {
+        if (!options.includeDirectives || directives.isEmpty()) {
+            return;
         }
+        sb.append(" ");
 
         GraphqlTypeComparatorEnvironment environment = GraphqlTypeComparatorEnvironment.newEnvironment()
                 .parentType(parent)
@@ -596,20 +646,14 @@ public class SchemaPrinter {
                 .collect(toList());
         for (int i = 0; i < directives.size(); i++) {
             GraphQLDirective directive = directives.get(i);
-            sb.append(directiveString(directive));
+            directiveString(sb, directive);
             if (i < directives.size() - 1) {
                 sb.append(" ");
             }
         }
-        return sb.toString();
     }
 
-    private String directiveString(GraphQLDirective directive) {
-        if (!options.includeDirectives) {
-            return "";
-        }
-
-        StringBuilder sb = new StringBuilder();
+    private void directiveString(StringBuilder sb, GraphQLDirective directive) {
         sb.append("@").append(directive.getName());
 
         GraphqlTypeComparatorEnvironment environment = GraphqlTypeComparatorEnvironment.newEnvironment()
@@ -630,10 +674,10 @@ public class SchemaPrinter {
                 sb.append(arg.getName());
                 if (arg.getValue() != null) {
                     sb.append(" : ");
-                    sb.append(printAst(arg.getValue(), arg.getType()));
+                    printAst(sb, arg.getValue(), arg.getType());
                 } else if (arg.getDefaultValue() != null) {
                     sb.append(" : ");
-                    sb.append(printAst(arg.getDefaultValue(), arg.getType()));
+                    printAst(sb, arg.getDefaultValue(), arg.getType());
                 }
                 if (i < args.size() - 1) {
                     sb.append(", ");
@@ -641,25 +685,17 @@ public class SchemaPrinter {
             }
             sb.append(")");
         }
-        return sb.toString();
     }
 
-    private String directiveDefinitions(List<GraphQLDirective> directives) {
-        StringBuilder sb = new StringBuilder();
+    private void directiveDefinitions(StringBuilder sb, List<GraphQLDirective> directives) {
         for (GraphQLDirective directive : directives) {
-            sb.append(directiveDefinition(directive));
+            directiveDefinition(sb, directive);
             sb.append("\n\n");
         }
-        return sb.toString();
     }
 
-    private String directiveDefinition(GraphQLDirective directive) {
-        StringBuilder sb = new StringBuilder();
-
-        StringWriter sw = new StringWriter();
-        printComments(new PrintWriter(sw), directive, "");
-
-        sb.append(sw.toString());
+    private void directiveDefinition(StringBuilder sb, GraphQLDirective directive) {
+        printComments(sb, directive, "");
 
         sb.append("directive @").append(directive.getName());
 
@@ -675,14 +711,18 @@ public class SchemaPrinter {
                 .sorted(comparator)
                 .collect(toList());
 
-        sb.append(argsString(GraphQLDirective.class, args));
+        argsString(sb, GraphQLDirective.class, args);
 
         sb.append(" on ");
 
-        String locations = directive.validLocations().stream().map(Enum::name).collect(Collectors.joining(" | "));
-        sb.append(locations);
-
-        return sb.toString();
+        boolean first = true;
+        for (Enum<?> location : directive.validLocations()) {
+            if (!first) {
+                sb.append(" | ");
+            }
+            first = false;
+            sb.append(location.name());
+        }
     }
 
 
@@ -694,7 +734,7 @@ public class SchemaPrinter {
             if (superClazz != Object.class) {
                 result = printer(superClazz);
             } else {
-                result = (out, type, visibility) -> out.println("Type not implemented : " + type);
+                result = (out, type, visibility) -> out.append("Type not implemented : ").append(type).append(System.lineSeparator());
             }
             return result;
         });
@@ -702,27 +742,24 @@ public class SchemaPrinter {
     }
 
     public String print(GraphQLType type) {
-        StringWriter sw = new StringWriter();
-        PrintWriter out = new PrintWriter(sw);
-
+        StringBuilder out = new StringBuilder();
         printType(out, type, DEFAULT_FIELD_VISIBILITY);
-
-        return sw.toString();
+        return out.toString();
     }
 
     @SuppressWarnings("unchecked")
-    private void printType(PrintWriter out, List<GraphQLType> typesAsList, Class typeClazz, GraphqlFieldVisibility visibility) {
+    private void printType(StringBuilder out, List<GraphQLType> typesAsList, Class typeClazz, GraphqlFieldVisibility visibility) {
         typesAsList.stream()
                 .filter(type -> typeClazz.isAssignableFrom(type.getClass()))
                 .forEach(type -> printType(out, type, visibility));
     }
 
-    private void printType(PrintWriter out, GraphQLType type, GraphqlFieldVisibility visibility) {
+    private void printType(StringBuilder out, GraphQLType type, GraphqlFieldVisibility visibility) {
         TypePrinter<Object> printer = printer(type.getClass());
         printer.print(out, type, visibility);
     }
 
-    private void printComments(PrintWriter out, Object graphQLType, String prefix) {
+    private void printComments(StringBuilder out, Object graphQLType, String prefix) {
 
         AstDescriptionAndComments descriptionAndComments = getDescriptionAndComments(graphQLType);
         if (descriptionAndComments == null) {
@@ -735,11 +772,7 @@ public class SchemaPrinter {
             if (astDescription.isMultiLine()) {
                 quoteStr = "\"\"\"";
             }
-            out.write(prefix);
-            out.write(quoteStr);
-            out.write(astDescription.getContent());
-            out.write(quoteStr);
-            out.write("\n");
+            out.append(prefix).append(quoteStr).append(astDescription.getContent()).append(quoteStr).append('\n');
 
             return;
         }
@@ -749,19 +782,17 @@ public class SchemaPrinter {
                 String commentText = cmt.getContent() == null ? "" : cmt.getContent();
                 // it possible that in fact they manage to sneak in a multi line comment
                 // into what should be a single line comment.  So cater for that.
-                List<String> lines = Arrays.asList(commentText.split("\n"));
-                lines.forEach(t -> {
-                    out.write(prefix);
-                    out.write("#");
-                    out.write(commentText);
-                    out.write("\n");
-                });
+                String[] lines = commentText.split("\n");
+                for (String ignored : lines) {
+                    out.append(prefix).append('#').append(commentText).append('\n');
+                }
             });
         } else {
             String runtimeDescription = descriptionAndComments.runtimeDescription;
             if (!isNullOrEmpty(runtimeDescription)) {
-                Stream<String> stream = Arrays.stream(runtimeDescription.split("\n"));
-                stream.map(s -> prefix + "#" + s + "\n").forEach(out::write);
+                for (String line : runtimeDescription.split("\n")) {
+                    out.append(prefix).append('#').append(line).append('\n');
+                }
             }
         }
     }
@@ -3,6 +3,7 @@ package graphql.util;
 import graphql.Internal;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,14 +22,19 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
 
     private final TraverserContext<T> parent;
     private final Set<T> visited;
-    private final Map<Class<?>, Object> vars;
+    // created on the first setVar, most nodes never get any
+    private Map<Class<?>, Object> vars;
     private final Object sharedContextData;
 
     private Object newAccValue;
     private boolean hasNewAccValue;
     private Object curAccValue;
-    private final NodeLocation location;
+    // created on demand from the location name and index
+    private NodeLocation location;
+    private final String locationName;
+    private final int locationIndex;
     private final boolean isRootContext;
+    private List<DefaultTraverserContext<T>> childrenContexts;
     private Map<String, List<TraverserContext<T>>> children;
     private Phase phase;
 
@@ -45,9 +51,29 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
         this.vars = vars;
         this.sharedContextData = sharedContextData;
         this.location = location;
+        this.locationName = null;
+        this.locationIndex = -1;
         this.isRootContext = isRootContext;
     }
 
+    /*
+     * PRIVATE: Used by {@link TraverserState} for the contexts of non root nodes, a negative index means no location
+     */
+    DefaultTraverserContext(T curNode,
+                            TraverserContext<T> parent,
+                            Set<T> visited,
+                            Object sharedContextData,
+                            String locationName,
+                            int locationIndex) {
+        this.curNode = curNode;
+        this.parent = parent;
+        this.visited = visited;
+        this.sharedContextData = sharedContextData;
+        this.locationName = locationName;
+        this.locationIndex = locationIndex;
+        this.isRootContext = false;
+    }
+
     public static <T> DefaultTraverserContext<T> dummy() {
         return new DefaultTraverserContext<>(null, null, null, null, null, null, true);
     }
@@ -116,7 +142,7 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
     public List<Breadcrumb<T>> getBreadcrumbs() {
         List<Breadcrumb<T>> result = new ArrayList<>();
         TraverserContext<T> curContext = parent;
-        NodeLocation childLocation = this.location;
+        NodeLocation childLocation = getLocation();
         while (!curContext.isRootContext()) {
             result.add(new Breadcrumb<>(curContext.thisNode(), childLocation));
             childLocation = curContext.getLocation();
@@ -140,16 +166,22 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
 
     @Override
     public boolean isVisited() {
-        return visited.contains(curNode);
+        return visited != null && visited.contains(curNode);
     }
 
     @Override
     public <S> S getVar(Class<? super S> key) {
+        if (vars == null) {
+            return null;
+        }
         return (S) key.cast(vars.get(key));
     }
 
     @Override
     public <S> TraverserContext<T> setVar(Class<? super S> key, S value) {
+        if (vars == null) {
+            vars = new LinkedHashMap<>();
+        }
         vars.put(key, value);
         return this;
     }
@@ -190,6 +222,9 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
 
     @Override
     public NodeLocation getLocation() {
+        if (location == null && locationIndex >= 0) {
+            location = new NodeLocation(locationName, locationIndex);
+        }
         return location;
     }
 
@@ -214,15 +249,23 @@ public class DefaultTraverserContext<T> implements TraverserContext<T> {
     /*
      * PRIVATE: Used by {@link Traverser}
      */
-    void setChildrenContexts(Map<String, List<TraverserContext<T>>> children) {
-        assertTrue(this.children == null, "children already set");
-        this.children = children;
+    void setChildrenContexts(List<DefaultTraverserContext<T>> childrenContexts) {
+        assertTrue(this.childrenContexts == null, "children already set");
+        this.childrenContexts = childrenContexts;
     }
 
 
     @Override
     public Map<String, List<TraverserContext<T>>> getChildrenContexts() {
-        assertNotNull(children, "children not available");
+        if (children == null) {
+            assertNotNull(childrenContexts, "children not available");
+            // grouped by name on demand, the contexts are in order of name and index
+            Map<String, List<TraverserContext<T>>> result = new LinkedHashMap<>();
+            for (DefaultTraverserContext<T> childContext : childrenContexts) {
+                result.computeIfAbsent(childContext.locationName, notUsed -> new ArrayList<>()).add(childContext);
+            }
+            children = result;
+        }
         return children;
     }
 
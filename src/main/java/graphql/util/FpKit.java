@@ -16,6 +16,7 @@ import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.BaseStream;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -53,7 +54,7 @@ public class FpKit {
     }
 
     /**
-     * Converts an object that should be an Iterable into a Collection efficiently, leaving
+     * Converts an object that should be an Iterable, an array or a {@link BaseStream} into a Collection efficiently, leaving
      * it alone if it is already is one.  Useful when you want to get the size of something
      *
      * @param iterableResult the result object
@@ -74,8 +75,9 @@ public class FpKit {
         if (iterableResult instanceof Collection) {
             return (Collection<T>) iterableResult;
         }
-        Iterable<T> iterable = (Iterable<T>) iterableResult;
-        Iterator<T> iterator = iterable.iterator();
+        Iterator<T> iterator = iterableResult instanceof BaseStream
+                ? ((BaseStream<T, ?>) iterableResult).iterator()
+                : ((Iterable<T>) iterableResult).iterator();
         List<T> list = new ArrayList<>();
         while (iterator.hasNext()) {
             list.add(iterator.next());
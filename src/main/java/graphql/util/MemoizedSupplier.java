@@ -0,0 +1,74 @@
+package graphql.util;
+
+import graphql.Internal;
+
+import java.util.function.Supplier;
+
+import static graphql.Assert.assertNotNull;
+
+/**
+ * A supplier that computes its value on the first call to {@link #get()} and gives back that same value from then on,
+ * also when called from several threads.
+ *
+ * @param <T> the type of the value
+ */
+@Internal
+public class MemoizedSupplier<T> implements Supplier<T> {
+
+    private Supplier<T> delegate;
+    private volatile boolean computed;
+    private T value;
+
+    private MemoizedSupplier(Supplier<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * @param delegate computes the value, it is called at most once
+     * @param <T>      the type of the value
+     *
+     * @return a supplier that computes the value only once
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MemoizedSupplier<T> memoize(Supplier<T> delegate) {
+        if (delegate instanceof MemoizedSupplier) {
+            return (MemoizedSupplier<T>) delegate;
+        }
+        return new MemoizedSupplier<>(assertNotNull(delegate));
+    }
+
+    /**
+     * @param value the value
+     * @param <T>   the type of the value
+     *
+     * @return a supplier of a value that is already known
+     */
+    public static <T> MemoizedSupplier<T> of(T value) {
+        MemoizedSupplier<T> supplier = new MemoizedSupplier<>(null);
+        supplier.value = value;
+        supplier.computed = true;
+        return supplier;
+    }
+
+    /**
+     * @return true if the value has been computed already
+     */
+    public boolean isComputed() {
+        return computed;
+    }
+
+    @Override
+    public T get() {
+        if (!computed) {
+            synchronized (this) {
+                if (!computed) {
+                    value = delegate.get();
+                    computed = true;
+                    // the value is all that is needed from now on
+                    delegate = null;
+                }
+            }
+        }
+        return value;
+    }
+}
@@ -2,10 +2,8 @@ package graphql.util;
 
 import graphql.Internal;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,27 +19,23 @@ import static graphql.util.TraversalControl.QUIT;
 public class Traverser<T> {
 
     private final TraverserState<T> traverserState;
-    private final Function<? super T, Map<String, ? extends List<T>>> getChildren;
+    // exactly one of them is set
+    private final Function<? super T, ? extends List<T>> getChildren;
+    private final Function<? super T, Map<String, ? extends List<T>>> getNamedChildren;
     private final Object initialAccumulate;
     private final Map<Class<?>, Object> rootVars = new ConcurrentHashMap<>();
 
-    private static final List<TraversalControl> CONTINUE_OR_QUIT = Arrays.asList(CONTINUE, QUIT);
-
-    private Traverser(TraverserState<T> traverserState, Function<? super T, Map<String, ? extends List<T>>> getChildren, Object initialAccumulate) {
+    private Traverser(TraverserState<T> traverserState,
+                      Function<? super T, ? extends List<T>> getChildren,
+                      Function<? super T, Map<String, ? extends List<T>>> getNamedChildren,
+                      Object initialAccumulate) {
         this.traverserState = assertNotNull(traverserState);
-        this.getChildren = assertNotNull(getChildren);
+        assertTrue(getChildren != null || getNamedChildren != null, "a children function is required");
+        this.getChildren = getChildren;
+        this.getNamedChildren = getNamedChildren;
         this.initialAccumulate = initialAccumulate;
     }
 
-    private static <T> Function<? super T, Map<String, ? extends List<T>>> wrapListFunction(Function<? super T, ? extends List<T>> listFn) {
-        return node -> {
-            List<T> childs = listFn.apply(node);
-            Map<String, List<T>> result = new LinkedHashMap<>();
-            result.put(null, childs);
-            return result;
-        };
-    }
-
     public Traverser<T> rootVars(Map<Class<?>, Object> rootVars) {
         this.rootVars.putAll(assertNotNull(rootVars));
         return this;
@@ -52,6 +46,19 @@ public class Traverser<T> {
         return this;
     }
 
+    /**
+     * Declares that the nodes to traverse form a tree, where no node can be reached twice.  The traverser then does not
+     * remember the nodes it has visited : {@link TraverserContext#isVisited()} is always false and
+     * {@link TraverserVisitor#backRef(TraverserContext)} is never called.  Should a node be reachable twice anyway,
+     * it is entered twice.
+     *
+     * @return this traverser
+     */
+    public Traverser<T> noCycles() {
+        traverserState.noVisitedTracking();
+        return this;
+    }
+
     public static <T> Traverser<T> depthFirst(Function<? super T, ? extends List<T>> getChildren) {
         return depthFirst(getChildren, null, null);
     }
@@ -61,12 +68,11 @@ public class Traverser<T> {
     }
 
     public static <T> Traverser<T> depthFirst(Function<? super T, ? extends List<T>> getChildren, Object sharedContextData, Object initialAccumulate) {
-        Function<? super T, Map<String, ? extends List<T>>> mapFunction = wrapListFunction(getChildren);
-        return new Traverser<>(TraverserState.newStackState(sharedContextData), mapFunction, initialAccumulate);
+        return new Traverser<>(TraverserState.newStackState(sharedContextData), assertNotNull(getChildren), null, initialAccumulate);
     }
 
     public static <T> Traverser<T> depthFirstWithNamedChildren(Function<? super T, Map<String, ? extends List<T>>> getNamedChildren, Object sharedContextData, Object initialAccumulate) {
-        return new Traverser<>(TraverserState.newStackState(sharedContextData), getNamedChildren, initialAccumulate);
+        return new Traverser<>(TraverserState.newStackState(sharedContextData), null, assertNotNull(getNamedChildren), initialAccumulate);
     }
 
     public static <T> Traverser<T> breadthFirst(Function<? super T, ? extends List<T>> getChildren) {
@@ -78,12 +84,11 @@ public class Traverser<T> {
     }
 
     public static <T> Traverser<T> breadthFirst(Function<? super T, ? extends List<T>> getChildren, Object sharedContextData, Object initialAccumulate) {
-        Function<? super T, Map<String, ? extends List<T>>> mapFunction = wrapListFunction(getChildren);
-        return new Traverser<>(TraverserState.newQueueState(sharedContextData), mapFunction, initialAccumulate);
+        return new Traverser<>(TraverserState.newQueueState(sharedContextData), assertNotNull(getChildren), null, initialAccumulate);
     }
 
     public static <T> Traverser<T> breadthFirstWithNamedChildren(Function<? super T, Map<String, ? extends List<T>>> getNamedChildren, Object sharedContextData, Object initialAccumulate) {
-        return new Traverser<>(TraverserState.newQueueState(sharedContextData), getNamedChildren, initialAccumulate);
+        return new Traverser<>(TraverserState.newQueueState(sharedContextData), null, assertNotNull(getNamedChildren), initialAccumulate);
     }
 
     public TraverserResult traverse(T root, TraverserVisitor<? super T> visitor) {
@@ -106,17 +111,17 @@ public class Traverser<T> {
             Object top = traverserState.pop();
 
             if (top instanceof TraverserState.EndList) {
-                Map<String, List<TraverserContext<T>>> childrenContextMap = ((TraverserState.EndList<T>) top).childrenContextMap;
+                List<DefaultTraverserContext<T>> childrenContexts = ((TraverserState.EndList<T>) top).childrenContexts;
                 // end-of-list marker, we are done recursing children,
                 // mark the current node as fully visited
                 currentContext = (DefaultTraverserContext) traverserState.pop();
                 currentContext.setCurAccValue(currentAccValue);
-                currentContext.setChildrenContexts(childrenContextMap);
+                currentContext.setChildrenContexts(childrenContexts);
                 currentContext.setPhase(TraverserContext.Phase.LEAVE);
                 TraversalControl traversalControl = visitor.leave(currentContext);
                 currentAccValue = currentContext.getNewAccumulate();
                 assertNotNull(traversalControl, "result of leave must not be null");
-                assertTrue(CONTINUE_OR_QUIT.contains(traversalControl), "result can only return CONTINUE or QUIT");
+                assertTrue(traversalControl == CONTINUE || traversalControl == QUIT, "result can only return CONTINUE or QUIT");
 
                 switch (traversalControl) {
                     case QUIT:
@@ -136,7 +141,7 @@ public class Traverser<T> {
                 TraversalControl traversalControl = visitor.backRef(currentContext);
                 currentAccValue = currentContext.getNewAccumulate();
                 assertNotNull(traversalControl, "result of backRef must not be null");
-                assertTrue(CONTINUE_OR_QUIT.contains(traversalControl), "backRef can only return CONTINUE or QUIT");
+                assertTrue(traversalControl == CONTINUE || traversalControl == QUIT, "backRef can only return CONTINUE or QUIT");
                 if (traversalControl == QUIT) {
                     break traverseLoop;
                 }
@@ -154,7 +159,7 @@ public class Traverser<T> {
                     case ABORT:
                         continue;
                     case CONTINUE:
-                        traverserState.pushAll(currentContext, getChildren);
+                        traverserState.pushAll(currentContext, getChildren, getNamedChildren);
                         continue;
                     default:
                         assertShouldNeverHappen();
@@ -1,13 +1,15 @@
 package graphql.util;
 
+import graphql.AssertException;
 import graphql.Internal;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,7 +23,8 @@ public abstract class TraverserState<T> {
     private Object sharedContextData;
 
     private final Deque<Object> state;
-    private final Set<T> visited = new LinkedHashSet<>();
+    private Set<T> visited = new HashSet<>();
+    private boolean trackVisited = true;
 
 
     // used for depth first traversal
@@ -32,28 +35,43 @@ public abstract class TraverserState<T> {
         }
 
         @Override
-        public void pushAll(TraverserContext<U> traverserContext, Function<? super U, Map<String, ? extends List<U>>> getChildren) {
+        public void pushAll(DefaultTraverserContext<U> traverserContext,
+                            Function<? super U, ? extends List<U>> getChildren,
+                            Function<? super U, Map<String, ? extends List<U>>> getNamedChildren) {
             super.state.push(traverserContext);
 
             EndList<U> endList = new EndList<>();
             super.state.push(endList);
-            Map<String, List<TraverserContext<U>>> childrenContextMap = new LinkedHashMap<>();
 
-            if (!traverserContext.isDeleted()) {
-                Map<String, ? extends List<U>> childrenMap = getChildren.apply(traverserContext.thisNode());
-                childrenMap.keySet().forEach(key -> {
-                    List<U> children = childrenMap.get(key);
-                    for (int i = children.size() - 1; i >= 0; i--) {
-                        U child = assertNotNull(children.get(i), "null child for key " + key);
-                        NodeLocation nodeLocation = new NodeLocation(key, i);
-                        DefaultTraverserContext<U> context = super.newContext(child, traverserContext, nodeLocation);
-                        super.state.push(context);
-                        childrenContextMap.computeIfAbsent(key, notUsed -> new ArrayList<>());
-                        childrenContextMap.get(key).add(0, context);
+            if (traverserContext.isDeleted()) {
+                endList.childrenContexts = Collections.emptyList();
+            } else if (getChildren != null) {
+                List<U> children = getChildren.apply(traverserContext.thisNode());
+                @SuppressWarnings("unchecked")
+                DefaultTraverserContext<U>[] childrenContexts = new DefaultTraverserContext[children.size()];
+                for (int i = childrenContexts.length - 1; i >= 0; i--) {
+                    DefaultTraverserContext<U> context = super.newContext(child(children, i, null), traverserContext, null, i);
+                    childrenContexts[i] = context;
+                    super.state.push(context);
+                }
+                endList.childrenContexts = Arrays.asList(childrenContexts);
+            } else {
+                // the children of each key are pushed in reverse, the keys themselves in order
+                Map<String, ? extends List<U>> childrenMap = getNamedChildren.apply(traverserContext.thisNode());
+                List<DefaultTraverserContext<U>> childrenContexts = new ArrayList<>();
+                for (Map.Entry<String, ? extends List<U>> entry : childrenMap.entrySet()) {
+                    String key = entry.getKey();
+                    List<U> children = entry.getValue();
+                    int start = childrenContexts.size();
+                    for (int i = 0; i < children.size(); i++) {
+                        childrenContexts.add(super.newContext(child(children, i, key), traverserContext, key, i));
+                    }
+                    for (int i = childrenContexts.size() - 1; i >= start; i--) {
+                        super.state.push(childrenContexts.get(i));
                     }
-                });
+                }
+                endList.childrenContexts = childrenContexts;
             }
-            endList.childrenContextMap = childrenContextMap;
         }
     }
 
@@ -65,31 +83,40 @@ public abstract class TraverserState<T> {
         }
 
         @Override
-        public void pushAll(TraverserContext<U> traverserContext, Function<? super U, Map<String, ? extends List<U>>> getChildren) {
-            Map<String, List<TraverserContext<U>>> childrenContextMap = new LinkedHashMap<>();
+        public void pushAll(DefaultTraverserContext<U> traverserContext,
+                            Function<? super U, ? extends List<U>> getChildren,
+                            Function<? super U, Map<String, ? extends List<U>>> getNamedChildren) {
+            List<DefaultTraverserContext<U>> childrenContexts = new ArrayList<>();
             if (!traverserContext.isDeleted()) {
-                Map<String, ? extends List<U>> childrenMap = getChildren.apply(traverserContext.thisNode());
-                childrenMap.keySet().forEach(key -> {
-                    List<U> children = childrenMap.get(key);
+                if (getChildren != null) {
+                    List<U> children = getChildren.apply(traverserContext.thisNode());
                     for (int i = 0; i < children.size(); i++) {
-                        U child = assertNotNull(children.get(i), "null child for key " + key);
-                        NodeLocation nodeLocation = new NodeLocation(key, i);
-                        DefaultTraverserContext<U> context = super.newContext(child, traverserContext, nodeLocation);
-                        childrenContextMap.computeIfAbsent(key, notUsed -> new ArrayList<>());
-                        childrenContextMap.get(key).add(context);
-                        super.state.add(context);
+                        childrenContexts.add(super.newContext(child(children, i, null), traverserContext, null, i));
                     }
-                });
+                } else {
+                    Map<String, ? extends List<U>> childrenMap = getNamedChildren.apply(traverserContext.thisNode());
+                    for (Map.Entry<String, ? extends List<U>> entry : childrenMap.entrySet()) {
+                        List<U> children = entry.getValue();
+                        for (int i = 0; i < children.size(); i++) {
+                            childrenContexts.add(super.newContext(child(children, i, entry.getKey()), traverserContext, entry.getKey(), i));
+                        }
+                    }
+                }
+                super.state.addAll(childrenContexts);
             }
             EndList<U> endList = new EndList<>();
-            endList.childrenContextMap = childrenContextMap;
+            endList.childrenContexts = childrenContexts;
             super.state.add(endList);
             super.state.add(traverserContext);
         }
     }
 
+    /**
+     * Marks the end of the children of a node.  It holds the contexts of the children in order, so that they
+     * can be handed to the node when it is left.
+     */
     public static class EndList<U> {
-        public Map<String, List<TraverserContext<U>>> childrenContextMap;
+        public List<DefaultTraverserContext<U>> childrenContexts;
     }
 
     private TraverserState(Object sharedContextData) {
@@ -105,7 +132,24 @@ public abstract class TraverserState<T> {
         return new StackTraverserState<>(sharedContextData);
     }
 
-    public abstract void pushAll(TraverserContext<T> o, Function<? super T, Map<String, ? extends List<T>>> getChildren);
+    /**
+     * Pushes the contexts of the children of a node, which come from one of the two given functions, the other one being null.
+     *
+     * @param traverserContext the context of the node
+     * @param getChildren      the function to get the children as a list
+     * @param getNamedChildren the function to get the children by name
+     */
+    public abstract void pushAll(DefaultTraverserContext<T> traverserContext,
+                                 Function<? super T, ? extends List<T>> getChildren,
+                                 Function<? super T, Map<String, ? extends List<T>>> getNamedChildren);
+
+    private static <U> U child(List<U> children, int index, String key) {
+        U child = children.get(index);
+        if (child == null) {
+            throw new AssertException("null child for key " + key);
+        }
+        return child;
+    }
 
     public Object pop() {
         return this.state.pop();
@@ -113,7 +157,9 @@ public abstract class TraverserState<T> {
 
 
     public void addNewContexts(Collection<? extends T> children, TraverserContext<T> parentContext) {
-        assertNotNull(children).stream().map((child) -> newContext(child, parentContext, null)).forEach(this.state::add);
+        for (T child : assertNotNull(children)) {
+            this.state.add(newContext(child, parentContext, null, -1));
+        }
     }
 
     public boolean isEmpty() {
@@ -122,24 +168,25 @@ public abstract class TraverserState<T> {
 
 
     public void addVisited(T visited) {
-        this.visited.add(visited);
+        if (trackVisited) {
+            this.visited.add(visited);
+        }
     }
 
-
-    public DefaultTraverserContext<T> newRootContext(Map<Class<?>, Object> vars) {
-        return newContextImpl(null, null, vars, null, true);
+    /**
+     * Stops remembering the visited nodes, which is only correct when the nodes form a tree.
+     */
+    void noVisitedTracking() {
+        this.trackVisited = false;
+        this.visited = Collections.emptySet();
     }
 
-    private DefaultTraverserContext<T> newContext(T o, TraverserContext<T> parent, NodeLocation position) {
-        return newContextImpl(o, parent, new LinkedHashMap<>(), position, false);
+
+    public DefaultTraverserContext<T> newRootContext(Map<Class<?>, Object> vars) {
+        return new DefaultTraverserContext<>(null, null, visited, assertNotNull(vars), sharedContextData, null, true);
     }
 
-    private DefaultTraverserContext<T> newContextImpl(T curNode,
-                                                      TraverserContext<T> parent,
-                                                      Map<Class<?>, Object> vars,
-                                                      NodeLocation nodeLocation,
-                                                      boolean isRootContext) {
-        assertNotNull(vars);
-        return new DefaultTraverserContext<>(curNode, parent, visited, vars, sharedContextData, nodeLocation, isRootContext);
+    private DefaultTraverserContext<T> newContext(T o, TraverserContext<T> parent, String locationName, int locationIndex) {
+        return new DefaultTraverserContext<>(o, parent, visited, sharedContextData, locationName, locationIndex);
     }
 }
@@ -0,0 +1,138 @@
+package graphql
+
+import graphql.execution.instrumentation.InstrumentationContext
+import graphql.execution.instrumentation.SimpleInstrumentation
+import graphql.execution.instrumentation.SimpleInstrumentationContext
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters
+import graphql.language.Document
+import graphql.schema.DataFetcher
+import org.dataloader.BatchLoader
+import org.dataloader.DataLoader
+import org.dataloader.DataLoaderRegistry
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+import static graphql.ExecutionInput.newExecutionInput
+
+class GraphQLBatchTest extends Specification {
+
+    def spec = '''
+        type Query {
+            user(id : ID) : User
+        }
+
+        type User {
+            id : ID
+            name : String
+            friend : User
+        }
+    '''
+
+    List<List<String>> loadedKeys = []
+
+    DataLoaderRegistry newRegistry() {
+        def batchLoader = { List<String> keys ->
+            synchronized (loadedKeys) {
+                loadedKeys.add(new ArrayList<>(keys))
+            }
+            CompletableFuture.completedFuture(keys.collect { [id: it, name: "user" + it, friendId: it + "0"] })
+        } as BatchLoader<String, Object>
+        def registry = new DataLoaderRegistry()
+        registry.register("users", DataLoader.newDataLoader(batchLoader))
+        registry
+    }
+
+    GraphQL graphQL(SimpleInstrumentation instrumentation = new SimpleInstrumentation()) {
+        def userFetcher = { env -> env.getDataLoader("users").load(env.getArgument("id")) } as DataFetcher
+        def friendFetcher = { env -> env.getDataLoader("users").load(env.getSource().friendId) } as DataFetcher
+        def schema = TestUtil.schema(spec, [Query: [user: userFetcher], User: [friend: friendFetcher]])
+        GraphQL.newGraphQL(schema).instrumentation(instrumentation).build()
+    }
+
+    def "results are returned in the order of the operations"() {
+        def registry = newRegistry()
+        def inputs = [
+                newExecutionInput().query('{ user(id : "1") { name } }').dataLoaderRegistry(registry).build(),
+                newExecutionInput().query('{ user(id : "2") { name } }').dataLoaderRegistry(registry).build(),
+                newExecutionInput().query('{ nonExistent }').dataLoaderRegistry(registry).build(),
+                newExecutionInput().query('{ user(id : "3") { name } }').dataLoaderRegistry(registry).build(),
+        ]
+
+        when:
+        def results = graphQL().executeBatch(inputs)
+
+        then:
+        results.size() == 4
+        results[0].data == [user: [name: "user1"]]
+        results[1].data == [user: [name: "user2"]]
+        results[2].errors.size() == 1
+        results[3].data == [user: [name: "user3"]]
+    }
+
+    def "operations with the same registry share its dispatches"() {
+        def registry = newRegistry()
+        def query = '''
+            query q($id : ID) {
+                user(id : $id) {
+                    name
+                    friend {
+                        name
+                    }
+                }
+            }
+        '''
+        def inputs = ["1", "2", "1"].collect {
+            newExecutionInput().query(query).variables([id: it]).dataLoaderRegistry(registry).build()
+        }
+
+        when:
+        def results = graphQL().executeBatchAsync(inputs).join()
+
+        then:
+        results.collect { it.data } == [
+                [user: [name: "user1", friend: [name: "user10"]]],
+                [user: [name: "user2", friend: [name: "user20"]]],
+                [user: [name: "user1", friend: [name: "user10"]]],
+        ]
+        loadedKeys == [["1", "2"], ["10", "20"]]
+    }
+
+    def "operations with their own registries are not held up by each other"() {
+        def inputs = ["1", "2"].collect {
+            newExecutionInput().query('{ user(id : "' + it + '") { name friend { name } } }').dataLoaderRegistry(newRegistry()).build()
+        }
+
+        when:
+        def results = graphQL().executeBatchAsyncEach(inputs).collect { it.join() }
+
+        then:
+        results.collect { it.data } == [
+                [user: [name: "user1", friend: [name: "user10"]]],
+                [user: [name: "user2", friend: [name: "user20"]]],
+        ]
+        loadedKeys == [["1"], ["10"], ["2"], ["20"]]
+    }
+
+    def "a query that appears more than once is parsed once"() {
+        def parseCount = 0
+        def instrumentation = new SimpleInstrumentation() {
+            @Override
+            InstrumentationContext<Document> beginParse(InstrumentationExecutionParameters parameters) {
+                parseCount++
+                return new SimpleInstrumentationContext<Document>()
+            }
+        }
+        def registry = newRegistry()
+        def inputs = ["1", "2", "3"].collect {
+            newExecutionInput().query('query q($id : ID) { user(id : $id) { name } }').variables([id: it]).dataLoaderRegistry(registry).build()
+        } + newExecutionInput().query('{ user(id : "4") { id } }').dataLoaderRegistry(registry).build()
+
+        when:
+        def results = graphQL(instrumentation).executeBatch(inputs)
+
+        then:
+        results.collect { it.data } == [[user: [name: "user1"]], [user: [name: "user2"]], [user: [name: "user3"]], [user: [id: "4"]]]
+        parseCount == 2
+    }
+}
@@ -94,4 +94,29 @@ class ScalarsFloatTest extends Specification {
         Double.NaN      | _
     }
 
+    @Unroll
+    def "Float fast paths agree with the BigDecimal conversion for #value (#value.class)"() {
+        given:
+        Double expected
+        try {
+            expected = new BigDecimal(value.toString()).doubleValue()
+        } catch (NumberFormatException ignored) {
+            expected = null
+        }
+        Double actual
+        try {
+            actual = Scalars.GraphQLFloat.getCoercing().serialize(value)
+        } catch (CoercingSerializeException ignored) {
+            actual = null
+        }
+
+        expect:
+        actual == expected
+        // -0.0 == 0.0 in groovy, so compare the bits as well
+        actual == null || Double.doubleToLongBits(actual) == Double.doubleToLongBits(expected)
+
+        where:
+        value << [0, -7, Long.MAX_VALUE, Long.MIN_VALUE, (short) -3, (byte) 3, 0.1d, -0.0d, Double.MAX_VALUE, Double.MIN_VALUE,
+                  Double.NaN, Double.NEGATIVE_INFINITY, 0.1f, "0", "-0", "123456789012345678", "0.1", "1e3", "-", ""]
+    }
 }
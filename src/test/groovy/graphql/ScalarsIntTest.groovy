@@ -113,4 +113,28 @@ class ScalarsIntTest extends Specification {
 
     }
 
+    @Unroll
+    def "Int fast paths agree with the BigDecimal conversion for #value (#value.class)"() {
+        given:
+        Integer expected
+        try {
+            expected = new BigDecimal(value.toString()).intValueExact()
+        } catch (ArithmeticException | NumberFormatException ignored) {
+            expected = null
+        }
+        Integer actual
+        try {
+            actual = Scalars.GraphQLInt.getCoercing().serialize(value)
+        } catch (CoercingSerializeException ignored) {
+            actual = null
+        }
+
+        expect:
+        actual == expected
+
+        where:
+        value << [0, -0.0d, 7L, -7L, (long) Integer.MAX_VALUE, Integer.MAX_VALUE + 1L, Long.MIN_VALUE, (short) -3, (byte) 3,
+                  1e9d, 1e10d, -2147483648d, 2147483648d, 3.5d, Double.NaN, Double.POSITIVE_INFINITY,
+                  "0", "-0", "007", "-2147483648", "2147483648", "123456789012345678", "1234567890123456789", "-", "", "+5", "1e3", "4.0"]
+    }
 }
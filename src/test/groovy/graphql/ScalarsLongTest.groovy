@@ -114,4 +114,28 @@ class ScalarsLongTest extends Specification {
         new Object()     | _
     }
 
+    @Unroll
+    def "Long fast paths agree with the BigDecimal conversion for #value (#value.class)"() {
+        given:
+        Long expected
+        try {
+            expected = new BigDecimal(value.toString()).longValueExact()
+        } catch (ArithmeticException | NumberFormatException ignored) {
+            expected = null
+        }
+        Long actual
+        try {
+            actual = Scalars.GraphQLLong.getCoercing().serialize(value)
+        } catch (CoercingSerializeException ignored) {
+            actual = null
+        }
+
+        expect:
+        actual == expected
+
+        where:
+        value << [0, -7, Integer.MIN_VALUE, (short) -3, (byte) 3, -0.0d, 1e15d, 9007199254740991d, 9007199254740993d,
+                  (double) (1L << 60), 1e19d, 3.5d, Double.NaN,
+                  "0", "-0", "007", "-123456789012345678", "9223372036854775807", "9223372036854775808", "-", "", "+5", "1e3"]
+    }
 }
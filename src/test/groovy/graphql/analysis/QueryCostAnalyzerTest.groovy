@@ -0,0 +1,208 @@
+package graphql.analysis
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.execution.preparsed.PreparsedDocumentEntry
+import graphql.execution.preparsed.PreparsedDocumentProvider
+import graphql.language.Document
+import graphql.parser.Parser
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class QueryCostAnalyzerTest extends Specification {
+
+    def schema = TestUtil.schema("""
+            type Query {
+                foo: Foo
+                bar: String
+                connection(first: Int, last: Int): Connection
+            }
+            type Foo {
+                scalar: String
+                foo: Foo
+            }
+            type Connection {
+                edges: [Edge]
+                totalCount: Int
+            }
+            type Edge {
+                node: Foo
+            }
+        """)
+
+    Document createQuery(String query) {
+        Parser parser = new Parser()
+        parser.parseDocument(query)
+    }
+
+    int traverserComplexity(Document document, Map variables, FieldComplexityCalculator calculator) {
+        def queryTraverser = QueryTraverser.newQueryTraverser()
+                .schema(schema).document(document).variables(variables).build()
+        Map<QueryVisitorFieldEnvironment, Integer> valuesByParent = [:]
+        queryTraverser.visitPostOrder(new QueryVisitorStub() {
+            @Override
+            void visitField(QueryVisitorFieldEnvironment env) {
+                int childComplexity = valuesByParent.getOrDefault(env, 0)
+                int value = env.isTypeNameIntrospectionField() ? 0 : calculator.calculate(convertEnv(env), childComplexity)
+                valuesByParent[env.getParentEnvironment()] = valuesByParent.getOrDefault(env.getParentEnvironment(), 0) + value
+            }
+        })
+        valuesByParent.getOrDefault(null, 0)
+    }
+
+    FieldComplexityEnvironment convertEnv(QueryVisitorFieldEnvironment env) {
+        def parentEnv = env.getParentEnvironment() == null ? null : convertEnv(env.getParentEnvironment())
+        new FieldComplexityEnvironment(env.field, env.fieldDefinition, env.fieldsContainer, env.arguments, parentEnv)
+    }
+
+    def "depth and complexity match the individual instrumentations"() {
+        given:
+        def document = createQuery(query)
+        def analyzer = new QueryCostAnalyzer()
+
+        when:
+        def cost = analyzer.analyze(schema, document, null, [:])
+        def depth = QueryTraverser.newQueryTraverser().schema(schema).document(document).variables([:]).build()
+                .reducePreOrder({ env, acc -> Math.max(pathLength(env), acc) } as QueryReducer<Integer>, 0)
+
+        then:
+        cost.depth == depth
+        cost.depth == expectedDepth
+        cost.complexity == traverserComplexity(document, [:], { env, child -> 1 + child } as FieldComplexityCalculator)
+        cost.complexity == expectedComplexity
+
+        where:
+        query                                                                              | expectedDepth | expectedComplexity
+        "{ bar }"                                                                          | 1             | 1
+        "{ foo { scalar foo { scalar } } bar }"                                            | 3             | 5
+        "{ foo { ...F } } fragment F on Foo { scalar foo { __typename } }"                 | 3             | 3
+        "{ foo { ... on Foo { scalar } ... { foo { scalar } } } }"                         | 3             | 4
+        "{ foo @skip(if: true) { scalar } bar @include(if: true) }"                        | 1             | 1
+        "{ connection(first: 10) { edges { node { scalar } } totalCount } }"               | 4             | 5
+    }
+
+    int pathLength(QueryVisitorFieldEnvironment env) {
+        int length = 1
+        while (env != null) {
+            env = env.getParentEnvironment()
+            length++
+        }
+        length - 1
+    }
+
+    def "argument multipliers are applied to child complexity"() {
+        given:
+        def calculator = ArgumentMultiplierComplexityCalculator.newCalculator().maxMultiplier(100).build()
+        def analyzer = new QueryCostAnalyzer(calculator)
+
+        when:
+        def cost = analyzer.analyze(schema, createQuery(query), null, [:])
+
+        then:
+        cost.complexity == expectedComplexity
+
+        where:
+        query                                                                   | expectedComplexity
+        "{ connection(first: 10) { edges { node { scalar } } } }"               | 1 + 10 * 3
+        "{ connection(last: 5) { edges { node { scalar } } totalCount } }"      | 1 + 5 * 4
+        "{ connection(first: 1000) { totalCount } }"                            | 1 + 100 * 1
+        "{ connection { totalCount } }"                                         | 2
+    }
+
+    def "variables in arguments and directives are evaluated per request"() {
+        given:
+        def calculator = ArgumentMultiplierComplexityCalculator.newCalculator().build()
+        def analyzer = new QueryCostAnalyzer(calculator)
+        def document = createQuery('''
+            query q($n: Int, $skipFoo: Boolean!) {
+                connection(first: $n) { edges { node { scalar } } }
+                foo @skip(if: $skipFoo) { scalar foo { scalar } }
+                bar
+            }
+        ''')
+
+        when:
+        def cost1 = analyzer.analyze(schema, document, null, [n: 2, skipFoo: false])
+        def cost2 = analyzer.analyze(schema, document, null, [n: 10, skipFoo: true])
+
+        then:
+        cost1.complexity == (1 + 2 * 3) + 4 + 1
+        cost1.depth == 4
+        cost2.complexity == (1 + 10 * 3) + 1
+        cost2.depth == 4
+
+        cost1.complexity == traverserComplexity(document, [n: 2, skipFoo: false], calculator)
+        cost2.complexity == traverserComplexity(document, [n: 10, skipFoo: true], calculator)
+    }
+
+    def "the static part of a document is only calculated once"() {
+        given:
+        int calls = 0
+        def analyzer = new QueryCostAnalyzer({ env, child -> calls++; 1 + child } as FieldComplexityCalculator)
+        def staticDocument = createQuery("{ foo { scalar foo { scalar } } bar }")
+        def dynamicDocument = createQuery('query q($b: Boolean!) { foo { scalar foo { scalar } } bar @include(if: $b) }')
+
+        when:
+        analyzer.analyze(schema, staticDocument, null, [:])
+        analyzer.analyze(schema, staticDocument, null, [:])
+        analyzer.analyze(schema, staticDocument, null, [:])
+
+        then:
+        calls == 5
+
+        when:
+        calls = 0
+        def cost1 = analyzer.analyze(schema, dynamicDocument, null, [b: true])
+        def cost2 = analyzer.analyze(schema, dynamicDocument, null, [b: false])
+
+        then:
+        cost1.complexity == 5
+        cost2.complexity == 4
+        // foo's subtree is calculated once at compile time, only bar is re-calculated per request
+        calls == 5
+    }
+
+    def "the plans of a document are kept per analyzer"() {
+        given:
+        def document = createQuery("{ foo { scalar } bar }")
+        def analyzer = new QueryCostAnalyzer()
+        def doubling = new QueryCostAnalyzer({ env, child -> 2 + child } as FieldComplexityCalculator)
+
+        when:
+        def cost = analyzer.analyze(schema, document, null, [:])
+        def doubledCost = doubling.analyze(schema, document, null, [:])
+
+        then:
+        cost.complexity == 3
+        doubledCost.complexity == 6
+        analyzer.analyze(schema, document, null, [:]).is(cost)
+    }
+
+    def "instrumentation aborts expensive queries even for cached documents"() {
+        given:
+        def cache = [:]
+        PreparsedDocumentProvider documentProvider = { ExecutionInput input, Function<ExecutionInput, PreparsedDocumentEntry> compute ->
+            cache.computeIfAbsent(input.getQuery(), { compute.apply(input) })
+        } as PreparsedDocumentProvider
+        def calculator = ArgumentMultiplierComplexityCalculator.newCalculator().build()
+        def graphQL = GraphQL.newGraphQL(schema)
+                .instrumentation(new QueryCostAnalysisInstrumentation(5, 20, calculator))
+                .preparsedDocumentProvider(documentProvider)
+                .build()
+        def query = 'query q($n: Int) { connection(first: $n) { edges { node { scalar } } } }'
+
+        when:
+        def result1 = graphQL.execute(ExecutionInput.newExecutionInput(query).variables([n: 5]).build())
+        def result2 = graphQL.execute(ExecutionInput.newExecutionInput(query).variables([n: 50]).build())
+        def result3 = graphQL.execute("{ foo { foo { foo { foo { foo { scalar } } } } } }")
+
+        then:
+        result1.errors.isEmpty()
+        result2.errors.size() == 1
+        result2.errors[0].message == "maximum query complexity exceeded 151 > 20"
+        result3.errors.size() == 1
+        result3.errors[0].message == "maximum query depth exceeded 6 > 5"
+    }
+}
@@ -0,0 +1,170 @@
+package graphql.analysis
+
+import graphql.TestUtil
+import graphql.language.Document
+import graphql.parser.Parser
+import graphql.util.TraversalControl
+import spock.lang.Specification
+
+class QueryTraversalPassTest extends Specification {
+
+    def schema = TestUtil.schema("""
+            type Query {
+                foo(id: ID): Foo
+                bar: String
+            }
+            type Foo {
+                scalar(arg: String): String
+                foo: Foo
+            }
+        """)
+
+    Document createQuery(String query) {
+        Parser parser = new Parser()
+        parser.parseDocument(query)
+    }
+
+    QueryTraverser createQueryTraverser(Document document, Map variables = [:], QueryTraversalCache cache = null) {
+        QueryTraverser.newQueryTraverser()
+                .schema(schema)
+                .document(document)
+                .variables(variables)
+                .traversalCache(cache)
+                .build()
+    }
+
+    QueryVisitor recordingVisitor(List<String> visited) {
+        new QueryVisitorStub() {
+            @Override
+            void visitField(QueryVisitorFieldEnvironment env) {
+                visited.add(env.parentType.name + "." + env.field.name + env.arguments)
+            }
+        }
+    }
+
+    def "a pass calls back all visitors and reducers like separate traversals"() {
+        given:
+        def document = createQuery('''
+            query q($id: ID) { foo(id: $id) { scalar(arg: "x") ...F } bar }
+            fragment F on Foo { foo { scalar } }
+        ''')
+        def variables = [id: "1"]
+        def traverser = createQueryTraverser(document, variables)
+
+        List<String> expectedPreOrder = []
+        List<String> expectedPostOrder = []
+        traverser.visitPreOrder(recordingVisitor(expectedPreOrder))
+        traverser.visitPostOrder(recordingVisitor(expectedPostOrder))
+        def expectedCount = traverser.reducePreOrder({ env, acc -> acc + 1 } as QueryReducer<Integer>, 0)
+        def expectedNames = traverser.reducePostOrder({ env, acc -> acc + env.field.name } as QueryReducer<String>, "")
+
+        when:
+        List<String> preOrder = []
+        List<String> postOrder = []
+        def pass = new QueryTraversalPass()
+                .preOrder(recordingVisitor(preOrder))
+                .postOrder(recordingVisitor(postOrder))
+        def count = pass.reducePreOrder({ env, acc -> acc + 1 } as QueryReducer<Integer>, 0)
+        def names = pass.reducePostOrder({ env, acc -> acc + env.field.name } as QueryReducer<String>, "")
+        createQueryTraverser(document, variables).visit(pass)
+
+        then:
+        preOrder == expectedPreOrder
+        postOrder == expectedPostOrder
+        count.get() == expectedCount
+        count.get() == 5
+        names.get() == expectedNames
+    }
+
+    def "the most restrictive traversal control of the pre-order visitors wins"() {
+        given:
+        def document = createQuery("{ foo { scalar foo { scalar } } bar }")
+        List<String> visited = []
+        def pass = new QueryTraversalPass()
+                .preOrder(recordingVisitor(visited))
+                .preOrder(new QueryVisitorStub() {
+            @Override
+            TraversalControl visitFieldWithControl(QueryVisitorFieldEnvironment env) {
+                env.field.name == "foo" ? TraversalControl.ABORT : TraversalControl.CONTINUE
+            }
+        })
+
+        when:
+        createQueryTraverser(document).visit(pass)
+
+        then:
+        visited == ["Query.foo[:]", "Query.bar[:]"]
+    }
+
+    def "cached fields give the same results and variables are coerced each time"() {
+        given:
+        def cache = new QueryTraversalCache()
+        def document = createQuery('''
+            query q($arg: String) { foo(id: "1") { scalar(arg: $arg) foo { scalar(arg: "static") } } bar }
+        ''')
+
+        when:
+        List<String> uncached = []
+        createQueryTraverser(document, [arg: "a"]).visitPreOrder(recordingVisitor(uncached))
+        List<String> first = []
+        createQueryTraverser(document, [arg: "a"], cache).visitPreOrder(recordingVisitor(first))
+
+        then:
+        first == uncached
+        cache.size() == 5
+
+        when:
+        List<String> second = []
+        createQueryTraverser(document, [arg: "b"], cache).visitPreOrder(recordingVisitor(second))
+
+        then:
+        second == ["Query.foo[id:1]", "Foo.scalar[arg:b]", "Foo.foo[:]", "Foo.scalar[arg:static]", "Query.bar[:]"]
+        cache.size() == 5
+    }
+
+    def "the cache of a document is kept with the document"() {
+        given:
+        def document = createQuery("{ bar }")
+        def otherDocument = createQuery("{ bar }")
+
+        when:
+        def cache = QueryTraversalCache.forDocument(document)
+        createQueryTraverser(document, [:], cache).visitPreOrder(new QueryVisitorStub())
+
+        then:
+        QueryTraversalCache.forDocument(document).is(cache)
+        !QueryTraversalCache.forDocument(otherDocument).is(cache)
+        QueryTraversalCache.forDocument(otherDocument).size() == 0
+        cache.size() == 1
+    }
+
+    def "cached fields are not used for a different schema"() {
+        given:
+        def cache = new QueryTraversalCache()
+        def otherSchema = TestUtil.schema("""
+            type Query {
+                foo(id: ID): Foo
+                bar: Int
+            }
+            type Foo {
+                scalar(arg: String): String
+                foo: Foo
+            }
+        """)
+        def document = createQuery("{ bar }")
+        createQueryTraverser(document, [:], cache).visitPreOrder(new QueryVisitorStub())
+
+        when:
+        String typeName = null
+        QueryTraverser.newQueryTraverser().schema(otherSchema).document(document).variables([:]).traversalCache(cache).build()
+                .visitPreOrder(new QueryVisitorStub() {
+            @Override
+            void visitField(QueryVisitorFieldEnvironment env) {
+                typeName = env.fieldDefinition.type.name
+            }
+        })
+
+        then:
+        typeName == "Int"
+    }
+}
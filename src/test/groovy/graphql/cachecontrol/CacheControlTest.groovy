@@ -115,4 +115,27 @@ class CacheControlTest extends Specification {
                 ]
         ]
     }
+
+    def "the cache policy is the smallest max age of the hints and private if any hint is"() {
+        given:
+        def cc = CacheControl.newCacheControl()
+        hints.each { path, maxAge, scope -> cc.hint(ExecutionPath.parse(path), maxAge, scope) }
+        def er = ExecutionResultImpl.newExecutionResult().data([a: "x", b: "y"]).build()
+
+        expect:
+        cc.getCachePolicy(er, defaultMaxAge) == new CachePolicy(maxAge, scope)
+
+        where:
+        hints                                                                              | defaultMaxAge || maxAge | scope
+        []                                                                                 | 0             || 0      | CacheControl.Scope.PUBLIC
+        []                                                                                 | 30            || 30     | CacheControl.Scope.PUBLIC
+        [["/a", 60, CacheControl.Scope.PUBLIC]]                                            | 0             || 0      | CacheControl.Scope.PUBLIC
+        [["/a", 60, CacheControl.Scope.PUBLIC]]                                            | 100           || 60     | CacheControl.Scope.PUBLIC
+        [["/a", 60, CacheControl.Scope.PUBLIC], ["/b", 120, CacheControl.Scope.PUBLIC]]    | 0             || 60     | CacheControl.Scope.PUBLIC
+        [["/a", 60, CacheControl.Scope.PUBLIC], ["/b", 120, CacheControl.Scope.PRIVATE]]   | 0             || 60     | CacheControl.Scope.PRIVATE
+        [["/a", 60, CacheControl.Scope.PUBLIC], ["/b", 120, CacheControl.Scope.PUBLIC],
+         ["/b/c", 10, CacheControl.Scope.PUBLIC]]                                          | 0             || 10     | CacheControl.Scope.PUBLIC
+        [["/a", 60, CacheControl.Scope.PUBLIC], ["/b", 120, CacheControl.Scope.PUBLIC],
+         ["/b/c", null, CacheControl.Scope.PRIVATE]]                                       | 0             || 60     | CacheControl.Scope.PRIVATE
+    }
 }
@@ -0,0 +1,203 @@
+package graphql.cachecontrol
+
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.execution.instrumentation.DocumentAndVariables
+import graphql.execution.instrumentation.Instrumentation
+import graphql.execution.instrumentation.SimpleInstrumentation
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters
+import graphql.schema.DataFetcher
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneOffset
+import java.util.concurrent.atomic.AtomicInteger
+
+class InMemoryResponseCacheTest extends Specification {
+
+    def sdl = '''
+        type Query {
+            catalog(category : String) : [String]
+            cart : [String]
+            now : String
+        }
+        type Mutation {
+            order : String
+        }
+    '''
+
+    def fetches = new AtomicInteger()
+    def time = Instant.parse("2020-01-01T00:00:00Z")
+
+    GraphQL graphQL(InMemoryResponseCache.Builder cacheBuilder, Instrumentation instrumentation = SimpleInstrumentation.INSTANCE) {
+        DataFetcher catalog = { env ->
+            fetches.incrementAndGet()
+            env.getCacheControl().hint(env, 60)
+            [env.getArgument("category") ?: "all"]
+        }
+        DataFetcher cart = { env ->
+            fetches.incrementAndGet()
+            env.getCacheControl().hint(env, 60, CacheControl.Scope.PRIVATE)
+            [env.getContext()]
+        }
+        DataFetcher now = { env ->
+            fetches.incrementAndGet()
+            "now"
+        }
+        DataFetcher order = { env ->
+            fetches.incrementAndGet()
+            env.getCacheControl().hint(env, 60)
+            "ordered"
+        }
+        def cache = cacheBuilder.clock(new Clock() {
+            ZoneOffset getZone() { ZoneOffset.UTC }
+
+            Clock withZone(java.time.ZoneId zone) { this }
+
+            Instant instant() { time }
+        }).build()
+        TestUtil.graphQL(sdl, [Query   : [catalog: catalog, cart: cart, now: now],
+                               Mutation: [order: order]])
+                .responseCache(cache)
+                .instrumentation(instrumentation)
+                .build()
+    }
+
+    def execute(GraphQL graphQL, String query, Object context = null, Map<String, Object> variables = [:]) {
+        graphQL.execute(ExecutionInput.newExecutionInput().query(query).context(context).variables(variables).build())
+    }
+
+    def "public results are served from the cache until they expire"() {
+        given:
+        def graphQL = graphQL(InMemoryResponseCache.newResponseCache())
+
+        when:
+        def first = execute(graphQL, '{ catalog }')
+        def second = execute(graphQL, '{ catalog }')
+
+        then:
+        first.data == [catalog: ["all"]]
+        second.data == [catalog: ["all"]]
+        fetches.get() == 1
+
+        when:
+        execute(graphQL, 'query q($c : String) { catalog(category : $c) }', null, [c: "books"])
+        def other = execute(graphQL, 'query q($c : String) { catalog(category : $c) }', null, [c: "toys"])
+        execute(graphQL, 'query q($c : String) { catalog(category : $c) }', null, [c: "books"])
+
+        then:
+        other.data == [catalog: ["toys"]]
+        fetches.get() == 3
+
+        when:
+        time = time.plusSeconds(61)
+        execute(graphQL, '{ catalog }')
+
+        then:
+        fetches.get() == 4
+    }
+
+    def "queries with the same signature but other literals or aliases are cached apart"() {
+        given:
+        def graphQL = graphQL(InMemoryResponseCache.newResponseCache())
+
+        when:
+        def books = execute(graphQL, '{ catalog(category : "books") }')
+        def toys = execute(graphQL, '{ catalog(category : "toys") }')
+        def aliased = execute(graphQL, '{ items : catalog(category : "toys") }')
+
+        then:
+        books.data == [catalog: ["books"]]
+        toys.data == [catalog: ["toys"]]
+        aliased.data == [items: ["toys"]]
+        fetches.get() == 3
+    }
+
+    def "results are cached under the request as it was looked up when the instrumentation changes it"() {
+        given:
+        def instrumentation = new SimpleInstrumentation() {
+            @Override
+            DocumentAndVariables instrumentDocumentAndVariables(DocumentAndVariables documentAndVariables, InstrumentationExecutionParameters parameters) {
+                documentAndVariables.transform({ it.variables([c: "books"]) })
+            }
+        }
+        def graphQL = graphQL(InMemoryResponseCache.newResponseCache(), instrumentation)
+
+        when:
+        def first = execute(graphQL, 'query q($c : String) { catalog(category : $c) }')
+        def second = execute(graphQL, 'query q($c : String) { catalog(category : $c) }')
+
+        then:
+        first.data == [catalog: ["books"]]
+        second.data == [catalog: ["books"]]
+        fetches.get() == 1
+    }
+
+    def "results with fields without hints or with errors are not cached unless there is a default max age"() {
+        given:
+        def graphQL = graphQL(InMemoryResponseCache.newResponseCache().defaultMaxAge(defaultMaxAge))
+
+        when:
+        execute(graphQL, '{ catalog now }')
+        execute(graphQL, '{ catalog now }')
+        execute(graphQL, '{ catalog unknown }')
+        execute(graphQL, '{ catalog unknown }')
+
+        then:
+        fetches.get() == expectedFetches
+
+        where:
+        defaultMaxAge || expectedFetches
+        0             || 4
+        30            || 2
+    }
+
+    def "private results are only cached per private key"() {
+        given:
+        def graphQL = graphQL(InMemoryResponseCache.newResponseCache().privateKey({ input -> input.getContext() }))
+
+        when:
+        def alice = execute(graphQL, '{ cart }', "alice")
+        def bob = execute(graphQL, '{ cart }', "bob")
+        def aliceAgain = execute(graphQL, '{ cart }', "alice")
+        execute(graphQL, '{ cart }', null)
+        execute(graphQL, '{ cart }', null)
+
+        then:
+        alice.data == [cart: ["alice"]]
+        bob.data == [cart: ["bob"]]
+        aliceAgain.data == [cart: ["alice"]]
+        fetches.get() == 4
+    }
+
+    def "mutations are never cached"() {
+        given:
+        def graphQL = graphQL(InMemoryResponseCache.newResponseCache())
+
+        when:
+        execute(graphQL, 'mutation { order }')
+        execute(graphQL, 'mutation { order }')
+
+        then:
+        fetches.get() == 2
+    }
+
+    def "the least recently used result is dropped when the cache is full"() {
+        given:
+        def cache = InMemoryResponseCache.newResponseCache().maxEntries(2)
+        def graphQL = graphQL(cache)
+
+        when:
+        execute(graphQL, '{ a: catalog }')
+        execute(graphQL, '{ b: catalog }')
+        execute(graphQL, '{ a: catalog }')
+        execute(graphQL, '{ c: catalog }')
+        execute(graphQL, '{ a: catalog }')
+        execute(graphQL, '{ b: catalog }')
+
+        then:
+        fetches.get() == 4
+    }
+}
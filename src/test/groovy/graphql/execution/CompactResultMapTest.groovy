@@ -0,0 +1,62 @@
+package graphql.execution
+
+import graphql.GraphQL
+import graphql.StarWarsSchema
+import spock.lang.Specification
+
+class CompactResultMapTest extends Specification {
+
+    def "behaves like an ordered map"() {
+        given:
+        String[] keys = ["a", "b", "c"]
+        def map = new CompactResultMap(keys, [1, null, 3] as Object[])
+
+        expect:
+        map.size() == 3
+        map.get("a") == 1
+        map.get("b") == null
+        map.containsKey("b")
+        !map.containsKey("d")
+        map.keySet() as List == ["a", "b", "c"]
+        map == [a: 1, b: null, c: 3]
+        map.hashCode() == [a: 1, b: null, c: 3].hashCode()
+    }
+
+    def "changes do not affect the shared keys"() {
+        given:
+        String[] keys = ["a", "b", "c"]
+        def map1 = new CompactResultMap(keys, [1, 2, 3] as Object[])
+        def map2 = new CompactResultMap(keys, [4, 5, 6] as Object[])
+
+        when:
+        map1.put("a", 10)
+        map1.put("d", 7)
+        map1.remove("b")
+        def iterator = map2.entrySet().iterator()
+        iterator.next()
+        iterator.remove()
+        map2.entrySet().iterator().next().setValue(50)
+
+        then:
+        map1 == [a: 10, c: 3, d: 7]
+        map1.keySet() as List == ["a", "c", "d"]
+        map2 == [b: 50, c: 6]
+        keys == ["a", "b", "c"] as String[]
+    }
+
+    def "objects of the same selection set share their keys"() {
+        given:
+        def graphQL = GraphQL.newGraphQL(StarWarsSchema.starWarsSchema).build()
+
+        when:
+        def result = graphQL.execute("{ hero { friends { id name } } }")
+        def friends = result.data["hero"]["friends"] as List<CompactResultMap>
+
+        then:
+        result.errors.isEmpty()
+        friends.size() == 3
+        friends.collect { it.keySet() as List }.unique() == [["id", "name"]]
+        friends[0].@keys.is(friends[1].@keys)
+        friends[1].@keys.is(friends[2].@keys)
+    }
+}
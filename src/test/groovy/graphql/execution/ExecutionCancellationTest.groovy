@@ -0,0 +1,140 @@
+package graphql.execution
+
+import graphql.ErrorType
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.DataFetcher
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+import static graphql.ExecutionInput.newExecutionInput
+
+class ExecutionCancellationTest extends Specification {
+
+    def spec = """
+        type Query {
+            products : [Product]
+            slow : String
+            other : String
+        }
+        type Product {
+            name : String
+        }
+    """
+
+    def fetched = Collections.synchronizedList([])
+
+    GraphQL graphQL(Map<String, DataFetcher> queryFetchers, DataFetcher nameFetcher = { env -> env.source.name }) {
+        def recordingFetchers = queryFetchers.collectEntries { name, fetcher ->
+            [(name): { env -> fetched.add(name); fetcher.get(env) } as DataFetcher]
+        }
+        DataFetcher name = { env -> fetched.add("name"); nameFetcher.get(env) }
+        GraphQL.newGraphQL(TestUtil.schema(spec, [Query: recordingFetchers, Product: [name: name]])).build()
+    }
+
+    def "an execution that is already cancelled fetches nothing"() {
+        def cancellation = ExecutionCancellation.newCancellation()
+        cancellation.cancel("client disconnected")
+
+        when:
+        def result = graphQL([slow: { env -> "slow" } as DataFetcher])
+                .execute(newExecutionInput("{ slow }").cancellation(cancellation))
+
+        then:
+        result.data == null
+        result.errors.size() == 1
+        result.errors[0].errorType == ErrorType.ExecutionAborted
+        result.errors[0].message == "client disconnected"
+        fetched.isEmpty()
+    }
+
+    def "fields and list elements are not completed once the execution is cancelled"() {
+        def cancellation = ExecutionCancellation.newCancellation()
+        def products = [[name: "a"], [name: "b"], [name: "c"]]
+        DataFetcher cancellingName = { env ->
+            env.getCancellation().cancel("client disconnected")
+            env.source.name
+        }
+
+        when:
+        def result = graphQL([products: { env -> products } as DataFetcher, other: { env -> "other" } as DataFetcher], cancellingName)
+                .execute(newExecutionInput("{ products { name } other }").cancellation(cancellation))
+
+        then:
+        result.errors.size() == 1
+        result.errors[0].errorType == ErrorType.ExecutionAborted
+        fetched == ["products", "name"]
+    }
+
+    def "outstanding fetches are given up at the deadline without completing the futures of the data fetchers"() {
+        def pending = new CompletableFuture()
+        def cancellation = ExecutionCancellation.withTimeout(Duration.ofMillis(50))
+        Duration timeRemaining = null
+
+        when:
+        def result = graphQL([slow: { env -> timeRemaining = env.getCancellation().getTimeRemaining(); pending } as DataFetcher])
+                .executeAsync(newExecutionInput("{ slow }").cancellation(cancellation))
+                .get(5, TimeUnit.SECONDS)
+
+        then:
+        result.errors.size() == 1
+        result.errors[0].errorType == ErrorType.ExecutionAborted
+        result.errors[0].message == "Execution deadline exceeded"
+        cancellation.isCancelled()
+        timeRemaining != null && timeRemaining <= Duration.ofMillis(50)
+        !pending.isDone()
+    }
+
+    def "cancel actions and propagated futures are run and completed on cancellation"() {
+        def cancellation = ExecutionCancellation.newCancellation()
+        def actions = []
+        def future = cancellation.propagateTo(new CompletableFuture())
+
+        when:
+        cancellation.whenCancelled({ actions.add("first") })
+        def cancelled = cancellation.cancel("stop")
+        def cancelledAgain = cancellation.cancel("stop again")
+        cancellation.whenCancelled({ actions.add("late") })
+
+        then:
+        cancelled
+        !cancelledAgain
+        actions == ["first", "late"]
+        future.isCompletedExceptionally()
+        cancellation.getAbortException().message == "stop"
+    }
+
+    def "removed cancel actions are not kept or run"() {
+        def cancellation = ExecutionCancellation.newCancellation()
+        def actions = []
+
+        when:
+        1000.times { i -> cancellation.whenCancelled({ actions.add(i) }).run() }
+        def remover = cancellation.whenCancelled({ actions.add("kept") })
+
+        then:
+        cancellation.@cancelActions.size() == 1
+
+        when:
+        cancellation.cancel("stop")
+        remover.run()
+
+        then:
+        actions == ["kept"]
+        cancellation.@cancelActions.isEmpty()
+    }
+
+    def "executions without a cancellation token are never cancelled"() {
+        when:
+        def result = graphQL([slow: { env -> env.getCancellation().cancel("ignored") ? "cancelled" : "slow" } as DataFetcher])
+                .execute("{ slow }")
+
+        then:
+        result.errors.isEmpty()
+        result.data == [slow: "slow"]
+        !ExecutionCancellation.never().isCancelled()
+    }
+}
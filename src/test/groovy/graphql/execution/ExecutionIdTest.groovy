@@ -73,4 +73,34 @@ class ExecutionIdTest extends Specification {
         id1 == "1"
         id2 == "2"
     }
+
+    def 'Generated identifiers are formatted as UUIDs and equal to their string form'() {
+        expect:
+        def uuid = UUID.fromString(id.toString())
+        uuid.version() == 4
+        uuid.variant() == 2
+        id == ExecutionId.from(id.toString())
+        ExecutionId.from(id.toString()) == id
+        id.hashCode() == ExecutionId.from(id.toString()).hashCode()
+        id != generator.call()
+
+        where:
+        generator << [{ ExecutionId.generate() }, { ExecutionId.generateFast() }]
+        id = generator.call()
+    }
+
+    def 'Sequential identifiers are made of the prefix and a counter'() {
+        given:
+        def provider = ExecutionIdProvider.sequential("node1-")
+
+        when:
+        def id1 = provider.provide(query, null, null)
+        def id2 = provider.provide(query, null, null)
+
+        then:
+        id1.toString() == "node1-1"
+        id2.toString() == "node1-2"
+        id1 == ExecutionId.from("node1-1")
+        id1 != id2
+    }
 }
@@ -4,9 +4,11 @@ import graphql.Assert
 import graphql.DataFetchingErrorGraphQLError
 import graphql.ExceptionWhileDataFetching
 import graphql.ExecutionResult
+import graphql.GraphQL
 import graphql.Scalars
 import graphql.SerializationError
 import graphql.StarWarsSchema
+import graphql.TestUtil
 import graphql.TypeMismatchError
 import graphql.execution.instrumentation.SimpleInstrumentation
 import graphql.language.Argument
@@ -27,6 +29,7 @@ import spock.lang.Specification
 
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.CompletionException
+import java.util.stream.LongStream
 
 import static ExecutionStrategyParameters.newParameters
 import static graphql.Scalars.GraphQLString
@@ -63,7 +66,7 @@ class ExecutionStrategyTest extends Specification {
         new ExecutionContext(SimpleInstrumentation.INSTANCE, executionId, schema ?: StarWarsSchema.starWarsSchema, null,
                 executionStrategy, executionStrategy, executionStrategy,
                 [:], null, null,
-                variables, "context", "root", new DataLoaderRegistry(), null, Collections.emptyList())
+                variables, "context", "root", new DataLoaderRegistry(), null, ExecutionCancellation.never(), null, Collections.emptyList())
     }
 
     @SuppressWarnings("GroovyAssignabilityCheck")
@@ -809,4 +812,120 @@ class ExecutionStrategyTest extends Specification {
         executionContext.errors.size() == 1
         executionContext.errors[0] instanceof TypeMismatchError
     }
+
+    def "lists of scalars and enums are completed from arrays, primitive arrays and streams"() {
+        given:
+        def spec = """
+            type Query {
+                ints : [Int]
+                longs : [Long]
+                floats : [Float!]
+                colors : [Color]
+                names : [String]
+            }
+            enum Color { RED, GREEN }
+        """
+        DataFetcher ints = { env -> [1, 2, 3] as int[] }
+        DataFetcher longs = { env -> LongStream.rangeClosed(1, 3) }
+        DataFetcher floats = { env -> [1.5d, 2d] as double[] }
+        DataFetcher colors = { env -> ["RED", "GREEN"] as String[] }
+        DataFetcher names = { env -> ["a", Optional.of("b"), DataFetcherResult.newResult().data("c").build()].stream() }
+        def schema = TestUtil.schema(spec, [Query: [ints: ints, longs: longs, floats: floats, colors: colors, names: names]])
+        def graphQL = GraphQL.newGraphQL(schema).build()
+
+        when:
+        def result = graphQL.execute("{ ints longs floats colors names }")
+
+        then:
+        result.errors.isEmpty()
+        result.data == [ints: [1, 2, 3], longs: [1L, 2L, 3L], floats: [1.5d, 2d], colors: ["RED", "GREEN"], names: ["a", "b", "c"]]
+    }
+
+    def "elements of scalar lists that can't be serialized are errors at their own path and null elements of non null lists are bubbled up"() {
+        given:
+        def spec = """
+            type Query {
+                ints : [Int]
+                nonNullInts : [Int!]
+                other : String
+            }
+        """
+        DataFetcher ints = { env -> [1, "x", 3] }
+        DataFetcher nonNullInts = { env -> [1, null, 3] }
+        DataFetcher other = { env -> "other" }
+        def schema = TestUtil.schema(spec, [Query: [ints: ints, nonNullInts: nonNullInts, other: other]])
+        def graphQL = GraphQL.newGraphQL(schema).build()
+
+        when:
+        def result = graphQL.execute("{ ints nonNullInts other }")
+
+        then:
+        result.data == [ints: [1, null, 3], nonNullInts: null, other: "other"]
+        result.errors.size() == 2
+        result.errors[0] instanceof SerializationError
+        result.errors[0].path == ["ints", 1]
+        result.errors[1] instanceof NonNullableFieldWasNullError
+        result.errors[1].path == ["nonNullInts", 1]
+    }
+
+    def "strategies that override the completion of scalars see every list element"() {
+        given:
+        def spec = """
+            type Query {
+                ints : [Int]
+            }
+        """
+        DataFetcher ints = { env -> [1, 2, 3] }
+        def schema = TestUtil.schema(spec, [Query: [ints: ints]])
+        def completedScalars = []
+        def strategy = new AsyncExecutionStrategy() {
+            @Override
+            protected CompletableFuture<ExecutionResult> completeValueForScalar(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLScalarType scalarType, Object result) {
+                completedScalars.add(result)
+                return super.completeValueForScalar(executionContext, parameters, scalarType, result)
+            }
+        }
+        def graphQL = GraphQL.newGraphQL(schema).queryExecutionStrategy(strategy).build()
+
+        when:
+        def result = graphQL.execute("{ ints }")
+
+        then:
+        !strategy.completesLeafListsDirectly()
+        new AsyncExecutionStrategy().completesLeafListsDirectly()
+        result.data == [ints: [1, 2, 3]]
+        completedScalars == [1, 2, 3]
+    }
+
+    def "strategies that don't complete leaf lists directly see every list element"() {
+        given:
+        def spec = """
+            type Query {
+                ints : [Int]
+            }
+        """
+        DataFetcher ints = { env -> [1, 2, 3] }
+        def schema = TestUtil.schema(spec, [Query: [ints: ints]])
+        def completedScalars = []
+        def strategy = new AsyncExecutionStrategy() {
+            @Override
+            protected boolean completesLeafListsDirectly() {
+                return false
+            }
+
+            @Override
+            protected CompletableFuture<ExecutionResult> completeValueForScalar(ExecutionContext executionContext, ExecutionStrategyParameters parameters, GraphQLScalarType scalarType, Object result) {
+                completedScalars.add(result)
+                return super.completeValueForScalar(executionContext, parameters, scalarType, result)
+            }
+        }
+        def graphQL = GraphQL.newGraphQL(schema).queryExecutionStrategy(strategy).build()
+
+        when:
+        def result = graphQL.execute("{ ints }")
+
+        then:
+        result.data == [ints: [1, 2, 3]]
+        completedScalars == [1, 2, 3]
+    }
 }
@@ -0,0 +1,113 @@
+package graphql.execution
+
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.DataFetcher
+import graphql.schema.GraphQLCodeRegistry
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+import static graphql.schema.FieldCoordinates.coordinates
+import static graphql.schema.idl.RuntimeWiring.newRuntimeWiring
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring
+
+class MemoizedFetchesTest extends Specification {
+
+    def spec = """
+        type Query {
+            products : [Product]
+        }
+        type Product {
+            name : String
+            price(currency : String = "EUR") : Float
+        }
+    """
+
+    def products = [[name: "a", amount: 1.5d], [name: "b", amount: 2d]]
+    def priceCalls = new AtomicInteger()
+
+    GraphQL graphQL(GraphQLCodeRegistry.Builder codeRegistry) {
+        DataFetcher price = { env ->
+            priceCalls.incrementAndGet()
+            if (env.getArgument("currency") == "XXX") {
+                throw new RuntimeException("unknown currency")
+            }
+            env.getArgument("currency") == "EUR" ? env.source.amount : env.source.amount * 2
+        }
+        def wiring = newRuntimeWiring()
+                .codeRegistry(codeRegistry)
+                .type(newTypeWiring("Query").dataFetcher("products", { env -> products }))
+                .type(newTypeWiring("Product").dataFetcher("price", price))
+                .build()
+        GraphQL.newGraphQL(TestUtil.schema(spec, wiring)).build()
+    }
+
+    def "a memoized field is fetched once per source object and argument values"() {
+        given:
+        def graphQL = graphQL(GraphQLCodeRegistry.newCodeRegistry().memoizedField(coordinates("Product", "price")))
+        def query = """
+            {
+                products {
+                    name
+                    price
+                    ... on Product { eur: price(currency : "EUR") usd: price(currency : "USD") }
+                    ...productPrice
+                }
+            }
+            fragment productPrice on Product { other: price usd2: price(currency : "USD") }
+        """
+
+        when:
+        def result = graphQL.execute(query)
+
+        then:
+        result.errors.isEmpty()
+        result.data == [products: [
+                [name: "a", price: 1.5d, eur: 1.5d, usd: 3d, other: 1.5d, usd2: 3d],
+                [name: "b", price: 2d, eur: 2d, usd: 4d, other: 2d, usd2: 4d]
+        ]]
+        priceCalls.get() == 4
+    }
+
+    def "fields are not memoized unless asked for"() {
+        given:
+        def graphQL = graphQL(GraphQLCodeRegistry.newCodeRegistry())
+
+        when:
+        def result = graphQL.execute("{ products { price other: price } }")
+
+        then:
+        result.errors.isEmpty()
+        priceCalls.get() == 4
+    }
+
+    def "fetches beyond the maximum are not memoized"() {
+        given:
+        def graphQL = graphQL(GraphQLCodeRegistry.newCodeRegistry()
+                .memoizedField(coordinates("Product", "price"))
+                .maxMemoizedFetches(1))
+
+        when:
+        def result = graphQL.execute("{ products { price other: price } }")
+
+        then:
+        result.errors.isEmpty()
+        result.data == [products: [[price: 1.5d, other: 1.5d], [price: 2d, other: 2d]]]
+        priceCalls.get() == 3
+    }
+
+    def "a memoized exception is an error of every field that asked for it"() {
+        given:
+        def graphQL = graphQL(GraphQLCodeRegistry.newCodeRegistry().memoizedField(coordinates("Product", "price")))
+
+        when:
+        def result = graphQL.execute('{ products { price(currency : "XXX") other: price(currency : "XXX") } }')
+
+        then:
+        priceCalls.get() == 2
+        result.data == [products: [[price: null, other: null], [price: null, other: null]]]
+        result.errors.collect { it.path } as Set == [["products", 0, "price"], ["products", 0, "other"],
+                                                     ["products", 1, "price"], ["products", 1, "other"]] as Set
+    }
+}
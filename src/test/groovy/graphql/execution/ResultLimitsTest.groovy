@@ -0,0 +1,112 @@
+package graphql.execution
+
+import graphql.ErrorType
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.DataFetcher
+import spock.lang.Specification
+
+import static graphql.ExecutionInput.newExecutionInput
+import static graphql.execution.ResultLimits.newResultLimits
+
+class ResultLimitsTest extends Specification {
+
+    def spec = """
+        type Query {
+            products : [Product]
+            endless : [Product]
+            numbers : [Int]
+            text : String
+        }
+        type Product {
+            name : String
+        }
+    """
+
+    GraphQL graphQL(ResultLimits resultLimits) {
+        def products = (1..10).collect { [name: "product" + it] }
+        DataFetcher productsFetcher = { env -> products }
+        DataFetcher numbersFetcher = { env -> (1..10).toArray(new Integer[0]) }
+        DataFetcher textFetcher = { env -> "x" * 1000 }
+        DataFetcher endlessFetcher = { env -> { -> [hasNext: { true }, next: { [name: "product"] }] as Iterator } as Iterable }
+        def schema = TestUtil.schema(spec, [Query: [products: productsFetcher, numbers: numbersFetcher, text: textFetcher, endless: endlessFetcher]])
+        def builder = GraphQL.newGraphQL(schema)
+        if (resultLimits != null) {
+            builder.resultLimits(resultLimits)
+        }
+        builder.build()
+    }
+
+    def "results without limits are unchanged"() {
+        when:
+        def result = graphQL(newResultLimits().build()).execute(newExecutionInput("{ products { name } numbers }"))
+
+        then:
+        result.errors.isEmpty()
+        result.data.products.size() == 10
+        result.data.numbers == (1..10).toList()
+    }
+
+    def "a result over the maximum number of nodes aborts the execution"() {
+        def cancellation = ExecutionCancellation.newCancellation()
+
+        when:
+        def result = graphQL(newResultLimits().maxResultNodes(15).build())
+                .execute(newExecutionInput("{ products { name } }").cancellation(cancellation))
+
+        then:
+        result.data == null
+        result.errors.size() == 1
+        result.errors[0].errorType == ErrorType.ExecutionAborted
+        result.errors[0].message.contains("maximum of 15 nodes")
+        // the token given to the execution can still be used by other executions
+        !cancellation.isCancelled()
+    }
+
+    def "lists over the maximum length are truncated"() {
+        when:
+        def result = graphQL(newResultLimits().maxListLength(3).truncate(true).build())
+                .execute(newExecutionInput("{ products { name } numbers }"))
+
+        then:
+        result.data == [products: [[name: "product1"], [name: "product2"], [name: "product3"]], numbers: [1, 2, 3]]
+        result.errors.size() == 2
+        result.errors.every { it instanceof ResultLimitExceededError }
+        result.errors.collect { it.path }.toSet() == [["products"], ["numbers"]].toSet()
+    }
+
+    def "a list over the maximum length aborts the execution"() {
+        when:
+        def result = graphQL(newResultLimits().maxListLength(3).build()).execute(newExecutionInput("{ numbers }"))
+
+        then:
+        result.data == null
+        result.errors.size() == 1
+        result.errors[0].message == "The list has 10 elements, more than the maximum of 3"
+    }
+
+    def "endless lists are only read up to the maximum length"() {
+        when:
+        def truncated = graphQL(newResultLimits().maxListLength(3).truncate(true).build()).execute(newExecutionInput("{ endless { name } }"))
+        def aborted = graphQL(newResultLimits().maxListLength(3).build()).execute(newExecutionInput("{ endless { name } }"))
+
+        then:
+        truncated.data == [endless: [[name: "product"], [name: "product"], [name: "product"]]]
+        truncated.errors.size() == 1
+        truncated.errors[0].path == ["endless"]
+        aborted.data == null
+        aborted.errors[0].message == "The list has more elements than the maximum of 3"
+    }
+
+    def "values over the estimated size are left out when truncating"() {
+        when:
+        def result = graphQL(newResultLimits().maxEstimatedBytes(500).truncate(true).build())
+                .execute(newExecutionInput("{ numbers text }"))
+
+        then:
+        result.data == [numbers: (1..10).toList(), text: null]
+        result.errors.size() == 1
+        result.errors[0] instanceof ResultLimitExceededError
+        result.errors[0].path == ["text"]
+    }
+}
@@ -18,6 +18,11 @@ import graphql.language.VariableDefinition
 import graphql.language.VariableReference
 import graphql.schema.CoercingParseValueException
 import graphql.schema.GraphQLArgument
+import graphql.schema.GraphQLFieldDefinition
+import graphql.schema.GraphQLFieldsContainer
+import graphql.schema.GraphQLInputFieldsContainer
+import graphql.schema.GraphQLInputObjectField
+import graphql.schema.visibility.GraphqlFieldVisibility
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -30,6 +35,7 @@ import static graphql.schema.GraphQLInputObjectField.newInputObjectField
 import static graphql.schema.GraphQLInputObjectType.newInputObject
 import static graphql.schema.GraphQLList.list
 import static graphql.schema.GraphQLNonNull.nonNull
+import static graphql.schema.visibility.DefaultGraphqlFieldVisibility.DEFAULT_FIELD_VISIBILITY
 
 class ValuesResolverTest extends Specification {
 
@@ -432,4 +438,116 @@ class ValuesResolverTest extends Specification {
         then:
         thrown(GraphQLException)
     }
+
+    def "getVariableValues: large list of recursive input objects"() {
+        given:
+        def schema = TestUtil.schema("""
+            type Query {
+                field(arg : [Node]) : String
+            }
+
+            input Node {
+                name : String!
+                kind : String = "leaf"
+                children : [Node]
+            }
+        """)
+        VariableDefinition variableDefinition = new VariableDefinition("variable", new ListType(new TypeName("Node")))
+
+        def inputValue = (0..<5000).collect { [name: "n" + it, children: [[name: "c" + it, kind: "inner"]]] }
+
+        when:
+        def resolvedValues = resolver.coerceArgumentValues(schema, [variableDefinition], [variable: inputValue])
+        def nodes = resolvedValues['variable'] as List
+
+        then:
+        nodes.size() == 5000
+        nodes[0] == [name: "n0", kind: "leaf", children: [[name: "c0", kind: "inner"]]]
+        nodes[4999] == [name: "n4999", kind: "leaf", children: [[name: "c4999", kind: "inner"]]]
+
+        when:
+        resolver.coerceArgumentValues(schema, [variableDefinition], [variable: [[name: "a", children: [[kind: "inner"]]]]])
+
+        then:
+        def nonNullException = thrown(NonNullableValueCoercedAsNullException)
+        nonNullException.message.contains("'name'")
+
+        when:
+        resolver.coerceArgumentValues(schema, [variableDefinition], [variable: [[name: "a", parent: "b"]]])
+
+        then:
+        thrown(InputMapDefinesTooManyFieldsException)
+    }
+
+    def "getVariableValues: input object types are compiled once per schema"() {
+        given:
+        def personType = newInputObject()
+                .name("Person")
+                .field(newInputObjectField().name("name").type(GraphQLString))
+                .build()
+        def schema = TestUtil.schemaWithInputType(personType)
+        def otherSchema = TestUtil.schemaWithInputType(personType)
+        VariableDefinition variableDefinition = new VariableDefinition("variable", new TypeName("Person"))
+        VariableDefinition otherVariableDefinition = new VariableDefinition("other", new NonNullType(new TypeName("Person")))
+        def visibility = schema.getCodeRegistry().getFieldVisibility()
+        def customVisibility = new GraphqlFieldVisibility() {
+            @Override
+            List<GraphQLFieldDefinition> getFieldDefinitions(GraphQLFieldsContainer fieldsContainer) {
+                fieldsContainer.getFieldDefinitions()
+            }
+
+            @Override
+            GraphQLFieldDefinition getFieldDefinition(GraphQLFieldsContainer fieldsContainer, String fieldName) {
+                fieldsContainer.getFieldDefinition(fieldName)
+            }
+        }
+
+        when:
+        def fields = VariableCoercionPlan.plan(schema, visibility, variableDefinition).coercer.inputObjectFields
+
+        then:
+        VariableCoercionPlan.plan(schema, visibility, variableDefinition).coercer.inputObjectFields.is(fields)
+        VariableCoercionPlan.plan(schema, visibility, otherVariableDefinition).coercer.wrapped.inputObjectFields.is(fields)
+        !VariableCoercionPlan.plan(otherSchema, visibility, variableDefinition).coercer.inputObjectFields.is(fields)
+        !VariableCoercionPlan.plan(schema, customVisibility, variableDefinition).coercer.inputObjectFields.is(fields)
+        VariableCoercionPlan.plan(schema, visibility, variableDefinition).coerce(variableDefinition, [name: "x"]) == [name: "x"]
+    }
+
+    def "getVariableValues: input object types are compiled per call for a custom visibility of the schema"() {
+        given:
+        def personType = newInputObject()
+                .name("Person")
+                .field(newInputObjectField().name("name").type(GraphQLString))
+                .field(newInputObjectField().name("secret").type(GraphQLString))
+                .build()
+        def showSecret = true
+        def customVisibility = new GraphqlFieldVisibility() {
+            @Override
+            List<GraphQLFieldDefinition> getFieldDefinitions(GraphQLFieldsContainer fieldsContainer) {
+                fieldsContainer.getFieldDefinitions()
+            }
+
+            @Override
+            GraphQLFieldDefinition getFieldDefinition(GraphQLFieldsContainer fieldsContainer, String fieldName) {
+                fieldsContainer.getFieldDefinition(fieldName)
+            }
+
+            @Override
+            List<GraphQLInputObjectField> getFieldDefinitions(GraphQLInputFieldsContainer fieldsContainer) {
+                fieldsContainer.getFieldDefinitions().findAll { showSecret || it.name != "secret" }
+            }
+        }
+        def schema = TestUtil.schemaWithInputType(personType)
+        schema = schema.transform({ builder -> builder.codeRegistry(schema.getCodeRegistry().transform({ it.fieldVisibility(customVisibility) })) })
+        VariableDefinition variableDefinition = new VariableDefinition("variable", new TypeName("Person"))
+
+        when:
+        def visible = VariableCoercionPlan.plan(schema, customVisibility, variableDefinition).coerce(variableDefinition, [name: "x", secret: "s"])
+        showSecret = false
+        VariableCoercionPlan.plan(schema, customVisibility, variableDefinition).coerce(variableDefinition, [name: "x", secret: "s"])
+
+        then:
+        visible == [name: "x", secret: "s"]
+        thrown(GraphQLException)
+    }
 }
@@ -5,6 +5,7 @@
 package graphql.execution.batched
 
 import graphql.ExceptionWhileDataFetching
+import graphql.ExecutionInput
 import graphql.ExecutionResult
 import graphql.GraphQL
 import graphql.Scalars
@@ -17,6 +18,8 @@ import graphql.schema.GraphQLSchema
 import graphql.schema.idl.RuntimeWiring
 import spock.lang.Specification
 
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicInteger
 
 import static graphql.schema.GraphQLArgument.newArgument
@@ -540,4 +543,119 @@ class BatchedExecutionStrategyTest extends Specification {
 
     }
 
+    def "sibling batched fields returning completion stages are dispatched together"() {
+        given:
+        List<String> dispatched = []
+        List<CompletableFuture<List<Object>>> pending = []
+        def batchedFetcher = { String name ->
+            { env ->
+                dispatched.add(name)
+                def future = new CompletableFuture<List<Object>>()
+                pending.add(future)
+                // only complete once both siblings have been dispatched, which would hang if they ran one after another
+                if (pending.size() == 2) {
+                    pending.each { it.complete([name.toUpperCase()]) }
+                }
+                future
+            } as BatchedDataFetcher
+        }
+        def runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", { builder ->
+            builder.dataFetcher("foo", batchedFetcher("foo")).dataFetcher("bar", batchedFetcher("bar"))
+        })
+                .build()
+        def schema = TestUtil.schema("""
+            type Query {
+                foo: String
+                bar: String
+                baz: String
+            }
+        """, runtimeWiring)
+
+        when:
+        def result = GraphQL.newGraphQL(schema).queryExecutionStrategy(new BatchedExecutionStrategy())
+                .build().executeAsync(ExecutionInput.newExecutionInput("{ bar baz foo }")).get(5, TimeUnit.SECONDS)
+
+        then:
+        dispatched == ["bar", "foo"]
+        result.errors.isEmpty()
+        (result.data as Map).keySet() as List == ["bar", "baz", "foo"]
+        result.data == [bar: "FOO", baz: null, foo: "FOO"]
+    }
+
+    def "values of an abstract type are grouped into one child node per type"() {
+        given:
+        int nameCalls = 0
+        def nameFetcher = { env ->
+            nameCalls++
+            (env.getSource() as List<Map>).collect { it.name }
+        } as BatchedDataFetcher
+        def runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", { builder -> builder.dataFetcher("pets", { env -> [[[name: "Tom", meows: true], [name: "Rex"], [name: "Felix", meows: true]]] } as BatchedDataFetcher) })
+                .type("Pet", { builder -> builder.typeResolver({ env -> env.schema.getObjectType(env.object.meows ? "Cat" : "Dog") }) })
+                .type("Cat", { builder -> builder.dataFetcher("name", nameFetcher) })
+                .type("Dog", { builder -> builder.dataFetcher("name", nameFetcher) })
+                .build()
+        def schema = TestUtil.schema("""
+            type Query {
+                pets: [Pet]
+            }
+            interface Pet {
+                name: String
+            }
+            type Cat implements Pet {
+                name: String
+            }
+            type Dog implements Pet {
+                name: String
+            }
+        """, runtimeWiring)
+
+        when:
+        def result = GraphQL.newGraphQL(schema).queryExecutionStrategy(new BatchedExecutionStrategy())
+                .build().execute("{ pets { __typename name } }")
+
+        then:
+        result.errors.isEmpty()
+        result.data == [pets: [[__typename: "Cat", name: "Tom"], [__typename: "Dog", name: "Rex"], [__typename: "Cat", name: "Felix"]]]
+        nameCalls == 2
+    }
+
+    def "top level mutation fields are still executed serially"() {
+        given:
+        List<String> events = []
+        def mutationFetcher = { String name ->
+            { env ->
+                events.add("start " + name)
+                CompletableFuture.supplyAsync({
+                    Thread.sleep(20)
+                    events.add("end " + name)
+                    [name]
+                })
+            } as BatchedDataFetcher
+        }
+        def runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type("Mutation", { builder ->
+            builder.dataFetcher("first", mutationFetcher("first")).dataFetcher("second", mutationFetcher("second"))
+        })
+                .build()
+        def schema = TestUtil.schema("""
+            type Query {
+                foo: String
+            }
+            type Mutation {
+                first: String
+                second: String
+            }
+        """, runtimeWiring)
+
+        when:
+        def result = GraphQL.newGraphQL(schema).mutationExecutionStrategy(new BatchedExecutionStrategy())
+                .build().execute("mutation { first second }")
+
+        then:
+        result.errors.isEmpty()
+        result.data == [first: "first", second: "second"]
+        events == ["start first", "end first", "start second", "end second"]
+    }
 }
@@ -0,0 +1,152 @@
+package graphql.execution.instrumentation
+
+import graphql.AssertException
+import graphql.GraphQL
+import graphql.StarWarsSchema
+import graphql.TestUtil
+import graphql.execution.AsyncExecutionStrategy
+import graphql.execution.AsyncSerialExecutionStrategy
+import graphql.execution.batched.BatchedExecutionStrategy
+import graphql.execution.instrumentation.tracing.LatencyHistogram
+import graphql.execution.instrumentation.tracing.SampledTracingInstrumentation
+import graphql.schema.DataFetcher
+import graphql.schema.FieldCoordinates
+import spock.lang.Specification
+
+import static graphql.execution.instrumentation.tracing.SampledTracingInstrumentation.Options.newOptions
+
+class SampledTracingInstrumentationTest extends Specification {
+
+    def query = """
+        {
+            hero {
+                id
+                appearsIn
+            }
+        }
+        """
+
+    def "field latencies are aggregated across requests"() {
+        given:
+        def instrumentation = new SampledTracingInstrumentation(newOptions().includeTrivialDataFetchers(true))
+
+        def graphQL = GraphQL
+                .newGraphQL(StarWarsSchema.starWarsSchema)
+                .queryExecutionStrategy(testExecutionStrategy)
+                .instrumentation(instrumentation)
+                .build()
+
+        when:
+        def executionResult1 = graphQL.execute(query)
+        def executionResult2 = graphQL.execute(query)
+        def statistics = instrumentation.getStatistics().snapshot()
+
+        then:
+        executionResult1.errors.isEmpty()
+        executionResult2.errors.isEmpty()
+        executionResult1.extensions == null
+
+        statistics[FieldCoordinates.coordinates("QueryType", "hero")].count == 2
+        statistics[FieldCoordinates.coordinates("Droid", "id")].count == 2
+        statistics[FieldCoordinates.coordinates("Droid", "appearsIn")].count == 2
+
+        def heroStats = instrumentation.snapshot()["QueryType.hero"]
+        heroStats["count"] == 2L
+        heroStats["max"] >= heroStats["p50"]
+
+        where:
+
+        testExecutionStrategy              | _
+        new AsyncExecutionStrategy()       | _
+        new AsyncSerialExecutionStrategy() | _
+        new BatchedExecutionStrategy()     | _
+    }
+
+    def "trivial data fetchers are ignored by default"() {
+        given:
+        def spec = '''
+            type Query {
+                hero : Hero
+            }
+            
+            type Hero {
+                id : ID
+                appearsIn : String
+            }
+        '''
+
+        DataFetcher df = { env -> [id: "id", appearsIn: "appearsIn"] } as DataFetcher
+
+        def instrumentation = new SampledTracingInstrumentation()
+
+        def graphQL = TestUtil.graphQL(spec, [Query: [hero: df]])
+                .instrumentation(instrumentation)
+                .build()
+
+        when:
+        graphQL.execute(query)
+        def statistics = instrumentation.getStatistics().snapshot()
+
+        then:
+        statistics.keySet() == [FieldCoordinates.coordinates("Query", "hero")] as Set
+    }
+
+    def "unsampled requests are not recorded"() {
+        given:
+        def instrumentation = new SampledTracingInstrumentation(newOptions().sampleRate(0.0))
+
+        def graphQL = GraphQL
+                .newGraphQL(StarWarsSchema.starWarsSchema)
+                .instrumentation(instrumentation)
+                .build()
+
+        when:
+        def executionResult = graphQL.execute(query)
+
+        then:
+        executionResult.errors.isEmpty()
+        instrumentation.getStatistics().snapshot().isEmpty()
+    }
+
+    def "sample rate must be a fraction"() {
+        when:
+        newOptions().sampleRate(1.5)
+
+        then:
+        thrown(AssertException)
+    }
+
+    def "histogram percentiles are within bucket precision"() {
+        given:
+        def histogram = new LatencyHistogram()
+
+        when:
+        (1..1000).each { histogram.record(it * 1000L) }
+        def snapshot = histogram.snapshot()
+
+        then:
+        snapshot.count == 1000
+        snapshot.minNanos == 1000L
+        snapshot.maxNanos == 1000_000L
+        snapshot.meanNanos == 500_500L
+        Math.abs(snapshot.getValueAtPercentile(50) - 500_000L) <= 500_000L / LatencyHistogram.SUB_BUCKET_COUNT
+        Math.abs(snapshot.getValueAtPercentile(99) - 990_000L) <= 990_000L / LatencyHistogram.SUB_BUCKET_COUNT
+        snapshot.getValueAtPercentile(100) == 1000_000L
+    }
+
+    def "histogram clamps out of range values"() {
+        given:
+        def histogram = new LatencyHistogram()
+
+        when:
+        histogram.record(-5)
+        histogram.record(Long.MAX_VALUE)
+        def snapshot = histogram.snapshot()
+
+        then:
+        snapshot.count == 2
+        snapshot.minNanos == 0
+        snapshot.maxNanos == LatencyHistogram.MAX_TRACKABLE_NANOS
+        snapshot.getValueAtPercentile(100) == LatencyHistogram.MAX_TRACKABLE_NANOS
+    }
+}
@@ -0,0 +1,247 @@
+package graphql.execution.instrumentation.concurrency
+
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.DataFetcher
+import org.dataloader.BatchLoader
+import org.dataloader.DataLoader
+import org.dataloader.DataLoaderRegistry
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+import static graphql.ExecutionInput.newExecutionInput
+import static graphql.schema.FieldCoordinates.coordinates
+
+class FieldConcurrencyInstrumentationTest extends Specification {
+
+    def spec = """
+        type Query {
+            search(text : String) : String
+            other : String
+            product : Product
+        }
+        type Product {
+            name : String
+        }
+    """
+
+    def pending = Collections.synchronizedList([])
+    def searches = Collections.synchronizedList([])
+
+    GraphQL graphQL(FieldConcurrencyInstrumentation instrumentation) {
+        DataFetcher search = { env ->
+            searches.add(env.getArgument("text"))
+            def future = new CompletableFuture()
+            pending.add(future)
+            future
+        }
+        DataFetcher other = { env -> "other" }
+        DataFetcher product = { env -> [name: "product"] }
+        def schema = TestUtil.schema(spec, [Query: [search: search, other: other, product: product]])
+        GraphQL.newGraphQL(schema).instrumentation(instrumentation).build()
+    }
+
+    def "fetches over the limit of a field are rejected with an error"() {
+        def instrumentation = FieldConcurrencyInstrumentation.newFieldConcurrencyInstrumentation()
+                .fieldLimit(coordinates("Query", "search"), ConcurrencyLimiter.newLimiter().limit(1).build())
+                .build()
+
+        when:
+        def resultFuture = graphQL(instrumentation).executeAsync(newExecutionInput('{ a: search(text : "a") b: search(text : "b") other }'))
+        pending.each { it.complete("found") }
+        def result = resultFuture.join()
+
+        then:
+        result.data == [a: "found", b: null, other: "other"]
+        result.errors.size() == 1
+        result.errors[0] instanceof ConcurrencyLimitExceededError
+        result.errors[0].path == ["b"]
+        result.errors[0].message == "Too many concurrent fetches of field 'Query.search', the fetch of '/b' was rejected"
+        searches == ["a"]
+    }
+
+    def "fetches over the limit wait in the queue"() {
+        def limiter = ConcurrencyLimiter.newLimiter().limit(1).maxQueueSize(5).build()
+        def instrumentation = FieldConcurrencyInstrumentation.newFieldConcurrencyInstrumentation()
+                .fieldLimit(coordinates("Query", "search"), limiter)
+                .build()
+
+        when:
+        def resultFuture = graphQL(instrumentation).executeAsync(newExecutionInput('{ a: search(text : "a") b: search(text : "b") c: search(text : "c") }'))
+
+        then:
+        searches == ["a"]
+        limiter.getInFlight() == 1
+        limiter.getQueued() == 2
+
+        when:
+        pending[0].complete("found a")
+
+        then:
+        searches == ["a", "b"]
+
+        when:
+        pending[1].complete("found b")
+        pending[2].complete("found c")
+        def result = resultFuture.join()
+
+        then:
+        result.errors.isEmpty()
+        result.data == [a: "found a", b: "found b", c: "found c"]
+        limiter.getInFlight() == 0
+        limiter.getQueued() == 0
+    }
+
+    def "the global limit applies to all the fields but trivial ones"() {
+        def limiter = ConcurrencyLimiter.newLimiter().limit(1).build()
+        def instrumentation = FieldConcurrencyInstrumentation.newFieldConcurrencyInstrumentation()
+                .globalLimit(limiter)
+                .build()
+
+        when:
+        def resultFuture = graphQL(instrumentation).executeAsync(newExecutionInput('{ search(text : "a") other product { name } }'))
+        pending.each { it.complete("found") }
+        def result = resultFuture.join()
+
+        then:
+        result.data == [search: "found", other: null, product: null]
+        result.errors.collect { it.path } == [["other"], ["product"]]
+        limiter.getRejectedCount() == 2
+    }
+
+    def loaderSpec = """
+        type Query {
+            search(text : String) : String
+            loaded : String
+            products : [Product]
+        }
+        type Product {
+            name : String
+        }
+    """
+
+    def batches = []
+
+    GraphQL dataLoaderGraphQL(FieldConcurrencyInstrumentation instrumentation, DataLoaderRegistry registry) {
+        registry.register("names", DataLoader.newDataLoader({ keys ->
+            batches.add(keys)
+            CompletableFuture.completedFuture(keys.collect { "product" + it })
+        } as BatchLoader))
+        DataFetcher search = { env ->
+            searches.add(env.getArgument("text"))
+            def future = new CompletableFuture()
+            pending.add(future)
+            future
+        }
+        DataFetcher products = { env -> (1..30).collect { [id: it] } }
+        DataFetcher loaded = { env -> env.getDataLoader("names").load(0) }
+        DataFetcher name = { env -> env.getDataLoader("names").load(env.getSource().id) }
+        def schema = TestUtil.schema(loaderSpec, [Query: [search: search, loaded: loaded, products: products], Product: [name: name]])
+        GraphQL.newGraphQL(schema).instrumentation(instrumentation).build()
+    }
+
+    def "excluded data loader fields are not limited"() {
+        def limiter = ConcurrencyLimiter.newLimiter().limit(1).build()
+        def instrumentation = FieldConcurrencyInstrumentation.newFieldConcurrencyInstrumentation()
+                .globalLimit(limiter)
+                .excludeField(coordinates("Product", "name"))
+                .build()
+        def registry = new DataLoaderRegistry()
+
+        when:
+        def result = dataLoaderGraphQL(instrumentation, registry)
+                .executeAsync(newExecutionInput('{ products { name } }').dataLoaderRegistry(registry))
+                .get(5, TimeUnit.SECONDS)
+
+        then:
+        result.errors.isEmpty()
+        result.data.products.collect { it.name } == (1..30).collect { "product" + it }
+        batches.size() == 1
+        limiter.getInFlight() == 0
+        limiter.getRejectedCount() == 0
+    }
+
+    def "the limit holds for concurrent executions that queue up data loader loads"() {
+        def limiter = ConcurrencyLimiter.newLimiter().limit(1).maxQueueSize(5).build()
+        def instrumentation = FieldConcurrencyInstrumentation.newFieldConcurrencyInstrumentation()
+                .globalLimit(limiter)
+                .excludeField(coordinates("Query", "loaded"))
+                .build()
+        def graphQL = dataLoaderGraphQL(instrumentation, new DataLoaderRegistry())
+        def execute = { String text ->
+            def registry = new DataLoaderRegistry()
+            registry.register("names", DataLoader.newDataLoader({ keys ->
+                CompletableFuture.completedFuture(keys.collect { "product" + it })
+            } as BatchLoader))
+            graphQL.executeAsync(newExecutionInput('{ search(text : "' + text + '") loaded }').dataLoaderRegistry(registry))
+        }
+
+        when:
+        def resultFutures = Collections.synchronizedList([])
+        def threads = ["a", "b"].collect { text -> Thread.start { resultFutures.add(execute(text)) } }
+        threads.each { it.join() }
+
+        then:
+        searches.size() == 1
+        limiter.getInFlight() == 1
+        limiter.getQueued() == 1
+
+        when:
+        pending[0].complete("found")
+
+        then:
+        searches.size() == 2
+        limiter.getInFlight() == 1
+
+        when:
+        pending[1].complete("found")
+        def results = resultFutures.collect { it.get(5, TimeUnit.SECONDS) }
+
+        then:
+        results.every { it.errors.isEmpty() && it.data == [search: "found", loaded: "product0"] }
+        limiter.getInFlight() == 0
+        limiter.getQueued() == 0
+        limiter.getRejectedCount() == 0
+    }
+
+    def "an adaptive limit is lowered as the latency grows"() {
+        def limiter = ConcurrencyLimiter.newLimiter().limit(50).adaptive(2, 100).smoothing(1).build()
+
+        when:
+        10.times {
+            limiter.submit({
+                Thread.sleep(5)
+                CompletableFuture.completedFuture("fast")
+            }).join()
+        }
+        def limitAtLowLatency = limiter.getLimit()
+        5.times {
+            limiter.submit({
+                Thread.sleep(50)
+                CompletableFuture.completedFuture("slow")
+            }).join()
+        }
+
+        then:
+        limiter.getLimit() < limitAtLowLatency
+        limiter.getLimit() >= 2
+    }
+
+    def "queued calls that complete straight away are started without growing the stack"() {
+        def limiter = ConcurrencyLimiter.newLimiter().limit(1).maxQueueSize(100_000).build()
+        def first = new CompletableFuture()
+
+        when:
+        limiter.submit({ first })
+        def results = (1..100_000).collect { i -> limiter.submit({ CompletableFuture.completedFuture(i) }) }
+        first.complete(0)
+
+        then:
+        results.every { it.isDone() }
+        results[-1].join() == 100_000
+        limiter.getInFlight() == 0
+        limiter.getQueued() == 0
+    }
+}
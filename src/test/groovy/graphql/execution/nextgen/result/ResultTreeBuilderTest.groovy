@@ -0,0 +1,65 @@
+package graphql.execution.nextgen.result
+
+import graphql.AssertException
+import spock.lang.Specification
+
+import static graphql.execution.nextgen.result.ExecutionResultNodeTestUtils.fvaForValue
+
+class ResultTreeBuilderTest extends Specification {
+
+    def "unresolved nodes are filled in place level by level in depth first order"() {
+        given:
+        def unresolvedA = new UnresolvedObjectResultNode(fvaForValue("a"))
+        def unresolvedB1 = new UnresolvedObjectResultNode(fvaForValue("b1"))
+        def unresolvedB2 = new UnresolvedObjectResultNode(fvaForValue("b2"))
+        def leaf = new LeafExecutionResultNode(fvaForValue("leaf"), null)
+        def list = new ListExecutionResultNode(fvaForValue("list"), [unresolvedB1, unresolvedB2])
+        def scalarList = new ListExecutionResultNode(fvaForValue("scalars"), [leaf])
+        def tree = new ResultTreeBuilder([unresolvedA, leaf, list, scalarList])
+
+        when:
+        def level1 = tree.getUnresolvedNodes()
+
+        then:
+        level1*.node == [unresolvedA, unresolvedB1, unresolvedB2]
+
+        when:
+        def unresolvedC = new UnresolvedObjectResultNode(fvaForValue("c"))
+        def unresolvedD = new UnresolvedObjectResultNode(fvaForValue("d"))
+        // resolved in a different order than they were given out
+        level1[2].resolve([leaf])
+        level1[1].resolve([unresolvedD])
+        level1[0].resolve([leaf, unresolvedC])
+        def level2 = tree.nextUnresolvedNodes()
+
+        then:
+        level2*.node == [unresolvedC, unresolvedD]
+
+        when:
+        level2.each { it.resolve([leaf]) }
+        def level3 = tree.nextUnresolvedNodes()
+        def root = tree.build()
+
+        then:
+        level3.isEmpty()
+        root.children.size() == 4
+        root.children[0] instanceof ObjectExecutionResultNode
+        !(root.children[0] instanceof UnresolvedObjectResultNode)
+        root.children[0].children[1].children == [leaf]
+        root.children[1].is(leaf)
+        root.children[2] instanceof ListExecutionResultNode
+        root.children[2].children[0].children[0].children == [leaf]
+        root.children[3].is(scalarList)
+    }
+
+    def "moving on before all nodes are resolved is not allowed"() {
+        given:
+        def tree = new ResultTreeBuilder([new UnresolvedObjectResultNode(fvaForValue("a"))])
+
+        when:
+        tree.nextUnresolvedNodes()
+
+        then:
+        thrown(AssertException)
+    }
+}
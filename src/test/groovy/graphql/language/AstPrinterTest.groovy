@@ -562,4 +562,28 @@ extend input Input @directive {
 '''
     }
 
+    def "print ast appends to a given builder"() {
+        def document = parse('{ foo(arg: "x") { bar } }')
+        def sb = new StringBuilder("prefix:")
+
+        when:
+        AstPrinter.printAst(sb, document)
+
+        then:
+        sb.toString() == '''prefix:query {
+  foo(arg: "x") {
+    bar
+  }
+}
+'''
+
+        when:
+        sb.setLength(0)
+        AstPrinter.printAstCompact(sb, document)
+        AstPrinter.printAstCompact(sb, document)
+
+        then:
+        sb.toString() == 'query {foo(arg:"x") {bar}}query {foo(arg:"x") {bar}}'
+    }
+
 }
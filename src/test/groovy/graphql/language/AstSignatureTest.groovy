@@ -75,4 +75,84 @@ fragment X on SomeType {
         newDoc != null
         printAst(newDoc) == expectedQuery
     }
+
+    def fingerprint(String query, String operationName) {
+        new AstSignature().signatureFingerprint(TestUtil.parseQuery(query), operationName)
+    }
+
+    def "equivalent operations have the same fingerprint"() {
+        def original = '''
+            query Ouch($secret : String, $other : Int = 1) {
+                fieldZ
+                fieldX(password : "hunter2", balance : 200000.23, favourites : ["brown"], avatar : { name : "pic" }, likes : true, arg : $secret, other : $other)
+                fieldY { innerA innerB }
+                ... X
+            }
+            query Ohh { unrelated }
+            fragment X on SomeType { fieldW(name : "x") }
+            fragment Unused on SomeType { notUsed }
+        '''
+        def equivalent = '''
+            fragment X on SomeType { fieldW(name : "y") }
+            query Ouch($other : Int = 42, $renamed : String) {
+                ... X
+                aliasY : fieldY { innerB innerA }
+                fieldX(other : $other, arg : $renamed, likes : false, avatar : {}, favourites : [], balance : 1, password : "")
+                fieldZ
+            }
+        '''
+
+        expect:
+        fingerprint(original, "Ouch") == fingerprint(equivalent, "Ouch")
+        fingerprint(original, "Ouch").toHexString().length() == 32
+    }
+
+    def "different operations have different fingerprints"() {
+        expect:
+        fingerprint(queryA, null) != fingerprint(queryB, null)
+
+        where:
+        queryA                                                | queryB
+        '{ a }'                                               | '{ b }'
+        '{ a { b } }'                                         | '{ a b }'
+        '{ a(x : 1) }'                                        | '{ a(y : 1) }'
+        '{ a(x : 1) }'                                        | '{ a(x : "1") }'
+        '{ a(x : RED) }'                                      | '{ a(x : BLUE) }'
+        '{ a @include(if : true) }'                           | '{ a @skip(if : true) }'
+        'query($v : Int) { a(x : $v) }'                       | 'query($v : Int!) { a(x : $v) }'
+        'query($v : Int, $w : String) { a(x : $v, y : $w) }'  | 'query($v : Int, $w : String) { a(x : $w, y : $v) }'
+        '{ ... on A { a } }'                                  | '{ ... on B { a } }'
+        '{ ...F } fragment F on T { a }'                      | '{ ...F } fragment F on T { b }'
+        'query { a }'                                         | 'mutation { a }'
+    }
+
+    def "renaming variables does not change the fingerprint, even when it changes their sort order"() {
+        expect:
+        fingerprint(queryA, null) == fingerprint(queryB, null)
+
+        where:
+        queryA                                                 | queryB
+        'query($a : Int, $b : String) { f(x : $a, y : $b) }'   | 'query($b : Int, $a : String) { f(x : $b, y : $a) }'
+        'query($a : Int, $b : String) { f(x : $a, y : $b) }'   | 'query($z : String, $y : Int) { f(y : $z, x : $y) }'
+        'query($a : Int, $b : String) { f }'                   | 'query($b : Int, $a : String) { f }'
+        'query($a : Int) { ...F } fragment F on T { f(x : $a) }' | 'query($b : Int) { ...F } fragment F on T { f(x : $b) }'
+    }
+
+    def "the order of same named selections does not change the fingerprint"() {
+        expect:
+        fingerprint(queryA, null) == fingerprint(queryB, null)
+
+        where:
+        queryA                                                          | queryB
+        '{ a: f(x : 1) b: f(y : 2) }'                                   | '{ b: f(y : 2) a: f(x : 1) }'
+        '{ a: f { x } b: f { y } }'                                     | '{ b: f { y } a: f { x } }'
+        '{ ... on T { x } ... on T { y } }'                             | '{ ... on T { y } ... on T { x } }'
+        'query($v : Int, $w : String) { a: f(x : $v) b: f(y : $w) }'    | 'query($v : Int, $w : String) { b: f(y : $w) a: f(x : $v) }'
+    }
+
+    def "fingerprint is for the named operation only"() {
+        expect:
+        fingerprint('{ a }', null) == fingerprint('query { a }', null)
+        fingerprint('query Q { a }', 'Q') != fingerprint('query Q { a }', null)
+    }
 }
@@ -0,0 +1,82 @@
+package graphql.language
+
+import graphql.parser.Parser
+import spock.lang.Specification
+
+class NameInternerTest extends Specification {
+
+    def query = '''
+        query Q($id : ID) {
+            user(id : $id, kind : ADMIN, name : "bob", limit : 10) @cached(ttl : 60) {
+                name
+            }
+        }
+    '''
+
+    Field userField(Document document) {
+        def operation = document.getDefinitionsOfType(OperationDefinition)[0]
+        operation.selectionSet.selections[0] as Field
+    }
+
+    def "documents parsed with the same interner share their names, string values and source locations"() {
+        def parser = new Parser(false, new NameInterner())
+
+        when:
+        def field1 = userField(parser.parseDocument(query))
+        def field2 = userField(parser.parseDocument("\n" + query))
+
+        then:
+        !field1.is(field2)
+        field1.name.is(field2.name)
+        field1.arguments[0].name.is(field2.arguments[0].name)
+        (field1.arguments[2].value as StringValue).value.is((field2.arguments[2].value as StringValue).value)
+        field1.directives[0].name.is(field2.directives[0].name)
+        AstPrinter.printAst(field1) == AstPrinter.printAst(field2)
+    }
+
+    def "nodes are not shared so that they keep their own source locations"() {
+        def parser = new Parser(false, new NameInterner())
+
+        when:
+        def field1 = userField(parser.parseDocument(query))
+        def field2 = userField(parser.parseDocument(query))
+        def movedField = userField(parser.parseDocument("\n" + query))
+
+        then:
+        !field1.arguments[0].is(field2.arguments[0])
+        field1.arguments[0].sourceLocation.is(field2.arguments[0].sourceLocation)
+        movedField.arguments[0].sourceLocation.line == field1.arguments[0].sourceLocation.line + 1
+    }
+
+    def "documents parsed without an interner share nothing"() {
+        def parser = new Parser()
+
+        when:
+        def field1 = userField(parser.parseDocument(query))
+        def field2 = userField(parser.parseDocument(query))
+
+        then:
+        !field1.arguments[0].is(field2.arguments[0])
+        !field1.sourceLocation.is(field2.sourceLocation)
+    }
+
+    def "the interner never holds more than its maximum number of entries"() {
+        def interner = new NameInterner(4)
+
+        when:
+        (1..100).each { interner.intern("name" + it) }
+        def a1 = interner.intern(new String("a"))
+        def a2 = interner.intern(new String("a"))
+
+        then:
+        interner.size() <= 4
+        a1.is(a2)
+
+        when:
+        interner.clear()
+
+        then:
+        interner.size() == 0
+        !interner.intern(new String("a")).is(a1)
+    }
+}
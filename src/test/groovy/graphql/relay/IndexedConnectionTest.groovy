@@ -0,0 +1,205 @@
+package graphql.relay
+
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.schema.idl.RuntimeWiring
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+
+import static graphql.schema.DataFetchingEnvironmentImpl.newDataFetchingEnvironment
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring
+
+class IndexedConnectionTest extends Specification {
+
+    static class ListDataSource implements ConnectionDataSource<String> {
+        List<String> data
+        List<List<Integer>> slices = []
+        int counts = 0
+
+        ListDataSource(List<String> data) {
+            this.data = data
+        }
+
+        @Override
+        List<String> slice(int offset, int limit) {
+            slices.add([offset, limit])
+            int from = Math.min(offset, data.size())
+            return data.subList(from, (int) Math.min((long) from + limit, data.size()))
+        }
+
+        @Override
+        int count() {
+            counts++
+            return data.size()
+        }
+    }
+
+    static def data = ["a", "b", "c", "d", "e", "f"]
+
+    static String cursor(int offset) {
+        def string = SimpleListConnection.DUMMY_CURSOR_PREFIX + Integer.toString(offset)
+        Base64.getEncoder().encodeToString(string.getBytes(StandardCharsets.UTF_8))
+    }
+
+    static def describe(Connection<String> connection) {
+        [connection.edges.collect { [it.node, it.cursor.value] },
+         connection.pageInfo.startCursor?.value, connection.pageInfo.endCursor?.value,
+         connection.pageInfo.hasPreviousPage, connection.pageInfo.hasNextPage]
+    }
+
+    @Unroll
+    def "gives the same pages as SimpleListConnection for #arguments"() {
+        given:
+        def env = newDataFetchingEnvironment().arguments(arguments).build()
+
+        when:
+        def expected = new SimpleListConnection(data).get(env)
+        def actual = new IndexedConnection(new ListDataSource(data)).get(env)
+
+        then:
+        describe(actual) == describe(expected)
+        actual.totalCount == data.size()
+
+        where:
+        arguments << [
+                [:],
+                [first: 2],
+                [first: 6],
+                [first: 10],
+                [first: 0],
+                [last: 2],
+                [last: 10],
+                [after: cursor(1)],
+                [after: cursor(1), first: 2],
+                [after: cursor(3), first: 2],
+                [after: cursor(4), first: 2],
+                [after: cursor(10), first: 2],
+                [before: cursor(4)],
+                [before: cursor(4), last: 2],
+                [before: cursor(10), last: 2],
+                [before: cursor(4), first: 2],
+                [before: cursor(3), first: 3],
+                [before: cursor(3), first: 5],
+                [after: cursor(0), before: cursor(5)],
+                [after: cursor(0), before: cursor(5), first: 2],
+                [after: cursor(0), before: cursor(5), last: 2],
+                [after: cursor(0), before: cursor(5), first: 3, last: 2],
+                [first: 4, last: 2],
+                [first: 10, last: 2],
+                [after: cursor(3), before: cursor(1)],
+        ]
+    }
+
+    def "only the requested page is loaded and nothing is counted when paging forward"() {
+        given:
+        def dataSource = new ListDataSource(data)
+        def env = newDataFetchingEnvironment().arguments([after: cursor(1), first: 2]).build()
+
+        when:
+        def connection = new IndexedConnection(dataSource).get(env)
+
+        then:
+        connection.edges*.node == ["c", "d"]
+        connection.pageInfo.hasNextPage
+        dataSource.slices == [[2, 3]]
+        dataSource.counts == 0
+
+        when:
+        connection.totalCount
+        connection.totalCount
+
+        then:
+        dataSource.counts == 1
+    }
+
+    def "has next page is only counted when asked for"() {
+        given:
+        def dataSource = new ListDataSource(data)
+        def env = newDataFetchingEnvironment().arguments([first: 4, last: 2]).build()
+
+        when:
+        def connection = new IndexedConnection(dataSource).get(env)
+
+        then:
+        connection.edges*.node == ["c", "d"]
+        dataSource.counts == 0
+
+        when:
+        def hasNextPage = connection.pageInfo.hasNextPage
+
+        then:
+        hasNextPage
+        dataSource.counts == 1
+    }
+
+    def "invalid cursors and page sizes are rejected"() {
+        given:
+        def connection = new IndexedConnection(new ListDataSource(data))
+
+        when:
+        connection.get(newDataFetchingEnvironment().arguments([after: cursorString]).build())
+
+        then:
+        thrown(InvalidCursorException)
+
+        where:
+        cursorString << ["not-base64",
+                         Base64.getEncoder().encodeToString("simple-cursor".getBytes(StandardCharsets.UTF_8)),
+                         Base64.getEncoder().encodeToString("other-cursor1".getBytes(StandardCharsets.UTF_8)),
+                         Base64.getEncoder().encodeToString("simple-cursor1x".getBytes(StandardCharsets.UTF_8)),
+                         Base64.getEncoder().encodeToString("simple-cursor99999999999".getBytes(StandardCharsets.UTF_8))]
+    }
+
+    def "negative page sizes are rejected"() {
+        given:
+        def connection = new IndexedConnection(new ListDataSource(data))
+
+        when:
+        connection.get(newDataFetchingEnvironment().arguments([first: -1]).build())
+
+        then:
+        thrown(InvalidPageSizeException)
+    }
+
+    def "cursors are the same as those of SimpleListConnection"() {
+        expect:
+        new IndexedConnection(new ListDataSource(data)).cursorForIndex(index).value == new SimpleListConnection(data).cursorForObjectInConnection(data[index]).value
+        new IndexedConnection(new ListDataSource(data), "other").cursorForIndex(index).value == new SimpleListConnection(data, "other").cursorForObjectInConnection(data[index]).value
+
+        where:
+        index << [0, 1, 5]
+    }
+
+    def "total count is only counted when selected"() {
+        given:
+        def dataSource = new ListDataSource(data)
+        def spec = '''
+            type Query { letters(first: Int, after: String): LetterConnection }
+            type LetterConnection { edges: [LetterEdge] pageInfo: PageInfo totalCount: Int }
+            type LetterEdge { node: String cursor: String }
+            type PageInfo { hasNextPage: Boolean hasPreviousPage: Boolean }
+        '''
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query").dataFetcher("letters", new IndexedConnection(dataSource)))
+                .build()
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(spec, wiring)).build()
+
+        when:
+        def result = graphQL.execute("{ letters(first: 2) { edges { node } pageInfo { hasNextPage } } }")
+
+        then:
+        result.errors.isEmpty()
+        result.data == [letters: [edges: [[node: "a"], [node: "b"]], pageInfo: [hasNextPage: true]]]
+        dataSource.counts == 0
+
+        when:
+        result = graphQL.execute("{ letters(first: 2) { totalCount } }")
+
+        then:
+        result.errors.isEmpty()
+        result.data == [letters: [totalCount: 6]]
+        dataSource.counts == 1
+    }
+}
@@ -1,17 +1,22 @@
 package graphql.schema
 
+import graphql.GraphQL
+import graphql.TestUtil
 import graphql.cachecontrol.CacheControl
 import graphql.execution.ExecutionId
 import graphql.execution.ExecutionStepInfo
 import graphql.language.FragmentDefinition
 import graphql.language.OperationDefinition
 import graphql.language.TypeName
+import graphql.schema.idl.RuntimeWiring
+import graphql.schema.idl.TypeRuntimeWiring
 import org.dataloader.BatchLoader
 import org.dataloader.DataLoader
 import org.dataloader.DataLoaderRegistry
 import spock.lang.Specification
 
 import java.util.concurrent.CompletableFuture
+import java.util.function.Supplier
 
 import static graphql.StarWarsSchema.starWarsSchema
 import static graphql.TestUtil.toDocument
@@ -118,4 +123,48 @@ class DataFetchingEnvironmentImplTest extends Specification {
         dfe.getCacheControl() == cacheControl
     }
 
+    def "lazy values are only computed when asked for and only once"() {
+        given:
+        int calls = 0
+        def executionStepInfo = Mock(ExecutionStepInfo)
+        def dfe = newDataFetchingEnvironment()
+                .executionStepInfo({ calls++; executionStepInfo } as Supplier<ExecutionStepInfo>)
+                .build()
+        def dfeCopy = newDataFetchingEnvironment(dfe).build()
+
+        expect:
+        calls == 0
+        dfe.getExecutionStepInfo() == executionStepInfo
+        dfe.getExecutionStepInfo() == executionStepInfo
+        dfeCopy.getExecutionStepInfo() == executionStepInfo
+        calls == 1
+        dfe.getSelectionSet() == null
+        dfe.getQueryDirectives() == null
+    }
+
+    def "the step info is not computed during execution unless the data fetcher asks for it"() {
+        given:
+        def environments = []
+        def spec = """
+            type Query { hero: Hero }
+            type Hero { name: String friends: [Hero] }
+        """
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type(TypeRuntimeWiring.newTypeWiring("Query").dataFetcher("hero", { env ->
+                    environments.add(env)
+                    [name: "r2", friends: [[name: "luke"]]]
+                }))
+                .build()
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(spec, wiring)).build()
+
+        when:
+        def result = graphQL.execute("{ hero { name friends { name } } }")
+
+        then:
+        result.errors.isEmpty()
+        environments.size() == 1
+        !environments[0].@executionStepInfo.isComputed()
+        environments[0].getSelectionSet().contains("friends/name")
+        environments[0].getExecutionStepInfo().getPath().toString() == "/hero"
+    }
 }
@@ -1,16 +1,24 @@
 package graphql.schema
 
+import graphql.ExecutionInput
+import graphql.GraphQL
 import graphql.Scalars
 import graphql.TestUtil
 import graphql.execution.ExecutionContextBuilder
 import graphql.execution.ExecutionId
+import graphql.execution.preparsed.PreparsedDocumentEntry
+import graphql.execution.preparsed.PreparsedDocumentProvider
 import graphql.language.Document
 import graphql.language.Field
 import graphql.language.FragmentDefinition
 import graphql.language.NodeUtil
 import graphql.language.OperationDefinition
+import graphql.schema.idl.RuntimeWiring
+import graphql.schema.idl.TypeRuntimeWiring
 import spock.lang.Specification
 
+import java.util.function.Function
+
 import static graphql.TestUtil.mergedField
 
 class DataFetchingFieldSelectionSetImplTest extends Specification {
@@ -364,4 +372,79 @@ class DataFetchingFieldSelectionSetImplTest extends Specification {
         allFieldsViaAsterAsterSorted.collect({ sf -> sf.qualifiedName }) == expectedFieldName
         allFieldsSorted.collect({ sf -> sf.qualifiedName }) == expectedFieldName
     }
-}
\ No newline at end of file
+
+    def "the selection set is computed once for all the objects of a list and shared for variable free executions of the same document"() {
+        given:
+        def selectionSets = [].asSynchronized()
+        def spec = """
+            type Query { heroes(first: Int): [Hero] }
+            type Hero { name: String friends: [Hero] }
+        """
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type(TypeRuntimeWiring.newTypeWiring("Query").dataFetcher("heroes", { env ->
+                    [[name: "r2", friends: [[name: "luke"]]], [name: "c3po", friends: [[name: "leia"], [name: "han"]]]]
+                }))
+                .type(TypeRuntimeWiring.newTypeWiring("Hero").dataFetcher("friends", { env ->
+                    assert env.getSelectionSet().contains("name")
+                    selectionSets.add(env.getSelectionSet())
+                    env.getSource()["friends"]
+                }))
+                .build()
+        def documents = [:]
+        def preparsedDocumentProvider = { ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parse ->
+            documents.computeIfAbsent(executionInput.query, { parse.apply(executionInput) })
+        } as PreparsedDocumentProvider
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(spec, wiring)).preparsedDocumentProvider(preparsedDocumentProvider).build()
+
+        when:
+        graphQL.execute("{ heroes { friends { name } } }")
+        graphQL.execute("{ heroes { friends { name } } }")
+
+        then:
+        selectionSets.size() == 4
+        selectionSets.collect { it.@values }.unique { a, b -> a.is(b) ? 0 : 1 }.size() == 1
+
+        when:
+        selectionSets.clear()
+        def query = 'query($first: Int) { heroes(first: $first) { friends { name } } }'
+        graphQL.execute(ExecutionInput.newExecutionInput(query).variables([first: 1]).build())
+        graphQL.execute(ExecutionInput.newExecutionInput(query).variables([first: 1]).build())
+
+        then:
+        selectionSets.size() == 4
+        selectionSets[0].@values.is(selectionSets[1].@values)
+        !selectionSets[1].@values.is(selectionSets[2].@values)
+        selectionSets[2].@values.is(selectionSets[3].@values)
+    }
+
+    def "the shared selection sets are kept on the document and the selected fields do not hold the execution"() {
+        given:
+        def spec = """
+            type Query { hero: Hero }
+            type Hero { name: String friends: [Hero] }
+        """
+        DataFetchingFieldSelectionSet heroSelectionSet = null
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type(TypeRuntimeWiring.newTypeWiring("Query").dataFetcher("hero", { env ->
+                    heroSelectionSet = env.getSelectionSet()
+                    [name: "r2", friends: []]
+                }))
+                .build()
+        Document document = null
+        def preparsedDocumentProvider = { ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parse ->
+            def entry = parse.apply(executionInput)
+            document = entry.document
+            entry
+        } as PreparsedDocumentProvider
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(spec, wiring)).preparsedDocumentProvider(preparsedDocumentProvider).build()
+
+        when:
+        graphQL.execute("{ hero { name friends { name } } }")
+        def friends = heroSelectionSet.getField("friends")
+
+        then:
+        document.getDerivedData(SelectionSetCache, { key -> null }) != null
+        friends.getSelectionSet().getFields().collect { it.name } == ["name"]
+        friends.getSelectionSet().@selectionSetCache == null
+    }
+}
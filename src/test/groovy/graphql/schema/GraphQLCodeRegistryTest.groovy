@@ -233,4 +233,20 @@ class GraphQLCodeRegistryTest extends Specification {
         schema.getCodeRegistry().getDataFetcher(queryType, queryType.getFieldDefinition("neitherSpecified")) instanceof PropertyDataFetcher
 
     }
+
+    def "memoized fields are kept when transformed"() {
+        when:
+        def codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .memoizedField(FieldCoordinates.coordinates("Query", "price"))
+                .maxMemoizedFetches(10)
+                .build()
+        def transformed = codeRegistry.transform({ it.memoizedField(FieldCoordinates.coordinates("Query", "stock")) })
+
+        then:
+        codeRegistry.isMemoized(FieldCoordinates.coordinates("Query", "price"))
+        !codeRegistry.isMemoized(FieldCoordinates.coordinates("Query", "stock"))
+        transformed.getMemoizedFields() == [FieldCoordinates.coordinates("Query", "price"), FieldCoordinates.coordinates("Query", "stock")] as Set
+        transformed.getMaxMemoizedFetches() == 10
+        GraphQLCodeRegistry.newCodeRegistry().build().getMaxMemoizedFetches() == GraphQLCodeRegistry.DEFAULT_MAX_MEMOIZED_FETCHES
+    }
 }
@@ -38,6 +38,33 @@ class GraphQLSchemaTest extends Specification {
         starWarsSchema.isPossibleType(characterInterface, humanType)
     }
 
+    def "isPossibleType works for unions, interfaces and types outside of the schema"() {
+        given:
+        def schema = TestUtil.schema('''
+            type Query { search: [SearchResult] node: Node }
+            interface Node { id: ID }
+            type Cat implements Node { id: ID }
+            type Dog implements Node { id: ID }
+            type Bird { name: String }
+            union SearchResult = Cat | Bird
+        ''')
+        def node = schema.getType("Node")
+        def searchResult = schema.getType("SearchResult")
+        def otherNode = GraphQLInterfaceType.newInterface().name("Node")
+                .field(newFieldDefinition().name("id").type(GraphQLString))
+                .typeResolver({ env -> null } as TypeResolver).build()
+
+        expect:
+        schema.isPossibleType(node, schema.getObjectType("Cat"))
+        schema.isPossibleType(node, schema.getObjectType("Dog"))
+        !schema.isPossibleType(node, schema.getObjectType("Bird"))
+        schema.isPossibleType(searchResult, schema.getObjectType("Cat"))
+        schema.isPossibleType(searchResult, schema.getObjectType("Bird"))
+        !schema.isPossibleType(searchResult, schema.getObjectType("Dog"))
+        schema.isPossibleType(otherNode, schema.getObjectType("Dog"))
+        schema.getImplementations(node).collect { it.name } == ["Cat", "Dog"]
+    }
+
     def "isPossibleType when wrong abstract type is passed expect exception"() {
         when:
         starWarsSchema.isPossibleType(humanType, humanType)
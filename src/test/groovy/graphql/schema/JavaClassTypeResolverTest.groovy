@@ -0,0 +1,89 @@
+package graphql.schema
+
+import graphql.GraphQL
+import graphql.TestUtil
+import graphql.TypeResolutionEnvironment
+import graphql.schema.idl.RuntimeWiring
+import spock.lang.Specification
+
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring
+
+class JavaClassTypeResolverTest extends Specification {
+
+    static class Cat {
+        String name = "Tom"
+    }
+
+    static class Dog {
+        String name = "Rex"
+    }
+
+    static class Puppy extends Dog {
+    }
+
+    interface Robot {
+    }
+
+    static class RoboDog implements Robot {
+        String name = "K9"
+    }
+
+    def spec = '''
+            type Query { search: [SearchResult] }
+            type Cat { name: String }
+            type Dog { name: String }
+            union SearchResult = Cat | Dog
+        '''
+
+    def "resolves the types of union values by simple class name"() {
+        given:
+        def wiring = RuntimeWiring.newRuntimeWiring()
+                .type(newTypeWiring("Query").dataFetcher("search", { env -> [new Cat(), new Dog(), new Cat()] }))
+                .type(newTypeWiring("SearchResult").typeResolver(new JavaClassTypeResolver()))
+                .build()
+        def graphQL = GraphQL.newGraphQL(TestUtil.schema(spec, wiring)).build()
+
+        when:
+        def result = graphQL.execute("{ search { __typename ... on Cat { name } ... on Dog { name } } }")
+
+        then:
+        result.errors.isEmpty()
+        result.data == [search: [[__typename: "Cat", name: "Tom"], [__typename: "Dog", name: "Rex"], [__typename: "Cat", name: "Tom"]]]
+    }
+
+    def "resolves sub classes and interfaces via the class map"() {
+        given:
+        def schema = TestUtil.schema(spec)
+        def resolver = new JavaClassTypeResolver([(Dog): "Dog", (Robot): "Dog", (Cat): "Cat"] as Map<Class<?>, String>)
+
+        expect:
+        resolver.getType(env(new Puppy(), schema)) == schema.getObjectType("Dog")
+        resolver.getType(env(new RoboDog(), schema)) == schema.getObjectType("Dog")
+        resolver.getType(env(new Cat(), schema)) == schema.getObjectType("Cat")
+        resolver.getType(env("not mapped", schema)) == null
+        resolver.getType(env(null, schema)) == null
+    }
+
+    def "the resolved type is looked up again for another schema"() {
+        given:
+        def schema1 = TestUtil.schema(spec)
+        def schema2 = TestUtil.schema(spec)
+        int calls = 0
+        def resolver = new JavaClassTypeResolver({ Class<?> clazz -> calls++; clazz.getSimpleName() })
+
+        when:
+        def type1 = resolver.getType(env(new Cat(), schema1))
+        def type1Again = resolver.getType(env(new Cat(), schema1))
+        def type2 = resolver.getType(env(new Cat(), schema2))
+
+        then:
+        type1 == schema1.getObjectType("Cat")
+        type1Again == type1
+        type2 == schema2.getObjectType("Cat")
+        calls == 2
+    }
+
+    TypeResolutionEnvironment env(Object object, GraphQLSchema schema) {
+        new TypeResolutionEnvironment(object, [:], null, schema.getType("SearchResult"), schema, null)
+    }
+}
@@ -27,6 +27,7 @@ import graphql.schema.idl.UnionWiringEnvironment
 import graphql.schema.idl.WiringFactory
 import spock.lang.Specification
 
+import java.util.concurrent.Executors
 import java.util.stream.Collectors
 
 class SchemaDiffTest extends Specification {
@@ -479,4 +480,82 @@ class SchemaDiffTest extends Specification {
 
     }
 
+    List<String> events(SchemaDiff diff, DiffSet diffSet) {
+        def capturingReporter = new CapturingReporter()
+        diff.diffSchema(diffSet, capturingReporter)
+        capturingReporter.events.collect { it.toString() }
+    }
+
+    def "schema diff sets report the same events as introspection diff sets"() {
+        def schemaOld = TestUtil.schemaFile("diff/schema_ABaseLine.graphqls", wireWithNoFetching())
+        def schemaNew = TestUtil.schemaFile("diff/" + newFile, wireWithNoFetching())
+
+        def diff = new SchemaDiff(SchemaDiff.Options.defaultOptions().enforceDirectives())
+
+        expect:
+        events(diff, DiffSet.schemaDiffSet(schemaOld, schemaNew)) == events(diff, DiffSet.diffSet(schemaOld, schemaNew))
+
+        where:
+        newFile                                              | _
+        "schema_ABaseLine.graphqls"                          | _
+        "schema_with_additional_field.graphqls"              | _
+        "schema_interface_fields_missing.graphqls"           | _
+        "schema_missing_union_members.graphqls"              | _
+        "schema_changed_nested_input_object_fields.graphqls" | _
+        "schema_changed_field_arguments.graphqls"            | _
+        "schema_changed_type_kind.graphqls"                  | _
+        "schema_dangerous_changes.graphqls"                  | _
+    }
+
+    def "types compared on an executor are reported in the same order"() {
+        def executor = Executors.newFixedThreadPool(4)
+        def diffSet = DiffSet.schemaDiffSet(
+                TestUtil.schemaFile("diff/schema_ABaseLine.graphqls", wireWithNoFetching()),
+                TestUtil.schemaFile("diff/" + newFile, wireWithNoFetching()))
+
+        when:
+        def sequential = events(new SchemaDiff(), diffSet)
+        def parallel = events(new SchemaDiff(SchemaDiff.Options.defaultOptions().executor(executor)), diffSet)
+
+        then:
+        parallel == sequential
+
+        cleanup:
+        executor.shutdown()
+
+        where:
+        newFile                                    | _
+        "schema_ABaseLine.graphqls"                | _
+        "schema_interface_fields_missing.graphqls" | _
+        "schema_missing_object_fields.graphqls"    | _
+        "schema_dangerous_changes.graphqls"        | _
+    }
+
+    def "unchanged types are skipped without losing breaking or dangerous changes"() {
+        def diffSet = DiffSet.schemaDiffSet(
+                TestUtil.schemaFile("diff/schema_ABaseLine.graphqls", wireWithNoFetching()),
+                TestUtil.schemaFile("diff/" + newFile, wireWithNoFetching()))
+
+        def fullReporter = new CapturingReporter()
+        def skippingReporter = new CapturingReporter()
+
+        when:
+        def breakingCount = new SchemaDiff().diffSchema(diffSet, fullReporter)
+        def skippingBreakingCount = new SchemaDiff(SchemaDiff.Options.defaultOptions().skipUnchangedTypes()).diffSchema(diffSet, skippingReporter)
+
+        then:
+        skippingBreakingCount == breakingCount
+        skippingReporter.breakages.collect { it.toString() } == fullReporter.breakages.collect { it.toString() }
+        skippingReporter.dangers.collect { it.toString() } == fullReporter.dangers.collect { it.toString() }
+        skippingReporter.infos.size() < fullReporter.infos.size()
+        skippingReporter.infos.findAll { it.reasonMsg.startsWith("Examining type") }.collect { it.typeName } ==
+                fullReporter.infos.findAll { it.reasonMsg.startsWith("Examining type") }.collect { it.typeName }
+
+        where:
+        newFile                                    | _
+        "schema_ABaseLine.graphqls"                | _
+        "schema_interface_fields_missing.graphqls" | _
+        "schema_changed_object_fields.graphqls"    | _
+        "schema_dangerous_changes.graphqls"        | _
+    }
 }
@@ -963,6 +963,31 @@ directive @moreComplex(arg1: String = "default", arg2: Int) on FIELD_DEFINITION
 type Query {
   fieldA: String @example @moreComplex(arg1 : "default", arg2 : 666)
 }
+'''
+    }
+
+    def "schema can be printed into a given builder"() {
+        def schema = TestUtil.schema("""
+            type Query {
+                field(arg : Int = 1) : [String!]
+            }
+        """)
+        def sb = new StringBuilder()
+
+        when:
+        new SchemaPrinter().print(sb, schema)
+
+        then:
+        sb.toString() == '''\
+type Query {
+  field(arg: Int = 1): [String!]
+}
+
+'''
+        new SchemaPrinter().print(schema) == '''\
+type Query {
+  field(arg: Int = 1): [String!]
+}
 '''
     }
 
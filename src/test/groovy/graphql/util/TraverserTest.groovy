@@ -661,7 +661,22 @@ class TraverserTest extends Specification {
         1 * visitor.leave(_) >> TraversalControl.CONTINUE
         1 * visitor.backRef({ TraverserContext context -> context.getPhase() == TraverserContext.Phase.BACKREF }) >> TraversalControl.CONTINUE
     }
-}
 
+    def "a shared node is entered twice without a backRef when there are no cycles"() {
+        given:
+        def shared = new Node(number: 1)
+        def treeRoot = new Node(number: 0)
+        treeRoot.children.add(shared)
+        treeRoot.children.add(shared)
 
+        def visitor = Mock(TraverserVisitor)
+        when:
+        Traverser.depthFirst({ n -> n.children }).noCycles().traverse(treeRoot, visitor)
 
+        then:
+        1 * visitor.enter({ TraverserContext context -> context.thisNode() == treeRoot && !context.isVisited() }) >> TraversalControl.CONTINUE
+        2 * visitor.enter({ TraverserContext context -> context.thisNode() == shared && !context.isVisited() }) >> TraversalControl.CONTINUE
+        3 * visitor.leave(_) >> TraversalControl.CONTINUE
+        0 * visitor.backRef(_)
+    }
+}
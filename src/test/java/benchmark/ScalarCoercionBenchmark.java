@@ -0,0 +1,77 @@
+package benchmark;
+
+import graphql.Scalars;
+import graphql.language.IntValue;
+import graphql.schema.Coercing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the coercion of the common numeric inputs by the Int, Float and Long scalars
+ *
+ * See http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/ for more samples
+ * on what you can do with JMH
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScalarCoercionBenchmark {
+
+    private final Coercing<?, ?> intCoercing = Scalars.GraphQLInt.getCoercing();
+    private final Coercing<?, ?> floatCoercing = Scalars.GraphQLFloat.getCoercing();
+    private final Coercing<?, ?> longCoercing = Scalars.GraphQLLong.getCoercing();
+
+    private final Object[] numbers = {42, 123456789L, (short) 7, 42.0d, -1};
+    private final Object[] strings = {"42", "-123456", "0", "2147483647"};
+    private final IntValue intLiteral = new IntValue(BigInteger.valueOf(123456));
+
+    @Benchmark
+    public void serializeInt(Blackhole blackhole) {
+        for (Object number : numbers) {
+            blackhole.consume(intCoercing.serialize(number));
+        }
+    }
+
+    @Benchmark
+    public void parseIntFromString(Blackhole blackhole) {
+        for (Object string : strings) {
+            blackhole.consume(intCoercing.parseValue(string));
+        }
+    }
+
+    @Benchmark
+    public void parseIntLiteral(Blackhole blackhole) {
+        blackhole.consume(intCoercing.parseLiteral(intLiteral));
+    }
+
+    @Benchmark
+    public void serializeFloat(Blackhole blackhole) {
+        for (Object number : numbers) {
+            blackhole.consume(floatCoercing.serialize(number));
+        }
+    }
+
+    @Benchmark
+    public void serializeLong(Blackhole blackhole) {
+        for (Object number : numbers) {
+            blackhole.consume(longCoercing.serialize(number));
+        }
+    }
+
+    @Benchmark
+    public void parseLongLiteral(Blackhole blackhole) {
+        blackhole.consume(longCoercing.parseLiteral(intLiteral));
+    }
+}